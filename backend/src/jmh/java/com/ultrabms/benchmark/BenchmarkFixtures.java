@@ -0,0 +1,240 @@
+package com.ultrabms.benchmark;
+
+import com.ultrabms.config.SecurityProperties;
+import com.ultrabms.dto.reports.ARAgingDto;
+import com.ultrabms.entity.Invoice;
+import com.ultrabms.entity.Payment;
+import com.ultrabms.entity.Permission;
+import com.ultrabms.entity.Property;
+import com.ultrabms.entity.Role;
+import com.ultrabms.entity.Tenant;
+import com.ultrabms.entity.Unit;
+import com.ultrabms.entity.User;
+import com.ultrabms.entity.enums.InvoiceStatus;
+import com.ultrabms.entity.enums.PaymentMethod;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Fixture data shared by the benchmarks, shaped like production records: a Dubai tower with
+ * residential units, tenants on annual leases paying monthly rent plus service and parking
+ * charges. Generation is seeded, so every run (and every commit) measures the same data.
+ */
+final class BenchmarkFixtures {
+
+    static final String JWT_SECRET = "dGhpc0lzQVRlc3RTZWNyZXRLZXlGb3JUZXN0aW5nT25seU1pbmltdW0yNTZCaXRz";
+    static final String ENCRYPTION_KEY = "dGhpcy1pcy1hLTMyLWJ5dGUtZGV2LWtleS0xMjM0NTY=";
+
+    private static final String[] PERMISSION_RESOURCES = {
+            "tenants", "leases", "invoices", "payments", "work_orders", "vendors", "reports"};
+    private static final String[] FIRST_NAMES = {
+            "Ahmed", "Fatima", "Rahul", "Maria", "John", "Aisha", "Omar", "Priya", "Chen", "Olga"};
+    private static final String[] LAST_NAMES = {
+            "Al Mansoori", "Khan", "Sharma", "Santos", "Smith", "Haddad", "Nair", "Wei", "Ivanova", "Farouk"};
+
+    private BenchmarkFixtures() {
+    }
+
+    static SecurityProperties securityProperties() {
+        SecurityProperties properties = new SecurityProperties();
+        properties.getJwt().setAccessTokenExpiration(3600);
+        properties.getJwt().setRefreshTokenExpiration(604800);
+        return properties;
+    }
+
+    /**
+     * Property manager with 21 permissions, all of which are carried in the access token.
+     */
+    static User user() {
+        Role role = new Role();
+        role.setId(2L);
+        role.setName("PROPERTY_MANAGER");
+        role.setDescription("Property Manager");
+        Set<Permission> permissions = new HashSet<>();
+        long id = 1;
+        for (String resource : PERMISSION_RESOURCES) {
+            for (String action : new String[]{"read", "create", "update"}) {
+                Permission permission = new Permission();
+                permission.setId(id++);
+                permission.setName(resource + ":" + action);
+                permission.setResource(resource);
+                permission.setAction(action);
+                permissions.add(permission);
+            }
+        }
+        role.setPermissions(permissions);
+
+        User user = new User();
+        user.setId(UUID.nameUUIDFromBytes("benchmark-user".getBytes()));
+        user.setEmail("manager@ultrabms.com");
+        user.setFirstName("Sara");
+        user.setLastName("Al Marzouqi");
+        user.setRole(role);
+        return user;
+    }
+
+    static Property property() {
+        Property property = Property.builder()
+                .name("Marina Heights Tower B")
+                .build();
+        property.setId(UUID.nameUUIDFromBytes("benchmark-property".getBytes()));
+        return property;
+    }
+
+    static Tenant tenant(int index, Property property) {
+        Unit unit = Unit.builder()
+                .unitNumber(String.format("B-%02d%02d", 1 + index / 12, 1 + index % 12))
+                .property(property)
+                .build();
+        unit.setId(UUID.nameUUIDFromBytes(("unit-" + index).getBytes()));
+
+        Tenant tenant = Tenant.builder()
+                .fullName(name(index))
+                .email("tenant" + index + "@example.ae")
+                .phone(String.format("+97150%07d", 1000000 + index))
+                .tenantNumber(String.format("TNT-2026-%04d", index + 1))
+                .property(property)
+                .unit(unit)
+                .leaseStartDate(LocalDate.of(2026, 1, 1))
+                .leaseEndDate(LocalDate.of(2026, 12, 31))
+                .build();
+        tenant.setId(UUID.nameUUIDFromBytes(("tenant-" + index).getBytes()));
+        return tenant;
+    }
+
+    /**
+     * Monthly rent invoices, a mix of paid, partially paid, sent and overdue.
+     *
+     * @param count number of invoices
+     * @return invoices with tenant, unit, property, additional charges and payments set
+     */
+    static List<Invoice> invoices(int count) {
+        Random random = new Random(42);
+        Property property = property();
+        List<Invoice> invoices = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Tenant tenant = tenant(i % 150, property);
+            LocalDate invoiceDate = LocalDate.of(2026, 1 + i % 12, 1);
+            BigDecimal rent = BigDecimal.valueOf(6500 + random.nextInt(60) * 250L);
+
+            Invoice invoice = Invoice.builder()
+                    .invoiceNumber(String.format("INV-2026-%05d", i + 1))
+                    .tenant(tenant)
+                    .unit(tenant.getUnit())
+                    .property(property)
+                    .leaseId(UUID.nameUUIDFromBytes(("lease-" + i % 150).getBytes()))
+                    .invoiceDate(invoiceDate)
+                    .dueDate(invoiceDate.plusDays(5))
+                    .baseRent(rent)
+                    .serviceCharges(BigDecimal.valueOf(450))
+                    .parkingFees(i % 3 == 0 ? BigDecimal.valueOf(250) : BigDecimal.ZERO)
+                    .additionalCharges(new ArrayList<>(List.of(
+                            new Invoice.AdditionalCharge("Chiller charges (DEWA)", BigDecimal.valueOf(310.75)),
+                            new Invoice.AdditionalCharge("Municipality housing fee", BigDecimal.valueOf(162.50)))))
+                    .lateFee(BigDecimal.ZERO)
+                    .paidAmount(BigDecimal.ZERO)
+                    .lateFeeApplied(false)
+                    .notes("Rent for " + invoiceDate.getMonth() + " " + invoiceDate.getYear()
+                            + ". Please quote the invoice number on your transfer.")
+                    .payments(new ArrayList<>())
+                    .status(InvoiceStatus.SENT)
+                    .build();
+            invoice.setId(UUID.nameUUIDFromBytes(("invoice-" + i).getBytes()));
+            invoice.calculateTotals();
+
+            switch (i % 4) {
+                case 0 -> pay(invoice, invoice.getTotalAmount(), InvoiceStatus.PAID);
+                case 1 -> pay(invoice, invoice.getTotalAmount().divide(BigDecimal.valueOf(2), 2, RoundingMode.HALF_UP),
+                        InvoiceStatus.PARTIALLY_PAID);
+                case 2 -> invoice.setStatus(InvoiceStatus.OVERDUE);
+                default -> {
+                }
+            }
+            invoices.add(invoice);
+        }
+        return invoices;
+    }
+
+    private static void pay(Invoice invoice, BigDecimal amount, InvoiceStatus status) {
+        Payment payment = Payment.builder()
+                .paymentNumber(invoice.getInvoiceNumber().replace("INV", "PAY"))
+                .invoice(invoice)
+                .tenant(invoice.getTenant())
+                .amount(amount)
+                .paymentMethod(PaymentMethod.BANK_TRANSFER)
+                .paymentDate(invoice.getDueDate().minusDays(1))
+                .transactionReference("FT26" + invoice.getInvoiceNumber().substring(9))
+                .build();
+        payment.setId(UUID.nameUUIDFromBytes(("payment-" + invoice.getInvoiceNumber()).getBytes()));
+        invoice.getPayments().add(payment);
+        invoice.setPaidAmount(amount);
+        invoice.setBalanceAmount(invoice.getTotalAmount().subtract(amount));
+        invoice.setStatus(status);
+    }
+
+    /**
+     * Accounts receivable aging report with one row per tenant.
+     *
+     * @param tenantCount number of tenant rows
+     * @return report
+     */
+    static ARAgingDto arAging(int tenantCount) {
+        Random random = new Random(7);
+        List<ARAgingDto.TenantAgingDetail> details = new ArrayList<>(tenantCount);
+        BigDecimal[] bucketTotals = new BigDecimal[ARAgingDto.AgingBucket.values().length];
+        Arrays.fill(bucketTotals, BigDecimal.ZERO);
+        BigDecimal total = BigDecimal.ZERO;
+        int invoiceCount = 0;
+
+        for (int i = 0; i < tenantCount; i++) {
+            BigDecimal[] amounts = new BigDecimal[bucketTotals.length];
+            BigDecimal outstanding = BigDecimal.ZERO;
+            for (int b = 0; b < amounts.length; b++) {
+                amounts[b] = random.nextInt(3) == 0 ? BigDecimal.valueOf(6500 + random.nextInt(40) * 250L) : BigDecimal.ZERO;
+                bucketTotals[b] = bucketTotals[b].add(amounts[b]);
+                outstanding = outstanding.add(amounts[b]);
+            }
+            int invoices = 1 + random.nextInt(5);
+            invoiceCount += invoices;
+            total = total.add(outstanding);
+            details.add(new ARAgingDto.TenantAgingDetail(
+                    UUID.nameUUIDFromBytes(("tenant-" + i).getBytes()), name(i), outstanding,
+                    amounts[0], amounts[1], amounts[2], amounts[3], amounts[4], invoices));
+        }
+
+        List<ARAgingDto.AgingBucketData> buckets = new ArrayList<>();
+        for (ARAgingDto.AgingBucket bucket : ARAgingDto.AgingBucket.values()) {
+            BigDecimal amount = bucketTotals[bucket.ordinal()];
+            BigDecimal percentage = total.signum() == 0 ? BigDecimal.ZERO
+                    : amount.multiply(BigDecimal.valueOf(100)).divide(total, 2, RoundingMode.HALF_UP);
+            buckets.add(new ARAgingDto.AgingBucketData(bucket, amount, tenantCount / 5, percentage));
+        }
+
+        return ARAgingDto.builder()
+                .asOfDate(LocalDate.of(2026, 6, 30))
+                .propertyId(UUID.nameUUIDFromBytes("benchmark-property".getBytes()))
+                .propertyName("Marina Heights Tower B")
+                .totalOutstanding(total)
+                .totalInvoiceCount(invoiceCount)
+                .averageDaysOutstanding(BigDecimal.valueOf(37.4))
+                .agingBuckets(buckets)
+                .tenantDetails(details)
+                .generatedAt(LocalDateTime.of(2026, 6, 30, 23, 0))
+                .build();
+    }
+
+    private static String name(int index) {
+        return FIRST_NAMES[index % FIRST_NAMES.length] + " "
+                + LAST_NAMES[(index / FIRST_NAMES.length) % LAST_NAMES.length];
+    }
+}
@@ -0,0 +1,125 @@
+package com.ultrabms.benchmark;
+
+import com.ultrabms.config.VirtualThreadConfig;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Requests completed per second when every request blocks on I/O (S3, Textract, SMTP, JDBC
+ * round trips), on a platform thread pool sized like Tomcat's default versus one virtual
+ * thread per request.
+ *
+ * <p>The {@code guard} parameter wraps the blocking call the way {@code allocateWorkOrderNumbers}
+ * used to: {@code synchronized} pins the virtual thread to its carrier for the whole call, so
+ * virtual-thread throughput drops back to roughly the number of carrier threads (CPU cores);
+ * a {@link ReentrantLock} does not pin. Each request uses its own lock, so the guard itself
+ * is never contended.</p>
+ *
+ * <p>The {@code virtual} executor needs a Java 21+ runtime; on older runtimes its setup fails
+ * and only the {@code platform} results are produced.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(1)
+public class BlockingIoExecutorBenchmark {
+
+    private static final int REQUESTS = 2000;
+    private static final int PLATFORM_THREADS = 200;
+
+    @Param({"platform", "virtual"})
+    public String executor;
+
+    @Param({"none", "synchronized", "lock"})
+    public String guard;
+
+    @Param({"20"})
+    public int blockingMillis;
+
+    private Executor requestExecutor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        if ("virtual".equals(executor)) {
+            requestExecutor = VirtualThreadConfig.virtualThreadExecutor("bench-", REQUESTS, 10);
+        } else {
+            requestExecutor = Executors.newFixedThreadPool(PLATFORM_THREADS);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        if (requestExecutor instanceof ExecutorService executorService) {
+            executorService.shutdownNow();
+        }
+    }
+
+    /**
+     * One batch of concurrent requests, each blocking once.
+     */
+    @Benchmark
+    @OperationsPerInvocation(REQUESTS)
+    public void concurrentBlockingRequests() throws InterruptedException {
+        CountDownLatch done = new CountDownLatch(REQUESTS);
+        for (int i = 0; i < REQUESTS; i++) {
+            requestExecutor.execute(() -> {
+                try {
+                    handleRequest();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        done.await();
+    }
+
+    private void handleRequest() {
+        switch (guard) {
+            case "synchronized" -> {
+                Object monitor = new Object();
+                synchronized (monitor) {
+                    blockOnIo();
+                }
+            }
+            case "lock" -> {
+                ReentrantLock lock = new ReentrantLock();
+                lock.lock();
+                try {
+                    blockOnIo();
+                } finally {
+                    lock.unlock();
+                }
+            }
+            default -> blockOnIo();
+        }
+    }
+
+    private void blockOnIo() {
+        try {
+            Thread.sleep(blockingMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
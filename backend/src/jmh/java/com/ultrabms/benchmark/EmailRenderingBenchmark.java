@@ -0,0 +1,125 @@
+package com.ultrabms.benchmark;
+
+import com.ultrabms.service.EmailTemplateRenderer;
+import com.ultrabms.service.PreparedEmailTemplate;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.thymeleaf.spring6.SpringTemplateEngine;
+import org.thymeleaf.templatemode.TemplateMode;
+import org.thymeleaf.templateresolver.ClassLoaderTemplateResolver;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Email messages rendered per second: a full template render per recipient versus
+ * {@link EmailTemplateRenderer#prepare} once plus per-recipient fill-in.
+ *
+ * <p>Uses the real announcement templates with the template cache enabled, as in production.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EmailRenderingBenchmark {
+
+    private static final int BATCH_SIZE = 500;
+    private static final String HTML_TEMPLATE = "email/announcement-notification";
+    private static final String TEXT_TEMPLATE = "email/password-reset-email.txt";
+
+    @Param({HTML_TEMPLATE, TEXT_TEMPLATE})
+    public String template;
+
+    private EmailTemplateRenderer renderer;
+    private Map<String, Object> sharedVariables;
+    private String recipientField;
+    private List<Map<String, String>> recipients;
+    private PreparedEmailTemplate prepared;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        renderer = new EmailTemplateRenderer(templateEngine());
+
+        sharedVariables = new HashMap<>();
+        sharedVariables.put("announcementTitle", "Scheduled Water Shutdown - Tower B");
+        sharedVariables.put("announcementMessage",
+                "<p>Water supply will be interrupted on Friday from 09:00 to 13:00 for tank cleaning.</p>"
+                        + "<ul><li>Store water in advance</li><li>Lifts remain in service</li></ul>");
+        sharedVariables.put("publishedDate", "01 Dec 2025");
+        sharedVariables.put("portalUrl", "https://app.ultrabms.com/tenant/announcements/8f14e45f");
+        sharedVariables.put("hasAttachment", true);
+        sharedVariables.put("resetLink", "https://app.ultrabms.com/reset-password?token=3f2a9c");
+        sharedVariables.put("expirationMinutes", 15);
+        sharedVariables.put("supportEmail", "support@ultrabms.com");
+
+        recipientField = HTML_TEMPLATE.equals(template) ? "tenantName" : "firstName";
+        recipients = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            recipients.add(Map.of(recipientField, "Tenant " + i + " & Family"));
+        }
+
+        prepared = renderer.prepare(template, sharedVariables, List.of(recipientField));
+    }
+
+    /**
+     * Baseline: one template engine run per message.
+     */
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public void fullRenderPerRecipient(Blackhole bh) {
+        for (Map<String, String> recipient : recipients) {
+            Map<String, Object> variables = new HashMap<>(sharedVariables);
+            variables.putAll(recipient);
+            bh.consume(renderer.render(template, variables));
+        }
+    }
+
+    /**
+     * One template engine run per batch, then fill-in per message.
+     */
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public void renderBatch(Blackhole bh) {
+        bh.consume(renderer.renderBatch(template, sharedVariables, List.of(recipientField), recipients));
+    }
+
+    /**
+     * Fill-in only, with the template prepared up front.
+     */
+    @Benchmark
+    public String preparedFillIn() {
+        return prepared.render(recipients.get(0));
+    }
+
+    private static SpringTemplateEngine templateEngine() {
+        // Same setup as Spring Boot's default resolver: .txt names keep their extension
+        // and resolve in TEXT mode, everything else gets .html in HTML mode
+        ClassLoaderTemplateResolver resolver = new ClassLoaderTemplateResolver();
+        resolver.setPrefix("templates/");
+        resolver.setSuffix(".html");
+        resolver.setTemplateMode(TemplateMode.HTML);
+        resolver.setCharacterEncoding("UTF-8");
+        resolver.setCheckExistence(true);
+
+        SpringTemplateEngine engine = new SpringTemplateEngine();
+        engine.setTemplateResolver(resolver);
+        return engine;
+    }
+}
@@ -0,0 +1,53 @@
+package com.ultrabms.benchmark;
+
+import com.ultrabms.config.EncryptionConverter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * AES-256-GCM column encryption as run by Hibernate for every encrypted attribute written
+ * ({@link EncryptionConverter#convertToDatabaseColumn}) and read
+ * ({@link EncryptionConverter#convertToEntityAttribute}), with bank account numbers and IBANs.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EncryptionConverterBenchmark {
+
+    @Param({"1012345678901", "AE070331234567890123456"})
+    public String plaintext;
+
+    private EncryptionConverter converter;
+    private String ciphertext;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        converter = new EncryptionConverter(BenchmarkFixtures.ENCRYPTION_KEY);
+        ciphertext = converter.convertToDatabaseColumn(plaintext);
+    }
+
+    @Benchmark
+    public String encrypt() {
+        return converter.convertToDatabaseColumn(plaintext);
+    }
+
+    @Benchmark
+    public String decrypt() {
+        return converter.convertToEntityAttribute(ciphertext);
+    }
+}
@@ -0,0 +1,51 @@
+package com.ultrabms.benchmark;
+
+import com.ultrabms.dto.reports.ARAgingDto;
+import com.ultrabms.service.impl.ExcelExportServiceImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * XLSX export of {@link ExcelExportServiceImpl}: the AR aging report, whose size grows with
+ * the number of tenants of the property.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ExcelExportBenchmark {
+
+    /**
+     * Tenant rows in the AR aging report.
+     */
+    @Param({"50", "500", "5000"})
+    public int tenants;
+
+    private ExcelExportServiceImpl excelExportService;
+    private ARAgingDto arAging;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        excelExportService = new ExcelExportServiceImpl();
+        arAging = BenchmarkFixtures.arAging(tenants);
+    }
+
+    @Benchmark
+    public byte[] arAgingExcel() {
+        return excelExportService.generateARAgingExcel(arAging);
+    }
+}
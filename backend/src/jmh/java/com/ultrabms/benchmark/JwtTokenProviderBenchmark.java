@@ -0,0 +1,73 @@
+package com.ultrabms.benchmark;
+
+import com.ultrabms.entity.User;
+import com.ultrabms.security.JwtTokenProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JWT operations on the request path: issuing tokens at login / refresh, and the validate
+ * plus claim reads {@code JwtAuthenticationFilter} performs on every authenticated request.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtTokenProviderBenchmark {
+
+    private JwtTokenProvider jwtTokenProvider;
+    private User user;
+    private String accessToken;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        jwtTokenProvider = new JwtTokenProvider(BenchmarkFixtures.JWT_SECRET, BenchmarkFixtures.securityProperties());
+        user = BenchmarkFixtures.user();
+        accessToken = jwtTokenProvider.generateAccessToken(user);
+    }
+
+    @Benchmark
+    public String generateAccessToken() {
+        return jwtTokenProvider.generateAccessToken(user);
+    }
+
+    @Benchmark
+    public String generateRefreshToken() {
+        return jwtTokenProvider.generateRefreshToken(user);
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return jwtTokenProvider.validateToken(accessToken);
+    }
+
+    /**
+     * Validation followed by the claim reads of one authenticated request (each parses the token).
+     */
+    @Benchmark
+    public Object authenticateRequest() {
+        if (!jwtTokenProvider.validateToken(accessToken)) {
+            return null;
+        }
+        UUID userId = jwtTokenProvider.getUserIdFromToken(accessToken);
+        String email = jwtTokenProvider.getEmailFromToken(accessToken);
+        String role = jwtTokenProvider.getRoleFromToken(accessToken);
+        List<String> permissions = jwtTokenProvider.getPermissionsFromToken(accessToken);
+        return new Object[]{userId, email, role, permissions};
+    }
+}
@@ -0,0 +1,62 @@
+package com.ultrabms.benchmark;
+
+import com.ultrabms.dto.invoices.InvoiceListDto;
+import com.ultrabms.dto.invoices.InvoiceResponseDto;
+import com.ultrabms.entity.Invoice;
+import com.ultrabms.mapper.InvoiceMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity to DTO mapping of the invoice list and detail endpoints ({@link InvoiceMapper}).
+ * Invoices carry tenant, unit, property, two additional charges and, for paid and partially
+ * paid ones, a payment, as loaded by the service queries.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MapperBenchmark {
+
+    /**
+     * Page size of the list endpoint (default page, and a large export-sized page).
+     */
+    @Param({"20", "500"})
+    public int pageSize;
+
+    private InvoiceMapper invoiceMapper;
+    private List<Invoice> invoices;
+    private Invoice paidInvoice;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        invoiceMapper = new InvoiceMapper();
+        invoices = BenchmarkFixtures.invoices(pageSize);
+        paidInvoice = invoices.get(0);
+    }
+
+    @Benchmark
+    public List<InvoiceListDto> invoiceListPage() {
+        return invoiceMapper.toListDtoList(invoices);
+    }
+
+    @Benchmark
+    public InvoiceResponseDto invoiceDetail() {
+        return invoiceMapper.toResponseDto(paidInvoice);
+    }
+}
@@ -0,0 +1,59 @@
+package com.ultrabms.benchmark;
+
+import com.ultrabms.dto.reports.ARAgingDto;
+import com.ultrabms.entity.Invoice;
+import com.ultrabms.service.impl.PdfGenerationServiceImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PDF rendering of {@link PdfGenerationServiceImpl}: a paid invoice with its payment history,
+ * and the AR aging report at two property sizes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PdfGenerationBenchmark {
+
+    /**
+     * Tenant rows in the AR aging report.
+     */
+    @Param({"50", "500"})
+    public int tenants;
+
+    private PdfGenerationServiceImpl pdfGenerationService;
+    private Invoice invoice;
+    private ARAgingDto arAging;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        pdfGenerationService = new PdfGenerationServiceImpl();
+        invoice = BenchmarkFixtures.invoices(1).get(0);
+        arAging = BenchmarkFixtures.arAging(tenants);
+    }
+
+    @Benchmark
+    public byte[] invoicePdf() {
+        return pdfGenerationService.generateInvoicePdf(invoice);
+    }
+
+    @Benchmark
+    public byte[] arAgingPdf() {
+        return pdfGenerationService.generateARAgingPdf(arAging);
+    }
+}
@@ -0,0 +1,181 @@
+package com.ultrabms.benchmark;
+
+import com.ultrabms.dto.textract.ProcessChequesResponse;
+import com.ultrabms.dto.textract.ProcessIdentityDocumentsResponse;
+import com.ultrabms.entity.Quotation;
+import com.ultrabms.repository.QuotationRepository;
+import com.ultrabms.service.impl.TextractServiceImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.web.multipart.MultipartFile;
+import software.amazon.awssdk.services.textract.TextractClient;
+import software.amazon.awssdk.services.textract.model.Block;
+import software.amazon.awssdk.services.textract.model.BlockType;
+import software.amazon.awssdk.services.textract.model.DetectDocumentTextRequest;
+import software.amazon.awssdk.services.textract.model.DetectDocumentTextResponse;
+
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Text parsing of {@link TextractServiceImpl}: a 12-cheque PDC upload and a passport plus
+ * Emirates ID upload. Textract is replaced by a client returning recorded LINE blocks for each
+ * image, so only the service's own work (block walking, regex extraction, date parsing) is
+ * measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TextractParsingBenchmark {
+
+    private static final int CHEQUES = 12;
+    private static final DateTimeFormatter CHEQUE_DATE = DateTimeFormatter.ofPattern("dd/MM/yyyy");
+    // Fixed "today" for the parser's date windows, so every run parses identical input
+    private static final LocalDate TODAY = LocalDate.of(2026, 1, 15);
+
+    private TextractServiceImpl textractService;
+    private UUID quotationId;
+    private List<MultipartFile> chequeImages;
+    private MultipartFile passportFront;
+    private MultipartFile emiratesIdFront;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Map<String, DetectDocumentTextResponse> responses = new HashMap<>();
+        chequeImages = new ArrayList<>(CHEQUES);
+        LocalDate firstCheque = TODAY.withDayOfMonth(1).plusMonths(1);
+        for (int i = 0; i < CHEQUES; i++) {
+            String image = "cheque-" + i;
+            chequeImages.add(new MockMultipartFile("cheques", image + ".jpg", "image/jpeg",
+                    image.getBytes(StandardCharsets.UTF_8)));
+            responses.put(image, lines(
+                    "EMIRATES NBD",
+                    "Date: " + firstCheque.plusMonths(i).format(CHEQUE_DATE),
+                    "Pay To: Ultra Properties LLC",
+                    "Dirhams Eight Thousand Five Hundred Only",
+                    "AED 8,500.00",
+                    "A/C Name: AHMED HASSAN AL MANSOORI",
+                    "A/C No 1012345678901",
+                    "Cheque No: " + (104200 + i),
+                    "For EMIRATES NBD BANK PJSC",
+                    "Authorised Signatory"));
+        }
+
+        passportFront = new MockMultipartFile("passportFront", "passport_front.jpg", "image/jpeg",
+                "passport".getBytes(StandardCharsets.UTF_8));
+        responses.put("passport", lines(
+                "REPUBLIC OF INDIA",
+                "PASSPORT",
+                "Type P Country Code IND",
+                "Passport No: N1234567",
+                "Surname SHARMA",
+                "Given Names RAHUL KUMAR",
+                "Nationality: INDIAN",
+                "Date of Birth: 10/03/1990",
+                "Place of Birth MUMBAI",
+                "Date of Issue: 15/06/2021",
+                "Date of Expiry: 14/06/2031",
+                "P<INDSHARMA<<RAHUL<KUMAR<<<<<<<<<<<<<<<<<<<<<",
+                "N1234567<4IND9003109M3106148<<<<<<<<<<<<<<<8"));
+
+        emiratesIdFront = new MockMultipartFile("emiratesIdFront", "emirates_id_front.png", "image/png",
+                "emirates-id".getBytes(StandardCharsets.UTF_8));
+        responses.put("emirates-id", lines(
+                "UNITED ARAB EMIRATES",
+                "FEDERAL AUTHORITY FOR IDENTITY & CITIZENSHIP",
+                "Resident Identity Card",
+                "ID Number 784-1990-1234567-8",
+                "Name: Rahul Kumar Sharma",
+                "Nationality: India",
+                "Date of Birth: 10/03/1990",
+                "Expiry Date: 15/08/2028"));
+
+        Quotation quotation = Quotation.builder().numberOfCheques(CHEQUES).build();
+        quotationId = UUID.nameUUIDFromBytes("benchmark-quotation".getBytes(StandardCharsets.UTF_8));
+        textractService = new TextractServiceImpl(new RecordedTextractClient(responses), quotations(quotation),
+                Clock.fixed(TODAY.atStartOfDay(ZoneOffset.UTC).toInstant(), ZoneOffset.UTC));
+    }
+
+    @Benchmark
+    public ProcessChequesResponse chequeBatch() {
+        return textractService.processChequeImages(chequeImages, quotationId);
+    }
+
+    @Benchmark
+    public ProcessIdentityDocumentsResponse identityDocuments() {
+        return textractService.processIdentityDocuments(passportFront, null, emiratesIdFront, null);
+    }
+
+    private static DetectDocumentTextResponse lines(String... lines) {
+        List<Block> blocks = new ArrayList<>();
+        blocks.add(Block.builder().blockType(BlockType.PAGE).build());
+        for (String line : lines) {
+            blocks.add(Block.builder().blockType(BlockType.LINE).text(line).confidence(97.5f).build());
+            for (String word : line.split(" ")) {
+                blocks.add(Block.builder().blockType(BlockType.WORD).text(word).confidence(96.0f).build());
+            }
+        }
+        return DetectDocumentTextResponse.builder().blocks(blocks).build();
+    }
+
+    private static QuotationRepository quotations(Quotation quotation) {
+        return (QuotationRepository) Proxy.newProxyInstance(
+                QuotationRepository.class.getClassLoader(), new Class<?>[]{QuotationRepository.class},
+                (proxy, method, args) -> {
+                    if ("findById".equals(method.getName())) {
+                        return Optional.of(quotation);
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+    }
+
+    /**
+     * Textract stand-in answering each image (keyed by its content) with a recorded response.
+     */
+    private static final class RecordedTextractClient implements TextractClient {
+
+        private final Map<String, DetectDocumentTextResponse> responses;
+
+        RecordedTextractClient(Map<String, DetectDocumentTextResponse> responses) {
+            this.responses = responses;
+        }
+
+        @Override
+        public DetectDocumentTextResponse detectDocumentText(DetectDocumentTextRequest request) {
+            return responses.get(request.document().bytes().asUtf8String());
+        }
+
+        @Override
+        public String serviceName() {
+            return SERVICE_NAME;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.ultrabms.benchmark;
+
+import com.ultrabms.security.JwtTokenProvider;
+import com.ultrabms.util.TokenHashUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SHA-256 token hashing, done for every session lookup and twice per login and refresh
+ * ({@code SessionService}). Hashes real access and refresh tokens.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TokenHashUtilBenchmark {
+
+    private String accessToken;
+    private String refreshToken;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        JwtTokenProvider jwtTokenProvider =
+                new JwtTokenProvider(BenchmarkFixtures.JWT_SECRET, BenchmarkFixtures.securityProperties());
+        accessToken = jwtTokenProvider.generateAccessToken(BenchmarkFixtures.user());
+        refreshToken = jwtTokenProvider.generateRefreshToken(BenchmarkFixtures.user());
+    }
+
+    @Benchmark
+    public String hashAccessToken() {
+        return TokenHashUtil.hashToken(accessToken);
+    }
+
+    @Benchmark
+    public String hashRefreshToken() {
+        return TokenHashUtil.hashToken(refreshToken);
+    }
+}
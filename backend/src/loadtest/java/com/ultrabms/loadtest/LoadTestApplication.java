@@ -0,0 +1,50 @@
+package com.ultrabms.loadtest;
+
+import com.ultrabms.UltraBmsApplication;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Entry point of the load-test harness.
+ *
+ * <p>Boots the full application with the {@code dev} and {@code loadtest} profiles (local Postgres,
+ * LocalStack S3, Mailpit SMTP, stubbed Textract), runs {@link LoadTestRunner} against its HTTP port and exits
+ * with a non-zero code if any operation failed.</p>
+ *
+ * <p>Run: {@code mvn -Ploadtest test-compile exec:exec} (see README, Load Tests).</p>
+ */
+public final class LoadTestApplication {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(LoadTestApplication.class);
+
+    /**
+     * Profiles activated unless spring.profiles.active is given. Listed last, loadtest overrides dev
+     * (profiles added through SpringApplication#setAdditionalProfiles would rank below dev).
+     */
+    private static final String DEFAULT_PROFILES = "dev,loadtest";
+
+    private LoadTestApplication() {
+    }
+
+    public static void main(String[] args) {
+        if (System.getProperty("spring.profiles.active") == null) {
+            System.setProperty("spring.profiles.active", DEFAULT_PROFILES);
+        }
+        ConfigurableApplicationContext context = SpringApplication.from(UltraBmsApplication::main)
+                .with(LoadTestConfig.class)
+                .run(args)
+                .getApplicationContext();
+
+        int exitCode;
+        try {
+            exitCode = context.getBean(LoadTestRunner.class).run();
+        } catch (Exception e) {
+            LOGGER.error("Load test failed: {}", e.getMessage(), e);
+            exitCode = 1;
+        }
+        int result = exitCode;
+        System.exit(SpringApplication.exit(context, () -> result));
+    }
+}
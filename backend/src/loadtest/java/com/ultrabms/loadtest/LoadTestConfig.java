@@ -0,0 +1,31 @@
+package com.ultrabms.loadtest;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import software.amazon.awssdk.services.textract.TextractClient;
+
+/**
+ * Load-test overrides of the application context.
+ *
+ * <p>S3 and SMTP are real protocol endpoints (LocalStack and Mailpit, see docker-compose.yml
+ * and application-loadtest.yml); Textract has no local equivalent, so its client is replaced
+ * with {@link StubTextractClient}.</p>
+ */
+@Configuration
+@Profile("loadtest")
+public class LoadTestConfig {
+
+    /**
+     * Textract client answering with recorded OCR output, shadowing {@code TextractConfig}'s AWS client.
+     *
+     * @param properties load-test properties (simulated Textract latency)
+     * @return stub client
+     */
+    @Bean
+    @Primary
+    public TextractClient loadTestTextractClient(LoadTestProperties properties) {
+        return new StubTextractClient(properties.getTextractLatency());
+    }
+}
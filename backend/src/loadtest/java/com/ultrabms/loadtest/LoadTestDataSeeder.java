@@ -0,0 +1,251 @@
+package com.ultrabms.loadtest;
+
+import com.ultrabms.entity.Property;
+import com.ultrabms.entity.Role;
+import com.ultrabms.entity.Tenant;
+import com.ultrabms.entity.Unit;
+import com.ultrabms.entity.User;
+import com.ultrabms.entity.WorkOrder;
+import com.ultrabms.entity.enums.LeaseType;
+import com.ultrabms.entity.enums.PaymentFrequency;
+import com.ultrabms.entity.enums.PaymentMethod;
+import com.ultrabms.entity.enums.PropertyType;
+import com.ultrabms.entity.enums.TenantStatus;
+import com.ultrabms.entity.enums.UnitStatus;
+import com.ultrabms.entity.enums.WorkOrderCategory;
+import com.ultrabms.entity.enums.WorkOrderPriority;
+import com.ultrabms.entity.enums.WorkOrderStatus;
+import com.ultrabms.repository.PropertyRepository;
+import com.ultrabms.repository.RoleRepository;
+import com.ultrabms.repository.TenantRepository;
+import com.ultrabms.repository.UnitRepository;
+import com.ultrabms.repository.UserRepository;
+import com.ultrabms.repository.WorkOrderRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * Seeds the data the load-test scenarios run against: a property manager, four towers, and
+ * one unit, portal user and active lease per tenant, plus a work-order backlog.
+ *
+ * <p>Every run seeds its own records, tagged with a run id in emails and numbers, so runs never
+ * collide and the month-end invoice job always finds tenants without an invoice this month
+ * (they are due on today's day of month). Recreate the database volume to drop old runs.</p>
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class LoadTestDataSeeder {
+
+    static final String EMAIL_DOMAIN = "loadtest.ultrabms.com";
+
+    private static final int PROPERTIES = 4;
+    private static final int BATCH_SIZE = 500;
+    private static final String[] PROPERTY_NAMES = {
+            "Marina Heights Tower A", "Marina Heights Tower B", "Creek View Residences", "Al Barsha Court"};
+    private static final String[] FIRST_NAMES = {
+            "Ahmed", "Fatima", "Rahul", "Maria", "John", "Aisha", "Omar", "Priya", "Chen", "Olga"};
+    private static final String[] LAST_NAMES = {
+            "Al Mansoori", "Khan", "Sharma", "Santos", "Smith", "Haddad", "Nair", "Wei", "Ivanova", "Farouk"};
+    private static final String[][] WORK_ORDERS = {
+            {"Water leak under kitchen sink", "Constant drip from the trap, cabinet floor is wet."},
+            {"AC not cooling in master bedroom", "Unit runs but blows warm air since yesterday."},
+            {"Bathroom door lock broken", "Handle turns but the latch does not retract."},
+            {"Repaint living room wall", "Water stain and peeling paint next to the balcony door."},
+            {"Power socket sparking", "Socket behind the TV sparks when a plug is inserted."},
+            {"Cockroaches in kitchen", "Seen near the dishwasher, tenant requests pest control."},
+            {"Dishwasher not draining", "Standing water after every cycle."},
+            {"Balcony sliding door stuck", "Door jumps off its track when opened."}};
+    private static final WorkOrderCategory[] CATEGORIES = {
+            WorkOrderCategory.PLUMBING, WorkOrderCategory.HVAC, WorkOrderCategory.CARPENTRY,
+            WorkOrderCategory.PAINTING, WorkOrderCategory.ELECTRICAL, WorkOrderCategory.PEST_CONTROL,
+            WorkOrderCategory.APPLIANCE, WorkOrderCategory.CARPENTRY};
+    private static final WorkOrderStatus[] STATUSES = {
+            WorkOrderStatus.OPEN, WorkOrderStatus.ASSIGNED, WorkOrderStatus.IN_PROGRESS, WorkOrderStatus.COMPLETED};
+
+    private final RoleRepository roleRepository;
+    private final UserRepository userRepository;
+    private final PropertyRepository propertyRepository;
+    private final UnitRepository unitRepository;
+    private final TenantRepository tenantRepository;
+    private final WorkOrderRepository workOrderRepository;
+    private final PasswordEncoder passwordEncoder;
+    private final TransactionTemplate transactionTemplate;
+    private final LoadTestProperties properties;
+
+    /**
+     * Data seeded for one run.
+     *
+     * @param runId         tag of this run's records
+     * @param managerEmail  property manager login
+     * @param tenantEmails  tenant portal logins, in seeding order
+     * @param searchTerms   terms matching seeded work-order titles
+     */
+    public record SeededData(String runId, String managerEmail, List<String> tenantEmails, List<String> searchTerms) {
+    }
+
+    /**
+     * Seeds a new data set.
+     *
+     * @return logins and search terms of the seeded data
+     */
+    public SeededData seed() {
+        String runId = Long.toString(System.currentTimeMillis(), 36);
+        log.info("Seeding load-test data {}: {} tenants, {} work orders", runId,
+                properties.getTenants(), properties.getWorkOrders());
+
+        // One hash for every user; BCrypt at production strength would dominate seeding otherwise
+        String passwordHash = passwordEncoder.encode(properties.getPassword());
+        Role managerRole = roleRepository.findByName("PROPERTY_MANAGER")
+                .orElseThrow(() -> new IllegalStateException("Role PROPERTY_MANAGER not found"));
+        Role tenantRole = roleRepository.findByName("TENANT")
+                .orElseThrow(() -> new IllegalStateException("Role TENANT not found"));
+
+        User manager = transactionTemplate.execute(status -> {
+            User user = user("lt-" + runId + "-manager@" + EMAIL_DOMAIN, "Sara", "Al Marzouqi",
+                    managerRole, passwordHash);
+            return userRepository.save(user);
+        });
+
+        List<Property> towers = transactionTemplate.execute(status -> {
+            List<Property> created = new ArrayList<>();
+            for (int p = 0; p < PROPERTIES; p++) {
+                created.add(Property.builder()
+                        .name(PROPERTY_NAMES[p] + " (" + runId + ")")
+                        .address("Plot " + (100 + p) + ", Dubai, UAE")
+                        .propertyType(PropertyType.RESIDENTIAL)
+                        .totalUnitsCount((properties.getTenants() + PROPERTIES - 1) / PROPERTIES)
+                        .manager(manager)
+                        .yearBuilt(2012 + p)
+                        .build());
+            }
+            return propertyRepository.saveAll(created);
+        });
+
+        Random random = new Random(42);
+        List<String> tenantEmails = new ArrayList<>(properties.getTenants());
+        List<Unit> units = new ArrayList<>(properties.getTenants());
+        List<UUID> tenantUserIds = new ArrayList<>(properties.getTenants());
+        for (int from = 0; from < properties.getTenants(); from += BATCH_SIZE) {
+            int to = Math.min(from + BATCH_SIZE, properties.getTenants());
+            int start = from;
+            transactionTemplate.executeWithoutResult(status -> {
+                for (int i = start; i < to; i++) {
+                    Property tower = towers.get(i % PROPERTIES);
+                    BigDecimal rent = BigDecimal.valueOf(6500 + random.nextInt(60) * 250L);
+                    Unit unit = unitRepository.save(Unit.builder()
+                            .property(tower)
+                            .unitNumber(String.format("%d%02d", 1 + i / PROPERTIES / 12, 1 + i / PROPERTIES % 12))
+                            .floor(1 + i / PROPERTIES / 12)
+                            .bedroomCount(1 + i % 3)
+                            .bathroomCount(1 + i % 2)
+                            .monthlyRent(rent)
+                            .status(UnitStatus.OCCUPIED)
+                            .build());
+                    units.add(unit);
+
+                    String email = "lt-" + runId + "-tenant" + i + "@" + EMAIL_DOMAIN;
+                    String[] name = name(i);
+                    User user = userRepository.save(user(email, name[0], name[1], tenantRole, passwordHash));
+                    tenantEmails.add(email);
+                    tenantUserIds.add(user.getId());
+
+                    tenantRepository.save(tenant(i, runId, user, unit, rent));
+                }
+            });
+        }
+
+        for (int from = 0; from < properties.getWorkOrders(); from += BATCH_SIZE) {
+            int to = Math.min(from + BATCH_SIZE, properties.getWorkOrders());
+            int start = from;
+            transactionTemplate.executeWithoutResult(status -> {
+                List<WorkOrder> batch = new ArrayList<>(to - start);
+                for (int i = start; i < to; i++) {
+                    batch.add(workOrder(i, runId, units.get(i % units.size()),
+                            tenantUserIds.get(i % tenantUserIds.size())));
+                }
+                workOrderRepository.saveAll(batch);
+            });
+        }
+
+        log.info("Seeded load-test data {}", runId);
+        return new SeededData(runId, manager.getEmail(), tenantEmails, List.of("leak", "AC", "door", "paint"));
+    }
+
+    private static User user(String email, String firstName, String lastName, Role role, String passwordHash) {
+        User user = new User();
+        user.setEmail(email);
+        user.setFirstName(firstName);
+        user.setLastName(lastName);
+        user.setRole(role);
+        user.setPasswordHash(passwordHash);
+        return user;
+    }
+
+    private static Tenant tenant(int index, String runId, User user, Unit unit, BigDecimal rent) {
+        LocalDate today = LocalDate.now();
+        LocalDate leaseStart = today.withDayOfMonth(1).minusMonths(index % 11);
+        String[] name = name(index);
+        return Tenant.builder()
+                .userId(user.getId())
+                .fullName(name[0] + " " + name[1])
+                .email(user.getEmail())
+                .phone(String.format("+97150%07d", index))
+                .dateOfBirth(LocalDate.of(1975 + index % 25, 1 + index % 12, 1 + index % 28))
+                .nationalId(String.format("784-%04d-%07d-%d", 1975 + index % 25, index, index % 10))
+                .nationality("United Arab Emirates")
+                .emergencyContactName("Emergency Contact " + index)
+                .emergencyContactPhone(String.format("+97155%07d", index))
+                .property(unit.getProperty())
+                .unit(unit)
+                .leaseStartDate(leaseStart)
+                .leaseEndDate(leaseStart.plusYears(1).minusDays(1))
+                .leaseDuration(12)
+                .leaseType(LeaseType.FIXED_TERM)
+                .baseRent(rent)
+                .serviceCharge(BigDecimal.valueOf(450))
+                .parkingSpots(index % 3 == 0 ? 1 : 0)
+                .parkingFeePerSpot(BigDecimal.valueOf(250))
+                .securityDeposit(rent)
+                .totalMonthlyRent(rent.add(BigDecimal.valueOf(450)))
+                .paymentFrequency(PaymentFrequency.MONTHLY)
+                // Due today, so the month-end invoice job picks every seeded tenant up
+                .paymentDueDate(today.getDayOfMonth())
+                .paymentMethod(PaymentMethod.BANK_TRANSFER)
+                .tenantNumber(String.format("LT%s-%05d", runId, index))
+                .status(TenantStatus.ACTIVE)
+                .build();
+    }
+
+    private static WorkOrder workOrder(int index, String runId, Unit unit, UUID requestedBy) {
+        String[] template = WORK_ORDERS[index % WORK_ORDERS.length];
+        return WorkOrder.builder()
+                .workOrderNumber(String.format("LT%s-%05d", runId, index))
+                .propertyId(unit.getProperty().getId())
+                .unitId(unit.getId())
+                .requestedBy(requestedBy)
+                .category(CATEGORIES[index % CATEGORIES.length])
+                .priority(WorkOrderPriority.values()[index % WorkOrderPriority.values().length])
+                .title(template[0])
+                .description(template[1])
+                .status(STATUSES[index % STATUSES.length])
+                .scheduledDate(LocalDateTime.now().minusHours(index))
+                .build();
+    }
+
+    private static String[] name(int index) {
+        return new String[]{FIRST_NAMES[index % FIRST_NAMES.length],
+                LAST_NAMES[(index / FIRST_NAMES.length) % LAST_NAMES.length]};
+    }
+}
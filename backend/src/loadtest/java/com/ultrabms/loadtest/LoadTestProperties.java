@@ -0,0 +1,77 @@
+package com.ultrabms.loadtest;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Configuration properties for the load-test harness.
+ *
+ * <p>Binds {@code loadtest.*}; every value can be overridden on the command line, e.g.
+ * {@code -Dloadtest.args="--loadtest.virtual-users=50 --loadtest.scenarios=work-order-search"}.</p>
+ *
+ * <pre>
+ * loadtest:
+ *   tenants: 200
+ *   work-orders: 2000
+ *   virtual-users: 20
+ *   warmup: 10s
+ *   duration: 30s
+ *   textract-latency: 300ms
+ * </pre>
+ */
+@Configuration
+@ConfigurationProperties(prefix = "loadtest")
+@Data
+public class LoadTestProperties {
+
+    /**
+     * Tenants seeded for the run, each with a portal user and an active lease.
+     */
+    private int tenants = 200;
+
+    /**
+     * Work orders seeded for the run, spread over the seeded units.
+     */
+    private int workOrders = 2000;
+
+    /**
+     * Concurrent clients driving each HTTP scenario.
+     */
+    private int virtualUsers = 20;
+
+    /**
+     * Load applied before measuring each scenario (JIT, connection pools, caches).
+     */
+    private Duration warmup = Duration.ofSeconds(10);
+
+    /**
+     * Measured duration of each HTTP scenario.
+     */
+    private Duration duration = Duration.ofSeconds(30);
+
+    /**
+     * Response time of the stubbed Textract client, standing in for the AWS round trip.
+     */
+    private Duration textractLatency = Duration.ofMillis(300);
+
+    /**
+     * Password of every seeded user.
+     */
+    private String password = "LoadTest#2026";
+
+    /**
+     * Scenarios to run, by name; empty runs all of them.
+     */
+    private List<String> scenarios = new ArrayList<>();
+
+    /**
+     * JSON report written at the end of the run.
+     */
+    private Path reportFile = Path.of("target", "loadtest-report.json");
+}
@@ -0,0 +1,471 @@
+package com.ultrabms.loadtest;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ultrabms.loadtest.LoadTestDataSeeder.SeededData;
+import com.ultrabms.metrics.QueryCountStatementInspector;
+import com.ultrabms.service.InvoiceService;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Drives the load-test scenarios against the running application and reports throughput,
+ * latency percentiles and SQL statements per operation for each.
+ *
+ * <p>HTTP scenarios run one at a time: a warmup, then a measured phase in which
+ * {@code loadtest.virtual-users} clients send requests back to back for {@code loadtest.duration}.
+ * Latency is measured client side. Statements come from the {@code http.server.requests.queries}
+ * summary published by {@code QueryCountFilter}, read from the in-process meter registry before
+ * and after the measured phase. The month-end invoice run calls the invoice job's service method
+ * on this thread and counts its statements directly.</p>
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class LoadTestRunner {
+
+    private static final String QUERY_METRIC = "http.server.requests.queries";
+    private static final String INVOICE_SCENARIO = "month-end-invoices";
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final LoadTestDataSeeder seeder;
+    private final InvoiceService invoiceService;
+    private final MeterRegistry meterRegistry;
+    private final ObjectMapper objectMapper;
+    private final Environment environment;
+    private final LoadTestProperties properties;
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(10))
+            .build();
+
+    private String baseUrl;
+
+    /**
+     * Builds the request a virtual user sends on each iteration.
+     */
+    @FunctionalInterface
+    interface RequestFactory {
+        HttpRequest create(int virtualUser, long iteration);
+    }
+
+    /**
+     * HTTP scenario: one request per iteration, all against one route.
+     *
+     * @param name    scenario name
+     * @param route   route template the requests match (the {@code uri} tag of the query summary)
+     * @param request request factory
+     */
+    record HttpScenario(String name, String route, RequestFactory request) {
+    }
+
+    /**
+     * Report written to {@code loadtest.report-file}.
+     */
+    record LoadTestReport(String runId, LocalDateTime startedAt, int virtualUsers, String warmup, String duration,
+                          int tenants, int workOrders, List<ScenarioResult> scenarios) {
+    }
+
+    /**
+     * Seeds data, runs the selected scenarios and writes the report.
+     *
+     * @return process exit code: 0 when no operation failed, 1 otherwise
+     * @throws Exception if seeding, login or the report fails
+     */
+    public int run() throws Exception {
+        if (properties.getTenants() < 2 || properties.getVirtualUsers() < 1) {
+            throw new IllegalArgumentException("loadtest.tenants must be at least 2 and loadtest.virtual-users at least 1");
+        }
+        LocalDateTime startedAt = LocalDateTime.now();
+        baseUrl = "http://localhost:" + environment.getRequiredProperty("local.server.port");
+        SeededData data = seeder.seed();
+
+        List<HttpScenario> httpScenarios = httpScenarios(data);
+        List<String> names = new ArrayList<>(httpScenarios.stream().map(HttpScenario::name).toList());
+        names.add(INVOICE_SCENARIO);
+        List<String> selected = properties.getScenarios().isEmpty() ? names : properties.getScenarios();
+        if (!names.containsAll(selected)) {
+            throw new IllegalArgumentException("Unknown scenario in " + selected + ", expected any of " + names);
+        }
+
+        List<ScenarioResult> results = new ArrayList<>();
+        for (HttpScenario scenario : httpScenarios) {
+            if (selected.contains(scenario.name())) {
+                results.add(runHttp(scenario));
+            }
+        }
+        if (selected.contains(INVOICE_SCENARIO)) {
+            results.add(runInvoiceGeneration());
+        }
+
+        LoadTestReport report = new LoadTestReport(data.runId(), startedAt, properties.getVirtualUsers(),
+                properties.getWarmup().toString(), properties.getDuration().toString(),
+                properties.getTenants(), properties.getWorkOrders(), results);
+        log.info("Load test {} finished{}", data.runId(), table(results));
+        Files.createDirectories(properties.getReportFile().toAbsolutePath().getParent());
+        objectMapper.writerWithDefaultPrettyPrinter().writeValue(properties.getReportFile().toFile(), report);
+        log.info("Report written to {}", properties.getReportFile().toAbsolutePath());
+
+        return results.stream().anyMatch(result -> result.errors() > 0) ? 1 : 0;
+    }
+
+    // ========================================================================
+    // SCENARIOS
+    // ========================================================================
+
+    private List<HttpScenario> httpScenarios(SeededData data) throws IOException, InterruptedException {
+        // The first half of the tenants only log in; the second half hold one session each, so
+        // repeated logins never evict (concurrent session limit) a session that is in use
+        List<String> tenants = data.tenantEmails();
+        List<String> loginTenants = tenants.subList(0, tenants.size() / 2);
+        List<String> sessionTenants = tenants.subList(tenants.size() / 2, tenants.size());
+
+        String managerToken = login(data.managerEmail());
+        String[] tenantTokens = new String[Math.min(properties.getVirtualUsers(), sessionTenants.size())];
+        for (int i = 0; i < tenantTokens.length; i++) {
+            tenantTokens[i] = login(sessionTenants.get(i));
+        }
+
+        MultipartBody upload = new Multipart()
+                .field("type", "OTHER")
+                .file("file", "tenancy-contract-addendum.pdf", "application/pdf", pdf(256 * 1024))
+                .build();
+        MultipartBody identity = new Multipart()
+                .file("passportFront", "passport_front.jpg", "image/jpeg",
+                        image(StubTextractClient.PASSPORT_IMAGE, 400 * 1024))
+                .file("emiratesIdFront", "emirates_id_front.png", "image/png",
+                        image(StubTextractClient.EMIRATES_ID_IMAGE, 300 * 1024))
+                .build();
+
+        return List.of(
+                new HttpScenario("tenant-login", "/api/v1/auth/login", (user, iteration) ->
+                        HttpRequest.newBuilder(uri("/api/v1/auth/login"))
+                                .header("Content-Type", "application/json")
+                                .timeout(REQUEST_TIMEOUT)
+                                .POST(HttpRequest.BodyPublishers.ofString(
+                                        loginBody(loginTenants.get((int) (iteration % loginTenants.size())))))
+                                .build()),
+                new HttpScenario("tenant-dashboard", "/api/v1/tenant/dashboard", (user, iteration) ->
+                        get("/api/v1/tenant/dashboard", tenantTokens[user % tenantTokens.length])),
+                new HttpScenario("work-order-list", "/api/v1/work-orders", (user, iteration) ->
+                        get("/api/v1/work-orders?page=" + iteration % 5 + "&size=20", managerToken)),
+                new HttpScenario("work-order-search", "/api/v1/work-orders", (user, iteration) ->
+                        get("/api/v1/work-orders?size=20&search=" + URLEncoder.encode(
+                                data.searchTerms().get((int) (iteration % data.searchTerms().size())),
+                                StandardCharsets.UTF_8), managerToken)),
+                new HttpScenario("executive-dashboard", "/api/v1/dashboard/executive", (user, iteration) ->
+                        get("/api/v1/dashboard/executive", managerToken)),
+                new HttpScenario("tenant-document-upload", "/api/v1/tenant/documents", (user, iteration) ->
+                        post("/api/v1/tenant/documents", tenantTokens[user % tenantTokens.length], upload)),
+                new HttpScenario("identity-document-ocr", "/api/v1/textract/process-identity-documents",
+                        (user, iteration) -> post("/api/v1/textract/process-identity-documents", managerToken,
+                                identity)));
+    }
+
+    private ScenarioResult runHttp(HttpScenario scenario) throws InterruptedException {
+        log.info("Scenario {}: warming up for {}", scenario.name(), properties.getWarmup());
+        drive(scenario, properties.getWarmup());
+
+        double[] before = queryTotals(scenario.route());
+        log.info("Scenario {}: measuring for {}", scenario.name(), properties.getDuration());
+        long start = System.nanoTime();
+        Phase phase = drive(scenario, properties.getDuration());
+        long elapsed = System.nanoTime() - start;
+        double[] after = awaitQueryTotals(scenario.route(), before, phase.operations() + phase.errors());
+
+        return ScenarioResult.of(scenario.name(), phase.operations(), phase.errors(), elapsed,
+                phase.latencies(), Math.round(after[1] - before[1]));
+    }
+
+    private ScenarioResult runInvoiceGeneration() {
+        log.info("Scenario {}: generating invoices for tenants due today", INVOICE_SCENARIO);
+        QueryCountStatementInspector.reset();
+        long start = System.nanoTime();
+        int generated;
+        try {
+            generated = invoiceService.generateScheduledInvoices();
+        } catch (RuntimeException e) {
+            log.warn("Scenario {} failed: {}", INVOICE_SCENARIO, e.getMessage(), e);
+            return ScenarioResult.of(INVOICE_SCENARIO, 0, properties.getTenants(), System.nanoTime() - start,
+                    new long[0], QueryCountStatementInspector.currentCount());
+        }
+        long elapsed = System.nanoTime() - start;
+        long queries = QueryCountStatementInspector.currentCount();
+
+        // One operation per invoice; the single latency sample is the whole job run
+        return ScenarioResult.of(INVOICE_SCENARIO, generated, Math.max(0, properties.getTenants() - generated),
+                elapsed, new long[]{elapsed}, queries);
+    }
+
+    // ========================================================================
+    // LOAD GENERATION
+    // ========================================================================
+
+    private record Phase(long operations, long errors, long[] latencies) {
+    }
+
+    private Phase drive(HttpScenario scenario, Duration duration) throws InterruptedException {
+        int users = properties.getVirtualUsers();
+        long deadline = System.nanoTime() + duration.toNanos();
+        AtomicLong iterations = new AtomicLong();
+        AtomicLong errors = new AtomicLong();
+        AtomicBoolean errorLogged = new AtomicBoolean();
+
+        ExecutorService clients = Executors.newFixedThreadPool(users);
+        List<Future<Samples>> futures = new ArrayList<>(users);
+        for (int u = 0; u < users; u++) {
+            int user = u;
+            futures.add(clients.submit(() -> {
+                Samples samples = new Samples();
+                while (System.nanoTime() < deadline) {
+                    HttpRequest request = scenario.request().create(user, iterations.getAndIncrement());
+                    long sent = System.nanoTime();
+                    String failure = send(request);
+                    long latency = System.nanoTime() - sent;
+                    if (failure == null) {
+                        samples.add(latency);
+                    } else {
+                        errors.incrementAndGet();
+                        if (errorLogged.compareAndSet(false, true)) {
+                            log.warn("Scenario {}: {} {} failed: {}", scenario.name(), request.method(),
+                                    request.uri().getPath(), failure);
+                        }
+                    }
+                }
+                return samples;
+            }));
+        }
+        clients.shutdown();
+
+        long[] latencies = new long[0];
+        for (Future<Samples> future : futures) {
+            try {
+                Samples samples = future.get();
+                latencies = samples.appendTo(latencies);
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("Virtual user of scenario " + scenario.name() + " failed", e.getCause());
+            }
+        }
+        return new Phase(latencies.length, errors.get(), latencies);
+    }
+
+    /**
+     * Sends a request and returns null on a 2xx response, or a description of the failure.
+     */
+    private String send(HttpRequest request) {
+        try {
+            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() / 100 == 2) {
+                return null;
+            }
+            String body = response.body();
+            return "HTTP " + response.statusCode() + " " + body.substring(0, Math.min(body.length(), 300));
+        } catch (IOException e) {
+            return e.toString();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return e.toString();
+        }
+    }
+
+    /**
+     * Growable array of latency samples, one per virtual user.
+     */
+    private static final class Samples {
+
+        private long[] values = new long[1024];
+        private int size;
+
+        void add(long value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        long[] appendTo(long[] target) {
+            long[] merged = Arrays.copyOf(target, target.length + size);
+            System.arraycopy(values, 0, merged, target.length, size);
+            return merged;
+        }
+    }
+
+    // ========================================================================
+    // QUERY COUNTS
+    // ========================================================================
+
+    /**
+     * Requests and statements recorded so far for a route, as {count, total}.
+     */
+    private double[] queryTotals(String route) {
+        double[] totals = new double[2];
+        for (DistributionSummary summary : meterRegistry.find(QUERY_METRIC).tag("uri", route).summaries()) {
+            totals[0] += summary.count();
+            totals[1] += summary.totalAmount();
+        }
+        return totals;
+    }
+
+    /**
+     * Query totals once all requests sent since {@code before} are recorded. The filter records
+     * after the response is written, so the last few can trail the client by a moment.
+     */
+    private double[] awaitQueryTotals(String route, double[] before, long requests) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(2);
+        double[] totals = queryTotals(route);
+        while (totals[0] - before[0] < requests && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+            totals = queryTotals(route);
+        }
+        return totals;
+    }
+
+    // ========================================================================
+    // REQUESTS
+    // ========================================================================
+
+    private String login(String email) throws IOException, InterruptedException {
+        HttpResponse<String> response = httpClient.send(HttpRequest.newBuilder(uri("/api/v1/auth/login"))
+                        .header("Content-Type", "application/json")
+                        .timeout(REQUEST_TIMEOUT)
+                        .POST(HttpRequest.BodyPublishers.ofString(loginBody(email)))
+                        .build(),
+                HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("Login of " + email + " failed: HTTP " + response.statusCode()
+                    + " " + response.body());
+        }
+        return objectMapper.readTree(response.body()).path("accessToken").asText();
+    }
+
+    private String loginBody(String email) {
+        try {
+            return objectMapper.writeValueAsString(Map.of("email", email, "password", properties.getPassword()));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private HttpRequest get(String path, String token) {
+        return HttpRequest.newBuilder(uri(path))
+                .header("Authorization", "Bearer " + token)
+                .timeout(REQUEST_TIMEOUT)
+                .GET()
+                .build();
+    }
+
+    private HttpRequest post(String path, String token, MultipartBody body) {
+        return HttpRequest.newBuilder(uri(path))
+                .header("Authorization", "Bearer " + token)
+                .header("Content-Type", body.contentType())
+                .timeout(REQUEST_TIMEOUT)
+                .POST(HttpRequest.BodyPublishers.ofByteArray(body.payload()))
+                .build();
+    }
+
+    private URI uri(String path) {
+        return URI.create(baseUrl + path);
+    }
+
+    private static byte[] pdf(int size) {
+        byte[] content = new byte[size];
+        Arrays.fill(content, (byte) ' ');
+        byte[] header = "%PDF-1.7\n".getBytes(StandardCharsets.US_ASCII);
+        System.arraycopy(header, 0, content, 0, header.length);
+        return content;
+    }
+
+    /**
+     * Image payload of the given size whose leading bytes tell {@link StubTextractClient} which
+     * document it shows.
+     */
+    private static byte[] image(String document, int size) {
+        byte[] content = new byte[size];
+        byte[] marker = document.getBytes(StandardCharsets.ISO_8859_1);
+        System.arraycopy(marker, 0, content, 0, marker.length);
+        return content;
+    }
+
+    /**
+     * Encoded multipart/form-data body, reused for every request of a scenario.
+     */
+    private record MultipartBody(String contentType, byte[] payload) {
+    }
+
+    /**
+     * Builder of a {@link MultipartBody}.
+     */
+    private static final class Multipart {
+
+        private final String boundary = "loadtest-" + UUID.randomUUID();
+        private final ByteArrayOutputStream body = new ByteArrayOutputStream();
+
+        Multipart field(String name, String value) {
+            write("--" + boundary + "\r\nContent-Disposition: form-data; name=\"" + name + "\"\r\n\r\n"
+                    + value + "\r\n");
+            return this;
+        }
+
+        Multipart file(String name, String filename, String contentType, byte[] content) {
+            write("--" + boundary + "\r\nContent-Disposition: form-data; name=\"" + name + "\"; filename=\""
+                    + filename + "\"\r\nContent-Type: " + contentType + "\r\n\r\n");
+            body.writeBytes(content);
+            write("\r\n");
+            return this;
+        }
+
+        MultipartBody build() {
+            write("--" + boundary + "--\r\n");
+            return new MultipartBody("multipart/form-data; boundary=" + boundary, body.toByteArray());
+        }
+
+        private void write(String text) {
+            body.writeBytes(text.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    // ========================================================================
+    // REPORT
+    // ========================================================================
+
+    private static String table(List<ScenarioResult> results) {
+        StringBuilder table = new StringBuilder(String.format("%n%-24s %8s %6s %9s %9s %9s %9s %9s %10s%n",
+                "Scenario", "Ops", "Errors", "Ops/s", "p50 ms", "p95 ms", "p99 ms", "Max ms", "Queries/op"));
+        for (ScenarioResult result : results) {
+            table.append(String.format("%-24s %8d %6d %9.1f %9.1f %9.1f %9.1f %9.1f %10.1f%n",
+                    result.scenario(), result.operations(), result.errors(), result.throughput(),
+                    result.p50Millis(), result.p95Millis(), result.p99Millis(), result.maxMillis(),
+                    result.queriesPerOp()));
+        }
+        return table.toString();
+    }
+}
@@ -0,0 +1,71 @@
+package com.ultrabms.loadtest;
+
+import java.util.Arrays;
+
+/**
+ * Measured outcome of one scenario.
+ *
+ * @param scenario       scenario name
+ * @param operations     completed operations (requests, or invoices for the batch scenario)
+ * @param errors         operations that failed (non-2xx responses, I/O errors)
+ * @param elapsedMillis  measured wall-clock time
+ * @param throughput     operations per second
+ * @param p50Millis      median latency
+ * @param p95Millis      95th percentile latency
+ * @param p99Millis      99th percentile latency
+ * @param maxMillis      slowest operation
+ * @param queries        SQL statements executed by the measured operations
+ * @param queriesPerOp   SQL statements per operation
+ */
+public record ScenarioResult(
+        String scenario,
+        long operations,
+        long errors,
+        long elapsedMillis,
+        double throughput,
+        double p50Millis,
+        double p95Millis,
+        double p99Millis,
+        double maxMillis,
+        long queries,
+        double queriesPerOp) {
+
+    /**
+     * Builds a result from raw latency samples.
+     *
+     * @param scenario     scenario name
+     * @param operations   completed operations
+     * @param errors       failed operations
+     * @param elapsedNanos measured wall-clock time
+     * @param latencies    latency samples in nanoseconds (sorted in place)
+     * @param queries      SQL statements executed
+     * @return result
+     */
+    static ScenarioResult of(String scenario, long operations, long errors, long elapsedNanos,
+                             long[] latencies, long queries) {
+        Arrays.sort(latencies);
+        return new ScenarioResult(
+                scenario,
+                operations,
+                errors,
+                elapsedNanos / 1_000_000,
+                elapsedNanos == 0 ? 0 : operations * 1e9 / elapsedNanos,
+                percentile(latencies, 0.50),
+                percentile(latencies, 0.95),
+                percentile(latencies, 0.99),
+                latencies.length == 0 ? 0 : latencies[latencies.length - 1] / 1e6,
+                queries,
+                operations == 0 ? 0 : (double) queries / operations);
+    }
+
+    /**
+     * Nearest-rank percentile of sorted samples, in milliseconds.
+     */
+    static double percentile(long[] sorted, double quantile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(quantile * sorted.length);
+        return sorted[Math.max(rank, 1) - 1] / 1e6;
+    }
+}
@@ -0,0 +1,91 @@
+package com.ultrabms.loadtest;
+
+import software.amazon.awssdk.services.textract.TextractClient;
+import software.amazon.awssdk.services.textract.model.Block;
+import software.amazon.awssdk.services.textract.model.BlockType;
+import software.amazon.awssdk.services.textract.model.DetectDocumentTextRequest;
+import software.amazon.awssdk.services.textract.model.DetectDocumentTextResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Textract stand-in for load tests: answers every image with recorded OCR lines after a fixed
+ * delay, so the OCR endpoints keep their real parsing work and request-thread occupancy without
+ * calling AWS.
+ *
+ * <p>Images whose content starts with {@code passport} get a passport page, anything else an
+ * Emirates ID card.</p>
+ */
+class StubTextractClient implements TextractClient {
+
+    static final String PASSPORT_IMAGE = "passport";
+    static final String EMIRATES_ID_IMAGE = "emirates-id";
+
+    private static final DetectDocumentTextResponse PASSPORT = lines(
+            "REPUBLIC OF INDIA",
+            "PASSPORT",
+            "Type P Country Code IND",
+            "Passport No: N1234567",
+            "Surname SHARMA",
+            "Given Names RAHUL KUMAR",
+            "Nationality: INDIAN",
+            "Date of Birth: 10/03/1990",
+            "Place of Birth MUMBAI",
+            "Date of Issue: 15/06/2021",
+            "Date of Expiry: 14/06/2031",
+            "P<INDSHARMA<<RAHUL<KUMAR<<<<<<<<<<<<<<<<<<<<<",
+            "N1234567<4IND9003109M3106148<<<<<<<<<<<<<<<8");
+
+    private static final DetectDocumentTextResponse EMIRATES_ID = lines(
+            "UNITED ARAB EMIRATES",
+            "FEDERAL AUTHORITY FOR IDENTITY & CITIZENSHIP",
+            "Resident Identity Card",
+            "ID Number 784-1990-1234567-8",
+            "Name: Rahul Kumar Sharma",
+            "Nationality: India",
+            "Date of Birth: 10/03/1990",
+            "Expiry Date: 15/08/2028");
+
+    private final Duration latency;
+
+    StubTextractClient(Duration latency) {
+        this.latency = latency;
+    }
+
+    @Override
+    public DetectDocumentTextResponse detectDocumentText(DetectDocumentTextRequest request) {
+        if (!latency.isZero()) {
+            try {
+                Thread.sleep(latency.toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        String image = request.document().bytes().asString(StandardCharsets.ISO_8859_1);
+        return image.startsWith(PASSPORT_IMAGE) ? PASSPORT : EMIRATES_ID;
+    }
+
+    @Override
+    public String serviceName() {
+        return SERVICE_NAME;
+    }
+
+    @Override
+    public void close() {
+    }
+
+    private static DetectDocumentTextResponse lines(String... lines) {
+        List<Block> blocks = new ArrayList<>();
+        blocks.add(Block.builder().blockType(BlockType.PAGE).build());
+        for (String line : lines) {
+            blocks.add(Block.builder().blockType(BlockType.LINE).text(line).confidence(97.5f).build());
+            for (String word : line.split(" ")) {
+                blocks.add(Block.builder().blockType(BlockType.WORD).text(word).confidence(96.0f).build());
+            }
+        }
+        return DetectDocumentTextResponse.builder().blocks(blocks).build();
+    }
+}
@@ -0,0 +1,22 @@
+package com.ultrabms.audit;
+
+/**
+ * Durability mode of the {@link AuditLogSink}.
+ */
+public enum AuditDurability {
+
+    /**
+     * Buffer events; whatever is still buffered at shutdown is discarded (and counted as dropped)
+     */
+    BEST_EFFORT,
+
+    /**
+     * Buffer events and write out everything still buffered during graceful shutdown
+     */
+    FLUSH_ON_SHUTDOWN,
+
+    /**
+     * No buffering: every event is inserted on the calling thread
+     */
+    SYNCHRONOUS
+}
@@ -0,0 +1,254 @@
+package com.ultrabms.audit;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ultrabms.config.AuditLogProperties;
+import com.ultrabms.entity.AuditLog;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Write-behind sink for audit log rows.
+ *
+ * <p>Callers hand over an {@link AuditLog} and return immediately; events wait in a bounded
+ * in-memory buffer and are written by a scheduled flush as multi-row INSERTs of up to
+ * {@code app.audit.batch-size} rows, so a login storm becomes a handful of statements
+ * instead of one transaction per event. When the buffer is full new events are dropped
+ * and counted rather than blocking the request thread. A batch rejected by a constraint
+ * is retried row by row, so only the offending events are dropped.</p>
+ *
+ * <p>On graceful shutdown the buffer is drained according to {@link AuditDurability};
+ * events submitted after shutdown has begun are written directly.</p>
+ *
+ * <p>Metrics: {@code ultrabms.audit.buffer.size}, {@code ultrabms.audit.written} and
+ * {@code ultrabms.audit.dropped} tagged with reason {@code overflow}, {@code write_failure}
+ * or {@code shutdown}.</p>
+ */
+@Component
+@Slf4j
+public class AuditLogSink implements SmartLifecycle, MeterBinder {
+
+    private static final String INSERT_PREFIX =
+            "INSERT INTO audit_logs (id, user_id, action, ip_address, user_agent, created_at, details) VALUES ";
+    private static final String ROW_PLACEHOLDERS = "(?, ?, ?, ?, ?, ?, CAST(? AS jsonb))";
+    private static final int COLUMNS = 7;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final AuditDurability durability;
+    private final int batchSize;
+    private final BlockingQueue<AuditLog> buffer;
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    private final AtomicLong written = new AtomicLong();
+    private final AtomicLong droppedOverflow = new AtomicLong();
+    private final AtomicLong droppedWriteFailure = new AtomicLong();
+    private final AtomicLong droppedShutdown = new AtomicLong();
+
+    private volatile boolean running = false;
+
+    public AuditLogSink(JdbcTemplate jdbcTemplate, ObjectMapper objectMapper, AuditLogProperties properties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.durability = properties.getDurability();
+        this.batchSize = properties.getBatchSize();
+        this.buffer = new ArrayBlockingQueue<>(properties.getBufferCapacity());
+    }
+
+    /**
+     * Queue an audit log row for writing. Never blocks; drops the event if the buffer is full.
+     *
+     * @param auditLog audit log entry (id and createdAt are filled in if missing)
+     */
+    public void submit(AuditLog auditLog) {
+        if (auditLog.getId() == null) {
+            auditLog.setId(UUID.randomUUID());
+        }
+        if (auditLog.getCreatedAt() == null) {
+            auditLog.setCreatedAt(LocalDateTime.now());
+        }
+
+        if (durability == AuditDurability.SYNCHRONOUS || !running) {
+            write(Collections.singletonList(auditLog));
+            return;
+        }
+        if (!buffer.offer(auditLog)) {
+            long dropped = droppedOverflow.incrementAndGet();
+            // Log the first drop and then every 1000th to avoid flooding the log during a storm
+            if (dropped == 1 || dropped % 1000 == 0) {
+                log.warn("Audit log buffer full, dropped {} event(s) so far (action: {})",
+                        dropped, auditLog.getAction());
+            }
+        }
+    }
+
+    /**
+     * Write out everything currently buffered.
+     */
+    @Scheduled(fixedDelayString = "${app.audit.flush-interval:1000}")
+    public void flush() {
+        flushLock.lock();
+        try {
+            List<AuditLog> batch = new ArrayList<>(batchSize);
+            while (buffer.drainTo(batch, batchSize) > 0) {
+                write(batch);
+                batch.clear();
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * @return number of events waiting in the buffer
+     */
+    public int bufferedCount() {
+        return buffer.size();
+    }
+
+    /**
+     * Writes the batch as one statement. If a row violates a constraint (e.g. the user FK for an
+     * event of a deleted user), the rows are retried one by one so only the offending rows are lost.
+     */
+    private void write(List<AuditLog> batch) {
+        try {
+            insert(batch);
+            written.addAndGet(batch.size());
+        } catch (DataIntegrityViolationException e) {
+            if (batch.size() == 1) {
+                recordWriteFailure(batch, e);
+                return;
+            }
+            log.warn("Audit log batch of {} event(s) rejected, retrying row by row: {}", batch.size(), e.getMessage());
+            for (AuditLog auditLog : batch) {
+                write(Collections.singletonList(auditLog));
+            }
+        } catch (DataAccessException e) {
+            recordWriteFailure(batch, e);
+        }
+    }
+
+    private void recordWriteFailure(List<AuditLog> batch, DataAccessException e) {
+        droppedWriteFailure.addAndGet(batch.size());
+        log.error("Failed to write {} audit log event(s): {}", batch.size(), e.getMessage());
+    }
+
+    private void insert(List<AuditLog> batch) {
+        StringBuilder sql = new StringBuilder(INSERT_PREFIX.length() + batch.size() * (ROW_PLACEHOLDERS.length() + 2));
+        sql.append(INSERT_PREFIX);
+        Object[] args = new Object[batch.size() * COLUMNS];
+        int i = 0;
+        for (AuditLog auditLog : batch) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append(ROW_PLACEHOLDERS);
+            args[i++] = auditLog.getId();
+            args[i++] = auditLog.getUserId();
+            args[i++] = auditLog.getAction();
+            args[i++] = auditLog.getIpAddress();
+            args[i++] = auditLog.getUserAgent();
+            args[i++] = auditLog.getCreatedAt();
+            args[i++] = toJson(auditLog);
+        }
+
+        jdbcTemplate.update(sql.toString(), args);
+    }
+
+    private String toJson(AuditLog auditLog) {
+        if (auditLog.getDetails() == null) {
+            return null;
+        }
+        try {
+            return objectMapper.writeValueAsString(auditLog.getDetails());
+        } catch (JsonProcessingException e) {
+            log.warn("Could not serialize details of audit event {}: {}", auditLog.getAction(), e.getMessage());
+            return null;
+        }
+    }
+
+    // =================================================================
+    // LIFECYCLE
+    // =================================================================
+
+    @Override
+    public void start() {
+        running = true;
+    }
+
+    /**
+     * Stops buffering. Runs after the web server has stopped taking requests (lower phase),
+     * then drains or discards the buffer depending on the durability mode.
+     */
+    @Override
+    public void stop() {
+        running = false;
+        if (durability == AuditDurability.BEST_EFFORT) {
+            int discarded = buffer.size();
+            buffer.clear();
+            if (discarded > 0) {
+                droppedShutdown.addAndGet(discarded);
+                log.warn("Discarded {} buffered audit log event(s) on shutdown", discarded);
+            }
+            return;
+        }
+        int pending = buffer.size();
+        flush();
+        if (pending > 0) {
+            log.info("Flushed {} buffered audit log event(s) on shutdown", pending);
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+
+    // =================================================================
+    // METRICS
+    // =================================================================
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("ultrabms.audit.buffer.size", buffer, BlockingQueue::size)
+                .description("Audit log events waiting to be written")
+                .register(registry);
+        FunctionCounter.builder("ultrabms.audit.written", written, AtomicLong::get)
+                .description("Audit log events written to the database")
+                .register(registry);
+        bindDropped(registry, "overflow", droppedOverflow);
+        bindDropped(registry, "write_failure", droppedWriteFailure);
+        bindDropped(registry, "shutdown", droppedShutdown);
+    }
+
+    private static void bindDropped(MeterRegistry registry, String reason, AtomicLong counter) {
+        FunctionCounter.builder("ultrabms.audit.dropped", counter, AtomicLong::get)
+                .description("Audit log events lost before reaching the database")
+                .tag("reason", reason)
+                .register(registry);
+    }
+}
@@ -0,0 +1,298 @@
+package com.ultrabms.cache;
+
+import com.ultrabms.config.CacheInvalidationProperties;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.SmartLifecycle;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+
+/**
+ * Broadcasts cache evictions to every node of a deployment over Postgres {@code LISTEN}/{@code NOTIFY}.
+ *
+ * <p>Each node runs one bus thread holding a dedicated (unpooled) connection to the primary.
+ * The thread {@code LISTEN}s on the configured channel, sends queued evictions with
+ * {@code pg_notify} and applies evictions received from other nodes to the local caches.
+ * Messages are plain text, {@code nodeId|cache|type|key}, where type is {@code S} (String key),
+ * {@code U} (UUID key) or {@code *} (clear the whole cache, also used for keys of other types).</p>
+ *
+ * <p>Notifications sent while a node is disconnected are lost, so after every reconnect the
+ * node clears all of its local caches. Entries are then reloaded on demand.</p>
+ *
+ * <p>Metrics: {@code ultrabms.cache.invalidation.published}, {@code .received},
+ * {@code .dropped} (queue full), {@code .reconnects} and the {@code .pending} gauge.</p>
+ */
+@Slf4j
+public class CacheInvalidationBus implements SmartLifecycle, MeterBinder {
+
+    static final String TYPE_STRING = "S";
+    static final String TYPE_UUID = "U";
+    static final String TYPE_CLEAR = "*";
+
+    private static final Pattern CHANNEL_NAME = Pattern.compile("[a-z_][a-z0-9_]*");
+    // NOTIFY payloads are limited to 8000 bytes; longer keys clear the cache instead
+    private static final int MAX_KEY_LENGTH = 4000;
+    private static final int SEND_BATCH = 100;
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final CacheManager localCacheManager;
+    private final String jdbcUrl;
+    private final String username;
+    private final String password;
+    private final String channel;
+    private final int pollTimeoutMillis;
+    private final long maxReconnectDelayMillis;
+    private final BlockingQueue<String> outgoing;
+
+    private final AtomicLong published = new AtomicLong();
+    private final AtomicLong received = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong reconnects = new AtomicLong();
+
+    private volatile boolean running = false;
+    private Thread worker;
+
+    /**
+     * @param localCacheManager cache manager whose caches remote evictions are applied to
+     *                          (the undecorated one, so applying an eviction does not re-broadcast it)
+     * @param jdbcUrl           JDBC URL of the primary database
+     * @param username          database user
+     * @param password          database password
+     * @param properties        bus settings
+     */
+    public CacheInvalidationBus(CacheManager localCacheManager, String jdbcUrl, String username, String password,
+                                CacheInvalidationProperties properties) {
+        if (!CHANNEL_NAME.matcher(properties.getChannel()).matches()) {
+            throw new IllegalArgumentException("Invalid cache invalidation channel name: " + properties.getChannel());
+        }
+        this.localCacheManager = localCacheManager;
+        this.jdbcUrl = jdbcUrl;
+        this.username = username;
+        this.password = password;
+        this.channel = properties.getChannel();
+        this.pollTimeoutMillis = Math.max(1, properties.getPollTimeout());
+        this.maxReconnectDelayMillis = properties.getMaxReconnectDelay();
+        this.outgoing = new ArrayBlockingQueue<>(properties.getQueueCapacity());
+    }
+
+    /**
+     * Queue an eviction for broadcast to the other nodes. Never blocks.
+     *
+     * @param cacheName cache name
+     * @param key       evicted key, or null when the whole cache was cleared
+     */
+    public void publish(String cacheName, Object key) {
+        if (!running) {
+            return;
+        }
+        if (!outgoing.offer(encode(nodeId, cacheName, key))) {
+            long count = dropped.incrementAndGet();
+            if (count == 1 || count % 1000 == 0) {
+                log.warn("Cache invalidation queue full, dropped {} eviction(s) so far (cache: {})", count, cacheName);
+            }
+        }
+    }
+
+    /**
+     * @return identifier of this node, carried in every message it sends
+     */
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    // =================================================================
+    // MESSAGES
+    // =================================================================
+
+    static String encode(String nodeId, String cacheName, Object key) {
+        String prefix = nodeId + "|" + cacheName + "|";
+        if (key instanceof String s && s.length() <= MAX_KEY_LENGTH) {
+            return prefix + TYPE_STRING + "|" + s;
+        }
+        if (key instanceof UUID uuid) {
+            return prefix + TYPE_UUID + "|" + uuid;
+        }
+        return prefix + TYPE_CLEAR + "|";
+    }
+
+    /**
+     * Apply a message received from the channel to the local caches.
+     *
+     * @param payload notification payload
+     * @return true if the message came from another node and was applied
+     */
+    boolean apply(String payload) {
+        String[] parts = payload.split("\\|", 4);
+        if (parts.length < 4) {
+            log.warn("Ignoring malformed cache invalidation message: {}", payload);
+            return false;
+        }
+        if (nodeId.equals(parts[0])) {
+            return false;
+        }
+        received.incrementAndGet();
+
+        Cache cache = localCacheManager.getCache(parts[1]);
+        if (cache == null) {
+            return false;
+        }
+        switch (parts[2]) {
+            case TYPE_STRING -> cache.evict(parts[3]);
+            case TYPE_UUID -> cache.evict(UUID.fromString(parts[3]));
+            default -> cache.clear();
+        }
+        return true;
+    }
+
+    private void clearLocalCaches() {
+        for (String name : localCacheManager.getCacheNames()) {
+            Cache cache = localCacheManager.getCache(name);
+            if (cache != null) {
+                cache.clear();
+            }
+        }
+    }
+
+    // =================================================================
+    // BUS THREAD
+    // =================================================================
+
+    private void runLoop() {
+        long delay = 500;
+        boolean connectedBefore = false;
+        List<String> inFlight = new ArrayList<>(SEND_BATCH);
+
+        while (running) {
+            try (Connection connection = DriverManager.getConnection(jdbcUrl, username, password)) {
+                connection.setAutoCommit(true);
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + channel);
+                }
+                if (connectedBefore) {
+                    reconnects.incrementAndGet();
+                    clearLocalCaches();
+                    log.info("Cache invalidation bus reconnected, cleared local caches");
+                } else {
+                    log.info("Cache invalidation bus listening on channel '{}' (node {})", channel, nodeId);
+                }
+                connectedBefore = true;
+                delay = 500;
+
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                try (PreparedStatement notify = connection.prepareStatement("SELECT pg_notify(?, ?)")) {
+                    while (running) {
+                        send(notify, inFlight);
+                        PGNotification[] notifications = pgConnection.getNotifications(pollTimeoutMillis);
+                        if (notifications != null) {
+                            for (PGNotification notification : notifications) {
+                                apply(notification.getParameter());
+                            }
+                        }
+                    }
+                    // Flush evictions queued during shutdown
+                    send(notify, inFlight);
+                }
+            } catch (SQLException | RuntimeException e) {
+                if (!running) {
+                    break;
+                }
+                log.warn("Cache invalidation bus connection failed, retrying in {} ms: {}", delay, e.getMessage());
+                try {
+                    Thread.sleep(delay);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+                delay = Math.min(delay * 2, maxReconnectDelayMillis);
+            }
+        }
+    }
+
+    /**
+     * Send queued messages. Messages stay in {@code inFlight} until sent, so a failed send is
+     * retried after reconnecting.
+     */
+    private void send(PreparedStatement notify, List<String> inFlight) throws SQLException {
+        if (inFlight.isEmpty()) {
+            outgoing.drainTo(inFlight, SEND_BATCH);
+        }
+        while (!inFlight.isEmpty()) {
+            for (String payload : inFlight) {
+                notify.setString(1, channel);
+                notify.setString(2, payload);
+                notify.execute();
+            }
+            published.addAndGet(inFlight.size());
+            inFlight.clear();
+            outgoing.drainTo(inFlight, SEND_BATCH);
+        }
+    }
+
+    // =================================================================
+    // LIFECYCLE
+    // =================================================================
+
+    @Override
+    public void start() {
+        running = true;
+        worker = new Thread(this::runLoop, "cache-invalidation-bus");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (worker != null) {
+            try {
+                worker.join(pollTimeoutMillis * 4L + 1000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    // =================================================================
+    // METRICS
+    // =================================================================
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("ultrabms.cache.invalidation.pending", outgoing, BlockingQueue::size)
+                .description("Cache evictions waiting to be broadcast")
+                .register(registry);
+        bindCounter(registry, "published", "Cache evictions broadcast to other nodes", published);
+        bindCounter(registry, "received", "Cache evictions received from other nodes", received);
+        bindCounter(registry, "dropped", "Cache evictions not broadcast because the queue was full", dropped);
+        bindCounter(registry, "reconnects", "Reconnects of the cache invalidation listener", reconnects);
+    }
+
+    private static void bindCounter(MeterRegistry registry, String name, String description, AtomicLong counter) {
+        FunctionCounter.builder("ultrabms.cache.invalidation." + name, counter, AtomicLong::get)
+                .description(description)
+                .register(registry);
+    }
+}
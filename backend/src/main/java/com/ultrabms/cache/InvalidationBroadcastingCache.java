@@ -0,0 +1,74 @@
+package com.ultrabms.cache;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
+import org.springframework.lang.Nullable;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.function.Supplier;
+
+/**
+ * Cache decorator that evicts locally right away and broadcasts the eviction to other nodes
+ * through the {@link CacheInvalidationBus}.
+ *
+ * <p>Inside a transaction the broadcast is sent after commit, so other nodes cannot reload
+ * the old value between their eviction and the commit; a rolled back transaction broadcasts
+ * nothing. Reads, puts and the local eviction behave exactly like the target cache.</p>
+ *
+ * <p>Extends {@link TransactionAwareCacheDecorator} only so Spring Boot's cache metrics unwrap
+ * it to the underlying JCache cache; none of its deferred put/evict behaviour is used.</p>
+ */
+public class InvalidationBroadcastingCache extends TransactionAwareCacheDecorator {
+
+    private final Supplier<CacheInvalidationBus> bus;
+
+    public InvalidationBroadcastingCache(Cache targetCache, Supplier<CacheInvalidationBus> bus) {
+        super(targetCache);
+        this.bus = bus;
+    }
+
+    @Override
+    public void put(Object key, @Nullable Object value) {
+        getTargetCache().put(key, value);
+    }
+
+    @Override
+    public void evict(Object key) {
+        getTargetCache().evict(key);
+        broadcast(key);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        boolean evicted = getTargetCache().evictIfPresent(key);
+        broadcast(key);
+        return evicted;
+    }
+
+    @Override
+    public void clear() {
+        getTargetCache().clear();
+        broadcast(null);
+    }
+
+    @Override
+    public boolean invalidate() {
+        boolean invalidated = getTargetCache().invalidate();
+        broadcast(null);
+        return invalidated;
+    }
+
+    private void broadcast(@Nullable Object key) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    bus.get().publish(getName(), key);
+                }
+            });
+        } else {
+            bus.get().publish(getName(), key);
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.ultrabms.cache;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.lang.Nullable;
+
+import java.util.Collection;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * Cache manager handing out {@link InvalidationBroadcastingCache} decorators around the
+ * caches of the target manager (the Ehcache/JCache manager configured from ehcache.xml).
+ */
+public class InvalidationBroadcastingCacheManager implements CacheManager {
+
+    private final CacheManager targetCacheManager;
+    private final Supplier<CacheInvalidationBus> bus;
+    private final ConcurrentMap<String, Cache> decoratedCaches = new ConcurrentHashMap<>();
+
+    /**
+     * @param targetCacheManager cache manager holding the actual caches
+     * @param bus                bus used for broadcasts, resolved lazily on first eviction
+     */
+    public InvalidationBroadcastingCacheManager(CacheManager targetCacheManager, Supplier<CacheInvalidationBus> bus) {
+        this.targetCacheManager = targetCacheManager;
+        this.bus = bus;
+    }
+
+    @Override
+    @Nullable
+    public Cache getCache(String name) {
+        Cache target = targetCacheManager.getCache(name);
+        if (target == null) {
+            return null;
+        }
+        return decoratedCaches.computeIfAbsent(name, n -> new InvalidationBroadcastingCache(target, bus));
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return targetCacheManager.getCacheNames();
+    }
+
+    /**
+     * @return the undecorated cache manager (evictions on it stay local)
+     */
+    public CacheManager getTargetCacheManager() {
+        return targetCacheManager;
+    }
+}
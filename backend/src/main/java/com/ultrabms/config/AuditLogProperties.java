@@ -0,0 +1,52 @@
+package com.ultrabms.config;
+
+import com.ultrabms.audit.AuditDurability;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration properties for the write-behind audit log sink.
+ *
+ * <p>Binds application.yml properties under 'app.audit':
+ * <pre>
+ * app:
+ *   audit:
+ *     buffer-capacity: 10000
+ *     batch-size: 500
+ *     flush-interval: 1000   # milliseconds
+ *     durability: FLUSH_ON_SHUTDOWN
+ *     partition-months-ahead: 3
+ * </pre>
+ * </p>
+ */
+@Configuration
+@ConfigurationProperties(prefix = "app.audit")
+@Data
+public class AuditLogProperties {
+
+    /**
+     * Maximum number of audit events held in memory; further events are dropped and counted
+     */
+    private int bufferCapacity = 10000;
+
+    /**
+     * Maximum rows per multi-row INSERT
+     */
+    private int batchSize = 500;
+
+    /**
+     * Delay between buffer flushes in milliseconds
+     */
+    private long flushInterval = 1000;
+
+    /**
+     * What happens to buffered events on shutdown, or whether to buffer at all
+     */
+    private AuditDurability durability = AuditDurability.FLUSH_ON_SHUTDOWN;
+
+    /**
+     * Number of monthly audit_logs partitions kept created ahead of the current month
+     */
+    private int partitionMonthsAhead = 3;
+}
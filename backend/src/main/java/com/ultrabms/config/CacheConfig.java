@@ -10,6 +10,9 @@ import org.springframework.context.annotation.Configuration;
  *
  * All cache definitions are in ehcache.xml.
  * Do NOT define a CacheManager bean here - it overrides ehcache config.
+ *
+ * Evictions are local to each node unless app.cache.invalidation.enabled=true,
+ * in which case CacheInvalidationConfig broadcasts them to the other nodes.
  */
 @Configuration
 public class CacheConfig {
@@ -0,0 +1,61 @@
+package com.ultrabms.config;
+
+import com.ultrabms.cache.CacheInvalidationBus;
+import com.ultrabms.cache.InvalidationBroadcastingCacheManager;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Cross-node cache invalidation, enabled with {@code app.cache.invalidation.enabled=true}.
+ *
+ * <p>The caches in ehcache.xml live on each node's heap, so {@code @CacheEvict} on one node
+ * leaves the other nodes serving stale entries until their TTL expires. With the bus enabled,
+ * the Ehcache cache manager is decorated so every eviction and clear is also broadcast over
+ * Postgres {@code LISTEN}/{@code NOTIFY} (see {@link CacheInvalidationBus}).</p>
+ *
+ * <p>When disabled, the cache manager is used unchanged and evictions stay local.</p>
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.cache.invalidation", name = "enabled", havingValue = "true")
+public class CacheInvalidationConfig {
+
+    /**
+     * Wraps the cache manager so evictions are broadcast. Static so it is registered
+     * before the cache manager is created.
+     */
+    @Bean
+    public static BeanPostProcessor cacheInvalidationPostProcessor(ObjectProvider<CacheInvalidationBus> bus) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof CacheManager cacheManager
+                        && !(bean instanceof InvalidationBroadcastingCacheManager)) {
+                    return new InvalidationBroadcastingCacheManager(cacheManager, bus::getObject);
+                }
+                return bean;
+            }
+        };
+    }
+
+    /**
+     * Bus connected to the primary database from spring.datasource.
+     */
+    @Bean
+    public CacheInvalidationBus cacheInvalidationBus(CacheManager cacheManager,
+                                                     DataSourceProperties dataSourceProperties,
+                                                     CacheInvalidationProperties properties) {
+        CacheManager localCacheManager = cacheManager instanceof InvalidationBroadcastingCacheManager broadcasting
+                ? broadcasting.getTargetCacheManager()
+                : cacheManager;
+        return new CacheInvalidationBus(localCacheManager,
+                dataSourceProperties.determineUrl(),
+                dataSourceProperties.determineUsername(),
+                dataSourceProperties.determinePassword(),
+                properties);
+    }
+}
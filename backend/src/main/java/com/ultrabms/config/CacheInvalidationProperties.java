@@ -0,0 +1,52 @@
+package com.ultrabms.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration properties for the cross-node cache invalidation bus.
+ *
+ * <p>Binds application.yml properties under 'app.cache.invalidation':
+ * <pre>
+ * app:
+ *   cache:
+ *     invalidation:
+ *       enabled: true
+ *       channel: cache_invalidation
+ *       poll-timeout: 250            # milliseconds
+ *       max-reconnect-delay: 30000   # milliseconds
+ *       queue-capacity: 10000
+ * </pre>
+ * </p>
+ */
+@Configuration
+@ConfigurationProperties(prefix = "app.cache.invalidation")
+@Data
+public class CacheInvalidationProperties {
+
+    /**
+     * Broadcast cache evictions to other nodes (default: false, evictions stay local)
+     */
+    private boolean enabled = false;
+
+    /**
+     * Postgres NOTIFY channel shared by all nodes of one deployment
+     */
+    private String channel = "cache_invalidation";
+
+    /**
+     * Longest the bus thread waits for incoming notifications before sending queued ones, in milliseconds
+     */
+    private int pollTimeout = 250;
+
+    /**
+     * Upper bound of the exponential back-off between reconnect attempts, in milliseconds
+     */
+    private long maxReconnectDelay = 30000;
+
+    /**
+     * Evictions waiting to be broadcast; further evictions are dropped and counted
+     */
+    private int queueCapacity = 10000;
+}
@@ -0,0 +1,78 @@
+package com.ultrabms.config;
+
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Executor that starts every task on its own thread right away and bounds how many run
+ * at once with a {@link Semaphore} acquired on that thread.
+ *
+ * <p>Unlike {@link SimpleAsyncTaskExecutor#setConcurrencyLimit}, which blocks the submitting
+ * thread once the limit is reached, {@link #execute} never blocks: surplus tasks wait on
+ * their own (virtual) thread. Fire-and-forget {@code @Async} calls therefore add no latency
+ * to the request or job that submits them, as with the platform pool's queue.</p>
+ */
+public class ConcurrencyLimitedExecutor implements TaskExecutor, AutoCloseable {
+
+    private final SimpleAsyncTaskExecutor delegate;
+    private final Semaphore permits;
+    private final AtomicInteger waiting = new AtomicInteger();
+    private final AtomicInteger active = new AtomicInteger();
+
+    /**
+     * @param delegate         executor starting one thread per task
+     * @param concurrencyLimit maximum tasks running at once
+     */
+    public ConcurrencyLimitedExecutor(SimpleAsyncTaskExecutor delegate, int concurrencyLimit) {
+        this.delegate = delegate;
+        this.permits = new Semaphore(concurrencyLimit, true);
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        waiting.incrementAndGet();
+        delegate.execute(() -> {
+            try {
+                permits.acquire();
+            } catch (InterruptedException e) {
+                waiting.decrementAndGet();
+                Thread.currentThread().interrupt();
+                return;
+            }
+            waiting.decrementAndGet();
+            active.incrementAndGet();
+            try {
+                task.run();
+            } finally {
+                active.decrementAndGet();
+                permits.release();
+            }
+        });
+    }
+
+    /**
+     * @return tasks started but waiting for a permit (the platform pool's queue depth)
+     */
+    public int getQueueSize() {
+        return waiting.get();
+    }
+
+    /**
+     * @return tasks currently running
+     */
+    public int getActiveCount() {
+        return active.get();
+    }
+
+    /**
+     * Waits up to the delegate's task termination timeout for started tasks, including
+     * those still waiting for a permit.
+     */
+    @Override
+    public void close() {
+        delegate.close();
+    }
+}
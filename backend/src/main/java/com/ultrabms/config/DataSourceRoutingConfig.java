@@ -0,0 +1,249 @@
+package com.ultrabms.config;
+
+import com.ultrabms.datasource.ReadReplica;
+import com.ultrabms.datasource.ReadReplicaInterceptor;
+import com.ultrabms.datasource.ReplicaLagMonitor;
+import com.ultrabms.datasource.ReplicaRoutingDataSource;
+import com.ultrabms.datasource.WorkloadInterceptor;
+import com.ultrabms.datasource.WorkloadPool;
+import com.ultrabms.datasource.WorkloadRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.ComposablePointcut;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.flyway.FlywayDataSource;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Role;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.SimpleDriverDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Connection routing, enabled with {@code app.datasource.replica.enabled=true} and/or
+ * {@code app.datasource.workloads.enabled=true}.
+ *
+ * <p>Reporting, dashboard and export aggregates run on a separate replica pool so
+ * month-end reporting does not compete with tenant portal writes for primary
+ * connections. JPA and every other DataSource consumer get the routing proxy; routing rules
+ * are described on {@link ReplicaRoutingDataSource}. Flyway migrates over its own unpooled
+ * primary connection, outside the pools and their statement timeouts.</p>
+ *
+ * <p>With workload pools enabled, primary connections are further split into OLTP, batch and
+ * reporting pools, each with its own size and statement timeout (see
+ * {@link WorkloadRoutingDataSource}). Pool saturation is published by Spring Boot's
+ * {@code hikaricp.connections.*} meters (pending, active, timeout, per pool) and by
+ * {@code ultrabms.datasource.pool.saturation} (active / maximum connections).</p>
+ *
+ * <p>When both are disabled, Spring Boot's single auto-configured pool is used unchanged.</p>
+ *
+ * <p>Requires {@code spring.jpa.open-in-view=false}: an open-in-view EntityManager holds the
+ * connection of the request's first transaction until the response is written, so a write
+ * after a replica read would run on the read-only replica connection.</p>
+ */
+@Configuration
+@ConditionalOnExpression("${app.datasource.replica.enabled:false} or ${app.datasource.workloads.enabled:false}")
+public class DataSourceRoutingConfig {
+
+    public DataSourceRoutingConfig(Environment environment) {
+        if (environment.getProperty("spring.jpa.open-in-view", Boolean.class, true)) {
+            throw new IllegalStateException(
+                    "spring.jpa.open-in-view must be false when connection routing is enabled");
+        }
+    }
+
+    /**
+     * Primary (read-write) pool, configured from spring.datasource as usual.
+     * Serves request traffic (OLTP) when workload pools are enabled.
+     */
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties,
+                                              WorkloadDataSourceProperties workloads) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        if (workloads.isEnabled()) {
+            dataSource.setPoolName("oltp");
+            applyStatementTimeout(dataSource, workloads.getOltp().getStatementTimeout());
+        } else {
+            dataSource.setPoolName("primary");
+        }
+        return dataSource;
+    }
+
+    /**
+     * Primary-database pool for scheduled jobs and background batches.
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "app.datasource.workloads", name = "enabled", havingValue = "true")
+    public HikariDataSource batchDataSource(DataSourceProperties properties, WorkloadDataSourceProperties workloads) {
+        return workloadPool("batch", properties, workloads.getBatch());
+    }
+
+    /**
+     * Primary-database pool for reports, dashboards and exports not served by the replica.
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "app.datasource.workloads", name = "enabled", havingValue = "true")
+    public HikariDataSource reportingDataSource(DataSourceProperties properties,
+                                                WorkloadDataSourceProperties workloads) {
+        return workloadPool("reporting", properties, workloads.getReporting());
+    }
+
+    /**
+     * Unpooled primary connection for Flyway. Migrations such as the audit_logs partitioning
+     * copy whole tables and must not run under the OLTP statement timeout.
+     */
+    @Bean
+    @FlywayDataSource
+    public DataSource flywayDataSource(DataSourceProperties properties) {
+        return DataSourceBuilder.create()
+                .type(SimpleDriverDataSource.class)
+                .url(properties.determineUrl())
+                .username(properties.determineUsername())
+                .password(properties.determinePassword())
+                .driverClassName(properties.determineDriverClassName())
+                .build();
+    }
+
+    /**
+     * Replica pool; connections are read-only so a misrouted write fails fast.
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "app.datasource.replica", name = "enabled", havingValue = "true")
+    public HikariDataSource replicaDataSource(ReplicaDataSourceProperties replica, DataSourceProperties primary) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName("replica");
+        dataSource.setJdbcUrl(replica.getUrl());
+        dataSource.setUsername(replica.getUsername() != null ? replica.getUsername() : primary.determineUsername());
+        dataSource.setPassword(replica.getPassword() != null ? replica.getPassword() : primary.determinePassword());
+        dataSource.setDriverClassName(primary.determineDriverClassName());
+        dataSource.setMaximumPoolSize(replica.getMaximumPoolSize());
+        dataSource.setMinimumIdle(replica.getMinimumIdle());
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "app.datasource.replica", name = "enabled", havingValue = "true")
+    public ReplicaLagMonitor replicaLagMonitor(@Qualifier("replicaDataSource") DataSource replicaDataSource, ReplicaDataSourceProperties replica) {
+        return new ReplicaLagMonitor(replicaDataSource, replica.getMaxLag());
+    }
+
+    /**
+     * Routing DataSource exposed to the application: replica routing (if enabled) in front of
+     * workload routing over the primary-database pools (if enabled).
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+                                 @Qualifier("batchDataSource") ObjectProvider<DataSource> batchDataSource,
+                                 @Qualifier("reportingDataSource") ObjectProvider<DataSource> reportingDataSource,
+                                 @Qualifier("replicaDataSource") ObjectProvider<DataSource> replicaDataSource,
+                                 ObjectProvider<ReplicaLagMonitor> replicaLagMonitor,
+                                 ReplicaDataSourceProperties replica,
+                                 WorkloadDataSourceProperties workloads) {
+        DataSource primary = primaryDataSource;
+        if (workloads.isEnabled()) {
+            primary = new WorkloadRoutingDataSource(
+                    primaryDataSource, batchDataSource.getObject(), reportingDataSource.getObject());
+        }
+        if (replica.isEnabled()) {
+            primary = new ReplicaRoutingDataSource(primary, replicaDataSource.getObject(),
+                    replicaLagMonitor.getObject(), replica.isRouteReadOnlyTransactions());
+        }
+        return new LazyConnectionDataSourceProxy(primary);
+    }
+
+    /**
+     * Applies {@link ReadReplicaInterceptor} to classes and methods annotated with {@link ReadReplica}.
+     */
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static Advisor readReplicaAdvisor() {
+        ComposablePointcut pointcut = new ComposablePointcut(new AnnotationMatchingPointcut(ReadReplica.class, true))
+                .union(AnnotationMatchingPointcut.forMethodAnnotation(ReadReplica.class));
+        return new DefaultPointcutAdvisor(pointcut, new ReadReplicaInterceptor());
+    }
+
+    /**
+     * Applies {@link WorkloadInterceptor} to {@link WorkloadPool} classes and methods and to
+     * {@code @Scheduled} methods. Runs before the transaction interceptor so the workload is
+     * known when the transaction fetches its connection.
+     */
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    @ConditionalOnProperty(prefix = "app.datasource.workloads", name = "enabled", havingValue = "true")
+    public static Advisor workloadAdvisor() {
+        ComposablePointcut pointcut = new ComposablePointcut(new AnnotationMatchingPointcut(WorkloadPool.class, true))
+                .union(AnnotationMatchingPointcut.forMethodAnnotation(WorkloadPool.class))
+                .union(AnnotationMatchingPointcut.forMethodAnnotation(Scheduled.class));
+        DefaultPointcutAdvisor advisor = new DefaultPointcutAdvisor(pointcut, new WorkloadInterceptor());
+        advisor.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return advisor;
+    }
+
+    /**
+     * Publishes {@code ultrabms.datasource.pool.saturation} for every routed pool.
+     */
+    @Bean
+    public MeterBinder connectionPoolSaturationMetrics(List<HikariDataSource> pools) {
+        return registry -> pools.forEach(pool ->
+                Gauge.builder("ultrabms.datasource.pool.saturation", pool, DataSourceRoutingConfig::saturation)
+                        .description("Active connections as a fraction of the pool maximum")
+                        .tag("pool", pool.getPoolName())
+                        .register(registry));
+    }
+
+    private static double saturation(HikariDataSource pool) {
+        HikariPoolMXBean mxBean = pool.getHikariPoolMXBean();
+        if (mxBean == null || pool.getMaximumPoolSize() <= 0) {
+            return 0;
+        }
+        return (double) mxBean.getActiveConnections() / pool.getMaximumPoolSize();
+    }
+
+    private static HikariDataSource workloadPool(String name, DataSourceProperties properties,
+                                                 WorkloadDataSourceProperties.Pool pool) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName(name);
+        dataSource.setJdbcUrl(properties.determineUrl());
+        dataSource.setUsername(properties.determineUsername());
+        dataSource.setPassword(properties.determinePassword());
+        dataSource.setDriverClassName(properties.determineDriverClassName());
+        dataSource.setMaximumPoolSize(pool.getMaximumPoolSize());
+        dataSource.setMinimumIdle(pool.getMinimumIdle());
+        dataSource.setConnectionTimeout(pool.getConnectionTimeout());
+        applyStatementTimeout(dataSource, pool.getStatementTimeout());
+        return dataSource;
+    }
+
+    /**
+     * Sets Postgres statement_timeout on every connection of the pool via the startup options.
+     */
+    private static void applyStatementTimeout(HikariDataSource dataSource, Duration statementTimeout) {
+        if (statementTimeout != null && !statementTimeout.isZero()) {
+            dataSource.addDataSourceProperty("options", "-c statement_timeout=" + statementTimeout.toMillis());
+        }
+    }
+}
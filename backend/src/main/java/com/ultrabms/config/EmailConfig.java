@@ -1,7 +1,10 @@
 package com.ultrabms.config;
 
+import org.springframework.boot.autoconfigure.thread.Threading;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
@@ -30,10 +33,21 @@ public class EmailConfig {
      *   <li>Thread name prefix: "email-" (for debugging)</li>
      * </ul></p>
      *
-     * @return configured ThreadPoolTaskExecutor for async operations
+     * <p>Marked primary so unqualified @Async methods keep running on this pool
+     * now that other executors (e.g. imageTaskExecutor) are defined.</p>
+     *
+     * <p>In virtual-thread mode each email gets its own virtual thread, at most 5 at
+     * once (see {@link VirtualThreadConfig}).</p>
+     *
+     * @param environment environment, used to detect virtual-thread mode
+     * @return configured executor for async operations
      */
     @Bean(name = "emailTaskExecutor")
-    public Executor emailTaskExecutor() {
+    @Primary
+    public Executor emailTaskExecutor(Environment environment) {
+        if (Threading.VIRTUAL.isActive(environment)) {
+            return VirtualThreadConfig.virtualThreadExecutor("email-", 5, 60);
+        }
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
         executor.setCorePoolSize(2);
         executor.setMaxPoolSize(5);
@@ -1,7 +1,10 @@
 package com.ultrabms.config;
 
+import com.ultrabms.filter.AccessLogFilter;
+import com.ultrabms.filter.QueryCountFilter;
 import com.ultrabms.filter.RequestCorrelationFilter;
-import com.ultrabms.filter.RequestResponseLoggingFilter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -17,11 +20,13 @@ import org.springframework.core.Ordered;
  * <p>Filter execution order:</p>
  * <ol>
  *   <li>RequestCorrelationFilter (HIGHEST_PRECEDENCE) - Generates correlation ID</li>
- *   <li>RequestResponseLoggingFilter (HIGHEST_PRECEDENCE + 1) - Logs requests/responses</li>
+ *   <li>AccessLogFilter (HIGHEST_PRECEDENCE + 1) - Writes structured access log events</li>
+ *   <li>QueryCountFilter (HIGHEST_PRECEDENCE + 2) - Records SQL statements per request</li>
  * </ol>
  *
  * @see RequestCorrelationFilter
- * @see RequestResponseLoggingFilter
+ * @see AccessLogFilter
+ * @see QueryCountFilter
  */
 @Configuration
 public class FilterConfig {
@@ -48,21 +53,46 @@ public class FilterConfig {
     }
 
     /**
-     * Registers the RequestResponseLoggingFilter for all API requests.
+     * Registers the AccessLogFilter for all API requests.
      *
      * <p>This filter runs after the correlation filter (HIGHEST_PRECEDENCE + 1)
-     * to ensure correlation IDs are available in the logs.</p>
+     * so the correlation ID is available when the access event is written.</p>
      *
-     * @return FilterRegistrationBean for RequestResponseLoggingFilter
+     * @param successSampleRate fraction of successful requests to log (errors and slow requests are always logged)
+     * @param slowThresholdMs latency at which a request is always logged
+     * @return FilterRegistrationBean for AccessLogFilter
      */
     @Bean
-    public FilterRegistrationBean<RequestResponseLoggingFilter> loggingFilter() {
-        FilterRegistrationBean<RequestResponseLoggingFilter> registrationBean = new FilterRegistrationBean<>();
+    public FilterRegistrationBean<AccessLogFilter> accessLogFilter(
+            @Value("${app.access-log.success-sample-rate:1.0}") double successSampleRate,
+            @Value("${app.access-log.slow-threshold-ms:2000}") long slowThresholdMs) {
+        FilterRegistrationBean<AccessLogFilter> registrationBean = new FilterRegistrationBean<>();
 
-        registrationBean.setFilter(new RequestResponseLoggingFilter());
+        registrationBean.setFilter(new AccessLogFilter(successSampleRate, slowThresholdMs));
         registrationBean.addUrlPatterns("/api/*"); // Apply to all API endpoints
         registrationBean.setOrder(Ordered.HIGHEST_PRECEDENCE + 1); // Run after correlation filter
-        registrationBean.setName("requestResponseLoggingFilter");
+        registrationBean.setName("accessLogFilter");
+
+        return registrationBean;
+    }
+
+    /**
+     * Registers the QueryCountFilter for all API requests.
+     *
+     * <p>This filter runs before the Spring Security chain so statements issued
+     * during authentication are attributed to the request as well.</p>
+     *
+     * @param meterRegistry registry the query-count summaries are published to
+     * @return FilterRegistrationBean for QueryCountFilter
+     */
+    @Bean
+    public FilterRegistrationBean<QueryCountFilter> queryCountFilter(MeterRegistry meterRegistry) {
+        FilterRegistrationBean<QueryCountFilter> registrationBean = new FilterRegistrationBean<>();
+
+        registrationBean.setFilter(new QueryCountFilter(meterRegistry));
+        registrationBean.addUrlPatterns("/api/*"); // Apply to all API endpoints
+        registrationBean.setOrder(Ordered.HIGHEST_PRECEDENCE + 2); // Run after access log filter
+        registrationBean.setName("queryCountFilter");
 
         return registrationBean;
     }
@@ -0,0 +1,43 @@
+package com.ultrabms.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.Executor;
+
+/**
+ * Configuration for the asynchronous image derivative stage.
+ *
+ * <p>Decoding and scaling multi-megapixel photos is CPU and memory heavy, so it runs
+ * on its own small pool instead of the email executor or request threads.</p>
+ */
+@Configuration
+public class ImageDerivativeConfig {
+
+    /**
+     * Configure thread pool for thumbnail/medium image generation.
+     *
+     * <p>Pool configuration:
+     * <ul>
+     *   <li>Core/max pool size: 2 threads (bounds concurrent decoded images in memory)</li>
+     *   <li>Queue capacity: 500 photos (tasks are rejected beyond this; the original
+     *       photo is then served until derivatives are regenerated)</li>
+     *   <li>Thread name prefix: "image-" (for debugging)</li>
+     * </ul></p>
+     *
+     * @return configured ThreadPoolTaskExecutor for image derivatives
+     */
+    @Bean(name = "imageTaskExecutor")
+    public Executor imageTaskExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(2);
+        executor.setQueueCapacity(500);
+        executor.setThreadNamePrefix("image-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+}
@@ -0,0 +1,109 @@
+package com.ultrabms.config;
+
+import com.ultrabms.metrics.QueryCountStatementInspector;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * Micrometer instrumentation for hot paths.
+ *
+ * <p>Metrics published (scraped from {@code /actuator/prometheus}):</p>
+ * <ul>
+ *   <li>{@code http.server.requests} - per-route latency timers (Spring Boot), with
+ *       percentile histograms enabled in application.yml</li>
+ *   <li>{@code http.server.requests.queries} - SQL statements per request and route
+ *       (see {@link com.ultrabms.filter.QueryCountFilter})</li>
+ *   <li>{@code cache.gets} / {@code cache.puts} / {@code cache.evictions} - per-cache
+ *       hit/miss counters (Spring Boot, from JCache statistics enabled in ehcache.xml)</li>
+ *   <li>{@code ultrabms.executor.queue.depth} / {@code ultrabms.executor.active} - queued and
+ *       running tasks of the email, image, S3 upload and password hashing executors and the scheduler</li>
+ * </ul>
+ */
+@Configuration
+public class MetricsConfig {
+
+    /**
+     * Registers the statement inspector that counts SQL statements per request thread.
+     *
+     * @return customizer adding the statement inspector to the Hibernate properties
+     */
+    @Bean
+    public HibernatePropertiesCustomizer queryCountHibernateCustomizer() {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, new QueryCountStatementInspector());
+    }
+
+    /**
+     * Publishes queue depth and active thread gauges for the asynchronous email,
+     * image, S3 upload and password hashing executors and the scheduled job thread pool.
+     *
+     * @param emailTaskExecutor executor used by @Async email sending
+     * @param imageTaskExecutor executor used for image derivative generation
+     * @param s3UploadExecutor executor used for parallel S3 uploads
+     * @param passwordHashExecutor executor used for BCrypt hashing
+     * @param taskScheduler scheduler used by @Scheduled jobs (if present)
+     * @return meter binder registering the gauges
+     */
+    @Bean
+    public MeterBinder executorQueueMetrics(
+            @Qualifier("emailTaskExecutor") Executor emailTaskExecutor,
+            @Qualifier("imageTaskExecutor") Executor imageTaskExecutor,
+            @Qualifier("s3UploadExecutor") Executor s3UploadExecutor,
+            @Qualifier("passwordHashExecutor") ThreadPoolTaskExecutor passwordHashExecutor,
+            ObjectProvider<ThreadPoolTaskScheduler> taskScheduler) {
+        return registry -> {
+            if (emailTaskExecutor instanceof ThreadPoolTaskExecutor executor) {
+                bindExecutor(registry, "email", executor.getThreadPoolExecutor());
+            } else if (emailTaskExecutor instanceof ConcurrencyLimitedExecutor executor) {
+                bindExecutor(registry, "email", executor);
+            }
+            if (imageTaskExecutor instanceof ThreadPoolTaskExecutor executor) {
+                bindExecutor(registry, "image", executor.getThreadPoolExecutor());
+            }
+            if (s3UploadExecutor instanceof ThreadPoolTaskExecutor executor) {
+                bindExecutor(registry, "s3-upload", executor.getThreadPoolExecutor());
+            } else if (s3UploadExecutor instanceof ConcurrencyLimitedExecutor executor) {
+                bindExecutor(registry, "s3-upload", executor);
+            }
+            bindExecutor(registry, "password-hash", passwordHashExecutor.getThreadPoolExecutor());
+            taskScheduler.ifAvailable(scheduler ->
+                    bindExecutor(registry, "scheduler", scheduler.getScheduledThreadPoolExecutor()));
+        };
+    }
+
+    private static void bindExecutor(MeterRegistry registry, String name, ThreadPoolExecutor executor) {
+        Gauge.builder("ultrabms.executor.queue.depth", executor, e -> e.getQueue().size())
+                .description("Tasks waiting in the executor queue")
+                .tag("executor", name)
+                .register(registry);
+        Gauge.builder("ultrabms.executor.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("Threads currently executing tasks")
+                .tag("executor", name)
+                .register(registry);
+    }
+
+    /**
+     * Virtual-thread mode: tasks waiting for a permit stand in for the queue.
+     */
+    private static void bindExecutor(MeterRegistry registry, String name, ConcurrencyLimitedExecutor executor) {
+        Gauge.builder("ultrabms.executor.queue.depth", executor, ConcurrencyLimitedExecutor::getQueueSize)
+                .description("Tasks waiting in the executor queue")
+                .tag("executor", name)
+                .register(registry);
+        Gauge.builder("ultrabms.executor.active", executor, ConcurrencyLimitedExecutor::getActiveCount)
+                .description("Threads currently executing tasks")
+                .tag("executor", name)
+                .register(registry);
+    }
+}
@@ -0,0 +1,56 @@
+package com.ultrabms.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration properties for BCrypt password hashing.
+ *
+ * <p>Binds application.yml properties under 'app.security.password-hashing':
+ * <pre>
+ * app:
+ *   security:
+ *     password-hashing:
+ *       strength: 12
+ *       pool-size: 0          # 0 = half the available processors
+ *       queue-capacity: 64
+ *       max-wait: 5000        # milliseconds
+ * </pre>
+ * </p>
+ */
+@Configuration
+@ConfigurationProperties(prefix = "app.security.password-hashing")
+@Data
+public class PasswordHashingProperties {
+
+    /**
+     * BCrypt log rounds for new hashes. Raising it upgrades existing hashes on the next successful login
+     */
+    private int strength = 12;
+
+    /**
+     * Threads dedicated to hashing; 0 uses half the available processors (at least one)
+     */
+    private int poolSize = 0;
+
+    /**
+     * Hash requests allowed to wait for a thread before new ones are rejected
+     */
+    private int queueCapacity = 64;
+
+    /**
+     * Longest a caller waits for its hash (queue wait plus hashing) in milliseconds
+     */
+    private long maxWait = 5000;
+
+    /**
+     * @return effective number of hashing threads
+     */
+    public int resolvePoolSize() {
+        if (poolSize > 0) {
+            return poolSize;
+        }
+        return Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+    }
+}
@@ -0,0 +1,78 @@
+package com.ultrabms.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for the read replica pool.
+ *
+ * <p>Binds application.yml properties under 'app.datasource.replica':
+ * <pre>
+ * app:
+ *   datasource:
+ *     replica:
+ *       enabled: true
+ *       url: jdbc:postgresql://replica-host:5432/ultrabms_prod
+ *       username: ${DATABASE_REPLICA_USERNAME}
+ *       password: ${DATABASE_REPLICA_PASSWORD}
+ *       maximum-pool-size: 10
+ *       route-read-only-transactions: true
+ *       max-lag: 10s
+ *       lag-check-interval: 5000   # milliseconds
+ * </pre>
+ * </p>
+ */
+@Configuration
+@ConfigurationProperties(prefix = "app.datasource.replica")
+@Data
+public class ReplicaDataSourceProperties {
+
+    /**
+     * Route reads to the replica (default: false, everything uses spring.datasource)
+     */
+    private boolean enabled = false;
+
+    /**
+     * JDBC URL of the replica
+     */
+    private String url;
+
+    /**
+     * Replica user (defaults to spring.datasource.username)
+     */
+    private String username;
+
+    /**
+     * Replica password (defaults to spring.datasource.password)
+     */
+    private String password;
+
+    /**
+     * Maximum connections in the replica pool
+     */
+    private int maximumPoolSize = 10;
+
+    /**
+     * Minimum idle connections in the replica pool
+     */
+    private int minimumIdle = 2;
+
+    /**
+     * Send every @Transactional(readOnly = true) transaction to the replica.
+     * When false only @ReadReplica code is routed.
+     */
+    private boolean routeReadOnlyTransactions = true;
+
+    /**
+     * Replication lag above which reads fall back to the primary
+     */
+    private Duration maxLag = Duration.ofSeconds(10);
+
+    /**
+     * Interval between replica lag checks in milliseconds
+     */
+    private long lagCheckInterval = 5000;
+}
@@ -1,10 +1,15 @@
 package com.ultrabms.config;
 
 import java.net.URI;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
 
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.thread.Threading;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
 import software.amazon.awssdk.auth.credentials.AwsCredentialsProvider;
 import software.amazon.awssdk.auth.credentials.DefaultCredentialsProvider;
@@ -107,4 +112,38 @@ public class S3Config {
 
         return builder.build();
     }
+
+    /**
+     * Configure thread pool for parallel multi-file uploads (e.g. inspection photos).
+     *
+     * <p>Pool configuration:
+     * <ul>
+     *   <li>Core/max pool size: 4/8 threads (S3 PUTs are network bound)</li>
+     *   <li>Queue capacity: 50 files</li>
+     *   <li>Rejection policy: caller runs (a saturated pool degrades to sequential uploads)</li>
+     *   <li>Thread name prefix: "s3-upload-" (for debugging)</li>
+     * </ul></p>
+     *
+     * <p>In virtual-thread mode each upload gets its own virtual thread, at most 8 at
+     * once (see {@link VirtualThreadConfig}).</p>
+     *
+     * @param environment environment, used to detect virtual-thread mode
+     * @return configured executor for S3 uploads
+     */
+    @Bean(name = "s3UploadExecutor")
+    public Executor s3UploadExecutor(Environment environment) {
+        if (Threading.VIRTUAL.isActive(environment)) {
+            return VirtualThreadConfig.virtualThreadExecutor("s3-upload-", 8, 30);
+        }
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(4);
+        executor.setMaxPoolSize(8);
+        executor.setQueueCapacity(50);
+        executor.setThreadNamePrefix("s3-upload-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
 }
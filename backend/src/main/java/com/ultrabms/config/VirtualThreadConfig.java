@@ -0,0 +1,72 @@
+package com.ultrabms.config;
+
+import com.ultrabms.metrics.VirtualThreadPinningMonitor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+
+import java.time.Duration;
+import java.util.concurrent.Executor;
+
+/**
+ * Virtual-thread execution mode, switched on with {@code spring.threads.virtual.enabled=true}.
+ *
+ * <p>Spring Boot then runs Tomcat request handling, the {@code @Scheduled} task scheduler,
+ * the MVC async executor (streaming exports) and {@code applicationTaskExecutor} on virtual
+ * threads. The blocking executors defined by this application ({@code emailTaskExecutor} for
+ * SMTP, {@code s3UploadExecutor} for S3 PUTs) switch to {@link #virtualThreadExecutor}; the
+ * CPU-bound ones ({@code imageTaskExecutor}, {@code passwordHashExecutor}) stay on platform
+ * thread pools.</p>
+ *
+ * <p>The mode needs a Java 21+ runtime. On older runtimes the property has no effect and
+ * every executor keeps its platform thread pool.</p>
+ *
+ * <pre>
+ * spring:
+ *   threads:
+ *     virtual:
+ *       enabled: true
+ * app:
+ *   threads:
+ *     pinned-threshold: 20ms   # report carrier pinning longer than this
+ * </pre>
+ */
+@Configuration
+public class VirtualThreadConfig {
+
+    /**
+     * Reports virtual threads pinned to their carrier (blocking inside {@code synchronized}
+     * or native code) through JFR; see {@link VirtualThreadPinningMonitor}.
+     */
+    @Bean
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    public VirtualThreadPinningMonitor virtualThreadPinningMonitor(
+            @Value("${app.threads.pinned-threshold:20ms}") Duration pinnedThreshold) {
+        return new VirtualThreadPinningMonitor(pinnedThreshold);
+    }
+
+    /**
+     * Executor starting one virtual thread per task.
+     *
+     * <p>The concurrency limit replaces the platform pool's maximum size as the bound on
+     * concurrent calls to the downstream service (SMTP server, S3 connection pool). Tasks
+     * beyond the limit wait for a permit on their own virtual thread, taking the place of
+     * the platform pool's queue, so submitting never blocks the caller
+     * (see {@link ConcurrencyLimitedExecutor}).</p>
+     *
+     * @param threadNamePrefix          prefix of the thread names (for debugging)
+     * @param concurrencyLimit          maximum tasks running at once
+     * @param terminationTimeoutSeconds how long shutdown waits for started tasks
+     * @return configured executor
+     */
+    public static Executor virtualThreadExecutor(String threadNamePrefix, int concurrencyLimit,
+                                                 int terminationTimeoutSeconds) {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(threadNamePrefix);
+        executor.setVirtualThreads(true);
+        executor.setTaskTerminationTimeout(terminationTimeoutSeconds * 1000L);
+        return new ConcurrencyLimitedExecutor(executor, concurrencyLimit);
+    }
+}
@@ -0,0 +1,94 @@
+package com.ultrabms.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for the per-workload connection pools.
+ *
+ * <p>Binds application.yml properties under 'app.datasource.workloads':
+ * <pre>
+ * app:
+ *   datasource:
+ *     workloads:
+ *       enabled: true
+ *       oltp:                      # sized by spring.datasource.hikari
+ *         statement-timeout: 30s
+ *       batch:
+ *         maximum-pool-size: 5
+ *         minimum-idle: 1
+ *         connection-timeout: 120000   # milliseconds
+ *         statement-timeout: 10m
+ *       reporting:
+ *         maximum-pool-size: 5
+ *         minimum-idle: 1
+ *         connection-timeout: 60000    # milliseconds
+ *         statement-timeout: 5m
+ * </pre>
+ * </p>
+ */
+@Configuration
+@ConfigurationProperties(prefix = "app.datasource.workloads")
+@Data
+public class WorkloadDataSourceProperties {
+
+    /**
+     * Give batch jobs and reporting their own pools (default: false, one pool for everything)
+     */
+    private boolean enabled = false;
+
+    /**
+     * Request traffic pool; size and timeouts come from spring.datasource.hikari
+     */
+    private Pool oltp = new Pool(0, 0, 0, Duration.ofSeconds(30));
+
+    /**
+     * Scheduled jobs and background batches
+     */
+    private Pool batch = new Pool(5, 1, 120000, Duration.ofMinutes(10));
+
+    /**
+     * Reports, dashboards and exports running on the primary
+     */
+    private Pool reporting = new Pool(5, 1, 60000, Duration.ofMinutes(5));
+
+    /**
+     * Settings of one workload pool.
+     */
+    @Data
+    public static class Pool {
+
+        /**
+         * Maximum connections in the pool
+         */
+        private int maximumPoolSize;
+
+        /**
+         * Minimum idle connections in the pool
+         */
+        private int minimumIdle;
+
+        /**
+         * Longest a caller waits for a connection in milliseconds
+         */
+        private long connectionTimeout;
+
+        /**
+         * Postgres statement_timeout for connections of this pool (0 = no limit)
+         */
+        private Duration statementTimeout;
+
+        public Pool() {
+        }
+
+        public Pool(int maximumPoolSize, int minimumIdle, long connectionTimeout, Duration statementTimeout) {
+            this.maximumPoolSize = maximumPoolSize;
+            this.minimumIdle = minimumIdle;
+            this.connectionTimeout = connectionTimeout;
+            this.statementTimeout = statementTimeout;
+        }
+    }
+}
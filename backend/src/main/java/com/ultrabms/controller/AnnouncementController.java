@@ -4,6 +4,7 @@ import com.ultrabms.dto.announcements.*;
 import com.ultrabms.entity.User;
 import com.ultrabms.entity.enums.AnnouncementStatus;
 import com.ultrabms.repository.UserRepository;
+import com.ultrabms.service.AnnouncementBroadcastService;
 import com.ultrabms.service.AnnouncementService;
 import com.ultrabms.service.impl.AnnouncementServiceImpl;
 import io.swagger.v3.oas.annotations.Operation;
@@ -50,17 +51,20 @@ public class AnnouncementController {
 
     private final AnnouncementService announcementService;
     private final AnnouncementServiceImpl announcementServiceImpl;
+    private final AnnouncementBroadcastService announcementBroadcastService;
     private final UserRepository userRepository;
     private final PdfGenerationService pdfGenerationService;
 
     public AnnouncementController(
             AnnouncementService announcementService,
             AnnouncementServiceImpl announcementServiceImpl,
+            AnnouncementBroadcastService announcementBroadcastService,
             UserRepository userRepository,
             PdfGenerationService pdfGenerationService
     ) {
         this.announcementService = announcementService;
         this.announcementServiceImpl = announcementServiceImpl;
+        this.announcementBroadcastService = announcementBroadcastService;
         this.userRepository = userRepository;
         this.pdfGenerationService = pdfGenerationService;
     }
@@ -250,7 +254,7 @@ public class AnnouncementController {
     @PreAuthorize("hasAnyRole('SUPER_ADMIN', 'ADMIN', 'PROPERTY_MANAGER')")
     @Operation(
             summary = "Publish announcement",
-            description = "Publish announcement and send emails to all active tenants"
+            description = "Publish announcement and queue emails to all active tenants in the background"
     )
     public ResponseEntity<Map<String, Object>> publishAnnouncement(
             @PathVariable UUID id,
@@ -265,6 +269,25 @@ public class AnnouncementController {
         return ResponseEntity.ok(responseBody);
     }
 
+    /**
+     * Get email broadcast progress of a published announcement
+     * GET /api/v1/announcements/{id}/broadcast-progress
+     */
+    @GetMapping("/{id}/broadcast-progress")
+    @PreAuthorize("hasAnyRole('SUPER_ADMIN', 'ADMIN', 'PROPERTY_MANAGER')")
+    @Operation(
+            summary = "Get broadcast progress",
+            description = "Get queueing and delivery progress of announcement emails"
+    )
+    public ResponseEntity<Map<String, Object>> getBroadcastProgress(@PathVariable UUID id) {
+        LOGGER.debug("Getting broadcast progress for announcement: {}", id);
+
+        AnnouncementBroadcastProgressDto progress = announcementBroadcastService.getBroadcastProgress(id);
+
+        Map<String, Object> responseBody = buildSuccessResponse(progress, "Broadcast progress retrieved successfully");
+        return ResponseEntity.ok(responseBody);
+    }
+
     /**
      * Archive announcement
      * PATCH /api/v1/announcements/{id}/archive
@@ -0,0 +1,241 @@
+package com.ultrabms.controller;
+
+import com.ultrabms.dto.common.ExportFormat;
+import com.ultrabms.dto.expenses.ExpenseFilterDto;
+import com.ultrabms.dto.invoices.InvoiceFilterDto;
+import com.ultrabms.dto.invoices.PaymentFilterDto;
+import com.ultrabms.entity.enums.ExpenseCategory;
+import com.ultrabms.entity.enums.ExpensePaymentStatus;
+import com.ultrabms.entity.enums.InvoiceStatus;
+import com.ultrabms.entity.enums.PaymentMethod;
+import com.ultrabms.entity.enums.WorkOrderCategory;
+import com.ultrabms.entity.enums.WorkOrderPriority;
+import com.ultrabms.entity.enums.WorkOrderStatus;
+import com.ultrabms.exception.ValidationException;
+import com.ultrabms.service.DataExportService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * REST Controller for streaming bulk data exports.
+ *
+ * <p>Responses are written through {@link StreamingResponseBody} straight from a
+ * database cursor, so year-long exports do not build the file in memory. Each endpoint
+ * accepts the same filters as the corresponding list endpoint plus
+ * {@code format=csv|ndjson}, and is open to the same roles, except that the work
+ * order export leaves out TENANT because its rows carry cost columns, which the
+ * list hides from tenants.</p>
+ */
+@RestController
+@RequestMapping("/api/v1/exports")
+@Tag(name = "Exports", description = "Streaming CSV/NDJSON data exports")
+@SecurityRequirement(name = "Bearer Authentication")
+public class ExportController {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ExportController.class);
+
+    private final DataExportService dataExportService;
+
+    public ExportController(DataExportService dataExportService) {
+        this.dataExportService = dataExportService;
+    }
+
+    /**
+     * Export invoices
+     * GET /api/v1/exports/invoices?format=csv&status=SENT&fromDate=2025-01-01&toDate=2025-12-31
+     *
+     * overdueOnly=true exports OVERDUE invoices; the other filters still narrow the result.
+     */
+    @GetMapping("/invoices")
+    @PreAuthorize("hasAnyRole('SUPER_ADMIN', 'ADMIN', 'PROPERTY_MANAGER')")
+    @Operation(
+            summary = "Export invoices",
+            description = "Stream invoices matching the list filters as CSV or NDJSON"
+    )
+    public ResponseEntity<StreamingResponseBody> exportInvoices(
+            @Parameter(description = "Output format (csv, ndjson)")
+            @RequestParam(defaultValue = "csv") String format,
+            @RequestParam(required = false) String search,
+            @RequestParam(required = false) InvoiceStatus status,
+            @RequestParam(required = false) UUID propertyId,
+            @RequestParam(required = false) UUID tenantId,
+            @RequestParam(required = false) LocalDate fromDate,
+            @RequestParam(required = false) LocalDate toDate,
+            @RequestParam(required = false, defaultValue = "false") Boolean overdueOnly
+    ) {
+        ExportFormat exportFormat = ExportFormat.fromParam(format);
+        if (Boolean.TRUE.equals(overdueOnly) && status != null && status != InvoiceStatus.OVERDUE) {
+            throw new ValidationException("overdueOnly cannot be combined with status " + status, "status", status);
+        }
+        LOGGER.info("Exporting invoices as {} - status: {}, overdueOnly: {}, from: {}, to: {}",
+                exportFormat, status, overdueOnly, fromDate, toDate);
+
+        InvoiceFilterDto filterDto = new InvoiceFilterDto(
+                search, status, propertyId, tenantId, fromDate, toDate,
+                overdueOnly, 0, 20, "invoiceDate", "DESC"
+        );
+
+        return streamingResponse("invoices", exportFormat,
+                out -> dataExportService.exportInvoices(filterDto, exportFormat, out));
+    }
+
+    /**
+     * Export payments
+     * GET /api/v1/exports/payments?format=csv&paymentMethod=BANK_TRANSFER&fromDate=2025-01-01
+     */
+    @GetMapping("/payments")
+    @PreAuthorize("hasAnyRole('SUPER_ADMIN', 'ADMIN', 'PROPERTY_MANAGER')")
+    @Operation(
+            summary = "Export payments",
+            description = "Stream payments matching the list filters as CSV or NDJSON"
+    )
+    public ResponseEntity<StreamingResponseBody> exportPayments(
+            @Parameter(description = "Output format (csv, ndjson)")
+            @RequestParam(defaultValue = "csv") String format,
+            @RequestParam(required = false) UUID invoiceId,
+            @RequestParam(required = false) UUID tenantId,
+            @RequestParam(required = false) LocalDate fromDate,
+            @RequestParam(required = false) LocalDate toDate,
+            @RequestParam(required = false) PaymentMethod paymentMethod
+    ) {
+        ExportFormat exportFormat = ExportFormat.fromParam(format);
+        LOGGER.info("Exporting payments as {} - from: {}, to: {}", exportFormat, fromDate, toDate);
+
+        PaymentFilterDto filterDto = new PaymentFilterDto(
+                invoiceId, tenantId, fromDate, toDate, paymentMethod,
+                0, 20, "paymentDate", "DESC"
+        );
+
+        return streamingResponse("payments", exportFormat,
+                out -> dataExportService.exportPayments(filterDto, exportFormat, out));
+    }
+
+    /**
+     * Export expenses
+     * GET /api/v1/exports/expenses?format=ndjson&category=MAINTENANCE&fromDate=2025-01-01
+     */
+    @GetMapping("/expenses")
+    @PreAuthorize("hasAnyRole('SUPER_ADMIN', 'ADMIN', 'PROPERTY_MANAGER')")
+    @Operation(
+            summary = "Export expenses",
+            description = "Stream expenses matching the list filters as CSV or NDJSON"
+    )
+    public ResponseEntity<StreamingResponseBody> exportExpenses(
+            @Parameter(description = "Output format (csv, ndjson)")
+            @RequestParam(defaultValue = "csv") String format,
+            @RequestParam(required = false) String search,
+            @RequestParam(required = false) ExpenseCategory category,
+            @RequestParam(required = false) ExpensePaymentStatus paymentStatus,
+            @RequestParam(required = false) UUID propertyId,
+            @RequestParam(required = false) UUID vendorId,
+            @RequestParam(required = false) UUID workOrderId,
+            @RequestParam(required = false) LocalDate fromDate,
+            @RequestParam(required = false) LocalDate toDate
+    ) {
+        ExportFormat exportFormat = ExportFormat.fromParam(format);
+        LOGGER.info("Exporting expenses as {} - category: {}, from: {}, to: {}", exportFormat, category, fromDate, toDate);
+
+        ExpenseFilterDto filterDto = ExpenseFilterDto.builder()
+                .searchTerm(search)
+                .category(category)
+                .paymentStatus(paymentStatus)
+                .propertyId(propertyId)
+                .vendorId(vendorId)
+                .workOrderId(workOrderId)
+                .fromDate(fromDate)
+                .toDate(toDate)
+                .build();
+
+        return streamingResponse("expenses", exportFormat,
+                out -> dataExportService.exportExpenses(filterDto, exportFormat, out));
+    }
+
+    /**
+     * Export work orders
+     * GET /api/v1/exports/work-orders?format=csv&status=COMPLETED,CLOSED&propertyId=...
+     */
+    @GetMapping("/work-orders")
+    @PreAuthorize("hasAnyRole('SUPER_ADMIN', 'ADMIN', 'PROPERTY_MANAGER', 'MAINTENANCE_SUPERVISOR')")
+    @Operation(
+            summary = "Export work orders",
+            description = "Stream work orders matching the list filters as CSV or NDJSON"
+    )
+    public ResponseEntity<StreamingResponseBody> exportWorkOrders(
+            @Parameter(description = "Output format (csv, ndjson)")
+            @RequestParam(defaultValue = "csv") String format,
+            @RequestParam(required = false) UUID propertyId,
+            @RequestParam(required = false) UUID unitId,
+            @RequestParam(required = false) List<String> status,
+            @RequestParam(required = false) List<String> category,
+            @RequestParam(required = false) List<String> priority,
+            @RequestParam(required = false) UUID assignedTo,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDate,
+            @RequestParam(required = false) String search
+    ) {
+        ExportFormat exportFormat = ExportFormat.fromParam(format);
+        LOGGER.info("Exporting work orders as {} - propertyId: {}, status: {}", exportFormat, propertyId, status);
+
+        List<WorkOrderStatus> statuses = status != null
+                ? status.stream().map(WorkOrderStatus::valueOf).collect(Collectors.toList())
+                : null;
+
+        List<WorkOrderCategory> categories = category != null
+                ? category.stream().map(WorkOrderCategory::valueOf).collect(Collectors.toList())
+                : null;
+
+        List<WorkOrderPriority> priorities = priority != null
+                ? priority.stream().map(WorkOrderPriority::valueOf).collect(Collectors.toList())
+                : null;
+
+        return streamingResponse("work-orders", exportFormat,
+                out -> dataExportService.exportWorkOrders(
+                        propertyId,
+                        unitId,
+                        statuses,
+                        categories,
+                        priorities,
+                        assignedTo,
+                        startDate,
+                        endDate,
+                        search,
+                        exportFormat,
+                        out
+                ));
+    }
+
+    // =================================================================
+    // HELPER METHODS
+    // =================================================================
+
+    private ResponseEntity<StreamingResponseBody> streamingResponse(String name, ExportFormat format,
+                                                                    StreamingResponseBody body) {
+        String filename = name + "-" + LocalDate.now() + "." + format.getExtension();
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(format.getContentType() + ";charset=UTF-8"))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename(filename).build().toString())
+                .body(body);
+    }
+}
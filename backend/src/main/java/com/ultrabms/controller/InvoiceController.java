@@ -1,5 +1,6 @@
 package com.ultrabms.controller;
 
+import com.ultrabms.dto.common.CursorPage;
 import com.ultrabms.dto.invoices.*;
 import com.ultrabms.entity.User;
 import com.ultrabms.entity.enums.InvoiceStatus;
@@ -43,6 +44,8 @@ import java.util.UUID;
 public class InvoiceController {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(InvoiceController.class);
+    private static final String PAGING_OFFSET = "offset";
+    private static final String PAGING_KEYSET = "keyset";
 
     private final InvoiceService invoiceService;
     private final UserRepository userRepository;
@@ -103,6 +106,10 @@ public class InvoiceController {
      * Get paginated list of invoices
      * GET /api/v1/invoices?search=...&status=SENT&propertyId=...&page=0&size=20
      * AC #15: Display all invoices with status, outstanding balance
+     *
+     * Keyset mode (opt-in): pass paging=keyset for the first page, then the returned
+     * data.nextCursor as cursor. Results are ordered newest first, page/sortBy are ignored
+     * and no total count is returned. Not applied to overdueOnly, which stays offset-based.
      */
     @GetMapping
     @PreAuthorize("hasAnyRole('SUPER_ADMIN', 'ADMIN', 'PROPERTY_MANAGER')")
@@ -121,7 +128,9 @@ public class InvoiceController {
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "20") int size,
             @RequestParam(defaultValue = "createdAt") String sortBy,
-            @RequestParam(defaultValue = "DESC") String sortDirection
+            @RequestParam(defaultValue = "DESC") String sortDirection,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = PAGING_OFFSET) String paging
     ) {
         LOGGER.debug("Getting invoices with filters - search: {}, status: {}", search, status);
 
@@ -130,6 +139,11 @@ public class InvoiceController {
                 overdueOnly, page, size, sortBy, sortDirection
         );
 
+        if ((cursor != null || PAGING_KEYSET.equalsIgnoreCase(paging)) && !Boolean.TRUE.equals(overdueOnly)) {
+            CursorPage<InvoiceListDto> invoices = invoiceService.getInvoicesByCursor(filterDto, cursor, size);
+            return ResponseEntity.ok(buildCursorResponse(invoices, "Invoices retrieved successfully"));
+        }
+
         Sort sort = Sort.by(
                 "DESC".equalsIgnoreCase(sortDirection) ? Sort.Direction.DESC : Sort.Direction.ASC,
                 sortBy
@@ -498,4 +512,23 @@ public class InvoiceController {
         response.put("timestamp", LocalDateTime.now().toString());
         return response;
     }
+
+    /**
+     * Build keyset (cursor) paginated response
+     */
+    private <T> Map<String, Object> buildCursorResponse(CursorPage<T> page, String message) {
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", true);
+        response.put("message", message);
+
+        Map<String, Object> data = new HashMap<>();
+        data.put("content", page.content());
+        data.put("size", page.size());
+        data.put("hasNext", page.hasNext());
+        data.put("nextCursor", page.nextCursor());
+
+        response.put("data", data);
+        response.put("timestamp", LocalDateTime.now().toString());
+        return response;
+    }
 }
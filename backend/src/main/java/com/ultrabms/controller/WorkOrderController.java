@@ -1,5 +1,6 @@
 package com.ultrabms.controller;
 
+import com.ultrabms.dto.common.CursorPage;
 import com.ultrabms.dto.workorders.AddCommentDto;
 import com.ultrabms.dto.workorders.AddProgressUpdateDto;
 import com.ultrabms.dto.workorders.AssignWorkOrderDto;
@@ -77,6 +78,8 @@ import java.util.stream.Collectors;
 public class WorkOrderController {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(WorkOrderController.class);
+    private static final String PAGING_OFFSET = "offset";
+    private static final String PAGING_KEYSET = "keyset";
 
     private final WorkOrderService workOrderService;
     private final VendorRatingService vendorRatingService;
@@ -123,6 +126,10 @@ public class WorkOrderController {
     /**
      * Get paginated list of work orders with filters
      * GET /api/v1/work-orders?propertyId=...&status=OPEN,ASSIGNED&category=PLUMBING&priority=HIGH&page=0&size=20
+     *
+     * Keyset mode (opt-in): pass paging=keyset for the first page, then the returned
+     * pagination.nextCursor as cursor. Results are ordered newest first, page/sortBy are
+     * ignored and no total count is returned.
      */
     @GetMapping
     @PreAuthorize("hasAnyRole('SUPER_ADMIN', 'ADMIN', 'PROPERTY_MANAGER', 'MAINTENANCE_SUPERVISOR', 'TENANT')")
@@ -144,6 +151,8 @@ public class WorkOrderController {
             @RequestParam(defaultValue = "20") int size,
             @RequestParam(defaultValue = "scheduledDate") String sortBy,
             @RequestParam(defaultValue = "DESC") String sortDirection,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = PAGING_OFFSET) String paging,
             @AuthenticationPrincipal UserDetails userDetails
     ) {
         UUID userId = getUserId(userDetails);
@@ -162,6 +171,23 @@ public class WorkOrderController {
                 ? priority.stream().map(WorkOrderPriority::valueOf).collect(Collectors.toList())
                 : null;
 
+        if (cursor != null || PAGING_KEYSET.equalsIgnoreCase(paging)) {
+            CursorPage<WorkOrderListDto> workOrders = workOrderService.getWorkOrdersByCursor(
+                    propertyId,
+                    unitId,
+                    statuses,
+                    categories,
+                    priorities,
+                    assignedTo,
+                    startDate,
+                    endDate,
+                    search,
+                    cursor,
+                    size
+            );
+            return ResponseEntity.ok(buildCursorResponse(workOrders, "Work orders retrieved successfully"));
+        }
+
         // Create pageable
         Sort.Direction direction = Sort.Direction.fromString(sortDirection);
         Pageable pageable = PageRequest.of(page, size, Sort.by(direction, sortBy));
@@ -790,4 +816,19 @@ public class WorkOrderController {
         response.put("timestamp", LocalDateTime.now());
         return response;
     }
+
+    private Map<String, Object> buildCursorResponse(CursorPage<?> page, String message) {
+        Map<String, Object> pagination = new HashMap<>();
+        pagination.put("pageSize", page.size());
+        pagination.put("hasNext", page.hasNext());
+        pagination.put("nextCursor", page.nextCursor());
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", true);
+        response.put("message", message);
+        response.put("data", page.content());
+        response.put("pagination", pagination);
+        response.put("timestamp", LocalDateTime.now());
+        return response;
+    }
 }
@@ -0,0 +1,9 @@
+package com.ultrabms.datasource;
+
+/**
+ * Lookup keys of the routed connection pools.
+ */
+public enum DataSourceRole {
+    PRIMARY,
+    REPLICA
+}
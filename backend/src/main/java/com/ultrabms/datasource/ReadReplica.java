@@ -0,0 +1,23 @@
+package com.ultrabms.datasource;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a class or method whose queries may be served by the read replica.
+ *
+ * <p>Used for heavy reporting and dashboard aggregates that tolerate a few seconds of
+ * replication lag. The hint only applies when no read-write transaction is active and
+ * the replica is within {@code app.datasource.replica.max-lag}; otherwise queries run on
+ * the primary. Has no effect when {@code app.datasource.replica.enabled} is false.</p>
+ *
+ * @see ReplicaRoutingDataSource
+ */
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface ReadReplica {
+}
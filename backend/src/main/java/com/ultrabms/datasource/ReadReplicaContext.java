@@ -0,0 +1,33 @@
+package com.ultrabms.datasource;
+
+/**
+ * Thread-bound flag set while a {@link ReadReplica} method is executing.
+ * Nested calls are counted so the flag is cleared only when the outermost call returns.
+ */
+public final class ReadReplicaContext {
+
+    private static final ThreadLocal<Integer> DEPTH = ThreadLocal.withInitial(() -> 0);
+
+    private ReadReplicaContext() {
+    }
+
+    /**
+     * @return true if the current thread is inside a {@link ReadReplica} method
+     */
+    public static boolean isActive() {
+        return DEPTH.get() > 0;
+    }
+
+    static void enter() {
+        DEPTH.set(DEPTH.get() + 1);
+    }
+
+    static void exit() {
+        int depth = DEPTH.get() - 1;
+        if (depth <= 0) {
+            DEPTH.remove();
+        } else {
+            DEPTH.set(depth);
+        }
+    }
+}
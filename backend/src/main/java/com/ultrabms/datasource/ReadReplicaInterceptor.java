@@ -0,0 +1,20 @@
+package com.ultrabms.datasource;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+
+/**
+ * Sets {@link ReadReplicaContext} around {@link ReadReplica} methods.
+ */
+public class ReadReplicaInterceptor implements MethodInterceptor {
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        ReadReplicaContext.enter();
+        try {
+            return invocation.proceed();
+        } finally {
+            ReadReplicaContext.exit();
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.ultrabms.datasource;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Polls replication lag on the read replica and decides whether it may serve reads.
+ *
+ * <p>The replica is considered usable only after a successful check reporting lag at or
+ * below the threshold. A failed check (replica down, network error) marks it unusable
+ * until the next successful one, so reads fall back to the primary.</p>
+ *
+ * <p>Metrics: {@code ultrabms.datasource.replica.lag} (seconds, -1 when unknown) and
+ * {@code ultrabms.datasource.replica.usable} (1 or 0).</p>
+ */
+@Slf4j
+public class ReplicaLagMonitor implements MeterBinder {
+
+    /**
+     * Seconds since the last replayed transaction; 0 when the replica has replayed
+     * everything it received or the server is not in recovery.
+     */
+    static final String LAG_QUERY = """
+            SELECT CASE
+                WHEN NOT pg_is_in_recovery() THEN 0
+                WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+                ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()), 0)
+            END
+            """;
+
+    private final JdbcTemplate replicaJdbcTemplate;
+    private final double maxLagSeconds;
+
+    private volatile double lagSeconds = -1;
+    private volatile boolean replicaUsable = false;
+
+    public ReplicaLagMonitor(DataSource replicaDataSource, Duration maxLag) {
+        this.replicaJdbcTemplate = new JdbcTemplate(replicaDataSource);
+        this.replicaJdbcTemplate.setQueryTimeout(2);
+        this.maxLagSeconds = maxLag.toMillis() / 1000.0;
+    }
+
+    /**
+     * @return true if reads may be routed to the replica
+     */
+    public boolean isReplicaUsable() {
+        return replicaUsable;
+    }
+
+    /**
+     * Check replication lag on the replica.
+     */
+    @Scheduled(fixedDelayString = "${app.datasource.replica.lag-check-interval:5000}")
+    public void checkLag() {
+        try {
+            Double lag = replicaJdbcTemplate.queryForObject(LAG_QUERY, Double.class);
+            recordLag(lag != null ? lag : 0);
+        } catch (DataAccessException e) {
+            if (replicaUsable) {
+                log.warn("Replica lag check failed, routing reads to primary: {}", e.getMessage());
+            }
+            lagSeconds = -1;
+            replicaUsable = false;
+        }
+    }
+
+    void recordLag(double lag) {
+        boolean usable = lag <= maxLagSeconds;
+        if (usable != replicaUsable) {
+            if (usable) {
+                log.info("Replica lag {}s within threshold {}s, routing reads to replica", lag, maxLagSeconds);
+            } else {
+                log.warn("Replica lag {}s exceeds threshold {}s, routing reads to primary", lag, maxLagSeconds);
+            }
+        }
+        lagSeconds = lag;
+        replicaUsable = usable;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("ultrabms.datasource.replica.lag", this, monitor -> monitor.lagSeconds)
+                .description("Replication lag of the read replica in seconds (-1 when unknown)")
+                .baseUnit("seconds")
+                .register(registry);
+        Gauge.builder("ultrabms.datasource.replica.usable", this, monitor -> monitor.replicaUsable ? 1 : 0)
+                .description("Whether reads are routed to the read replica")
+                .register(registry);
+    }
+}
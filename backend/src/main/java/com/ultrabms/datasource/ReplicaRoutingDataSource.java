@@ -0,0 +1,51 @@
+package com.ultrabms.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * Routes connections between the primary and the read replica pool.
+ *
+ * <p>A connection goes to the replica when
+ * <ul>
+ *   <li>the current transaction is read-only and read-only routing is enabled, or</li>
+ *   <li>the caller is inside a {@link ReadReplica} method and no read-write transaction is active,</li>
+ * </ul>
+ * and the {@link ReplicaLagMonitor} reports the replica within the lag threshold.
+ * Everything else, including all read-write transactions, uses the primary.</p>
+ *
+ * <p>Must be wrapped in a {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}
+ * so the physical connection is fetched after the transaction's read-only flag is set.</p>
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    private final ReplicaLagMonitor lagMonitor;
+    private final boolean routeReadOnlyTransactions;
+
+    public ReplicaRoutingDataSource(DataSource primary, DataSource replica,
+                                    ReplicaLagMonitor lagMonitor, boolean routeReadOnlyTransactions) {
+        this.lagMonitor = lagMonitor;
+        this.routeReadOnlyTransactions = routeReadOnlyTransactions;
+        setTargetDataSources(Map.of(DataSourceRole.PRIMARY, primary, DataSourceRole.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return isReplicaEligible() && lagMonitor.isReplicaUsable()
+                ? DataSourceRole.REPLICA
+                : DataSourceRole.PRIMARY;
+    }
+
+    private boolean isReplicaEligible() {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                    && (routeReadOnlyTransactions || ReadReplicaContext.isActive());
+        }
+        return ReadReplicaContext.isActive();
+    }
+}
@@ -0,0 +1,24 @@
+package com.ultrabms.datasource;
+
+/**
+ * Workload classes with their own connection pool on the primary database.
+ *
+ * @see WorkloadRoutingDataSource
+ */
+public enum Workload {
+
+    /**
+     * Request traffic (default)
+     */
+    OLTP,
+
+    /**
+     * Scheduled jobs and other background batches
+     */
+    BATCH,
+
+    /**
+     * Reports, dashboards and exports that are not served by the read replica
+     */
+    REPORTING
+}
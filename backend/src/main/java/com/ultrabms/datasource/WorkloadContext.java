@@ -0,0 +1,44 @@
+package com.ultrabms.datasource;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * Thread-bound workload set while a {@link WorkloadPool} or {@code @Scheduled} method is executing.
+ * Nested calls push their own workload and restore the caller's when they return.
+ */
+public final class WorkloadContext {
+
+    private static final ThreadLocal<Deque<Workload>> STACK = new ThreadLocal<>();
+
+    private WorkloadContext() {
+    }
+
+    /**
+     * @return workload of the innermost annotated method on the current thread, or null
+     */
+    public static Workload current() {
+        Deque<Workload> stack = STACK.get();
+        return stack != null ? stack.peek() : null;
+    }
+
+    static void enter(Workload workload) {
+        Deque<Workload> stack = STACK.get();
+        if (stack == null) {
+            stack = new ArrayDeque<>();
+            STACK.set(stack);
+        }
+        stack.push(workload);
+    }
+
+    static void exit() {
+        Deque<Workload> stack = STACK.get();
+        if (stack == null) {
+            return;
+        }
+        stack.pop();
+        if (stack.isEmpty()) {
+            STACK.remove();
+        }
+    }
+}
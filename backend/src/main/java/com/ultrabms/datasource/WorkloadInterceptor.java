@@ -0,0 +1,39 @@
+package com.ultrabms.datasource;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+
+import java.lang.reflect.Method;
+
+/**
+ * Sets {@link WorkloadContext} around {@link WorkloadPool} and {@code @Scheduled} methods.
+ * The workload comes from the method's or class's {@link WorkloadPool}; scheduled methods
+ * without one run as {@link Workload#BATCH}.
+ */
+public class WorkloadInterceptor implements MethodInterceptor {
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        WorkloadContext.enter(resolve(invocation));
+        try {
+            return invocation.proceed();
+        } finally {
+            WorkloadContext.exit();
+        }
+    }
+
+    private static Workload resolve(MethodInvocation invocation) {
+        Class<?> targetClass = invocation.getThis() != null
+                ? AopUtils.getTargetClass(invocation.getThis())
+                : invocation.getMethod().getDeclaringClass();
+        Method method = AopUtils.getMostSpecificMethod(invocation.getMethod(), targetClass);
+
+        WorkloadPool pool = AnnotatedElementUtils.findMergedAnnotation(method, WorkloadPool.class);
+        if (pool == null) {
+            pool = AnnotatedElementUtils.findMergedAnnotation(targetClass, WorkloadPool.class);
+        }
+        return pool != null ? pool.value() : Workload.BATCH;
+    }
+}
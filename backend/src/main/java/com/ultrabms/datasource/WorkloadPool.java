@@ -0,0 +1,28 @@
+package com.ultrabms.datasource;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Selects the connection pool used by a class or method.
+ *
+ * <p>Without this annotation, {@code @Scheduled} methods use the {@link Workload#BATCH} pool,
+ * {@link ReadReplica} code that ends up on the primary uses {@link Workload#REPORTING}, and
+ * everything else uses {@link Workload#OLTP}. A method annotation overrides the class one.
+ * Has no effect when {@code app.datasource.workloads.enabled} is false.</p>
+ *
+ * @see WorkloadRoutingDataSource
+ */
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface WorkloadPool {
+
+    /**
+     * @return workload whose pool serves the annotated code
+     */
+    Workload value();
+}
@@ -0,0 +1,47 @@
+package com.ultrabms.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * Routes primary-database connections to one pool per {@link Workload}, so a month-end batch
+ * or a large report exhausts its own pool instead of the one serving requests.
+ *
+ * <p>The pool is chosen by
+ * <ul>
+ *   <li>the innermost {@link WorkloadPool} method on the thread, or {@code @Scheduled} method
+ *       ({@link Workload#BATCH}), see {@link WorkloadContext};</li>
+ *   <li>otherwise {@link Workload#REPORTING} inside {@link ReadReplica} code (reporting that
+ *       is not, or cannot be, served by the replica);</li>
+ *   <li>otherwise {@link Workload#OLTP}.</li>
+ * </ul>
+ * The decision is made when the physical connection is fetched, so like
+ * {@link ReplicaRoutingDataSource} it must sit behind a
+ * {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}.</p>
+ */
+public class WorkloadRoutingDataSource extends AbstractRoutingDataSource {
+
+    public WorkloadRoutingDataSource(DataSource oltp, DataSource batch, DataSource reporting) {
+        setTargetDataSources(Map.of(Workload.OLTP, oltp, Workload.BATCH, batch, Workload.REPORTING, reporting));
+        setDefaultTargetDataSource(oltp);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return currentWorkload();
+    }
+
+    /**
+     * @return workload whose pool serves the current thread
+     */
+    static Workload currentWorkload() {
+        Workload workload = WorkloadContext.current();
+        if (workload != null) {
+            return workload;
+        }
+        return ReadReplicaContext.isActive() ? Workload.REPORTING : Workload.OLTP;
+    }
+}
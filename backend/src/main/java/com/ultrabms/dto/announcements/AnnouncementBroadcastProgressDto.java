@@ -0,0 +1,42 @@
+package com.ultrabms.dto.announcements;
+
+import com.ultrabms.entity.enums.AnnouncementBroadcastStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * DTO for announcement email broadcast progress.
+ *
+ * Story 9.2: Internal Announcement Management
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AnnouncementBroadcastProgressDto {
+
+    private UUID announcementId;
+    private AnnouncementBroadcastStatus broadcastStatus;
+
+    /**
+     * Emails queued so far
+     */
+    private long recipients;
+
+    /**
+     * Emails waiting to be sent (PENDING or QUEUED)
+     */
+    private long pendingCount;
+
+    private long sentCount;
+    private long failedCount;
+
+    /**
+     * Delivered share of queued emails (0-100)
+     */
+    private double percentSent;
+}
@@ -0,0 +1,15 @@
+package com.ultrabms.dto.announcements;
+
+import java.util.UUID;
+
+/**
+ * Minimal tenant projection used when queueing announcement emails.
+ *
+ * Story 9.2: Internal Announcement Management
+ *
+ * @param id       Tenant ID (keyset for chunked reads)
+ * @param fullName Tenant name for personalization
+ * @param email    Recipient email address
+ */
+public record AnnouncementRecipient(UUID id, String fullName, String email) {
+}
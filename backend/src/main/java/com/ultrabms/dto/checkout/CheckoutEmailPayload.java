@@ -0,0 +1,42 @@
+package com.ultrabms.dto.checkout;
+
+import com.ultrabms.entity.TenantCheckout;
+import com.ultrabms.entity.enums.CheckoutReason;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Immutable snapshot of a tenant checkout for email notifications.
+ * Story 3.7: Tenant Checkout and Deposit Refund Processing
+ */
+public record CheckoutEmailPayload(
+    String checkoutNumber,
+    LocalDate noticeDate,
+    LocalDate expectedMoveOutDate,
+    LocalDate actualMoveOutDate,
+    CheckoutReason checkoutReason,
+    LocalDate inspectionDate,
+    String inspectionTime,
+    LocalDateTime completedAt
+) {
+
+    /**
+     * Snapshot a checkout.
+     *
+     * @param checkout TenantCheckout entity
+     * @return Email payload
+     */
+    public static CheckoutEmailPayload from(TenantCheckout checkout) {
+        return new CheckoutEmailPayload(
+                checkout.getCheckoutNumber(),
+                checkout.getNoticeDate(),
+                checkout.getExpectedMoveOutDate(),
+                checkout.getActualMoveOutDate(),
+                checkout.getCheckoutReason(),
+                checkout.getInspectionDate(),
+                checkout.getInspectionTime(),
+                checkout.getCompletedAt()
+        );
+    }
+}
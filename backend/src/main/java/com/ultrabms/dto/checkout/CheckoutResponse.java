@@ -11,6 +11,7 @@ import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 /**
@@ -66,6 +67,9 @@ public class CheckoutResponse {
     private Boolean hasInspectionChecklist;
     private Integer photoCount;
 
+    // Thumbnail/medium variant keys per inspection photo key (absent until generated)
+    private Map<String, Map<String, String>> photoVariants;
+
     // Detailed inspection data (for PDF generation)
     private List<Object> inspectionChecklist;
     private List<Object> inspectionPhotos;
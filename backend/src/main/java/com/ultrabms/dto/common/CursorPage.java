@@ -0,0 +1,55 @@
+package com.ultrabms.dto.common;
+
+import com.ultrabms.exception.ValidationException;
+import com.ultrabms.util.KeysetCursor;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * One page of a keyset-paginated list.
+ * Unlike {@link org.springframework.data.domain.Page} there is no total count;
+ * clients follow {@code nextCursor} until {@code hasNext} is false.
+ *
+ * @param content    Items on this page
+ * @param nextCursor Opaque cursor for the next page (null on the last page)
+ * @param hasNext    Whether another page exists
+ * @param size       Page size, capped at {@link #MAX_SIZE}
+ */
+public record CursorPage<T>(List<T> content, String nextCursor, boolean hasNext, int size) {
+
+    /** Largest page returned, the same cap as the offset list filters */
+    public static final int MAX_SIZE = 100;
+
+    /**
+     * Validate a requested page size and cap it at {@link #MAX_SIZE}.
+     *
+     * @param requested Page size from the request
+     * @return Page size to fetch
+     * @throws ValidationException if the size is below 1
+     */
+    public static int pageSize(int requested) {
+        if (requested < 1) {
+            throw new ValidationException("Page size must be at least 1", "size", requested);
+        }
+        return Math.min(requested, MAX_SIZE);
+    }
+
+    /**
+     * Build a page from rows fetched with a limit of {@code size + 1}; the extra row
+     * only signals that another page exists and is not returned.
+     *
+     * @param rows     Rows in keyset order, at most size + 1
+     * @param size     Requested page size
+     * @param cursorOf Cursor of a row
+     * @param mapper   Maps the returned rows to DTOs
+     * @return Cursor page
+     */
+    public static <E, T> CursorPage<T> of(List<E> rows, int size, Function<E, KeysetCursor> cursorOf,
+                                          Function<List<E>, List<T>> mapper) {
+        boolean hasNext = rows.size() > size;
+        List<E> pageRows = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = hasNext ? cursorOf.apply(pageRows.get(size - 1)).encode() : null;
+        return new CursorPage<>(mapper.apply(pageRows), nextCursor, hasNext, size);
+    }
+}
@@ -0,0 +1,51 @@
+package com.ultrabms.dto.common;
+
+import com.ultrabms.exception.ValidationException;
+
+/**
+ * Output formats of the streaming export endpoints.
+ */
+public enum ExportFormat {
+
+    /**
+     * Comma-separated values with a header row (RFC 4180 quoting)
+     */
+    CSV("text/csv", "csv"),
+
+    /**
+     * Newline-delimited JSON, one object per row
+     */
+    NDJSON("application/x-ndjson", "ndjson");
+
+    private final String contentType;
+    private final String extension;
+
+    ExportFormat(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    /**
+     * Parse the {@code format} request parameter (case-insensitive).
+     *
+     * @param value csv or ndjson
+     * @return Export format
+     * @throws ValidationException if the format is not supported
+     */
+    public static ExportFormat fromParam(String value) {
+        for (ExportFormat format : values()) {
+            if (format.extension.equalsIgnoreCase(value)) {
+                return format;
+            }
+        }
+        throw new ValidationException("Unsupported export format. Use csv or ndjson", "format", value);
+    }
+}
@@ -0,0 +1,26 @@
+package com.ultrabms.dto.expenses;
+
+import com.ultrabms.entity.enums.ExpenseCategory;
+import com.ultrabms.entity.enums.ExpensePaymentStatus;
+import com.ultrabms.entity.enums.PaymentMethod;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Flat expense row for streaming exports, projected directly by the query.
+ *
+ * Story 6.2: Expense Management and Vendor Payments
+ */
+public record ExpenseExportRow(
+        String expenseNumber,
+        LocalDate expenseDate,
+        ExpenseCategory category,
+        String description,
+        String propertyName,
+        String vendorName,
+        BigDecimal amount,
+        ExpensePaymentStatus paymentStatus,
+        PaymentMethod paymentMethod,
+        LocalDate paymentDate
+) { }
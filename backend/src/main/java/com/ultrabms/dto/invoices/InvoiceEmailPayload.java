@@ -0,0 +1,83 @@
+package com.ultrabms.dto.invoices;
+
+import com.ultrabms.entity.Invoice;
+import com.ultrabms.entity.Property;
+import com.ultrabms.entity.Tenant;
+import com.ultrabms.entity.Unit;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Immutable, fully resolved snapshot of an invoice for email notifications.
+ * Built on the calling side while the persistence context is open, so async email
+ * threads never navigate lazy associations or hold on to managed entities.
+ * Story 6.1: Rent Invoicing and Payment Management
+ */
+public record InvoiceEmailPayload(
+    UUID invoiceId,
+    String invoiceNumber,
+    LocalDate invoiceDate,
+    LocalDate dueDate,
+    UUID tenantId,
+    String tenantName,
+    String tenantEmail,
+    String propertyName,
+    String unitNumber,
+    BigDecimal baseRent,
+    BigDecimal serviceCharges,
+    BigDecimal parkingFees,
+    List<ChargeLine> additionalCharges,
+    BigDecimal lateFee,
+    Boolean lateFeeApplied,
+    BigDecimal totalAmount,
+    BigDecimal balanceAmount,
+    String notes
+) {
+
+    /**
+     * Additional charge line item
+     */
+    public record ChargeLine(String description, BigDecimal amount) {}
+
+    /**
+     * Snapshot an invoice. Tenant, property and unit must be loaded (or loadable in the
+     * current transaction); use the fetch-join finders on InvoiceRepository for batches.
+     *
+     * @param invoice Invoice entity
+     * @return Email payload
+     */
+    public static InvoiceEmailPayload from(Invoice invoice) {
+        Tenant tenant = invoice.getTenant();
+        Property property = invoice.getProperty();
+        Unit unit = invoice.getUnit();
+        List<ChargeLine> charges = invoice.getAdditionalCharges() == null
+                ? List.of()
+                : invoice.getAdditionalCharges().stream()
+                        .map(charge -> new ChargeLine(charge.getDescription(), charge.getAmount()))
+                        .toList();
+
+        return new InvoiceEmailPayload(
+                invoice.getId(),
+                invoice.getInvoiceNumber(),
+                invoice.getInvoiceDate(),
+                invoice.getDueDate(),
+                tenant.getId(),
+                tenant.getFullName(),
+                tenant.getEmail(),
+                property != null ? property.getName() : "N/A",
+                unit != null ? unit.getUnitNumber() : "N/A",
+                invoice.getBaseRent(),
+                invoice.getServiceCharges(),
+                invoice.getParkingFees(),
+                charges,
+                invoice.getLateFee(),
+                invoice.getLateFeeApplied(),
+                invoice.getTotalAmount(),
+                invoice.getBalanceAmount(),
+                invoice.getNotes()
+        );
+    }
+}
@@ -0,0 +1,28 @@
+package com.ultrabms.dto.invoices;
+
+import com.ultrabms.entity.enums.InvoiceStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Flat invoice row for streaming exports, projected directly by the query so rows are
+ * never managed by the persistence context.
+ * Story 6.1: Rent Invoicing and Payment Management
+ */
+public record InvoiceExportRow(
+    String invoiceNumber,
+    LocalDate invoiceDate,
+    LocalDate dueDate,
+    InvoiceStatus status,
+    String tenantName,
+    String propertyName,
+    String unitNumber,
+    BigDecimal baseRent,
+    BigDecimal serviceCharges,
+    BigDecimal parkingFees,
+    BigDecimal lateFee,
+    BigDecimal totalAmount,
+    BigDecimal paidAmount,
+    BigDecimal balanceAmount
+) { }
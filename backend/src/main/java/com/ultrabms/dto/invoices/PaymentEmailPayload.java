@@ -0,0 +1,43 @@
+package com.ultrabms.dto.invoices;
+
+import com.ultrabms.entity.Payment;
+import com.ultrabms.entity.enums.PaymentMethod;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Immutable snapshot of a recorded payment and its invoice for the receipt email.
+ * Story 6.1: Rent Invoicing and Payment Management
+ *
+ * @param invoice Invoice state after the payment was applied
+ */
+public record PaymentEmailPayload(
+    UUID paymentId,
+    String paymentNumber,
+    LocalDate paymentDate,
+    PaymentMethod paymentMethod,
+    BigDecimal amount,
+    String transactionReference,
+    InvoiceEmailPayload invoice
+) {
+
+    /**
+     * Snapshot a payment after it has been applied to its invoice.
+     *
+     * @param payment Payment entity (invoice must be loaded or loadable)
+     * @return Email payload
+     */
+    public static PaymentEmailPayload from(Payment payment) {
+        return new PaymentEmailPayload(
+                payment.getId(),
+                payment.getPaymentNumber(),
+                payment.getPaymentDate(),
+                payment.getPaymentMethod(),
+                payment.getAmount(),
+                payment.getTransactionReference(),
+                InvoiceEmailPayload.from(payment.getInvoice())
+        );
+    }
+}
@@ -0,0 +1,20 @@
+package com.ultrabms.dto.invoices;
+
+import com.ultrabms.entity.enums.PaymentMethod;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Flat payment row for streaming exports, projected directly by the query.
+ * Story 6.1: Rent Invoicing and Payment Management
+ */
+public record PaymentExportRow(
+    String paymentNumber,
+    LocalDate paymentDate,
+    String invoiceNumber,
+    String tenantName,
+    BigDecimal amount,
+    PaymentMethod paymentMethod,
+    String transactionReference
+) { }
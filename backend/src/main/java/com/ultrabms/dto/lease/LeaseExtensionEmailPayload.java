@@ -0,0 +1,41 @@
+package com.ultrabms.dto.lease;
+
+import com.ultrabms.entity.LeaseExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Immutable snapshot of a lease extension for email notifications.
+ * Story 3.6: Tenant Lease Extension and Renewal
+ */
+public record LeaseExtensionEmailPayload(
+    String extensionNumber,
+    LocalDate previousEndDate,
+    LocalDate newEndDate,
+    LocalDate effectiveDate,
+    BigDecimal previousRent,
+    BigDecimal newRent,
+    Boolean autoRenewal,
+    String specialTerms
+) {
+
+    /**
+     * Snapshot a lease extension.
+     *
+     * @param extension LeaseExtension entity
+     * @return Email payload
+     */
+    public static LeaseExtensionEmailPayload from(LeaseExtension extension) {
+        return new LeaseExtensionEmailPayload(
+                extension.getExtensionNumber(),
+                extension.getPreviousEndDate(),
+                extension.getNewEndDate(),
+                extension.getEffectiveDate(),
+                extension.getPreviousRent(),
+                extension.getNewRent(),
+                extension.getAutoRenewal(),
+                extension.getSpecialTerms()
+        );
+    }
+}
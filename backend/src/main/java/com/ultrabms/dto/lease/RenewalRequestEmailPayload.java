@@ -0,0 +1,39 @@
+package com.ultrabms.dto.lease;
+
+import com.ultrabms.entity.RenewalRequest;
+import com.ultrabms.entity.enums.RenewalRequestStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * Immutable snapshot of a renewal request for email notifications.
+ * Story 3.6: Tenant Lease Extension and Renewal
+ */
+public record RenewalRequestEmailPayload(
+    String requestNumber,
+    String preferredTerm,
+    LocalDateTime requestedAt,
+    String comments,
+    RenewalRequestStatus status,
+    String rejectedReason,
+    LocalDateTime processedAt
+) {
+
+    /**
+     * Snapshot a renewal request.
+     *
+     * @param request RenewalRequest entity
+     * @return Email payload
+     */
+    public static RenewalRequestEmailPayload from(RenewalRequest request) {
+        return new RenewalRequestEmailPayload(
+                request.getRequestNumber(),
+                request.getPreferredTerm(),
+                request.getRequestedAt(),
+                request.getComments(),
+                request.getStatus(),
+                request.getRejectedReason(),
+                request.getProcessedAt()
+        );
+    }
+}
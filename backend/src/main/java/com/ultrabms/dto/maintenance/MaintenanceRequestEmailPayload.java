@@ -0,0 +1,57 @@
+package com.ultrabms.dto.maintenance;
+
+import com.ultrabms.entity.MaintenanceRequest;
+import com.ultrabms.entity.enums.MaintenanceCategory;
+import com.ultrabms.entity.enums.MaintenancePriority;
+import com.ultrabms.entity.enums.MaintenanceStatus;
+import com.ultrabms.entity.enums.PreferredAccessTime;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Immutable snapshot of a maintenance request for email notifications.
+ * Built on the calling side so the attachment collection is counted inside the transaction.
+ * Story 3.5: Tenant Portal - Maintenance Request Submission
+ */
+public record MaintenanceRequestEmailPayload(
+    UUID requestId,
+    String requestNumber,
+    MaintenanceCategory category,
+    MaintenancePriority priority,
+    MaintenanceStatus status,
+    String title,
+    String description,
+    LocalDateTime submittedAt,
+    PreferredAccessTime preferredAccessTime,
+    LocalDate preferredAccessDate,
+    int photoCount,
+    LocalDate estimatedCompletionDate,
+    String workNotes
+) {
+
+    /**
+     * Snapshot a maintenance request.
+     *
+     * @param request MaintenanceRequest entity
+     * @return Email payload
+     */
+    public static MaintenanceRequestEmailPayload from(MaintenanceRequest request) {
+        return new MaintenanceRequestEmailPayload(
+                request.getId(),
+                request.getRequestNumber(),
+                request.getCategory(),
+                request.getPriority(),
+                request.getStatus(),
+                request.getTitle(),
+                request.getDescription(),
+                request.getSubmittedAt(),
+                request.getPreferredAccessTime(),
+                request.getPreferredAccessDate(),
+                request.getAttachments() != null ? request.getAttachments().size() : 0,
+                request.getEstimatedCompletionDate(),
+                request.getWorkNotes()
+        );
+    }
+}
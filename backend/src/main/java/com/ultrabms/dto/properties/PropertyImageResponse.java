@@ -7,6 +7,7 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
+import java.util.Map;
 import java.util.UUID;
 
 /**
@@ -22,6 +23,8 @@ public class PropertyImageResponse {
     private UUID propertyId;
     private String fileName;
     private String filePath;
+    private String thumbnailUrl;
+    private String mediumUrl;
     private Long fileSize;
     private Integer displayOrder;
     private UUID uploadedBy;
@@ -44,6 +47,22 @@ public class PropertyImageResponse {
                 .build();
     }
 
+    /**
+     * Convert PropertyImage entity to PropertyImageResponse DTO with presigned URL
+     * Variant URLs fall back to the original until the derivatives are generated.
+     * @param image the PropertyImage entity
+     * @param presignedUrls presigned S3 URLs by S3 key (original and variants)
+     */
+    public static PropertyImageResponse fromEntityWithUrls(PropertyImage image, Map<String, String> presignedUrls) {
+        String originalUrl = presignedUrls.get(image.getFilePath());
+        PropertyImageResponse response = fromEntityWithUrl(image, originalUrl);
+        response.setThumbnailUrl(image.getThumbnailPath() != null
+                ? presignedUrls.get(image.getThumbnailPath()) : originalUrl);
+        response.setMediumUrl(image.getMediumPath() != null
+                ? presignedUrls.get(image.getMediumPath()) : originalUrl);
+        return response;
+    }
+
     /**
      * Convert PropertyImage entity to PropertyImageResponse DTO with presigned URL
      * @param image the PropertyImage entity
@@ -18,7 +18,7 @@ import java.util.UUID;
  * DTO for Property response
  */
 @Data
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 public class PropertyResponse {
@@ -54,13 +54,15 @@ public class PropertyResponse {
      * Nested DTO for property image information
      */
     @Data
-    @Builder
+    @Builder(toBuilder = true)
     @NoArgsConstructor
     @AllArgsConstructor
     public static class PropertyImageInfo {
         private UUID id;
         private String fileName;
         private String filePath;
+        private String thumbnailPath;
+        private String mediumPath;
         private Long fileSize;
         private Integer displayOrder;
     }
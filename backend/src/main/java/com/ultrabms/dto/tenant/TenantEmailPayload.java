@@ -0,0 +1,40 @@
+package com.ultrabms.dto.tenant;
+
+import com.ultrabms.entity.Tenant;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Immutable snapshot of a tenant for email notifications.
+ * Built on the calling side while the persistence context is open, so async email
+ * threads never navigate the lazy property and unit associations.
+ */
+public record TenantEmailPayload(
+    UUID tenantId,
+    String tenantName,
+    String email,
+    String phone,
+    String propertyName,
+    String unitNumber,
+    LocalDate leaseEndDate
+) {
+
+    /**
+     * Snapshot a tenant. Property and unit must be loaded (or loadable in the current transaction).
+     *
+     * @param tenant Tenant entity
+     * @return Email payload
+     */
+    public static TenantEmailPayload from(Tenant tenant) {
+        return new TenantEmailPayload(
+                tenant.getId(),
+                tenant.getFullName(),
+                tenant.getEmail(),
+                tenant.getPhone(),
+                tenant.getProperty() != null ? tenant.getProperty().getName() : "N/A",
+                tenant.getUnit() != null ? tenant.getUnit().getUnitNumber() : "N/A",
+                tenant.getLeaseEndDate()
+        );
+    }
+}
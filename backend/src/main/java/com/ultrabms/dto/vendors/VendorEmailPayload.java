@@ -0,0 +1,34 @@
+package com.ultrabms.dto.vendors;
+
+import com.ultrabms.entity.Vendor;
+
+import java.util.UUID;
+
+/**
+ * Immutable snapshot of a vendor for email notifications.
+ * Story 5.2: Vendor Document and License Management
+ */
+public record VendorEmailPayload(
+    UUID vendorId,
+    String vendorNumber,
+    String companyName,
+    String contactPersonName,
+    String email
+) {
+
+    /**
+     * Snapshot a vendor.
+     *
+     * @param vendor Vendor entity
+     * @return Email payload
+     */
+    public static VendorEmailPayload from(Vendor vendor) {
+        return new VendorEmailPayload(
+                vendor.getId(),
+                vendor.getVendorNumber(),
+                vendor.getCompanyName(),
+                vendor.getContactPersonName(),
+                vendor.getEmail()
+        );
+    }
+}
@@ -63,4 +63,9 @@ public class TimelineEntryDto {
      * Photo URLs associated with this timeline entry (optional)
      */
     private List<String> photoUrls;
+
+    /**
+     * Thumbnail URLs, parallel to photoUrls (original URL until the thumbnail is generated)
+     */
+    private List<String> thumbnailUrls;
 }
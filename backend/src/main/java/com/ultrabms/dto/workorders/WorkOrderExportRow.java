@@ -0,0 +1,24 @@
+package com.ultrabms.dto.workorders;
+
+import com.ultrabms.entity.enums.WorkOrderCategory;
+import com.ultrabms.entity.enums.WorkOrderPriority;
+import com.ultrabms.entity.enums.WorkOrderStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Flat work order row for streaming exports, projected directly by the query.
+ */
+public record WorkOrderExportRow(
+    String workOrderNumber,
+    String title,
+    WorkOrderCategory category,
+    WorkOrderPriority priority,
+    WorkOrderStatus status,
+    String propertyName,
+    LocalDateTime scheduledDate,
+    LocalDateTime completedAt,
+    BigDecimal estimatedCost,
+    BigDecimal actualCost
+) { }
@@ -11,6 +11,7 @@ import lombok.NoArgsConstructor;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 /**
@@ -181,6 +182,12 @@ public class WorkOrderResponseDto {
      */
     private List<String> completionPhotos;
 
+    /**
+     * Thumbnail/medium variant URLs per original photo URL
+     * (photos without an entry have no variants yet - use the original)
+     */
+    private Map<String, Map<String, String>> photoVariants;
+
     /**
      * Completion notes from vendor/staff
      */
@@ -1,5 +1,6 @@
 package com.ultrabms.entity;
 
+import com.ultrabms.entity.enums.AnnouncementBroadcastStatus;
 import com.ultrabms.entity.enums.AnnouncementStatus;
 import com.ultrabms.entity.enums.AnnouncementTemplate;
 import jakarta.persistence.Column;
@@ -21,6 +22,7 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.time.LocalDateTime;
 import java.util.UUID;
@@ -51,6 +53,7 @@ import java.util.UUID;
 @EqualsAndHashCode(callSuper = true)
 @NoArgsConstructor
 @AllArgsConstructor
+@DynamicUpdate
 public class Announcement extends BaseEntity {
 
     // =================================================================
@@ -127,6 +130,26 @@ public class Announcement extends BaseEntity {
     @Builder.Default
     private AnnouncementStatus status = AnnouncementStatus.DRAFT;
 
+    // =================================================================
+    // EMAIL BROADCAST
+    // =================================================================
+
+    /**
+     * Email broadcast state (null until published).
+     * Progress columns are updated by AnnouncementBroadcastService while the
+     * entity is not loaded, hence @DynamicUpdate on this entity.
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(name = "broadcast_status", length = 20)
+    private AnnouncementBroadcastStatus broadcastStatus;
+
+    /**
+     * Number of tenant emails queued so far
+     */
+    @Column(name = "broadcast_recipients", nullable = false)
+    @Builder.Default
+    private Integer broadcastRecipients = 0;
+
     // =================================================================
     // ATTACHMENT
     // =================================================================
@@ -169,6 +192,9 @@ public class Announcement extends BaseEntity {
         if (this.status == null) {
             this.status = AnnouncementStatus.DRAFT;
         }
+        if (this.broadcastRecipients == null) {
+            this.broadcastRecipients = 0;
+        }
     }
 
     // =================================================================
@@ -245,6 +271,8 @@ public class Announcement extends BaseEntity {
         }
         this.status = AnnouncementStatus.PUBLISHED;
         this.publishedAt = LocalDateTime.now();
+        this.broadcastStatus = AnnouncementBroadcastStatus.QUEUEING;
+        this.broadcastRecipients = 0;
     }
 
     /**
@@ -25,6 +25,7 @@ import java.util.UUID;
 /**
  * EmailNotification entity for tracking all email sends in the system.
  * Supports retry mechanism with exponential backoff for failed emails.
+ * Stored in monthly partitions on created_at (the partition key, never updated).
  *
  * Story 9.1: Email Notification System
  */
@@ -32,12 +33,10 @@ import java.util.UUID;
 @Table(
     name = "email_notifications",
     indexes = {
-        @Index(name = "idx_email_notifications_status", columnList = "status"),
         @Index(name = "idx_email_notifications_recipient_email", columnList = "recipient_email"),
         @Index(name = "idx_email_notifications_notification_type", columnList = "notification_type"),
         @Index(name = "idx_email_notifications_entity_type_id", columnList = "entity_type, entity_id"),
-        @Index(name = "idx_email_notifications_created_at", columnList = "created_at"),
-        @Index(name = "idx_email_notifications_next_retry_at", columnList = "next_retry_at")
+        @Index(name = "idx_email_notifications_created_at", columnList = "created_at")
     }
 )
 @Data
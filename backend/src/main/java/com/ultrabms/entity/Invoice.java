@@ -5,6 +5,7 @@ import io.hypersistence.utils.hibernate.type.json.JsonType;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
@@ -40,6 +41,7 @@ import java.util.UUID;
  * Story 6.1: Rent Invoicing and Payment Management
  */
 @Entity
+@EntityListeners(TenantLedgerEntityListener.class)
 @Table(
     name = "invoices",
     uniqueConstraints = {
@@ -7,6 +7,7 @@ import com.ultrabms.entity.enums.PreferredAccessTime;
 import io.hypersistence.utils.hibernate.type.json.JsonType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.Table;
@@ -39,6 +40,7 @@ import java.util.UUID;
  * Story 3.5: Tenant Portal - Maintenance Request Submission
  */
 @Entity
+@EntityListeners(TenantLedgerEntityListener.class)
 @Table(
     name = "maintenance_requests",
     uniqueConstraints = {
@@ -4,6 +4,7 @@ import com.ultrabms.entity.enums.NewPaymentMethod;
 import com.ultrabms.entity.enums.PDCStatus;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
@@ -35,6 +36,7 @@ import java.util.UUID;
  * Story 6.3: Post-Dated Cheque (PDC) Management
  */
 @Entity
+@EntityListeners(TenantLedgerEntityListener.class)
 @Table(
     name = "pdcs",
     uniqueConstraints = {
@@ -3,6 +3,7 @@ package com.ultrabms.entity;
 import com.ultrabms.entity.enums.PaymentMethod;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
@@ -33,6 +34,7 @@ import java.util.UUID;
  * Story 6.1: Rent Invoicing and Payment Management
  */
 @Entity
+@EntityListeners(TenantLedgerEntityListener.class)
 @Table(
     name = "payments",
     uniqueConstraints = {
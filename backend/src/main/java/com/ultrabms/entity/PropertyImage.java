@@ -59,6 +59,18 @@ public class PropertyImage extends BaseEntity {
     @Column(name = "file_path", nullable = false, length = 500)
     private String filePath;
 
+    /**
+     * S3 key of the thumbnail variant (null until the derivative stage has run)
+     */
+    @Column(name = "thumbnail_path", length = 500, insertable = false, updatable = false)
+    private String thumbnailPath;
+
+    /**
+     * S3 key of the medium variant (null until the derivative stage has run)
+     */
+    @Column(name = "medium_path", length = 500, insertable = false, updatable = false)
+    private String mediumPath;
+
     /**
      * File size in bytes
      */
@@ -28,6 +28,7 @@ import org.hibernate.type.SqlTypes;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 /**
@@ -171,6 +172,15 @@ public class TenantCheckout extends BaseEntity {
     @Column(name = "inspection_photos", columnDefinition = "jsonb")
     private List<Object> inspectionPhotos;
 
+    /**
+     * Thumbnail and medium variants of inspection photos, keyed by original S3 key
+     * Structure: {"<filePath>": {thumbnail, medium}}
+     * Written only by the image derivative stage, so entity saves never overwrite it
+     */
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "photo_variants", columnDefinition = "jsonb", insertable = false, updatable = false)
+    private Map<String, Map<String, String>> photoVariants;
+
     /**
      * Overall condition rating (1-5)
      */
@@ -0,0 +1,88 @@
+package com.ultrabms.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Read-only projection of a tenant's financial and maintenance position for the
+ * tenant portal dashboard. Maintained in the database by refresh_tenant_ledger
+ * (see TenantLedgerService); never written through JPA.
+ */
+@Entity
+@Immutable
+@Table(name = "tenant_ledger")
+@Getter
+@NoArgsConstructor
+public class TenantLedger {
+
+    /**
+     * Tenant this ledger row belongs to
+     */
+    @Id
+    @Column(name = "tenant_id", nullable = false)
+    private UUID tenantId;
+
+    /**
+     * Sum of balances of SENT, PARTIALLY_PAID and OVERDUE invoices
+     */
+    @Column(name = "outstanding_balance", nullable = false, precision = 12, scale = 2)
+    private BigDecimal outstandingBalance;
+
+    /**
+     * Number of unpaid invoices
+     */
+    @Column(name = "unpaid_invoice_count", nullable = false)
+    private Integer unpaidInvoiceCount;
+
+    /**
+     * Earliest due date among unpaid invoices
+     */
+    @Column(name = "next_payment_due_date")
+    private LocalDate nextPaymentDueDate;
+
+    /**
+     * Balance of the invoice due next
+     */
+    @Column(name = "next_payment_due_amount", precision = 12, scale = 2)
+    private BigDecimal nextPaymentDueAmount;
+
+    /**
+     * PDCs held but not yet cleared
+     */
+    @Column(name = "pending_pdc_count", nullable = false)
+    private Integer pendingPdcCount;
+
+    /**
+     * Total amount of PDCs held but not yet cleared
+     */
+    @Column(name = "pending_pdc_amount", nullable = false, precision = 12, scale = 2)
+    private BigDecimal pendingPdcAmount;
+
+    /**
+     * Maintenance requests not yet completed, closed or cancelled
+     */
+    @Column(name = "open_requests_count", nullable = false)
+    private Integer openRequestsCount;
+
+    /**
+     * Date of the most recent payment
+     */
+    @Column(name = "last_payment_date")
+    private LocalDate lastPaymentDate;
+
+    /**
+     * When the row was last recomputed
+     */
+    @Column(name = "refreshed_at", nullable = false)
+    private LocalDateTime refreshedAt;
+}
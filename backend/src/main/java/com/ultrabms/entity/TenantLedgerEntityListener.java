@@ -0,0 +1,52 @@
+package com.ultrabms.entity;
+
+import com.ultrabms.service.TenantLedgerService;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.util.UUID;
+
+/**
+ * Marks the owning tenant's ledger as changed whenever an invoice, payment, PDC or
+ * maintenance request is inserted, updated or deleted. The ledger row is recomputed
+ * once per tenant after the transaction commits.
+ *
+ * <p>Instantiated by Hibernate through Spring's bean container; the service is looked up
+ * lazily because listeners are created while the EntityManagerFactory is being built.</p>
+ */
+public class TenantLedgerEntityListener {
+
+    private final ObjectProvider<TenantLedgerService> tenantLedgerService;
+
+    public TenantLedgerEntityListener(ObjectProvider<TenantLedgerService> tenantLedgerService) {
+        this.tenantLedgerService = tenantLedgerService;
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChange(Object entity) {
+        UUID tenantId = tenantIdOf(entity);
+        if (tenantId != null) {
+            tenantLedgerService.ifAvailable(service -> service.markChanged(tenantId));
+        }
+    }
+
+    private static UUID tenantIdOf(Object entity) {
+        if (entity instanceof Invoice invoice) {
+            return invoice.getTenant() != null ? invoice.getTenant().getId() : null;
+        }
+        if (entity instanceof Payment payment) {
+            return payment.getTenant() != null ? payment.getTenant().getId() : null;
+        }
+        if (entity instanceof PDC pdc) {
+            return pdc.getTenant() != null ? pdc.getTenant().getId() : null;
+        }
+        if (entity instanceof MaintenanceRequest request) {
+            return request.getTenantId();
+        }
+        return null;
+    }
+}
@@ -25,9 +25,11 @@ import lombok.NoArgsConstructor;
 import org.hibernate.annotations.Type;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 /**
@@ -131,6 +133,14 @@ public class WorkOrder extends BaseEntity {
     @Column(name = "pm_schedule_id")
     private UUID pmScheduleId;
 
+    /**
+     * PM schedule occurrence this work order was generated for (nullable if not generated by the scheduled run)
+     * Unique per schedule and property so re-running a generation is idempotent
+     * Story 4.2: Preventive Maintenance Scheduling
+     */
+    @Column(name = "pm_run_date")
+    private LocalDate pmRunDate;
+
     /**
      * Asset linked to this work order (nullable for work not related to an asset)
      * Story 7.1: Asset Registry and Tracking - AC #16
@@ -347,6 +357,16 @@ public class WorkOrder extends BaseEntity {
     @Builder.Default
     private List<String> afterPhotos = new ArrayList<>();
 
+    /**
+     * Thumbnail and medium variants of this work order's photos (before, after,
+     * completion and progress), keyed by original S3 key
+     * Stored as JSON object: {"work-orders/{id}/after/a.jpg": {"thumbnail": "...", "medium": "..."}}
+     * Written only by the image derivative stage, so entity saves never overwrite it
+     */
+    @Type(JsonType.class)
+    @Column(name = "photo_variants", columnDefinition = "jsonb", insertable = false, updatable = false)
+    private Map<String, Map<String, String>> photoVariants;
+
     // =================================================================
     // LIFECYCLE CALLBACKS
     // =================================================================
@@ -0,0 +1,25 @@
+package com.ultrabms.entity.enums;
+
+/**
+ * Announcement email broadcast status enumeration.
+ * Tracks the queueing of announcement emails to tenants after publish.
+ *
+ * Story 9.2: Internal Announcement Management
+ */
+public enum AnnouncementBroadcastStatus {
+    /**
+     * Recipients are being read in chunks and emails queued.
+     */
+    QUEUEING,
+
+    /**
+     * All recipient emails have been queued for the email sender job.
+     */
+    QUEUED,
+
+    /**
+     * Queueing stopped because of an error.
+     * Emails queued before the failure are still delivered.
+     */
+    FAILED
+}
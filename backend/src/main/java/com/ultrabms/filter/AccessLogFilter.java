@@ -0,0 +1,167 @@
+package com.ultrabms.filter;
+
+import jakarta.servlet.Filter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.Locale;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Filter that writes one structured access log event per HTTP request.
+ *
+ * <p>Each event is a single JSON object written to the {@code ACCESS_LOG} logger:</p>
+ * <pre>
+ * {"timestamp":"2025-01-01T10:00:00.123Z","method":"GET","route":"/api/v1/properties/{id}","status":200,"latencyMs":12.481,"correlationId":"..."}
+ * </pre>
+ *
+ * <p>The route is the matched handler pattern rather than the raw URI, so path
+ * variables do not explode the cardinality of the log. Latency is measured with
+ * {@link System#nanoTime()}.</p>
+ *
+ * <p>Sampling: client errors (4xx), server errors (5xx) and slow requests are
+ * always logged; successful requests are logged at {@code successSampleRate}
+ * (1.0 logs all of them, 0.0 none).</p>
+ *
+ * <p>The filter never performs I/O itself. The {@code ACCESS_LOG} logger is bound
+ * to a non-blocking async appender in {@code logback-spring.xml}, which drops
+ * events instead of stalling request threads when its buffer is full.</p>
+ */
+public class AccessLogFilter implements Filter {
+
+    /**
+     * Dedicated logger name for access events (configured in logback-spring.xml)
+     */
+    public static final String ACCESS_LOGGER_NAME = "ACCESS_LOG";
+
+    private static final Logger ACCESS_LOG = LoggerFactory.getLogger(ACCESS_LOGGER_NAME);
+    private static final String CORRELATION_ID_KEY = "correlationId";
+
+    private final double successSampleRate;
+    private final long slowThresholdNanos;
+
+    /**
+     * Creates the filter.
+     *
+     * @param successSampleRate fraction (0.0 - 1.0) of successful requests to log
+     * @param slowThresholdMs requests at or above this latency are always logged
+     */
+    public AccessLogFilter(double successSampleRate, long slowThresholdMs) {
+        this.successSampleRate = Math.max(0.0, Math.min(1.0, successSampleRate));
+        this.slowThresholdNanos = TimeUnit.MILLISECONDS.toNanos(slowThresholdMs);
+    }
+
+    /**
+     * Times the request and logs the access event once the chain completes.
+     *
+     * @param request the servlet request
+     * @param response the servlet response
+     * @param chain the filter chain
+     * @throws IOException if an I/O error occurs
+     * @throws ServletException if a servlet error occurs
+     */
+    @Override
+    public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
+            throws IOException, ServletException {
+
+        HttpServletRequest httpRequest = (HttpServletRequest) request;
+        HttpServletResponse httpResponse = (HttpServletResponse) response;
+
+        long startNanos = System.nanoTime();
+        int status = HttpServletResponse.SC_INTERNAL_SERVER_ERROR;
+        try {
+            chain.doFilter(request, response);
+            status = httpResponse.getStatus();
+        } finally {
+            long elapsedNanos = System.nanoTime() - startNanos;
+            if (ACCESS_LOG.isInfoEnabled() && shouldLog(status, elapsedNanos)) {
+                ACCESS_LOG.info(toJson(httpRequest, status, elapsedNanos));
+            }
+        }
+    }
+
+    /**
+     * Decides whether a request is logged.
+     *
+     * @param status HTTP status code
+     * @param elapsedNanos request latency in nanoseconds
+     * @return true if the event should be written
+     */
+    boolean shouldLog(int status, long elapsedNanos) {
+        if (status >= 400 || elapsedNanos >= slowThresholdNanos) {
+            return true;
+        }
+        if (successSampleRate >= 1.0) {
+            return true;
+        }
+        return successSampleRate > 0.0 && ThreadLocalRandom.current().nextDouble() < successSampleRate;
+    }
+
+    /**
+     * Builds the JSON access event.
+     *
+     * @param request the HTTP request
+     * @param status HTTP status code
+     * @param elapsedNanos request latency in nanoseconds
+     * @return JSON object as a single line
+     */
+    String toJson(HttpServletRequest request, int status, long elapsedNanos) {
+        StringBuilder json = new StringBuilder(192);
+        json.append("{\"timestamp\":\"").append(Instant.now()).append('"');
+        json.append(",\"method\":\"").append(request.getMethod()).append('"');
+        json.append(",\"route\":");
+        appendString(json, resolveRoute(request));
+        json.append(",\"status\":").append(status);
+        json.append(",\"latencyMs\":").append(String.format(Locale.ROOT, "%.3f", elapsedNanos / 1_000_000.0));
+        json.append(",\"correlationId\":");
+        appendString(json, MDC.get(CORRELATION_ID_KEY));
+        json.append('}');
+        return json.toString();
+    }
+
+    /**
+     * Returns the matched handler pattern, falling back to the request URI when
+     * no handler matched (e.g. 404 or requests rejected by security filters).
+     */
+    private String resolveRoute(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : request.getRequestURI();
+    }
+
+    private static void appendString(StringBuilder json, String value) {
+        if (value == null) {
+            json.append("null");
+            return;
+        }
+        json.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> json.append("\\\"");
+                case '\\' -> json.append("\\\\");
+                case '\n' -> json.append("\\n");
+                case '\r' -> json.append("\\r");
+                case '\t' -> json.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        json.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        json.append(c);
+                    }
+                }
+            }
+        }
+        json.append('"');
+    }
+}
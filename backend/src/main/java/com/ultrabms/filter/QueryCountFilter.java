@@ -0,0 +1,75 @@
+package com.ultrabms.filter;
+
+import com.ultrabms.metrics.QueryCountStatementInspector;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.Filter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * Filter that records the number of SQL statements executed per HTTP request.
+ *
+ * <p>Publishes the {@code http.server.requests.queries} distribution summary,
+ * tagged with the HTTP method and route template (same {@code uri} tag as
+ * Spring Boot's {@code http.server.requests} timer), so per-route query counts
+ * can be compared against per-route latency to find N+1 endpoints.</p>
+ *
+ * <p>Statements are counted by {@link QueryCountStatementInspector}; statements
+ * executed by security filters (token blacklist, user lookup) are included
+ * because this filter runs before the security chain.</p>
+ */
+public class QueryCountFilter implements Filter {
+
+    static final String METRIC_NAME = "http.server.requests.queries";
+
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * Creates the filter.
+     *
+     * @param meterRegistry registry the query-count summaries are published to
+     */
+    public QueryCountFilter(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Resets the statement count, continues the chain and records the count for the route.
+     *
+     * @param request the servlet request
+     * @param response the servlet response
+     * @param chain the filter chain
+     * @throws IOException if an I/O error occurs
+     * @throws ServletException if a servlet error occurs
+     */
+    @Override
+    public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
+            throws IOException, ServletException {
+
+        QueryCountStatementInspector.reset();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            HttpServletRequest httpRequest = (HttpServletRequest) request;
+            Object pattern = httpRequest.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+
+            DistributionSummary.builder(METRIC_NAME)
+                    .description("SQL statements executed per HTTP request")
+                    .baseUnit("statements")
+                    .tag("method", httpRequest.getMethod())
+                    .tag("uri", pattern != null ? pattern.toString() : "UNKNOWN")
+                    .publishPercentileHistogram()
+                    .minimumExpectedValue(1.0)
+                    .maximumExpectedValue(500.0)
+                    .register(meterRegistry)
+                    .record(QueryCountStatementInspector.currentCount());
+        }
+    }
+}
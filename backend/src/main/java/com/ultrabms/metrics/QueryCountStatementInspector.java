@@ -0,0 +1,38 @@
+package com.ultrabms.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hibernate statement inspector that counts SQL statements prepared on the
+ * current thread.
+ *
+ * <p>The count is reset and read by {@link com.ultrabms.filter.QueryCountFilter}
+ * around each HTTP request, giving a queries-per-request figure per route that
+ * makes N+1 endpoints visible. The SQL itself is returned unchanged.</p>
+ */
+public class QueryCountStatementInspector implements StatementInspector {
+
+    private static final ThreadLocal<long[]> COUNT = ThreadLocal.withInitial(() -> new long[1]);
+
+    @Override
+    public String inspect(String sql) {
+        COUNT.get()[0]++;
+        return sql;
+    }
+
+    /**
+     * Resets the statement count of the current thread.
+     */
+    public static void reset() {
+        COUNT.get()[0] = 0;
+    }
+
+    /**
+     * Returns the number of statements prepared on the current thread since the last reset.
+     *
+     * @return statement count
+     */
+    public static long currentCount() {
+        return COUNT.get()[0];
+    }
+}
@@ -0,0 +1,142 @@
+package com.ultrabms.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Reports virtual threads pinned to their carrier thread.
+ *
+ * <p>A virtual thread that blocks (JDBC, S3, SMTP) while holding a {@code synchronized}
+ * monitor cannot unmount, so it keeps a carrier thread busy for the whole call; with enough
+ * of them the application is back to a small fixed thread pool. The JVM emits a
+ * {@code jdk.VirtualThreadPinned} JFR event for every pinning longer than the threshold;
+ * this monitor streams those events in-process and publishes them as the
+ * {@code ultrabms.threads.virtual.pinned} timer, tagged with the first application frame
+ * (e.g. {@code WorkOrderServiceImpl.allocateWorkOrderNumbers}). The first pinning of each
+ * frame is also logged with its stack.</p>
+ *
+ * <p>For ad hoc analysis, {@code -Djdk.tracePinnedThreads=full} prints every pinning to
+ * stdout instead.</p>
+ */
+@Slf4j
+public class VirtualThreadPinningMonitor implements SmartLifecycle, MeterBinder {
+
+    static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    static final String UNKNOWN_FRAME = "unknown";
+
+    private static final String APPLICATION_PACKAGE = "com.ultrabms.";
+    private static final int LOGGED_FRAMES = 8;
+
+    private final Duration threshold;
+    private final Set<String> reportedFrames = ConcurrentHashMap.newKeySet();
+
+    private volatile MeterRegistry registry;
+    private RecordingStream stream;
+
+    /**
+     * @param threshold shortest pinning that is reported
+     */
+    public VirtualThreadPinningMonitor(Duration threshold) {
+        this.threshold = threshold;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    /**
+     * Record one pinning.
+     *
+     * @param frame    application frame holding the carrier
+     * @param duration how long the carrier was pinned
+     * @param stack    stack of the pinned thread, logged on the first pinning of the frame
+     */
+    void record(String frame, Duration duration, List<String> stack) {
+        MeterRegistry meterRegistry = registry;
+        if (meterRegistry != null) {
+            Timer.builder("ultrabms.threads.virtual.pinned")
+                    .description("Virtual threads pinned to their carrier while blocking")
+                    .tag("frame", frame)
+                    .register(meterRegistry)
+                    .record(duration);
+        }
+        if (reportedFrames.add(frame)) {
+            log.warn("Virtual thread pinned for {} ms in {}; blocking inside synchronized code holds "
+                    + "a carrier thread:\n\tat {}", duration.toMillis(), frame, String.join("\n\tat ", stack));
+        }
+    }
+
+    /**
+     * @param frames stack frames as {@code class.method}, innermost first
+     * @return innermost application frame (simple class name), else the innermost frame
+     */
+    static String pinnedFrame(List<String> frames) {
+        for (String frame : frames) {
+            if (frame.startsWith(APPLICATION_PACKAGE)) {
+                return frame.substring(frame.lastIndexOf('.', frame.lastIndexOf('.') - 1) + 1);
+            }
+        }
+        return frames.isEmpty() ? UNKNOWN_FRAME : frames.get(0);
+    }
+
+    private void onPinned(RecordedEvent event) {
+        List<String> frames = frames(event.getStackTrace());
+        record(pinnedFrame(frames), event.getDuration(),
+                frames.subList(0, Math.min(LOGGED_FRAMES, frames.size())));
+    }
+
+    private static List<String> frames(RecordedStackTrace stackTrace) {
+        if (stackTrace == null) {
+            return List.of();
+        }
+        return stackTrace.getFrames().stream()
+                .filter(RecordedFrame::isJavaFrame)
+                .map(frame -> frame.getMethod().getType().getName() + "." + frame.getMethod().getName())
+                .toList();
+    }
+
+    // =================================================================
+    // LIFECYCLE
+    // =================================================================
+
+    @Override
+    public synchronized void start() {
+        try {
+            RecordingStream recording = new RecordingStream();
+            recording.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+            recording.onEvent(PINNED_EVENT, this::onPinned);
+            recording.startAsync();
+            stream = recording;
+            log.info("Virtual thread pinning monitor started (threshold {} ms)", threshold.toMillis());
+        } catch (RuntimeException e) {
+            // JFR unavailable (e.g. disabled in the runtime image); pinning is just not reported
+            log.warn("Virtual thread pinning monitor not started: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (stream != null) {
+            stream.close();
+            stream = null;
+        }
+    }
+
+    @Override
+    public synchronized boolean isRunning() {
+        return stream != null;
+    }
+}
@@ -1,13 +1,16 @@
 package com.ultrabms.repository;
 
 import com.ultrabms.entity.Announcement;
+import com.ultrabms.entity.enums.AnnouncementBroadcastStatus;
 import com.ultrabms.entity.enums.AnnouncementStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -262,4 +265,38 @@ public interface AnnouncementRepository extends JpaRepository<Announcement, UUID
      * @return True if exists
      */
     boolean existsByAnnouncementNumber(String announcementNumber);
+
+    // =================================================================
+    // EMAIL BROADCAST PROGRESS
+    // =================================================================
+
+    /**
+     * Record email broadcast progress without loading the announcement
+     *
+     * @param id Announcement UUID
+     * @param status Broadcast status
+     * @param recipients Number of emails queued so far
+     * @return Number of rows updated
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE Announcement a SET a.broadcastStatus = :status, a.broadcastRecipients = :recipients WHERE a.id = :id")
+    int updateBroadcastProgress(
+            @Param("id") UUID id,
+            @Param("status") AnnouncementBroadcastStatus status,
+            @Param("recipients") int recipients);
+
+    /**
+     * Record email broadcast status without loading the announcement
+     *
+     * @param id Announcement UUID
+     * @param status Broadcast status
+     * @return Number of rows updated
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE Announcement a SET a.broadcastStatus = :status WHERE a.id = :id")
+    int updateBroadcastStatus(
+            @Param("id") UUID id,
+            @Param("status") AnnouncementBroadcastStatus status);
 }
@@ -2,7 +2,10 @@ package com.ultrabms.repository;
 
 import com.ultrabms.entity.AuditLog;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -11,7 +14,8 @@ import java.util.UUID;
 /**
  * Repository interface for AuditLog entity operations.
  *
- * <p>Provides methods for querying audit logs by user, action, and time range.</p>
+ * <p>Provides methods for querying audit logs by user, action, and time range.
+ * Rows are inserted by {@link com.ultrabms.audit.AuditLogSink}, not through this repository.</p>
  */
 @Repository
 public interface AuditLogRepository extends JpaRepository<AuditLog, UUID> {
@@ -33,4 +37,14 @@ public interface AuditLogRepository extends JpaRepository<AuditLog, UUID> {
      * @return list of audit logs
      */
     List<AuditLog> findByActionAndCreatedAtBetween(String action, LocalDateTime start, LocalDateTime end);
+
+    /**
+     * Creates missing monthly audit_logs partitions from the current month through monthsAhead months ahead.
+     *
+     * @param monthsAhead number of future months to pre-create
+     * @return number of partitions created
+     */
+    @Transactional
+    @Query(value = "SELECT ensure_monthly_partitions('audit_logs', CURRENT_DATE, :monthsAhead)", nativeQuery = true)
+    int createUpcomingPartitions(@Param("monthsAhead") int monthsAhead);
 }
@@ -9,6 +9,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -18,6 +19,10 @@ import java.util.UUID;
  * Repository for EmailNotification entity.
  * Provides query methods for email notification management and queue processing.
  *
+ * email_notifications is range-partitioned by month on created_at. Queue queries take a
+ * created_at lower bound so Postgres prunes to the hot partitions, which are the only
+ * ones carrying the queue indexes.
+ *
  * Story 9.1: Email Notification System
  */
 @Repository
@@ -38,13 +43,16 @@ public interface EmailNotificationRepository extends JpaRepository<EmailNotifica
     List<EmailNotification> findByStatusIn(List<EmailNotificationStatus> statuses);
 
     /**
-     * Find notifications ready for retry (failed with nextRetryAt in the past)
+     * Find notifications ready for retry (failed with nextRetryAt in the past),
+     * created on or after hotFrom
      */
     @Query("SELECT e FROM EmailNotification e WHERE e.status = :status " +
+           "AND e.createdAt >= :hotFrom " +
            "AND e.nextRetryAt IS NOT NULL AND e.nextRetryAt <= :now " +
            "AND e.retryCount < :maxRetries ORDER BY e.nextRetryAt ASC")
     List<EmailNotification> findReadyForRetry(
         @Param("status") EmailNotificationStatus status,
+        @Param("hotFrom") LocalDateTime hotFrom,
         @Param("now") LocalDateTime now,
         @Param("maxRetries") int maxRetries
     );
@@ -58,10 +66,11 @@ public interface EmailNotificationRepository extends JpaRepository<EmailNotifica
     );
 
     /**
-     * Find pending notifications with batch size limit (for scheduled job)
+     * Find pending notifications created on or after hotFrom, with batch size limit (for scheduled job)
      */
-    @Query("SELECT e FROM EmailNotification e WHERE e.status = 'PENDING' ORDER BY e.createdAt ASC")
-    List<EmailNotification> findPendingNotifications(Pageable pageable);
+    @Query("SELECT e FROM EmailNotification e WHERE e.status = 'PENDING' " +
+           "AND e.createdAt >= :hotFrom ORDER BY e.createdAt ASC")
+    List<EmailNotification> findPendingNotifications(@Param("hotFrom") LocalDateTime hotFrom, Pageable pageable);
 
     // ========================================
     // RECIPIENT QUERIES
@@ -152,6 +161,17 @@ public interface EmailNotificationRepository extends JpaRepository<EmailNotifica
      */
     long countByNotificationTypeAndStatus(NotificationType notificationType, EmailNotificationStatus status);
 
+    /**
+     * Count notifications of a related entity grouped by status (broadcast progress)
+     * Returns rows of [status, count]
+     */
+    @Query("SELECT e.status, COUNT(e) FROM EmailNotification e " +
+           "WHERE e.entityType = :entityType AND e.entityId = :entityId GROUP BY e.status")
+    List<Object[]> countByEntityGroupedByStatus(
+        @Param("entityType") String entityType,
+        @Param("entityId") UUID entityId
+    );
+
     // ========================================
     // COMBINED FILTER QUERIES
     // ========================================
@@ -176,16 +196,37 @@ public interface EmailNotificationRepository extends JpaRepository<EmailNotifica
     );
 
     // ========================================
-    // CLEANUP QUERIES
+    // PARTITION MAINTENANCE
     // ========================================
 
     /**
-     * Delete old notifications (for data retention)
+     * Create missing monthly partitions from the current month through monthsAhead months ahead
+     *
+     * @return Number of partitions created
+     */
+    @Transactional
+    @Query(value = "SELECT ensure_monthly_partitions('email_notifications', CURRENT_DATE, :monthsAhead)",
+           nativeQuery = true)
+    int createUpcomingPartitions(@Param("monthsAhead") int monthsAhead);
+
+    /**
+     * Retention: detach (and unless detachOnly, drop) monthly partitions lying entirely
+     * before the cutoff. Rows in the partition holding the cutoff are kept until the
+     * whole month has expired.
+     *
+     * @return Number of partitions removed
      */
-    void deleteByCreatedAtBefore(LocalDateTime cutoffDate);
+    @Transactional
+    @Query(value = "SELECT drop_monthly_partitions_before('email_notifications', :cutoff, :detachOnly)",
+           nativeQuery = true)
+    int dropPartitionsBefore(@Param("cutoff") LocalDateTime cutoff, @Param("detachOnly") boolean detachOnly);
 
     /**
-     * Find old notifications for archival
+     * Keep the queue indexes on partitions from hotFrom onwards and drop them from older ones
+     *
+     * @return Number of hot partitions
      */
-    List<EmailNotification> findByCreatedAtBefore(LocalDateTime cutoffDate);
+    @Transactional
+    @Query(value = "SELECT refresh_email_queue_indexes(CAST(:hotFrom AS date))", nativeQuery = true)
+    int refreshQueueIndexes(@Param("hotFrom") LocalDateTime hotFrom);
 }
@@ -1,12 +1,16 @@
 package com.ultrabms.repository;
 
+import com.ultrabms.dto.expenses.ExpenseExportRow;
 import com.ultrabms.entity.Expense;
 import com.ultrabms.entity.enums.ExpenseCategory;
 import com.ultrabms.entity.enums.ExpensePaymentStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -15,6 +19,7 @@ import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 /**
  * Repository interface for Expense entity.
@@ -208,6 +213,51 @@ public interface ExpenseRepository extends JpaRepository<Expense, UUID> {
             @Param("toDate") LocalDate toDate,
             Pageable pageable);
 
+    // =================================================================
+    // EXPORT STREAMS
+    // =================================================================
+
+    /**
+     * Stream non-deleted expenses as flat export rows with the same filters as
+     * {@link #searchWithFilters}. Rows are read through a server-side cursor (fetch size 500)
+     * and are not managed entities; the stream must be consumed and closed inside a transaction.
+     *
+     * @param searchTerm    Search term for expense number or description
+     * @param category      Expense category (optional)
+     * @param paymentStatus Payment status (optional)
+     * @param propertyId    Property UUID (optional)
+     * @param vendorId      Vendor UUID (optional)
+     * @param workOrderId   Work order UUID (optional)
+     * @param fromDate      Start date range (optional)
+     * @param toDate        End date range (optional)
+     * @return Stream of export rows ordered by expense date desc
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT new com.ultrabms.dto.expenses.ExpenseExportRow(" +
+            "e.expenseNumber, e.expenseDate, e.category, e.description, p.name, v.companyName, " +
+            "e.amount, e.paymentStatus, e.paymentMethod, e.paymentDate) " +
+            "FROM Expense e LEFT JOIN e.property p LEFT JOIN e.vendor v WHERE e.isDeleted = false AND " +
+            "(:searchTerm IS NULL OR :searchTerm = '' OR " +
+            "LOWER(e.expenseNumber) LIKE LOWER(CONCAT('%', :searchTerm, '%')) OR " +
+            "LOWER(e.description) LIKE LOWER(CONCAT('%', :searchTerm, '%'))) AND " +
+            "(:category IS NULL OR e.category = :category) AND " +
+            "(:paymentStatus IS NULL OR e.paymentStatus = :paymentStatus) AND " +
+            "(:propertyId IS NULL OR p.id = :propertyId) AND " +
+            "(:vendorId IS NULL OR v.id = :vendorId) AND " +
+            "(:workOrderId IS NULL OR e.workOrder.id = :workOrderId) AND " +
+            "(:fromDate IS NULL OR e.expenseDate >= :fromDate) AND " +
+            "(:toDate IS NULL OR e.expenseDate <= :toDate) " +
+            "ORDER BY e.expenseDate DESC, e.id DESC")
+    Stream<ExpenseExportRow> streamForExport(
+            @Param("searchTerm") String searchTerm,
+            @Param("category") ExpenseCategory category,
+            @Param("paymentStatus") ExpensePaymentStatus paymentStatus,
+            @Param("propertyId") UUID propertyId,
+            @Param("vendorId") UUID vendorId,
+            @Param("workOrderId") UUID workOrderId,
+            @Param("fromDate") LocalDate fromDate,
+            @Param("toDate") LocalDate toDate);
+
     // =================================================================
     // DATE RANGE QUERIES
     // =================================================================
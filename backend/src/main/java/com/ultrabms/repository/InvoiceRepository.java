@@ -1,19 +1,25 @@
 package com.ultrabms.repository;
 
+import com.ultrabms.dto.invoices.InvoiceExportRow;
 import com.ultrabms.entity.Invoice;
 import com.ultrabms.entity.enums.InvoiceStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 /**
  * Repository interface for Invoice entity.
@@ -142,18 +148,18 @@ public interface InvoiceRepository extends JpaRepository<Invoice, UUID> {
      *
      * @param today    Current date
      * @param statuses Status list (SENT, PARTIALLY_PAID)
-     * @return List of overdue invoices
+     * @return List of overdue invoices (tenant, property and unit fetched for notifications)
      */
-    @Query("SELECT i FROM Invoice i WHERE i.status IN :statuses AND i.dueDate < :today")
+    @Query("SELECT i FROM Invoice i JOIN FETCH i.tenant JOIN FETCH i.property JOIN FETCH i.unit WHERE i.status IN :statuses AND i.dueDate < :today")
     List<Invoice> findOverdueInvoices(@Param("today") LocalDate today, @Param("statuses") List<InvoiceStatus> statuses);
 
     /**
      * Find overdue invoices where late fee hasn't been applied yet
      *
      * @param today Current date
-     * @return List of invoices needing late fee
+     * @return List of invoices needing late fee (tenant, property and unit fetched for notifications)
      */
-    @Query("SELECT i FROM Invoice i WHERE i.status = 'OVERDUE' AND i.lateFeeApplied = false AND i.dueDate < :today")
+    @Query("SELECT i FROM Invoice i JOIN FETCH i.tenant JOIN FETCH i.property JOIN FETCH i.unit WHERE i.status = 'OVERDUE' AND i.lateFeeApplied = false AND i.dueDate < :today")
     List<Invoice> findOverdueInvoicesWithoutLateFee(@Param("today") LocalDate today);
 
     /**
@@ -213,6 +219,118 @@ public interface InvoiceRepository extends JpaRepository<Invoice, UUID> {
             @Param("toDate") LocalDate toDate,
             Pageable pageable);
 
+    /**
+     * First keyset (cursor) page of invoices with optional filters, newest first.
+     * Reads the head of the (created_at DESC, id DESC) index and returns a List so no
+     * COUNT query is issued. Request size + 1 rows through {@code pageable} (page 0,
+     * unsorted) to learn whether another page exists.
+     *
+     * @param searchTerm Search in invoice number, tenant name (optional)
+     * @param status     Invoice status (optional)
+     * @param propertyId Property UUID (optional)
+     * @param tenantId   Tenant UUID (optional)
+     * @param fromDate   Start date range (optional)
+     * @param toDate     End date range (optional)
+     * @param pageable   Limit only
+     * @return Invoices ordered by createdAt DESC, id DESC
+     */
+    @Query("SELECT i FROM Invoice i WHERE " +
+            "(:searchTerm IS NULL OR :searchTerm = '' OR " +
+            "LOWER(i.invoiceNumber) LIKE LOWER(CONCAT('%', :searchTerm, '%')) OR " +
+            "LOWER(i.tenant.fullName) LIKE LOWER(CONCAT('%', :searchTerm, '%'))) AND " +
+            "(:status IS NULL OR i.status = :status) AND " +
+            "(:propertyId IS NULL OR i.property.id = :propertyId) AND " +
+            "(:tenantId IS NULL OR i.tenant.id = :tenantId) AND " +
+            "(:fromDate IS NULL OR i.invoiceDate >= :fromDate) AND " +
+            "(:toDate IS NULL OR i.invoiceDate <= :toDate) " +
+            "ORDER BY i.createdAt DESC, i.id DESC")
+    List<Invoice> findFirstPageByKeyset(
+            @Param("searchTerm") String searchTerm,
+            @Param("status") InvoiceStatus status,
+            @Param("propertyId") UUID propertyId,
+            @Param("tenantId") UUID tenantId,
+            @Param("fromDate") LocalDate fromDate,
+            @Param("toDate") LocalDate toDate,
+            Pageable pageable);
+
+    /**
+     * Keyset (cursor) page of invoices after the given row, newest first.
+     * The row-value comparison (created_at, id) &lt; (cursor) is an index range condition
+     * on (created_at DESC, id DESC), so every page starts with an index seek instead of
+     * walking and filtering the rows before the cursor.
+     *
+     * @param searchTerm      Search in invoice number, tenant name (optional)
+     * @param status          Invoice status (optional)
+     * @param propertyId      Property UUID (optional)
+     * @param tenantId        Tenant UUID (optional)
+     * @param fromDate        Start date range (optional)
+     * @param toDate          End date range (optional)
+     * @param cursorCreatedAt Created-at of the last row of the previous page
+     * @param cursorId        ID of the last row of the previous page
+     * @param pageable        Limit only
+     * @return Invoices ordered by createdAt DESC, id DESC
+     */
+    @Query("SELECT i FROM Invoice i WHERE " +
+            "(:searchTerm IS NULL OR :searchTerm = '' OR " +
+            "LOWER(i.invoiceNumber) LIKE LOWER(CONCAT('%', :searchTerm, '%')) OR " +
+            "LOWER(i.tenant.fullName) LIKE LOWER(CONCAT('%', :searchTerm, '%'))) AND " +
+            "(:status IS NULL OR i.status = :status) AND " +
+            "(:propertyId IS NULL OR i.property.id = :propertyId) AND " +
+            "(:tenantId IS NULL OR i.tenant.id = :tenantId) AND " +
+            "(:fromDate IS NULL OR i.invoiceDate >= :fromDate) AND " +
+            "(:toDate IS NULL OR i.invoiceDate <= :toDate) AND " +
+            "(i.createdAt, i.id) < (:cursorCreatedAt, :cursorId) " +
+            "ORDER BY i.createdAt DESC, i.id DESC")
+    List<Invoice> findPageAfterKeyset(
+            @Param("searchTerm") String searchTerm,
+            @Param("status") InvoiceStatus status,
+            @Param("propertyId") UUID propertyId,
+            @Param("tenantId") UUID tenantId,
+            @Param("fromDate") LocalDate fromDate,
+            @Param("toDate") LocalDate toDate,
+            @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+            @Param("cursorId") UUID cursorId,
+            Pageable pageable);
+
+    // =================================================================
+    // EXPORT STREAMS
+    // =================================================================
+
+    /**
+     * Stream invoices as flat export rows with the same filters as {@link #searchWithFilters}.
+     * Rows are read through a server-side cursor (fetch size 500) and are not managed
+     * entities; the stream must be consumed and closed inside a transaction.
+     *
+     * @param searchTerm Search in invoice number, tenant name (optional)
+     * @param status     Invoice status (optional)
+     * @param propertyId Property UUID (optional)
+     * @param tenantId   Tenant UUID (optional)
+     * @param fromDate   Start date range (optional)
+     * @param toDate     End date range (optional)
+     * @return Stream of export rows ordered by invoice date desc
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT new com.ultrabms.dto.invoices.InvoiceExportRow(" +
+            "i.invoiceNumber, i.invoiceDate, i.dueDate, i.status, t.fullName, p.name, u.unitNumber, " +
+            "i.baseRent, i.serviceCharges, i.parkingFees, i.lateFee, i.totalAmount, i.paidAmount, i.balanceAmount) " +
+            "FROM Invoice i JOIN i.tenant t LEFT JOIN i.property p LEFT JOIN i.unit u WHERE " +
+            "(:searchTerm IS NULL OR :searchTerm = '' OR " +
+            "LOWER(i.invoiceNumber) LIKE LOWER(CONCAT('%', :searchTerm, '%')) OR " +
+            "LOWER(t.fullName) LIKE LOWER(CONCAT('%', :searchTerm, '%'))) AND " +
+            "(:status IS NULL OR i.status = :status) AND " +
+            "(:propertyId IS NULL OR p.id = :propertyId) AND " +
+            "(:tenantId IS NULL OR t.id = :tenantId) AND " +
+            "(:fromDate IS NULL OR i.invoiceDate >= :fromDate) AND " +
+            "(:toDate IS NULL OR i.invoiceDate <= :toDate) " +
+            "ORDER BY i.invoiceDate DESC, i.id DESC")
+    Stream<InvoiceExportRow> streamForExport(
+            @Param("searchTerm") String searchTerm,
+            @Param("status") InvoiceStatus status,
+            @Param("propertyId") UUID propertyId,
+            @Param("tenantId") UUID tenantId,
+            @Param("fromDate") LocalDate fromDate,
+            @Param("toDate") LocalDate toDate);
+
     // =================================================================
     // DATE RANGE QUERIES
     // =================================================================
@@ -371,9 +489,9 @@ public interface InvoiceRepository extends JpaRepository<Invoice, UUID> {
      *
      * @param reminderDate Date to check
      * @param statuses     Valid statuses (SENT, PARTIALLY_PAID)
-     * @return List of invoices due on the reminder date
+     * @return List of invoices due on the reminder date (tenant, property and unit fetched for notifications)
      */
-    @Query("SELECT i FROM Invoice i WHERE i.dueDate = :reminderDate AND i.status IN :statuses")
+    @Query("SELECT i FROM Invoice i JOIN FETCH i.tenant JOIN FETCH i.property JOIN FETCH i.unit WHERE i.dueDate = :reminderDate AND i.status IN :statuses")
     List<Invoice> findInvoicesForReminder(@Param("reminderDate") LocalDate reminderDate, @Param("statuses") List<InvoiceStatus> statuses);
 
     /**
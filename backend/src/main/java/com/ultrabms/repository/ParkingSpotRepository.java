@@ -169,25 +169,26 @@ public interface ParkingSpotRepository extends JpaRepository<ParkingSpot, UUID>,
             Pageable pageable);
 
     /**
-     * Count parking spots by status
-     * Uses native query with explicit cast for PostgreSQL enum compatibility
+     * Count active parking spots grouped by status (all properties)
      *
-     * @param status Parking spot status name (use ParkingSpotStatus.name())
-     * @return Count of spots with given status
+     * @return List of [ParkingSpotStatus, Long count]; statuses without spots are absent
      */
-    @Query(value = "SELECT COUNT(*) FROM parking_spots WHERE status = CAST(:status AS parking_spot_status) AND active = true", nativeQuery = true)
-    long countByStatusAndActiveTrue(@Param("status") String status);
+    @Query("SELECT ps.status, COUNT(ps) FROM ParkingSpot ps " +
+           "WHERE ps.active = true " +
+           "GROUP BY ps.status")
+    List<Object[]> countActiveGroupedByStatus();
 
     /**
-     * Count parking spots by property and status
-     * Uses native query with explicit cast for PostgreSQL enum compatibility
+     * Count active parking spots of a property grouped by status
      *
      * @param propertyId Property UUID
-     * @param status Parking spot status name (use ParkingSpotStatus.name())
-     * @return Count of spots
+     * @return List of [ParkingSpotStatus, Long count]; statuses without spots are absent
      */
-    @Query(value = "SELECT COUNT(*) FROM parking_spots WHERE property_id = :propertyId AND status = CAST(:status AS parking_spot_status) AND active = true", nativeQuery = true)
-    long countByPropertyIdAndStatusAndActiveTrue(@Param("propertyId") UUID propertyId, @Param("status") String status);
+    @Query("SELECT ps.status, COUNT(ps) FROM ParkingSpot ps " +
+           "WHERE ps.active = true " +
+           "AND ps.property.id = :propertyId " +
+           "GROUP BY ps.status")
+    List<Object[]> countActiveByPropertyIdGroupedByStatus(@Param("propertyId") UUID propertyId);
 
     /**
      * Count all active parking spots for a property
@@ -216,4 +217,51 @@ public interface ParkingSpotRepository extends JpaRepository<ParkingSpot, UUID>,
      * @return List of parking spots
      */
     List<ParkingSpot> findByIdInAndActiveTrue(List<UUID> ids);
+
+    // =================================================================
+    // SET-BASED BULK UPDATES
+    // =================================================================
+    // Each statement updates every matching row in one round trip and returns
+    // the ids it changed. Rows are not loaded into the persistence context, so
+    // updated_at and version are maintained in SQL.
+
+    /**
+     * Soft delete active, unassigned parking spots
+     *
+     * @param ids Parking spot UUIDs
+     * @return IDs of the spots that were deleted
+     */
+    @Query(value = "UPDATE parking_spots SET active = false, " +
+            "updated_at = CURRENT_TIMESTAMP, version = version + 1 " +
+            "WHERE id IN (:ids) AND active = true " +
+            "AND status <> CAST('ASSIGNED' AS parking_spot_status) " +
+            "RETURNING id", nativeQuery = true)
+    List<UUID> softDeleteUnassigned(@Param("ids") List<UUID> ids);
+
+    /**
+     * Change the status of active, unassigned parking spots
+     *
+     * @param ids Parking spot UUIDs
+     * @param status Target status name (use ParkingSpotStatus.name(), never ASSIGNED)
+     * @return IDs of the spots whose status was changed
+     */
+    @Query(value = "UPDATE parking_spots SET status = CAST(:status AS parking_spot_status), " +
+            "updated_at = CURRENT_TIMESTAMP, version = version + 1 " +
+            "WHERE id IN (:ids) AND active = true " +
+            "AND status <> CAST('ASSIGNED' AS parking_spot_status) " +
+            "RETURNING id", nativeQuery = true)
+    List<UUID> changeStatusOfUnassigned(@Param("ids") List<UUID> ids, @Param("status") String status);
+
+    /**
+     * Release all active parking spots assigned to a tenant (tenant checkout)
+     *
+     * @param tenantId Tenant UUID
+     * @return IDs of the released spots
+     */
+    @Query(value = "UPDATE parking_spots SET status = CAST('AVAILABLE' AS parking_spot_status), " +
+            "assigned_tenant_id = NULL, assigned_at = NULL, assigned_until = NULL, " +
+            "updated_at = CURRENT_TIMESTAMP, version = version + 1 " +
+            "WHERE assigned_tenant_id = :tenantId AND active = true " +
+            "RETURNING id", nativeQuery = true)
+    List<UUID> releaseAllByTenantId(@Param("tenantId") UUID tenantId);
 }
@@ -1,11 +1,15 @@
 package com.ultrabms.repository;
 
+import com.ultrabms.dto.invoices.PaymentExportRow;
 import com.ultrabms.entity.Payment;
 import com.ultrabms.entity.enums.PaymentMethod;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -14,6 +18,7 @@ import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 /**
  * Repository interface for Payment entity.
@@ -211,6 +216,39 @@ public interface PaymentRepository extends JpaRepository<Payment, UUID> {
             @Param("toDate") LocalDate toDate,
             Pageable pageable);
 
+    // =================================================================
+    // EXPORT STREAMS
+    // =================================================================
+
+    /**
+     * Stream payments as flat export rows with the same filters as {@link #searchWithFilters}.
+     * Rows are read through a server-side cursor (fetch size 500) and are not managed
+     * entities; the stream must be consumed and closed inside a transaction.
+     *
+     * @param invoiceId     Invoice UUID (optional)
+     * @param tenantId      Tenant UUID (optional)
+     * @param paymentMethod Payment method (optional)
+     * @param fromDate      Start date (optional)
+     * @param toDate        End date (optional)
+     * @return Stream of export rows ordered by payment date desc
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT new com.ultrabms.dto.invoices.PaymentExportRow(" +
+            "p.paymentNumber, p.paymentDate, inv.invoiceNumber, t.fullName, p.amount, p.paymentMethod, p.transactionReference) " +
+            "FROM Payment p JOIN p.invoice inv JOIN p.tenant t WHERE " +
+            "(:invoiceId IS NULL OR inv.id = :invoiceId) AND " +
+            "(:tenantId IS NULL OR t.id = :tenantId) AND " +
+            "(:paymentMethod IS NULL OR p.paymentMethod = :paymentMethod) AND " +
+            "(:fromDate IS NULL OR p.paymentDate >= :fromDate) AND " +
+            "(:toDate IS NULL OR p.paymentDate <= :toDate) " +
+            "ORDER BY p.paymentDate DESC, p.id DESC")
+    Stream<PaymentExportRow> streamForExport(
+            @Param("invoiceId") UUID invoiceId,
+            @Param("tenantId") UUID tenantId,
+            @Param("paymentMethod") PaymentMethod paymentMethod,
+            @Param("fromDate") LocalDate fromDate,
+            @Param("toDate") LocalDate toDate);
+
     // =================================================================
     // ANALYTICS AND COUNTS
     // =================================================================
@@ -2,8 +2,13 @@ package com.ultrabms.repository;
 
 import com.ultrabms.entity.PropertyImage;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -18,6 +23,11 @@ public interface PropertyImageRepository extends JpaRepository<PropertyImage, UU
      */
     List<PropertyImage> findByPropertyIdOrderByDisplayOrderAsc(UUID propertyId);
 
+    /**
+     * Find all images for a page of properties, ordered by display order
+     */
+    List<PropertyImage> findByPropertyIdInOrderByDisplayOrderAsc(Collection<UUID> propertyIds);
+
     /**
      * Count images for a property
      */
@@ -27,4 +37,15 @@ public interface PropertyImageRepository extends JpaRepository<PropertyImage, UU
      * Delete all images for a property
      */
     void deleteByPropertyId(UUID propertyId);
+
+    /**
+     * Record the generated thumbnail and medium variant keys of an image
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "UPDATE property_images SET thumbnail_path = :thumbnailPath, medium_path = :mediumPath " +
+            "WHERE id = :id", nativeQuery = true)
+    int updateVariantPaths(@Param("id") UUID id,
+                           @Param("thumbnailPath") String thumbnailPath,
+                           @Param("mediumPath") String mediumPath);
 }
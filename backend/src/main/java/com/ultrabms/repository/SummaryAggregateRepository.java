@@ -0,0 +1,180 @@
+package com.ultrabms.repository;
+
+import com.ultrabms.entity.enums.UnitStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Repository interface for multi-metric summary aggregations.
+ * Each method computes all KPIs of a summary card in a single table scan
+ * (GROUP BY / FILTER (WHERE ...)) instead of one round trip per metric.
+ */
+public interface SummaryAggregateRepository {
+
+    // =================================================================
+    // UNIT STATUS DISTRIBUTION
+    // =================================================================
+
+    /**
+     * Count units of a property grouped by status.
+     * Every UnitStatus is present in the result (zero when no unit has it).
+     *
+     * @param propertyId Property UUID
+     * @return Map of status to unit count
+     */
+    Map<UnitStatus, Long> getUnitStatusCounts(UUID propertyId);
+
+    /**
+     * Count units grouped by property and status for a page of properties.
+     * Every requested property is present in the result with every UnitStatus.
+     *
+     * @param propertyIds Property UUIDs
+     * @return Map of property ID to status counts
+     */
+    Map<UUID, Map<UnitStatus, Long>> getUnitStatusCountsByProperty(Collection<UUID> propertyIds);
+
+    // =================================================================
+    // EXPENSE SUMMARY
+    // =================================================================
+
+    /**
+     * Get expense totals and counts for the summary dashboard in one scan
+     * over non-deleted expenses.
+     *
+     * @param fromDate Start date
+     * @param toDate   End date
+     * @return Expense totals
+     */
+    ExpenseTotals getExpenseTotals(LocalDate fromDate, LocalDate toDate);
+
+    // =================================================================
+    // INVOICE SUMMARY
+    // =================================================================
+
+    /**
+     * Get invoiced, collected and overdue figures in one scan over invoices.
+     *
+     * @param fromDate Start date (invoice date)
+     * @param toDate   End date (invoice date)
+     * @return Invoice totals
+     */
+    InvoiceTotals getInvoiceTotals(LocalDate fromDate, LocalDate toDate);
+
+    // =================================================================
+    // PDC SUMMARY
+    // =================================================================
+
+    /**
+     * Get all PDC dashboard KPIs in one scan over pdcs.
+     *
+     * @param today         Current date
+     * @param weekEnd       End of the due window
+     * @param monthStart    First day of the current month
+     * @param bouncedSince  Start of the recent bounce window
+     * @return PDC dashboard totals
+     */
+    PdcDashboardTotals getPdcDashboardTotals(LocalDate today, LocalDate weekEnd,
+                                             LocalDate monthStart, LocalDate bouncedSince);
+
+    /**
+     * Get PDC history statistics for a tenant in one scan.
+     *
+     * @param tenantId Tenant UUID
+     * @return Tenant PDC totals
+     */
+    TenantPdcTotals getTenantPdcTotals(UUID tenantId);
+
+    // =================================================================
+    // TENANT CHECKOUT
+    // =================================================================
+
+    /**
+     * Get a tenant's outstanding rent and active checkout flag in one query (checkout summary).
+     * Unpaid invoices are those in SENT, OVERDUE or PARTIALLY_PAID status.
+     *
+     * @param tenantId Tenant UUID
+     * @return Tenant outstanding totals
+     */
+    TenantOutstandingTotals getTenantOutstandingTotals(UUID tenantId);
+
+    // =================================================================
+    // RESULT TYPES
+    // =================================================================
+
+    /**
+     * Expense summary figures.
+     */
+    record ExpenseTotals(
+            BigDecimal totalInPeriod,
+            BigDecimal totalPending,
+            BigDecimal totalPaidInPeriod,
+            long pendingCount,
+            long paidCount
+    ) {
+    }
+
+    /**
+     * Invoice summary figures.
+     */
+    record InvoiceTotals(
+            BigDecimal totalInvoiced,
+            BigDecimal totalCollected,
+            BigDecimal totalOverdue,
+            long overdueCount
+    ) {
+    }
+
+    /**
+     * PDC dashboard figures.
+     */
+    record PdcDashboardTotals(
+            long receivedCount,
+            long dueThisWeekCount,
+            BigDecimal dueThisWeekValue,
+            long depositedInPeriodCount,
+            BigDecimal depositedInPeriodValue,
+            BigDecimal outstandingValue,
+            long recentlyBouncedCount,
+            long clearedCount,
+            long bouncedCount
+    ) {
+        /**
+         * Bounce rate over all processed (cleared + bounced) cheques, as a percentage.
+         */
+        public double bounceRatePercent() {
+            long processed = clearedCount + bouncedCount;
+            return processed > 0 ? (double) bouncedCount / processed * 100 : 0;
+        }
+    }
+
+    /**
+     * Tenant outstanding figures for the checkout summary.
+     */
+    record TenantOutstandingTotals(
+            BigDecimal totalOutstandingRent,
+            boolean hasActiveCheckout
+    ) {
+    }
+
+    /**
+     * Tenant PDC history figures.
+     */
+    record TenantPdcTotals(
+            long totalCount,
+            long clearedCount,
+            long bouncedCount,
+            long pendingCount
+    ) {
+        /**
+         * Bounce rate: (bounced / (cleared + bounced)) * 100, 0 when nothing was processed.
+         */
+        public double bounceRatePercent() {
+            long processed = clearedCount + bouncedCount;
+            return processed > 0 ? bouncedCount * 100.0 / processed : 0.0;
+        }
+    }
+}
@@ -5,9 +5,11 @@ import com.ultrabms.entity.enums.CheckoutStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -188,4 +190,33 @@ public interface TenantCheckoutRepository extends JpaRepository<TenantCheckout,
             @Param("startDate") java.time.LocalDateTime startDate,
             @Param("endDate") java.time.LocalDateTime endDate
     );
+
+    /**
+     * Merge generated inspection photo variant keys into the checkout's photo_variants map.
+     *
+     * @param id           Checkout UUID
+     * @param variantsJson JSON object of original key to {thumbnail, medium} keys
+     * @return Number of rows updated
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "UPDATE tenant_checkouts SET photo_variants = COALESCE(photo_variants, CAST('{}' AS jsonb)) " +
+           "|| CAST(:variants AS jsonb) WHERE id = :id", nativeQuery = true)
+    int mergePhotoVariants(@Param("id") UUID id, @Param("variants") String variantsJson);
+
+    /**
+     * Append inspection photo metadata to the checkout's inspection_photos array in place,
+     * without reading or rewriting the existing entries. Bumps the version so a stale
+     * entity save cannot silently drop the appended photos.
+     *
+     * @param id         Checkout UUID
+     * @param photosJson JSON array of photo metadata objects
+     * @return Number of rows updated
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "UPDATE tenant_checkouts SET inspection_photos = COALESCE(inspection_photos, CAST('[]' AS jsonb)) " +
+           "|| CAST(:photos AS jsonb), updated_at = CURRENT_TIMESTAMP, version = version + 1 WHERE id = :id",
+           nativeQuery = true)
+    int appendInspectionPhotos(@Param("id") UUID id, @Param("photos") String photosJson);
 }
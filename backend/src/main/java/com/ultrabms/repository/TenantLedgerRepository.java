@@ -0,0 +1,38 @@
+package com.ultrabms.repository;
+
+import com.ultrabms.entity.TenantLedger;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.UUID;
+
+/**
+ * Repository for the TenantLedger projection.
+ * Reads are primary-key lookups; rows are maintained by the refresh_tenant_ledger function.
+ */
+@Repository
+public interface TenantLedgerRepository extends JpaRepository<TenantLedger, UUID> {
+
+    /**
+     * Recompute the ledger rows of the given tenants.
+     *
+     * @param tenantIds comma-separated tenant UUIDs
+     * @return number of rows refreshed
+     */
+    @Transactional
+    @Query(value = "SELECT refresh_tenant_ledger(CAST(string_to_array(:tenantIds, ',') AS uuid[]))",
+           nativeQuery = true)
+    int refresh(@Param("tenantIds") String tenantIds);
+
+    /**
+     * Recompute the ledger rows of every tenant.
+     *
+     * @return number of rows refreshed
+     */
+    @Transactional
+    @Query(value = "SELECT refresh_tenant_ledger(ARRAY(SELECT id FROM tenants))", nativeQuery = true)
+    int refreshAll();
+}
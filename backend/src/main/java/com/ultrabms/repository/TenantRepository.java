@@ -1,5 +1,6 @@
 package com.ultrabms.repository;
 
+import com.ultrabms.dto.announcements.AnnouncementRecipient;
 import com.ultrabms.entity.Tenant;
 import com.ultrabms.entity.enums.TenantStatus;
 import org.springframework.data.domain.Page;
@@ -10,6 +11,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -81,6 +83,23 @@ public interface TenantRepository extends JpaRepository<Tenant, UUID> {
      */
     Page<Tenant> findByStatusAndActive(TenantStatus status, Boolean active, Pageable pageable);
 
+    /**
+     * Find the next chunk of active tenants to receive an announcement, ordered by ID.
+     * Keyset pagination: pass the last ID of the previous chunk (or the nil UUID for
+     * the first chunk) so each chunk is an index range scan regardless of position.
+     *
+     * @param status   Tenant status
+     * @param afterId  Last tenant ID of the previous chunk
+     * @param pageable Chunk size (page number must be 0)
+     * @return Recipients with ID, name and email only
+     */
+    @Query("SELECT new com.ultrabms.dto.announcements.AnnouncementRecipient(t.id, t.fullName, t.email) " +
+           "FROM Tenant t WHERE t.status = :status AND t.active = true AND t.id > :afterId ORDER BY t.id")
+    List<AnnouncementRecipient> findAnnouncementRecipients(
+            @Param("status") TenantStatus status,
+            @Param("afterId") UUID afterId,
+            Pageable pageable);
+
     /**
      * Find tenants with expiring leases (within specified days)
      *
@@ -165,4 +184,84 @@ public interface TenantRepository extends JpaRepository<Tenant, UUID> {
      * @return List of tenants
      */
     List<Tenant> findByQuotationId(UUID quotationId);
+
+    /**
+     * Find tenants by ID with property and unit loaded (for emails sent off the request thread)
+     *
+     * @param ids Tenant UUIDs
+     * @return List of tenants
+     */
+    @Query("SELECT t FROM Tenant t LEFT JOIN FETCH t.property LEFT JOIN FETCH t.unit WHERE t.id IN :ids")
+    List<Tenant> findAllWithPropertyAndUnitByIdIn(@Param("ids") Collection<UUID> ids);
+
+    // =================================================================
+    // LEASE LIFECYCLE (SET-BASED)
+    // =================================================================
+    // Each statement updates every matching tenant in one round trip and returns
+    // what it changed. Rows are not loaded into the persistence context, so
+    // updated_at and version are maintained in SQL.
+
+    /**
+     * Move active tenants whose lease has ended to EXPIRED, and ACTIVE tenants whose
+     * lease ends within the horizon to EXPIRING_SOON
+     *
+     * @param today   Current date
+     * @param horizon Last lease end date counted as expiring soon
+     * @return IDs and new statuses of the tenants that changed
+     */
+    @Query(value = "UPDATE tenants SET " +
+            "status = CASE WHEN lease_end_date < :today THEN 'EXPIRED' ELSE 'EXPIRING_SOON' END, " +
+            "updated_at = CURRENT_TIMESTAMP, version = version + 1 " +
+            "WHERE active = true AND (" +
+            "(status IN ('ACTIVE', 'EXPIRING_SOON') AND lease_end_date < :today) " +
+            "OR (status = 'ACTIVE' AND lease_end_date BETWEEN :today AND :horizon)) " +
+            "RETURNING id, status", nativeQuery = true)
+    List<LeaseStatusChange> transitionLeaseStatuses(@Param("today") LocalDate today,
+                                                    @Param("horizon") LocalDate horizon);
+
+    /**
+     * Flag active tenants due a 60, 30 or 14 day lease expiry reminder that has not been sent.
+     * The threshold of each tenant is computed in the same statement (lease ends in 59-60,
+     * 29-30 or 13-14 days), and only the matching notified flag is set.
+     *
+     * @param today Current date
+     * @return IDs and reminder thresholds of the tenants that were flagged
+     */
+    @Query(value = "WITH due AS (" +
+            "SELECT id, CASE " +
+            "WHEN lease_end_date - CAST(:today AS date) BETWEEN 13 AND 14 " +
+            "AND NOT COALESCE(expiry_14_day_notified, false) THEN 14 " +
+            "WHEN lease_end_date - CAST(:today AS date) BETWEEN 29 AND 30 " +
+            "AND NOT COALESCE(expiry_30_day_notified, false) THEN 30 " +
+            "WHEN lease_end_date - CAST(:today AS date) BETWEEN 59 AND 60 " +
+            "AND NOT COALESCE(expiry_60_day_notified, false) THEN 60 " +
+            "END AS threshold " +
+            "FROM tenants WHERE active = true AND status IN ('ACTIVE', 'EXPIRING_SOON') " +
+            "AND lease_end_date BETWEEN CAST(:today AS date) + 13 AND CAST(:today AS date) + 60) " +
+            "UPDATE tenants t SET " +
+            "expiry_14_day_notified = COALESCE(t.expiry_14_day_notified, false) OR due.threshold = 14, " +
+            "expiry_30_day_notified = COALESCE(t.expiry_30_day_notified, false) OR due.threshold = 30, " +
+            "expiry_60_day_notified = COALESCE(t.expiry_60_day_notified, false) OR due.threshold = 60, " +
+            "updated_at = CURRENT_TIMESTAMP, version = t.version + 1 " +
+            "FROM due WHERE t.id = due.id AND due.threshold IS NOT NULL " +
+            "RETURNING t.id AS id, due.threshold AS threshold", nativeQuery = true)
+    List<LeaseReminderDue> flagDueLeaseReminders(@Param("today") LocalDate today);
+
+    /**
+     * Tenant whose status was changed by {@link #transitionLeaseStatuses}
+     */
+    interface LeaseStatusChange {
+        UUID getId();
+
+        String getStatus();
+    }
+
+    /**
+     * Tenant flagged by {@link #flagDueLeaseReminders}
+     */
+    interface LeaseReminderDue {
+        UUID getId();
+
+        Integer getThreshold();
+    }
 }
@@ -130,6 +130,24 @@ public interface VendorRatingRepository extends JpaRepository<VendorRating, UUID
     @Query("SELECT AVG(vr.professionalismScore) FROM VendorRating vr WHERE vr.vendor.id = :vendorId")
     Double calculateAverageProfessionalismScoreByVendorId(@Param("vendorId") UUID vendorId);
 
+    /**
+     * Get all rating averages and the star distribution for a vendor in one pass.
+     *
+     * @param vendorId UUID of the vendor
+     * @return Single row [avgOverall, avgQuality, avgTimeliness, avgCommunication, avgProfessionalism,
+     *         fiveStar, fourStar, threeStar, twoStar, oneStar]
+     */
+    @Query(value = "SELECT AVG(vr.overall_score), AVG(vr.quality_score), AVG(vr.timeliness_score), " +
+            "AVG(vr.communication_score), AVG(vr.professionalism_score), " +
+            "COUNT(*) FILTER (WHERE vr.overall_score >= 4.5), " +
+            "COUNT(*) FILTER (WHERE vr.overall_score >= 3.5 AND vr.overall_score < 4.5), " +
+            "COUNT(*) FILTER (WHERE vr.overall_score >= 2.5 AND vr.overall_score < 3.5), " +
+            "COUNT(*) FILTER (WHERE vr.overall_score >= 1.5 AND vr.overall_score < 2.5), " +
+            "COUNT(*) FILTER (WHERE vr.overall_score >= 1.0 AND vr.overall_score < 1.5) " +
+            "FROM vendor_ratings vr WHERE vr.vendor_id = :vendorId",
+            nativeQuery = true)
+    List<Object[]> getRatingStatisticsByVendorId(@Param("vendorId") UUID vendorId);
+
     // =================================================================
     // RATING DISTRIBUTION
     // =================================================================
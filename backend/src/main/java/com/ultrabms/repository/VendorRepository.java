@@ -5,6 +5,7 @@ import com.ultrabms.entity.enums.VendorStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -308,4 +309,60 @@ public interface VendorRepository extends JpaRepository<Vendor, UUID> {
             @Param("status") VendorStatus status,
             @Param("categoryJson") String categoryJson,
             Pageable pageable);
+
+    // =================================================================
+    // RATING AGGREGATES (Story 5.3)
+    // =================================================================
+
+    /**
+     * Recalculate rating and completed-job aggregates for all non-deleted vendors
+     * in a single set-based pass over vendor_ratings and work_orders.
+     * Only vendors whose aggregates actually changed are written.
+     *
+     * @return Number of vendors updated
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "WITH rating_agg AS (" +
+            "    SELECT vr.vendor_id, ROUND(AVG(vr.overall_score), 2) AS avg_rating " +
+            "    FROM vendor_ratings vr GROUP BY vr.vendor_id" +
+            "), job_agg AS (" +
+            "    SELECT wo.assigned_to AS vendor_id, COUNT(*) AS jobs_completed " +
+            "    FROM work_orders wo WHERE wo.status = 'COMPLETED' AND wo.assigned_to IS NOT NULL " +
+            "    GROUP BY wo.assigned_to" +
+            "), vendor_agg AS (" +
+            "    SELECT v.id AS vendor_id, " +
+            "           COALESCE(r.avg_rating, 0) AS rating, " +
+            "           COALESCE(j.jobs_completed, 0) AS total_jobs_completed " +
+            "    FROM vendors v " +
+            "    LEFT JOIN rating_agg r ON r.vendor_id = v.id " +
+            "    LEFT JOIN job_agg j ON j.vendor_id = v.id " +
+            "    WHERE v.is_deleted = false" +
+            ") " +
+            "UPDATE vendors v SET rating = a.rating, " +
+            "    total_jobs_completed = a.total_jobs_completed, " +
+            "    updated_at = CURRENT_TIMESTAMP, version = v.version + 1 " +
+            "FROM vendor_agg a " +
+            "WHERE v.id = a.vendor_id " +
+            "AND (v.rating IS DISTINCT FROM a.rating " +
+            "     OR v.total_jobs_completed IS DISTINCT FROM a.total_jobs_completed)",
+            nativeQuery = true)
+    int recalculateAllRatingAggregates();
+
+    /**
+     * Recalculate rating and completed-job aggregates for a single vendor.
+     * Used incrementally when a rating is submitted or updated.
+     *
+     * @param vendorId Vendor UUID
+     * @return Number of vendors updated (0 if the vendor does not exist)
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = "UPDATE vendors v SET " +
+            "    rating = COALESCE((SELECT ROUND(AVG(vr.overall_score), 2) FROM vendor_ratings vr " +
+            "                       WHERE vr.vendor_id = v.id), 0), " +
+            "    total_jobs_completed = (SELECT COUNT(*) FROM work_orders wo " +
+            "                            WHERE wo.assigned_to = v.id AND wo.status = 'COMPLETED'), " +
+            "    updated_at = CURRENT_TIMESTAMP, version = v.version + 1 " +
+            "WHERE v.id = :vendorId",
+            nativeQuery = true)
+    int recalculateRatingAggregates(@Param("vendorId") UUID vendorId);
 }
@@ -1,20 +1,28 @@
 package com.ultrabms.repository;
 
+import com.ultrabms.dto.workorders.WorkOrderExportRow;
 import com.ultrabms.entity.WorkOrder;
 import com.ultrabms.entity.enums.WorkOrderCategory;
 import com.ultrabms.entity.enums.WorkOrderPriority;
 import com.ultrabms.entity.enums.WorkOrderStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 /**
  * Repository interface for WorkOrder entity.
@@ -156,6 +164,148 @@ public interface WorkOrderRepository extends JpaRepository<WorkOrder, UUID> {
             @Param("searchTerm") String searchTerm,
             Pageable pageable);
 
+    /**
+     * First keyset (cursor) page of work orders with optional filters, newest first.
+     * Reads the head of the (created_at DESC, id DESC) index and returns a List so no
+     * COUNT query is issued. Request size + 1 rows through {@code pageable} (page 0,
+     * unsorted) to learn whether another page exists.
+     *
+     * @param propertyId Property UUID (optional)
+     * @param unitId     Unit UUID (optional)
+     * @param assignedTo Assignee UUID (optional)
+     * @param statuses   List of statuses (optional)
+     * @param categories List of categories (optional)
+     * @param priorities List of priorities (optional)
+     * @param startDate  Start date for scheduled date range (optional)
+     * @param endDate    End date for scheduled date range (optional)
+     * @param searchTerm Search term for work order number/title/description (optional)
+     * @param pageable   Limit only
+     * @return Work orders ordered by createdAt DESC, id DESC
+     */
+    @Query("SELECT wo FROM WorkOrder wo WHERE " +
+            "(:#{#propertyId == null} = true OR wo.propertyId = :propertyId) AND " +
+            "(:#{#unitId == null} = true OR wo.unitId = :unitId) AND " +
+            "(:#{#assignedTo == null} = true OR wo.assignedTo = :assignedTo) AND " +
+            "(:#{#statuses == null || #statuses.isEmpty()} = true OR wo.status IN :statuses) AND " +
+            "(:#{#categories == null || #categories.isEmpty()} = true OR wo.category IN :categories) AND " +
+            "(:#{#priorities == null || #priorities.isEmpty()} = true OR wo.priority IN :priorities) AND " +
+            "(:#{#startDate == null} = true OR wo.scheduledDate >= :startDate) AND " +
+            "(:#{#endDate == null} = true OR wo.scheduledDate <= :endDate) AND " +
+            "(:#{#searchTerm == null} = true OR " +
+            "LOWER(wo.workOrderNumber) LIKE LOWER(CAST(:searchTerm AS string)) OR " +
+            "LOWER(wo.title) LIKE LOWER(CAST(:searchTerm AS string)) OR " +
+            "LOWER(wo.description) LIKE LOWER(CAST(:searchTerm AS string))) " +
+            "ORDER BY wo.createdAt DESC, wo.id DESC")
+    List<WorkOrder> findFirstPageByKeyset(
+            @Param("propertyId") UUID propertyId,
+            @Param("unitId") UUID unitId,
+            @Param("assignedTo") UUID assignedTo,
+            @Param("statuses") List<WorkOrderStatus> statuses,
+            @Param("categories") List<WorkOrderCategory> categories,
+            @Param("priorities") List<WorkOrderPriority> priorities,
+            @Param("startDate") LocalDateTime startDate,
+            @Param("endDate") LocalDateTime endDate,
+            @Param("searchTerm") String searchTerm,
+            Pageable pageable);
+
+    /**
+     * Keyset (cursor) page of work orders after the given row, newest first.
+     * The row-value comparison (created_at, id) &lt; (cursor) is an index range condition
+     * on (created_at DESC, id DESC), so every page starts with an index seek instead of
+     * walking and filtering the rows before the cursor.
+     *
+     * @param propertyId      Property UUID (optional)
+     * @param unitId          Unit UUID (optional)
+     * @param assignedTo      Assignee UUID (optional)
+     * @param statuses        List of statuses (optional)
+     * @param categories      List of categories (optional)
+     * @param priorities      List of priorities (optional)
+     * @param startDate       Start date for scheduled date range (optional)
+     * @param endDate         End date for scheduled date range (optional)
+     * @param searchTerm      Search term for work order number/title/description (optional)
+     * @param cursorCreatedAt Created-at of the last row of the previous page
+     * @param cursorId        ID of the last row of the previous page
+     * @param pageable        Limit only
+     * @return Work orders ordered by createdAt DESC, id DESC
+     */
+    @Query("SELECT wo FROM WorkOrder wo WHERE " +
+            "(:#{#propertyId == null} = true OR wo.propertyId = :propertyId) AND " +
+            "(:#{#unitId == null} = true OR wo.unitId = :unitId) AND " +
+            "(:#{#assignedTo == null} = true OR wo.assignedTo = :assignedTo) AND " +
+            "(:#{#statuses == null || #statuses.isEmpty()} = true OR wo.status IN :statuses) AND " +
+            "(:#{#categories == null || #categories.isEmpty()} = true OR wo.category IN :categories) AND " +
+            "(:#{#priorities == null || #priorities.isEmpty()} = true OR wo.priority IN :priorities) AND " +
+            "(:#{#startDate == null} = true OR wo.scheduledDate >= :startDate) AND " +
+            "(:#{#endDate == null} = true OR wo.scheduledDate <= :endDate) AND " +
+            "(:#{#searchTerm == null} = true OR " +
+            "LOWER(wo.workOrderNumber) LIKE LOWER(CAST(:searchTerm AS string)) OR " +
+            "LOWER(wo.title) LIKE LOWER(CAST(:searchTerm AS string)) OR " +
+            "LOWER(wo.description) LIKE LOWER(CAST(:searchTerm AS string))) AND " +
+            "(wo.createdAt, wo.id) < (:cursorCreatedAt, :cursorId) " +
+            "ORDER BY wo.createdAt DESC, wo.id DESC")
+    List<WorkOrder> findPageAfterKeyset(
+            @Param("propertyId") UUID propertyId,
+            @Param("unitId") UUID unitId,
+            @Param("assignedTo") UUID assignedTo,
+            @Param("statuses") List<WorkOrderStatus> statuses,
+            @Param("categories") List<WorkOrderCategory> categories,
+            @Param("priorities") List<WorkOrderPriority> priorities,
+            @Param("startDate") LocalDateTime startDate,
+            @Param("endDate") LocalDateTime endDate,
+            @Param("searchTerm") String searchTerm,
+            @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+            @Param("cursorId") UUID cursorId,
+            Pageable pageable);
+
+    // =================================================================
+    // EXPORT STREAMS
+    // =================================================================
+
+    /**
+     * Stream work orders as flat export rows with the same filters as the list endpoint.
+     * Rows are read through a server-side cursor (fetch size 500) and are not managed
+     * entities; the stream must be consumed and closed inside a transaction.
+     *
+     * @param propertyId Property UUID (optional)
+     * @param unitId     Unit UUID (optional)
+     * @param assignedTo Assignee UUID (optional)
+     * @param statuses   List of statuses (optional)
+     * @param categories List of categories (optional)
+     * @param priorities List of priorities (optional)
+     * @param startDate  Start date for scheduled date range (optional)
+     * @param endDate    End date for scheduled date range (optional)
+     * @param searchTerm Search term for work order number/title/description (optional)
+     * @return Stream of export rows ordered by createdAt DESC, id DESC
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT new com.ultrabms.dto.workorders.WorkOrderExportRow(" +
+            "wo.workOrderNumber, wo.title, wo.category, wo.priority, wo.status, p.name, " +
+            "wo.scheduledDate, wo.completedAt, wo.estimatedCost, wo.actualCost) " +
+            "FROM WorkOrder wo LEFT JOIN Property p ON p.id = wo.propertyId WHERE " +
+            "(:#{#propertyId == null} = true OR wo.propertyId = :propertyId) AND " +
+            "(:#{#unitId == null} = true OR wo.unitId = :unitId) AND " +
+            "(:#{#assignedTo == null} = true OR wo.assignedTo = :assignedTo) AND " +
+            "(:#{#statuses == null || #statuses.isEmpty()} = true OR wo.status IN :statuses) AND " +
+            "(:#{#categories == null || #categories.isEmpty()} = true OR wo.category IN :categories) AND " +
+            "(:#{#priorities == null || #priorities.isEmpty()} = true OR wo.priority IN :priorities) AND " +
+            "(:#{#startDate == null} = true OR wo.scheduledDate >= :startDate) AND " +
+            "(:#{#endDate == null} = true OR wo.scheduledDate <= :endDate) AND " +
+            "(:#{#searchTerm == null} = true OR " +
+            "LOWER(wo.workOrderNumber) LIKE LOWER(CAST(:searchTerm AS string)) OR " +
+            "LOWER(wo.title) LIKE LOWER(CAST(:searchTerm AS string)) OR " +
+            "LOWER(wo.description) LIKE LOWER(CAST(:searchTerm AS string))) " +
+            "ORDER BY wo.createdAt DESC, wo.id DESC")
+    Stream<WorkOrderExportRow> streamForExport(
+            @Param("propertyId") UUID propertyId,
+            @Param("unitId") UUID unitId,
+            @Param("assignedTo") UUID assignedTo,
+            @Param("statuses") List<WorkOrderStatus> statuses,
+            @Param("categories") List<WorkOrderCategory> categories,
+            @Param("priorities") List<WorkOrderPriority> priorities,
+            @Param("startDate") LocalDateTime startDate,
+            @Param("endDate") LocalDateTime endDate,
+            @Param("searchTerm") String searchTerm);
+
     // =================================================================
     // ASSIGNMENT QUERIES
     // =================================================================
@@ -255,6 +405,19 @@ public interface WorkOrderRepository extends JpaRepository<WorkOrder, UUID> {
      */
     boolean existsByPmScheduleId(UUID pmScheduleId);
 
+    /**
+     * Find properties that already have a work order for a PM schedule occurrence.
+     * Used to keep scheduled generation idempotent per schedule and run date.
+     *
+     * @param pmScheduleId PM schedule UUID
+     * @param pmRunDate Schedule occurrence date
+     * @return Property UUIDs already generated for this occurrence
+     */
+    @Query("SELECT wo.propertyId FROM WorkOrder wo WHERE wo.pmScheduleId = :pmScheduleId AND wo.pmRunDate = :pmRunDate")
+    List<UUID> findPropertyIdsByPmScheduleIdAndPmRunDate(
+            @Param("pmScheduleId") UUID pmScheduleId,
+            @Param("pmRunDate") LocalDate pmRunDate);
+
     /**
      * Count overdue work orders from a PM schedule
      *
@@ -390,6 +553,23 @@ public interface WorkOrderRepository extends JpaRepository<WorkOrder, UUID> {
     @Query("SELECT COUNT(wo) FROM WorkOrder wo WHERE wo.assignedTo = :vendorId AND wo.status = 'COMPLETED'")
     long countCompletedByVendorId(@Param("vendorId") UUID vendorId);
 
+    /**
+     * Get completion statistics for a vendor's completed work orders in one pass.
+     * Completion time is measured in whole hours from creation to completion, expressed in days.
+     * A job is on time when it completed on or before its scheduled day.
+     *
+     * @param vendorId Vendor UUID
+     * @return Single row [jobsCompleted, averageCompletionDays, onTimeCount, totalActualCost]
+     */
+    @Query(value = "SELECT COUNT(*), " +
+            "ROUND(CAST(AVG(FLOOR(EXTRACT(EPOCH FROM (wo.completed_at - wo.created_at)) / 3600) / 24.0) AS NUMERIC), 2), " +
+            "COUNT(*) FILTER (WHERE wo.completed_at IS NOT NULL AND wo.scheduled_date IS NOT NULL " +
+            "                 AND CAST(wo.completed_at AS DATE) <= CAST(wo.scheduled_date AS DATE)), " +
+            "COALESCE(SUM(wo.actual_cost), 0) " +
+            "FROM work_orders wo WHERE wo.assigned_to = :vendorId AND wo.status = 'COMPLETED'",
+            nativeQuery = true)
+    List<Object[]> getCompletionStatsByVendorId(@Param("vendorId") UUID vendorId);
+
     // =================================================================
     // ASSET QUERIES (Story 7.1)
     // =================================================================
@@ -419,4 +599,23 @@ public interface WorkOrderRepository extends JpaRepository<WorkOrder, UUID> {
      * @return Count of completed work orders
      */
     long countByAssetIdAndStatus(UUID assetId, WorkOrderStatus status);
+
+    // =================================================================
+    // IMAGE DERIVATIVES
+    // =================================================================
+
+    /**
+     * Merge generated photo variant keys into the work order's photo_variants map.
+     * Atomic jsonb merge so concurrent derivative tasks for the same work order
+     * do not overwrite each other.
+     *
+     * @param id Work order UUID
+     * @param variantsJson JSON object of original key to {thumbnail, medium} keys
+     * @return Number of rows updated
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "UPDATE work_orders SET photo_variants = COALESCE(photo_variants, CAST('{}' AS jsonb)) " +
+            "|| CAST(:variants AS jsonb) WHERE id = :id", nativeQuery = true)
+    int mergePhotoVariants(@Param("id") UUID id, @Param("variants") String variantsJson);
 }
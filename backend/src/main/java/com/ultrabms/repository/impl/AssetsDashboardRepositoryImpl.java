@@ -1,5 +1,6 @@
 package com.ultrabms.repository.impl;
 
+import com.ultrabms.datasource.ReadReplica;
 import com.ultrabms.repository.AssetsDashboardRepository;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.NoResultException;
@@ -16,6 +17,7 @@ import java.util.List;
  * Story 8.7: Assets Dashboard
  */
 @Repository
+@ReadReplica
 public class AssetsDashboardRepositoryImpl implements AssetsDashboardRepository {
 
     @PersistenceContext
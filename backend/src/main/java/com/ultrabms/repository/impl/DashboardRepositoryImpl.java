@@ -1,5 +1,6 @@
 package com.ultrabms.repository.impl;
 
+import com.ultrabms.datasource.ReadReplica;
 import com.ultrabms.repository.DashboardRepository;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
@@ -19,6 +20,7 @@ import java.util.UUID;
  * Story 8.1: Executive Summary Dashboard
  */
 @Repository
+@ReadReplica
 public class DashboardRepositoryImpl implements DashboardRepository {
 
     @PersistenceContext
@@ -1,5 +1,6 @@
 package com.ultrabms.repository.impl;
 
+import com.ultrabms.datasource.ReadReplica;
 import com.ultrabms.repository.FinanceDashboardRepository;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
@@ -18,6 +19,7 @@ import java.util.UUID;
  * Story 8.6: Finance Dashboard
  */
 @Repository
+@ReadReplica
 public class FinanceDashboardRepositoryImpl implements FinanceDashboardRepository {
 
     @PersistenceContext
@@ -1,5 +1,6 @@
 package com.ultrabms.repository.impl;
 
+import com.ultrabms.datasource.ReadReplica;
 import com.ultrabms.repository.MaintenanceDashboardRepository;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
@@ -17,6 +18,7 @@ import java.util.UUID;
  * Story 8.4: Maintenance Dashboard
  */
 @Repository
+@ReadReplica
 public class MaintenanceDashboardRepositoryImpl implements MaintenanceDashboardRepository {
 
     @PersistenceContext
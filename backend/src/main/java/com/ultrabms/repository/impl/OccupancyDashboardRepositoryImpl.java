@@ -1,5 +1,6 @@
 package com.ultrabms.repository.impl;
 
+import com.ultrabms.datasource.ReadReplica;
 import com.ultrabms.repository.OccupancyDashboardRepository;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
@@ -17,6 +18,7 @@ import java.util.UUID;
  * Story 8.3: Occupancy Dashboard
  */
 @Repository
+@ReadReplica
 public class OccupancyDashboardRepositoryImpl implements OccupancyDashboardRepository {
 
     @PersistenceContext
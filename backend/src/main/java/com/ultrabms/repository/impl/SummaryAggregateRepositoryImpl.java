@@ -0,0 +1,241 @@
+package com.ultrabms.repository.impl;
+
+import com.ultrabms.entity.enums.UnitStatus;
+import com.ultrabms.repository.SummaryAggregateRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Implementation of SummaryAggregateRepository.
+ * Multi-metric summaries use native SQL with FILTER (WHERE ...) clauses so every
+ * KPI of a summary is computed in a single pass over the underlying rows.
+ */
+@Repository
+public class SummaryAggregateRepositoryImpl implements SummaryAggregateRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // =================================================================
+    // UNIT STATUS DISTRIBUTION
+    // =================================================================
+
+    @Override
+    public Map<UnitStatus, Long> getUnitStatusCounts(UUID propertyId) {
+        return getUnitStatusCountsByProperty(List.of(propertyId)).get(propertyId);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Map<UUID, Map<UnitStatus, Long>> getUnitStatusCountsByProperty(Collection<UUID> propertyIds) {
+        Map<UUID, Map<UnitStatus, Long>> result = new HashMap<>();
+        for (UUID propertyId : propertyIds) {
+            result.put(propertyId, emptyStatusCounts());
+        }
+        if (propertyIds.isEmpty()) {
+            return result;
+        }
+
+        String jpql = """
+            SELECT u.property.id, u.status, COUNT(u)
+            FROM Unit u
+            WHERE u.property.id IN :propertyIds
+            GROUP BY u.property.id, u.status
+            """;
+
+        List<Object[]> rows = entityManager.createQuery(jpql)
+                .setParameter("propertyIds", propertyIds)
+                .getResultList();
+
+        for (Object[] row : rows) {
+            result.get((UUID) row[0]).put((UnitStatus) row[1], toLong(row[2]));
+        }
+        return result;
+    }
+
+    // =================================================================
+    // EXPENSE SUMMARY
+    // =================================================================
+
+    @Override
+    public ExpenseTotals getExpenseTotals(LocalDate fromDate, LocalDate toDate) {
+        String sql = """
+            SELECT
+                COALESCE(SUM(e.amount) FILTER (WHERE e.expense_date BETWEEN :fromDate AND :toDate), 0),
+                COALESCE(SUM(e.amount) FILTER (WHERE e.payment_status = 'PENDING'), 0),
+                COALESCE(SUM(e.amount) FILTER (WHERE e.payment_status = 'PAID'
+                                               AND e.payment_date BETWEEN :fromDate AND :toDate), 0),
+                COUNT(*) FILTER (WHERE e.payment_status = 'PENDING'),
+                COUNT(*) FILTER (WHERE e.payment_status = 'PAID')
+            FROM expenses e
+            WHERE e.is_deleted = false
+            """;
+
+        Query query = entityManager.createNativeQuery(sql);
+        query.setParameter("fromDate", fromDate);
+        query.setParameter("toDate", toDate);
+
+        Object[] row = (Object[]) query.getSingleResult();
+        return new ExpenseTotals(
+                toBigDecimal(row[0]),
+                toBigDecimal(row[1]),
+                toBigDecimal(row[2]),
+                toLong(row[3]),
+                toLong(row[4])
+        );
+    }
+
+    // =================================================================
+    // INVOICE SUMMARY
+    // =================================================================
+
+    @Override
+    public InvoiceTotals getInvoiceTotals(LocalDate fromDate, LocalDate toDate) {
+        String sql = """
+            SELECT
+                COALESCE(SUM(i.total_amount) FILTER (WHERE i.status != 'CANCELLED'
+                                                     AND i.invoice_date BETWEEN :fromDate AND :toDate), 0),
+                COALESCE(SUM(i.paid_amount) FILTER (WHERE i.status != 'CANCELLED'
+                                                    AND i.invoice_date BETWEEN :fromDate AND :toDate), 0),
+                COALESCE(SUM(i.balance_amount) FILTER (WHERE i.status = 'OVERDUE'), 0),
+                COUNT(*) FILTER (WHERE i.status = 'OVERDUE')
+            FROM invoices i
+            """;
+
+        Query query = entityManager.createNativeQuery(sql);
+        query.setParameter("fromDate", fromDate);
+        query.setParameter("toDate", toDate);
+
+        Object[] row = (Object[]) query.getSingleResult();
+        return new InvoiceTotals(
+                toBigDecimal(row[0]),
+                toBigDecimal(row[1]),
+                toBigDecimal(row[2]),
+                toLong(row[3])
+        );
+    }
+
+    // =================================================================
+    // PDC SUMMARY
+    // =================================================================
+
+    @Override
+    public PdcDashboardTotals getPdcDashboardTotals(LocalDate today, LocalDate weekEnd,
+                                                    LocalDate monthStart, LocalDate bouncedSince) {
+        String sql = """
+            SELECT
+                COUNT(*) FILTER (WHERE p.status = 'RECEIVED'),
+                COUNT(*) FILTER (WHERE p.status = 'DUE' AND p.cheque_date BETWEEN :today AND :weekEnd),
+                COALESCE(SUM(p.amount) FILTER (WHERE p.status = 'DUE'
+                                               AND p.cheque_date BETWEEN :today AND :weekEnd), 0),
+                COUNT(*) FILTER (WHERE p.status = 'DEPOSITED' AND p.deposit_date BETWEEN :monthStart AND :today),
+                COALESCE(SUM(p.amount) FILTER (WHERE p.status = 'DEPOSITED'
+                                               AND p.deposit_date BETWEEN :monthStart AND :today), 0),
+                COALESCE(SUM(p.amount) FILTER (WHERE p.status IN ('RECEIVED', 'DUE', 'DEPOSITED')), 0),
+                COUNT(*) FILTER (WHERE p.status = 'BOUNCED' AND p.bounced_date >= :bouncedSince),
+                COUNT(*) FILTER (WHERE p.status = 'CLEARED'),
+                COUNT(*) FILTER (WHERE p.status = 'BOUNCED')
+            FROM pdcs p
+            """;
+
+        Query query = entityManager.createNativeQuery(sql);
+        query.setParameter("today", today);
+        query.setParameter("weekEnd", weekEnd);
+        query.setParameter("monthStart", monthStart);
+        query.setParameter("bouncedSince", bouncedSince);
+
+        Object[] row = (Object[]) query.getSingleResult();
+        return new PdcDashboardTotals(
+                toLong(row[0]),
+                toLong(row[1]),
+                toBigDecimal(row[2]),
+                toLong(row[3]),
+                toBigDecimal(row[4]),
+                toBigDecimal(row[5]),
+                toLong(row[6]),
+                toLong(row[7]),
+                toLong(row[8])
+        );
+    }
+
+    @Override
+    public TenantPdcTotals getTenantPdcTotals(UUID tenantId) {
+        String sql = """
+            SELECT
+                COUNT(*),
+                COUNT(*) FILTER (WHERE p.status = 'CLEARED'),
+                COUNT(*) FILTER (WHERE p.status = 'BOUNCED'),
+                COUNT(*) FILTER (WHERE p.status IN ('RECEIVED', 'DUE', 'DEPOSITED'))
+            FROM pdcs p
+            WHERE p.tenant_id = :tenantId
+            """;
+
+        Query query = entityManager.createNativeQuery(sql);
+        query.setParameter("tenantId", tenantId);
+
+        Object[] row = (Object[]) query.getSingleResult();
+        return new TenantPdcTotals(
+                toLong(row[0]),
+                toLong(row[1]),
+                toLong(row[2]),
+                toLong(row[3])
+        );
+    }
+
+    // =================================================================
+    // TENANT CHECKOUT
+    // =================================================================
+
+    @Override
+    public TenantOutstandingTotals getTenantOutstandingTotals(UUID tenantId) {
+        String sql = """
+            SELECT
+                COALESCE(SUM(i.balance_amount), 0),
+                EXISTS (SELECT 1 FROM tenant_checkouts c
+                        WHERE c.tenant_id = :tenantId AND c.status != 'COMPLETED')
+            FROM invoices i
+            WHERE i.tenant_id = :tenantId
+            AND i.status IN ('SENT', 'OVERDUE', 'PARTIALLY_PAID')
+            """;
+
+        Query query = entityManager.createNativeQuery(sql);
+        query.setParameter("tenantId", tenantId);
+
+        Object[] row = (Object[]) query.getSingleResult();
+        return new TenantOutstandingTotals(
+                toBigDecimal(row[0]),
+                Boolean.TRUE.equals(row[1])
+        );
+    }
+
+    // =================================================================
+    // HELPERS
+    // =================================================================
+
+    private static Map<UnitStatus, Long> emptyStatusCounts() {
+        Map<UnitStatus, Long> counts = new EnumMap<>(UnitStatus.class);
+        for (UnitStatus status : UnitStatus.values()) {
+            counts.put(status, 0L);
+        }
+        return counts;
+    }
+
+    private static long toLong(Object value) {
+        return value != null ? ((Number) value).longValue() : 0L;
+    }
+
+    private static BigDecimal toBigDecimal(Object value) {
+        return value != null ? new BigDecimal(value.toString()) : BigDecimal.ZERO;
+    }
+}
@@ -1,5 +1,6 @@
 package com.ultrabms.repository.impl;
 
+import com.ultrabms.datasource.ReadReplica;
 import com.ultrabms.repository.VendorDashboardRepository;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.NoResultException;
@@ -17,6 +18,7 @@ import java.util.List;
  * Story 8.5: Vendor Dashboard
  */
 @Repository
+@ReadReplica
 public class VendorDashboardRepositoryImpl implements VendorDashboardRepository {
 
     @PersistenceContext
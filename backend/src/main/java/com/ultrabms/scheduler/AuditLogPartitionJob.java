@@ -0,0 +1,34 @@
+package com.ultrabms.scheduler;
+
+import com.ultrabms.config.AuditLogProperties;
+import com.ultrabms.repository.AuditLogRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Scheduled job keeping monthly audit_logs partitions created ahead of time,
+ * so batched audit inserts never fall into the DEFAULT partition.
+ * Runs daily at 4:10 AM.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class AuditLogPartitionJob {
+
+    private final AuditLogRepository auditLogRepository;
+    private final AuditLogProperties auditLogProperties;
+
+    @Scheduled(cron = "0 10 4 * * *")
+    public void createUpcomingPartitions() {
+        try {
+            int created = auditLogRepository.createUpcomingPartitions(auditLogProperties.getPartitionMonthsAhead());
+            if (created > 0) {
+                log.info("Created {} audit log partitions", created);
+            }
+        } catch (Exception e) {
+            log.error("Audit log partition job failed: {}", e.getMessage(), e);
+        }
+    }
+}
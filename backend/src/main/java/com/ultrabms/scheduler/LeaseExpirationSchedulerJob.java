@@ -1,22 +1,34 @@
 package com.ultrabms.scheduler;
 
+import com.ultrabms.dto.tenant.TenantEmailPayload;
 import com.ultrabms.entity.Tenant;
 import com.ultrabms.entity.enums.TenantStatus;
 import com.ultrabms.repository.TenantRepository;
+import com.ultrabms.repository.TenantRepository.LeaseReminderDue;
+import com.ultrabms.repository.TenantRepository.LeaseStatusChange;
 import com.ultrabms.service.IEmailService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
 
 /**
  * Scheduled job for lease expiration monitoring and notifications.
  * Handles tenant status updates and expiry reminder emails.
  *
+ * One daily pass: a single UPDATE moves tenants to EXPIRED / EXPIRING_SOON, a single
+ * UPDATE flags every tenant due a 60, 30 or 14 day reminder, and the reminders are
+ * handed to the email executor as one batch once the flags are committed.
+ *
  * Story 3.6: Tenant Lease Extension and Renewal (AC #9)
  */
 @Component
@@ -24,208 +36,97 @@ public class LeaseExpirationSchedulerJob {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(LeaseExpirationSchedulerJob.class);
 
+    private static final int EXPIRING_SOON_DAYS = 60;
+
     private final TenantRepository tenantRepository;
     private final IEmailService emailService;
+    private final TransactionTemplate transactionTemplate;
 
     public LeaseExpirationSchedulerJob(
             TenantRepository tenantRepository,
-            IEmailService emailService) {
+            IEmailService emailService,
+            PlatformTransactionManager transactionManager) {
         this.tenantRepository = tenantRepository;
         this.emailService = emailService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
     }
 
     /**
-     * Monitor lease expirations and update tenant status.
+     * Daily lease lifecycle pass.
      * Runs every day at 6 AM.
      *
      * Updates ACTIVE tenants to EXPIRING_SOON when lease ends within 60 days.
      * Updates EXPIRING_SOON or ACTIVE tenants to EXPIRED when lease end date is past.
+     * Sends 60, 30 and 14 day expiry reminders to tenants not yet notified for that threshold.
      */
     @Scheduled(cron = "${lease.expiration.cron:0 0 6 * * *}")
-    @Transactional
-    public void monitorLeaseExpirations() {
-        LOGGER.info("Starting lease expiration monitoring job");
+    public void runLeaseLifecycle() {
+        LOGGER.info("Starting lease lifecycle job");
 
         try {
             LocalDate today = LocalDate.now();
-            LocalDate in60Days = today.plusDays(60);
-
-            // 1. Mark expired leases
-            int expiredCount = markExpiredLeases(today);
-            LOGGER.info("Marked {} leases as EXPIRED", expiredCount);
 
-            // 2. Mark leases expiring within 60 days
-            int expiringSoonCount = markExpiringSoonLeases(today, in60Days);
-            LOGGER.info("Marked {} leases as EXPIRING_SOON", expiringSoonCount);
+            // Flags and statuses are committed before any email is handed off, so a rolled
+            // back pass never sends reminders and a committed one never sends them twice
+            List<Tenant> reminders = transactionTemplate.execute(status -> applyLifecycle(today));
 
-            LOGGER.info("Lease expiration monitoring completed");
+            int queued = enqueueReminders(reminders, today);
+            LOGGER.info("Lease lifecycle job completed: {} reminders queued", queued);
         } catch (Exception e) {
-            LOGGER.error("Lease expiration monitoring job failed: {}", e.getMessage(), e);
+            LOGGER.error("Lease lifecycle job failed: {}", e.getMessage(), e);
         }
     }
 
-    /**
-     * Send 60-day lease expiry reminders.
-     * Runs every day at 8 AM.
-     *
-     * Sends reminder to tenants whose lease expires in ~60 days
-     * and haven't been notified yet.
-     */
-    @Scheduled(cron = "${lease.reminder.60day.cron:0 0 8 * * *}")
-    @Transactional
-    public void send60DayReminders() {
-        LOGGER.info("Starting 60-day lease expiry reminder job");
-
-        try {
-            LocalDate today = LocalDate.now();
-            LocalDate in60Days = today.plusDays(60);
-            LocalDate in59Days = today.plusDays(59);
-
-            // Find tenants with leases expiring in 59-60 days who haven't been notified
-            List<Tenant> tenants = tenantRepository.findExpiringLeases(in59Days, in60Days, TenantStatus.ACTIVE, true);
-
-            int sentCount = 0;
-            for (Tenant tenant : tenants) {
-                if (!Boolean.TRUE.equals(tenant.getExpiry60DayNotified())) {
-                    int daysRemaining = (int) java.time.temporal.ChronoUnit.DAYS.between(today, tenant.getLeaseEndDate());
-                    try {
-                        emailService.sendLeaseExpiryReminder(tenant, daysRemaining);
-                        tenant.setExpiry60DayNotified(true);
-                        tenantRepository.save(tenant);
-                        sentCount++;
-                    } catch (Exception e) {
-                        LOGGER.error("Failed to send 60-day reminder to tenant {}: {}", tenant.getId(), e.getMessage());
-                    }
-                }
-            }
-
-            LOGGER.info("60-day reminder job completed: {} reminders sent", sentCount);
-        } catch (Exception e) {
-            LOGGER.error("60-day reminder job failed: {}", e.getMessage(), e);
-        }
-    }
+    // ========================================================================
+    // Private Helper Methods
+    // ========================================================================
 
     /**
-     * Send 30-day lease expiry reminders.
-     * Runs every day at 9 AM.
+     * Apply status transitions and flag due reminders.
      *
-     * Sends reminder to tenants whose lease expires in ~30 days
-     * and haven't been notified for this threshold yet.
+     * @return tenants (with property and unit loaded) to send a reminder to
      */
-    @Scheduled(cron = "${lease.reminder.30day.cron:0 0 9 * * *}")
-    @Transactional
-    public void send30DayReminders() {
-        LOGGER.info("Starting 30-day lease expiry reminder job");
-
-        try {
-            LocalDate today = LocalDate.now();
-            LocalDate in30Days = today.plusDays(30);
-            LocalDate in29Days = today.plusDays(29);
-
-            // Find tenants with leases expiring in 29-30 days who haven't been notified
-            List<Tenant> tenants = tenantRepository.findExpiringLeases(in29Days, in30Days, TenantStatus.ACTIVE, true);
-            tenants.addAll(tenantRepository.findExpiringLeases(in29Days, in30Days, TenantStatus.EXPIRING_SOON, true));
-
-            int sentCount = 0;
-            for (Tenant tenant : tenants) {
-                if (!Boolean.TRUE.equals(tenant.getExpiry30DayNotified())) {
-                    int daysRemaining = (int) java.time.temporal.ChronoUnit.DAYS.between(today, tenant.getLeaseEndDate());
-                    try {
-                        emailService.sendLeaseExpiryReminder(tenant, daysRemaining);
-                        tenant.setExpiry30DayNotified(true);
-                        tenantRepository.save(tenant);
-                        sentCount++;
-                    } catch (Exception e) {
-                        LOGGER.error("Failed to send 30-day reminder to tenant {}: {}", tenant.getId(), e.getMessage());
-                    }
-                }
-            }
-
-            LOGGER.info("30-day reminder job completed: {} reminders sent", sentCount);
-        } catch (Exception e) {
-            LOGGER.error("30-day reminder job failed: {}", e.getMessage(), e);
+    private List<Tenant> applyLifecycle(LocalDate today) {
+        List<LeaseStatusChange> changes = tenantRepository.transitionLeaseStatuses(
+                today, today.plusDays(EXPIRING_SOON_DAYS));
+        Map<String, Long> changesByStatus = changes.stream()
+                .collect(Collectors.groupingBy(LeaseStatusChange::getStatus, Collectors.counting()));
+        LOGGER.info("Marked {} leases as EXPIRED", changesByStatus.getOrDefault(TenantStatus.EXPIRED.name(), 0L));
+        LOGGER.info("Marked {} leases as EXPIRING_SOON",
+                changesByStatus.getOrDefault(TenantStatus.EXPIRING_SOON.name(), 0L));
+
+        List<LeaseReminderDue> due = tenantRepository.flagDueLeaseReminders(today);
+        if (due.isEmpty()) {
+            return List.of();
         }
+        Map<Integer, Long> dueByThreshold = due.stream()
+                .collect(Collectors.groupingBy(LeaseReminderDue::getThreshold, Collectors.counting()));
+        LOGGER.info("Flagged lease expiry reminders by threshold (days): {}", dueByThreshold);
+
+        List<UUID> ids = due.stream().map(LeaseReminderDue::getId).toList();
+        return tenantRepository.findAllWithPropertyAndUnitByIdIn(ids);
     }
 
     /**
-     * Send 14-day lease expiry reminders (urgent).
-     * Runs every day at 10 AM.
+     * Hand reminders to the asynchronous email executor.
      *
-     * Sends urgent reminder to tenants whose lease expires in ~14 days
-     * and haven't been notified for this threshold yet.
+     * @return number of reminders queued
      */
-    @Scheduled(cron = "${lease.reminder.14day.cron:0 0 10 * * *}")
-    @Transactional
-    public void send14DayReminders() {
-        LOGGER.info("Starting 14-day lease expiry reminder job");
-
-        try {
-            LocalDate today = LocalDate.now();
-            LocalDate in14Days = today.plusDays(14);
-            LocalDate in13Days = today.plusDays(13);
-
-            // Find tenants with leases expiring in 13-14 days who haven't been notified
-            List<Tenant> tenants = tenantRepository.findExpiringLeases(in13Days, in14Days, TenantStatus.ACTIVE, true);
-            tenants.addAll(tenantRepository.findExpiringLeases(in13Days, in14Days, TenantStatus.EXPIRING_SOON, true));
-
-            int sentCount = 0;
-            for (Tenant tenant : tenants) {
-                if (!Boolean.TRUE.equals(tenant.getExpiry14DayNotified())) {
-                    int daysRemaining = (int) java.time.temporal.ChronoUnit.DAYS.between(today, tenant.getLeaseEndDate());
-                    try {
-                        emailService.sendLeaseExpiryReminder(tenant, daysRemaining);
-                        tenant.setExpiry14DayNotified(true);
-                        tenantRepository.save(tenant);
-                        sentCount++;
-                    } catch (Exception e) {
-                        LOGGER.error("Failed to send 14-day reminder to tenant {}: {}", tenant.getId(), e.getMessage());
-                    }
-                }
-            }
-
-            LOGGER.info("14-day reminder job completed: {} reminders sent", sentCount);
-        } catch (Exception e) {
-            LOGGER.error("14-day reminder job failed: {}", e.getMessage(), e);
+    private int enqueueReminders(List<Tenant> tenants, LocalDate today) {
+        if (tenants == null || tenants.isEmpty()) {
+            return 0;
         }
-    }
-
-    // ========================================================================
-    // Private Helper Methods
-    // ========================================================================
-
-    /**
-     * Mark tenants with past lease end dates as EXPIRED
-     */
-    private int markExpiredLeases(LocalDate today) {
-        List<Tenant> expiredTenants = tenantRepository.findExpiringLeases(
-                LocalDate.MIN, today.minusDays(1), TenantStatus.ACTIVE, true);
-        expiredTenants.addAll(tenantRepository.findExpiringLeases(
-                LocalDate.MIN, today.minusDays(1), TenantStatus.EXPIRING_SOON, true));
-
-        int count = 0;
-        for (Tenant tenant : expiredTenants) {
-            if (tenant.getLeaseEndDate().isBefore(today)) {
-                tenant.setStatus(TenantStatus.EXPIRED);
-                tenantRepository.save(tenant);
-                count++;
+        int queued = 0;
+        for (Tenant tenant : tenants) {
+            int daysRemaining = (int) ChronoUnit.DAYS.between(today, tenant.getLeaseEndDate());
+            try {
+                emailService.sendLeaseExpiryReminder(TenantEmailPayload.from(tenant), daysRemaining);
+                queued++;
+            } catch (Exception e) {
+                LOGGER.error("Failed to queue {}-day reminder for tenant {}: {}",
+                        daysRemaining, tenant.getId(), e.getMessage());
             }
         }
-        return count;
-    }
-
-    /**
-     * Mark active tenants with leases expiring within 60 days as EXPIRING_SOON
-     */
-    private int markExpiringSoonLeases(LocalDate today, LocalDate in60Days) {
-        List<Tenant> expiringTenants = tenantRepository.findExpiringLeases(
-                today, in60Days, TenantStatus.ACTIVE, true);
-
-        int count = 0;
-        for (Tenant tenant : expiringTenants) {
-            tenant.setStatus(TenantStatus.EXPIRING_SOON);
-            tenantRepository.save(tenant);
-            count++;
-        }
-        return count;
+        return queued;
     }
 }
@@ -0,0 +1,29 @@
+package com.ultrabms.scheduler;
+
+import com.ultrabms.service.TenantLedgerService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Scheduled job rebuilding the whole tenant ledger projection.
+ * Runs daily at 3:30 AM and repairs any row whose after-commit refresh failed.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TenantLedgerRebuildJob {
+
+    private final TenantLedgerService tenantLedgerService;
+
+    @Scheduled(cron = "0 30 3 * * *")
+    public void rebuildLedger() {
+        try {
+            int refreshed = tenantLedgerService.rebuildAll();
+            log.info("Rebuilt tenant ledger for {} tenants", refreshed);
+        } catch (Exception e) {
+            log.error("Tenant ledger rebuild failed: {}", e.getMessage(), e);
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package com.ultrabms.security;
 
+import com.ultrabms.config.PasswordHashingProperties;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -13,7 +15,12 @@ import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+
+import java.util.concurrent.ThreadPoolExecutor;
 
 /**
  * Spring Security configuration with method-level security for RBAC.
@@ -34,6 +41,13 @@ public class SecurityConfig {
     private final CustomAccessDeniedHandler accessDeniedHandler;
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
     private final SessionActivityFilter sessionActivityFilter;
+    private final PasswordHashingProperties passwordHashingProperties;
+
+    @Value("${management.server.port:#{null}}")
+    private Integer managementPort;
+
+    @Value("${server.port:8080}")
+    private int serverPort;
 
     /**
      * Configure security filter chain.
@@ -58,6 +72,8 @@ public class SecurityConfig {
                     "/v3/api-docs/**",
                     "/swagger-ui.html"
                 ).permitAll()
+                // Prometheus scrapes are anonymous only on the internal management port
+                .requestMatchers(prometheusOnManagementPort(managementPort, serverPort)).permitAll()
                 // All other requests require authentication
                 .anyRequest().authenticated()
             )
@@ -88,6 +104,19 @@ public class SecurityConfig {
         return http.build();
     }
 
+    /**
+     * Matches /actuator/prometheus requests received on a separate management port
+     * (management.server.port, not exposed publicly). Without one the endpoint shares the
+     * application port and requires authentication like any other request.
+     */
+    static RequestMatcher prometheusOnManagementPort(Integer managementPort, int serverPort) {
+        if (managementPort == null || managementPort <= 0 || managementPort == serverPort) {
+            return request -> false;
+        }
+        RequestMatcher prometheus = new AntPathRequestMatcher("/actuator/prometheus");
+        return request -> request.getLocalPort() == managementPort && prometheus.matches(request);
+    }
+
     /**
      * Configure authentication provider with custom user details service.
      */
@@ -100,7 +129,8 @@ public class SecurityConfig {
     }
 
     /**
-     * Password encoder using BCrypt with strength 12 as per requirements.
+     * Password encoder using BCrypt with strength 12 as per requirements
+     * (configurable via app.security.password-hashing.strength).
      */
     @Bean
     public PasswordEncoder passwordEncoder() {
@@ -112,7 +142,27 @@ public class SecurityConfig {
      */
     @Bean
     public BCryptPasswordEncoder bCryptPasswordEncoder() {
-        return new BCryptPasswordEncoder(12);
+        return new BCryptPasswordEncoder(passwordHashingProperties.getStrength());
+    }
+
+    /**
+     * Bounded executor for BCrypt hashing (see PasswordHashingService).
+     * Rejects instead of running on the caller when the queue is full, so login bursts
+     * cannot spill hashing back onto request threads.
+     */
+    @Bean(name = "passwordHashExecutor")
+    public ThreadPoolTaskExecutor passwordHashExecutor() {
+        int poolSize = passwordHashingProperties.resolvePoolSize();
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(passwordHashingProperties.getQueueCapacity());
+        executor.setThreadNamePrefix("password-hash-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+        executor.initialize();
+        return executor;
     }
 
     /**
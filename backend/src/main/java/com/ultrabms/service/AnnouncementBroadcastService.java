@@ -0,0 +1,32 @@
+package com.ultrabms.service;
+
+import com.ultrabms.dto.announcements.AnnouncementBroadcastProgressDto;
+
+import java.util.UUID;
+
+/**
+ * Service interface for broadcasting published announcements to tenants by email.
+ * Recipients are read in keyset-paginated chunks and emails are queued in the
+ * email_notifications table for delivery by EmailSenderJob.
+ *
+ * Story 9.2: Internal Announcement Management
+ */
+public interface AnnouncementBroadcastService {
+
+    /**
+     * Queue announcement emails for all active tenants (runs asynchronously).
+     * The template is rendered once per announcement; queue rows are inserted
+     * one chunk per transaction and progress is recorded on the announcement.
+     *
+     * @param announcementId Announcement UUID
+     */
+    void broadcast(UUID announcementId);
+
+    /**
+     * Get queueing and delivery progress of an announcement broadcast
+     *
+     * @param announcementId Announcement UUID
+     * @return Broadcast progress
+     */
+    AnnouncementBroadcastProgressDto getBroadcastProgress(UUID announcementId);
+}
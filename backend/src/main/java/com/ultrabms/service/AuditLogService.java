@@ -1,11 +1,9 @@
 package com.ultrabms.service;
 
+import com.ultrabms.audit.AuditLogSink;
 import com.ultrabms.entity.AuditLog;
-import com.ultrabms.repository.AuditLogRepository;
 import lombok.RequiredArgsConstructor;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.Map;
@@ -16,14 +14,15 @@ import java.util.UUID;
  *
  * <p>
  * Handles the creation and storage of audit logs for security events
- * and user actions.
+ * and user actions. Rows are handed to the write-behind {@link AuditLogSink},
+ * so callers never wait on (or open) a transaction for the insert.
  * </p>
  */
 @Service
 @RequiredArgsConstructor
 public class AuditLogService {
 
-    private final AuditLogRepository auditLogRepository;
+    private final AuditLogSink auditLogSink;
 
     /**
      * Logs an authorization failure event.
@@ -34,8 +33,6 @@ public class AuditLogService {
      * @param ipAddress the IP address of the request
      * @param details   additional details
      */
-    @Async
-    @Transactional
     public void logAuthorizationFailure(UUID userId, String resource, String action, String ipAddress,
             Map<String, Object> details) {
         AuditLog auditLog = new AuditLog();
@@ -53,7 +50,7 @@ public class AuditLogService {
                     "attemptedAction", action));
         }
 
-        auditLogRepository.save(auditLog);
+        auditLogSink.submit(auditLog);
     }
 
     /**
@@ -64,8 +61,6 @@ public class AuditLogService {
      * @param ipAddress the IP address
      * @param details   additional details
      */
-    @Async
-    @Transactional
     public void logSecurityEvent(UUID userId, String action, String ipAddress, Map<String, Object> details) {
         AuditLog auditLog = new AuditLog();
         auditLog.setUserId(userId);
@@ -74,6 +69,6 @@ public class AuditLogService {
         auditLog.setCreatedAt(LocalDateTime.now());
         auditLog.setDetails(details);
 
-        auditLogRepository.save(auditLog);
+        auditLogSink.submit(auditLog);
     }
 }
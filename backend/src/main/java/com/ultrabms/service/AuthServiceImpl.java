@@ -1,5 +1,6 @@
 package com.ultrabms.service;
 
+import com.ultrabms.audit.AuditLogSink;
 import com.ultrabms.dto.LoginRequest;
 import com.ultrabms.dto.LoginResponse;
 import com.ultrabms.dto.RegisterRequest;
@@ -12,7 +13,6 @@ import com.ultrabms.entity.User;
 import com.ultrabms.exception.AccountLockedException;
 import com.ultrabms.exception.DuplicateResourceException;
 import com.ultrabms.exception.EntityNotFoundException;
-import com.ultrabms.repository.AuditLogRepository;
 import com.ultrabms.repository.RoleRepository;
 import com.ultrabms.repository.TokenBlacklistRepository;
 import com.ultrabms.repository.UserRepository;
@@ -21,7 +21,6 @@ import io.jsonwebtoken.JwtException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.BadCredentialsException;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -51,10 +50,10 @@ public class AuthServiceImpl implements AuthService {
     private final UserRepository userRepository;
     private final RoleRepository roleRepository;
     private final TokenBlacklistRepository tokenBlacklistRepository;
-    private final AuditLogRepository auditLogRepository;
+    private final AuditLogSink auditLogSink;
     private final JwtTokenProvider jwtTokenProvider;
     private final LoginAttemptService loginAttemptService;
-    private final BCryptPasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashingService;
     private final SessionService sessionService;
     private final com.ultrabms.repository.UserSessionRepository userSessionRepository;
 
@@ -76,7 +75,7 @@ public class AuthServiceImpl implements AuthService {
         // Create new user entity
         User user = new User();
         user.setEmail(request.email());
-        user.setPasswordHash(passwordEncoder.encode(request.password()));
+        user.setPasswordHash(passwordHashingService.encode(request.password()));
         user.setFirstName(request.firstName());
         user.setLastName(request.lastName());
         user.setRole(role);
@@ -150,8 +149,10 @@ public class AuthServiceImpl implements AuthService {
             log.info("Account automatically unlocked after lock period expired: {}", user.getEmail());
         }
 
-        // Verify password
-        if (!passwordEncoder.matches(request.password(), user.getPasswordHash())) {
+        // Verify password on the bounded hashing pool (blocked emails were rejected above without hashing)
+        PasswordHashingService.Verification verification =
+                passwordHashingService.verify(request.password(), user.getPasswordHash());
+        if (!verification.matched()) {
             log.warn("Invalid password for user: {}", user.getEmail());
 
             // Increment failed attempts
@@ -173,6 +174,12 @@ public class AuthServiceImpl implements AuthService {
             throw new BadCredentialsException("Invalid email or password");
         }
 
+        // Upgrade hashes created with a lower BCrypt strength than currently configured
+        if (verification.needsUpgrade()) {
+            user.setPasswordHash(verification.upgradedHash());
+            log.info("Upgraded password hash strength for user: {}", user.getEmail());
+        }
+
         // Reset failed attempts on successful login
         user.setFailedLoginAttempts(0);
         user.setAccountLocked(false);
@@ -358,7 +365,7 @@ public class AuthServiceImpl implements AuthService {
             String userAgent, Map<String, Object> details) {
         try {
             AuditLog auditLog = new AuditLog(userId, action, ipAddress, userAgent, details);
-            auditLogRepository.save(auditLog);
+            auditLogSink.submit(auditLog);
         } catch (Exception e) {
             log.error("Failed to log audit event", e);
         }
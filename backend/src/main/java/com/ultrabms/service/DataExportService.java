@@ -0,0 +1,89 @@
+package com.ultrabms.service;
+
+import com.ultrabms.dto.common.ExportFormat;
+import com.ultrabms.dto.expenses.ExpenseFilterDto;
+import com.ultrabms.dto.invoices.InvoiceFilterDto;
+import com.ultrabms.dto.invoices.PaymentFilterDto;
+import com.ultrabms.entity.enums.WorkOrderCategory;
+import com.ultrabms.entity.enums.WorkOrderPriority;
+import com.ultrabms.entity.enums.WorkOrderStatus;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Service for streaming bulk data exports (CSV / NDJSON).
+ *
+ * <p>Each method reads rows through a database cursor and writes them to the given
+ * stream as they arrive, so memory use is independent of the export size. Filters
+ * match the corresponding list endpoints; paging and sort fields are ignored.</p>
+ */
+public interface DataExportService {
+
+    /**
+     * Export invoices matching the filter
+     *
+     * @param filterDto Filter parameters (overdueOnly, paging and sort are ignored)
+     * @param format    Output format
+     * @param out       Target stream
+     * @return Number of rows written
+     * @throws IOException if writing fails
+     */
+    long exportInvoices(InvoiceFilterDto filterDto, ExportFormat format, OutputStream out) throws IOException;
+
+    /**
+     * Export payments matching the filter
+     *
+     * @param filterDto Filter parameters (paging and sort are ignored)
+     * @param format    Output format
+     * @param out       Target stream
+     * @return Number of rows written
+     * @throws IOException if writing fails
+     */
+    long exportPayments(PaymentFilterDto filterDto, ExportFormat format, OutputStream out) throws IOException;
+
+    /**
+     * Export non-deleted expenses matching the filter
+     *
+     * @param filterDto Filter parameters (paging and sort are ignored)
+     * @param format    Output format
+     * @param out       Target stream
+     * @return Number of rows written
+     * @throws IOException if writing fails
+     */
+    long exportExpenses(ExpenseFilterDto filterDto, ExportFormat format, OutputStream out) throws IOException;
+
+    /**
+     * Export work orders matching the filters
+     *
+     * @param propertyId Optional property filter
+     * @param unitId     Optional unit filter
+     * @param statuses   Optional status filter
+     * @param categories Optional category filter
+     * @param priorities Optional priority filter
+     * @param assignedTo Optional assignee filter
+     * @param startDate  Optional start date filter
+     * @param endDate    Optional end date filter
+     * @param searchTerm Optional search term
+     * @param format     Output format
+     * @param out        Target stream
+     * @return Number of rows written
+     * @throws IOException if writing fails
+     */
+    long exportWorkOrders(
+            UUID propertyId,
+            UUID unitId,
+            List<WorkOrderStatus> statuses,
+            List<WorkOrderCategory> categories,
+            List<WorkOrderPriority> priorities,
+            UUID assignedTo,
+            LocalDateTime startDate,
+            LocalDateTime endDate,
+            String searchTerm,
+            ExportFormat format,
+            OutputStream out
+    ) throws IOException;
+}
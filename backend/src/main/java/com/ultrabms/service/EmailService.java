@@ -1,5 +1,13 @@
 package com.ultrabms.service;
 
+import com.ultrabms.dto.checkout.CheckoutEmailPayload;
+import com.ultrabms.dto.invoices.InvoiceEmailPayload;
+import com.ultrabms.dto.invoices.PaymentEmailPayload;
+import com.ultrabms.dto.lease.LeaseExtensionEmailPayload;
+import com.ultrabms.dto.lease.RenewalRequestEmailPayload;
+import com.ultrabms.dto.maintenance.MaintenanceRequestEmailPayload;
+import com.ultrabms.dto.tenant.TenantEmailPayload;
+import com.ultrabms.dto.vendors.VendorEmailPayload;
 import com.ultrabms.entity.Lead;
 import com.ultrabms.entity.Quotation;
 import com.ultrabms.entity.User;
@@ -17,7 +25,14 @@ import org.thymeleaf.context.Context;
 import org.thymeleaf.spring6.SpringTemplateEngine;
 
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.ultrabms.service.EmailTemplateRenderer.DATE_FORMATTER;
+import static com.ultrabms.service.EmailTemplateRenderer.DATE_TIME_FORMATTER;
+import static com.ultrabms.service.EmailTemplateRenderer.SHORT_DATE_FORMATTER;
+import static com.ultrabms.service.EmailTemplateRenderer.TIMESTAMP_FORMATTER;
 
 /**
  * Service for sending email notifications asynchronously.
@@ -31,6 +46,7 @@ public class EmailService implements IEmailService {
 
     private final JavaMailSender mailSender;
     private final SpringTemplateEngine templateEngine;
+    private final EmailTemplateRenderer templateRenderer;
 
     @Value("${app.frontend-url}")
     private String frontendUrl;
@@ -39,7 +55,6 @@ public class EmailService implements IEmailService {
     private String supportEmail;
 
     private static final int TOKEN_EXPIRATION_MINUTES = 15;
-    private static final DateTimeFormatter TIMESTAMP_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
 
     /**
      * Send password reset email asynchronously with secure token link.
@@ -139,8 +154,8 @@ public class EmailService implements IEmailService {
             Context context = new Context();
             context.setVariable("leadName", lead.getFullName());
             context.setVariable("quotationNumber", quotation.getQuotationNumber());
-            context.setVariable("issueDate", quotation.getIssueDate().format(DateTimeFormatter.ofPattern("dd MMM yyyy")));
-            context.setVariable("validityDate", quotation.getValidityDate().format(DateTimeFormatter.ofPattern("dd MMM yyyy")));
+            context.setVariable("issueDate", quotation.getIssueDate().format(SHORT_DATE_FORMATTER));
+            context.setVariable("validityDate", quotation.getValidityDate().format(SHORT_DATE_FORMATTER));
             context.setVariable("totalAmount", quotation.getTotalFirstPayment());
             context.setVariable("frontendUrl", frontendUrl);
             context.setVariable("supportEmail", supportEmail);
@@ -250,25 +265,25 @@ public class EmailService implements IEmailService {
      * Confirms request submission with request number, details, and tracking link.
      * Fails silently (logs error) to avoid blocking user workflow if email delivery fails.
      *
-     * @param tenant Tenant entity who submitted the request
-     * @param request MaintenanceRequest entity with request details
+     * @param tenant Tenant snapshot who submitted the request
+     * @param request Maintenance request snapshot with request details
      */
     @Async("emailTaskExecutor")
-    public void sendMaintenanceRequestConfirmation(com.ultrabms.entity.Tenant tenant, com.ultrabms.entity.MaintenanceRequest request) {
+    public void sendMaintenanceRequestConfirmation(TenantEmailPayload tenant, MaintenanceRequestEmailPayload request) {
         try {
             // Build tracking URL
-            String trackingUrl = frontendUrl + "/tenant/requests/" + request.getId();
+            String trackingUrl = frontendUrl + "/tenant/requests/" + request.requestId();
 
             // Build Thymeleaf context with template variables
             Context context = new Context();
-            context.setVariable("tenantName", tenant.getFullName());
-            context.setVariable("requestNumber", request.getRequestNumber());
-            context.setVariable("category", request.getCategory().toString().replace("_", " "));
-            context.setVariable("priority", request.getPriority().toString());
-            context.setVariable("title", request.getTitle());
-            context.setVariable("submittedAt", request.getSubmittedAt().format(DateTimeFormatter.ofPattern("MMM dd, yyyy hh:mm a")));
-            context.setVariable("propertyName", tenant.getProperty().getName());
-            context.setVariable("unitNumber", tenant.getUnit().getUnitNumber());
+            context.setVariable("tenantName", tenant.tenantName());
+            context.setVariable("requestNumber", request.requestNumber());
+            context.setVariable("category", request.category().toString().replace("_", " "));
+            context.setVariable("priority", request.priority().toString());
+            context.setVariable("title", request.title());
+            context.setVariable("submittedAt", request.submittedAt().format(DATE_TIME_FORMATTER));
+            context.setVariable("propertyName", tenant.propertyName());
+            context.setVariable("unitNumber", tenant.unitNumber());
             context.setVariable("trackingUrl", trackingUrl);
             context.setVariable("supportEmail", supportEmail);
 
@@ -278,19 +293,19 @@ public class EmailService implements IEmailService {
 
             // Send email
             sendEmail(
-                tenant.getEmail(),
-                String.format("Maintenance Request Confirmed: %s", request.getRequestNumber()),
+                tenant.email(),
+                String.format("Maintenance Request Confirmed: %s", request.requestNumber()),
                 textContent,
                 htmlContent
             );
 
             log.info("Maintenance request confirmation email sent successfully to tenant: {} ({})",
-                    tenant.getId(), tenant.getEmail());
+                    tenant.tenantId(), tenant.email());
 
         } catch (Exception e) {
             // Fail silently - don't throw exception to user, just log error
             log.error("Failed to send maintenance request confirmation email to tenant: {} ({})",
-                    tenant.getId(), tenant.getEmail(), e);
+                    tenant.tenantId(), tenant.email(), e);
         }
     }
 
@@ -299,30 +314,30 @@ public class EmailService implements IEmailService {
      * Notifies property manager of new request with full details and management link.
      * Fails silently (logs error) to avoid blocking user workflow if email delivery fails.
      *
-     * @param tenant Tenant entity who submitted the request
-     * @param request MaintenanceRequest entity with request details
+     * @param tenant Tenant snapshot who submitted the request
+     * @param request Maintenance request snapshot with request details
      */
     @Async("emailTaskExecutor")
-    public void sendMaintenanceRequestNotification(com.ultrabms.entity.Tenant tenant, com.ultrabms.entity.MaintenanceRequest request) {
+    public void sendMaintenanceRequestNotification(TenantEmailPayload tenant, MaintenanceRequestEmailPayload request) {
         try {
             // Build management URL
-            String managementUrl = frontendUrl + "/property-manager/requests/" + request.getId();
+            String managementUrl = frontendUrl + "/property-manager/requests/" + request.requestId();
 
             // Build Thymeleaf context with template variables
             Context context = new Context();
-            context.setVariable("requestNumber", request.getRequestNumber());
-            context.setVariable("tenantName", tenant.getFullName());
-            context.setVariable("tenantEmail", tenant.getEmail());
-            context.setVariable("tenantPhone", tenant.getPhone() != null ? tenant.getPhone() : "Not provided");
-            context.setVariable("propertyName", tenant.getProperty().getName());
-            context.setVariable("unitNumber", tenant.getUnit().getUnitNumber());
-            context.setVariable("category", request.getCategory().toString().replace("_", " "));
-            context.setVariable("priority", request.getPriority().toString());
-            context.setVariable("title", request.getTitle());
-            context.setVariable("description", request.getDescription());
-            context.setVariable("preferredAccessTime", request.getPreferredAccessTime().toString().replace("_", " "));
-            context.setVariable("preferredAccessDate", request.getPreferredAccessDate().format(DateTimeFormatter.ofPattern("MMM dd, yyyy")));
-            context.setVariable("photoCount", request.getAttachments() != null ? request.getAttachments().size() : 0);
+            context.setVariable("requestNumber", request.requestNumber());
+            context.setVariable("tenantName", tenant.tenantName());
+            context.setVariable("tenantEmail", tenant.email());
+            context.setVariable("tenantPhone", tenant.phone() != null ? tenant.phone() : "Not provided");
+            context.setVariable("propertyName", tenant.propertyName());
+            context.setVariable("unitNumber", tenant.unitNumber());
+            context.setVariable("category", request.category().toString().replace("_", " "));
+            context.setVariable("priority", request.priority().toString());
+            context.setVariable("title", request.title());
+            context.setVariable("description", request.description());
+            context.setVariable("preferredAccessTime", request.preferredAccessTime().toString().replace("_", " "));
+            context.setVariable("preferredAccessDate", request.preferredAccessDate().format(DATE_FORMATTER));
+            context.setVariable("photoCount", request.photoCount());
             context.setVariable("managementUrl", managementUrl);
 
             // Render HTML and plain text templates
@@ -333,19 +348,19 @@ public class EmailService implements IEmailService {
             sendEmail(
                 supportEmail,
                 String.format("New Maintenance Request: %s - %s",
-                        request.getRequestNumber(),
-                        request.getTitle()),
+                        request.requestNumber(),
+                        request.title()),
                 textContent,
                 htmlContent
             );
 
             log.info("Maintenance request notification email sent successfully to property manager for request: {} ({})",
-                    request.getId(), request.getRequestNumber());
+                    request.requestId(), request.requestNumber());
 
         } catch (Exception e) {
             // Fail silently - don't throw exception to user, just log error
             log.error("Failed to send maintenance request notification email for request: {} ({})",
-                    request.getId(), request.getRequestNumber(), e);
+                    request.requestId(), request.requestNumber(), e);
         }
     }
 
@@ -354,26 +369,26 @@ public class EmailService implements IEmailService {
      * Notifies tenant when request status changes (ASSIGNED, IN_PROGRESS, COMPLETED, CLOSED).
      * Fails silently (logs error) to avoid blocking user workflow if email delivery fails.
      *
-     * @param tenant Tenant entity who owns the request
-     * @param request MaintenanceRequest entity with updated status
+     * @param tenant Tenant snapshot who owns the request
+     * @param request Maintenance request snapshot with updated status
      * @param vendorName Name of assigned vendor (if applicable)
      * @param vendorContact Contact info of assigned vendor (if applicable)
      */
     @Async("emailTaskExecutor")
     public void sendMaintenanceRequestStatusChange(
-            com.ultrabms.entity.Tenant tenant,
-            com.ultrabms.entity.MaintenanceRequest request,
+            TenantEmailPayload tenant,
+            MaintenanceRequestEmailPayload request,
             String vendorName,
             String vendorContact
     ) {
         try {
             // Build tracking URL
-            String trackingUrl = frontendUrl + "/tenant/requests/" + request.getId();
+            String trackingUrl = frontendUrl + "/tenant/requests/" + request.requestId();
 
             // Build status-specific message and label
             String statusMessage;
             String statusLabel;
-            switch (request.getStatus()) {
+            switch (request.status()) {
                 case ASSIGNED:
                     statusMessage = "Your maintenance request has been assigned to a vendor.";
                     statusLabel = "Assigned to Vendor";
@@ -392,24 +407,24 @@ public class EmailService implements IEmailService {
                     break;
                 default:
                     statusMessage = "Your maintenance request status has been updated.";
-                    statusLabel = request.getStatus().toString();
+                    statusLabel = request.status().toString();
             }
 
             // Build Thymeleaf context with template variables
             Context context = new Context();
-            context.setVariable("tenantName", tenant.getFullName());
-            context.setVariable("requestNumber", request.getRequestNumber());
-            context.setVariable("title", request.getTitle());
-            context.setVariable("status", request.getStatus().toString());
+            context.setVariable("tenantName", tenant.tenantName());
+            context.setVariable("requestNumber", request.requestNumber());
+            context.setVariable("title", request.title());
+            context.setVariable("status", request.status().toString());
             context.setVariable("statusMessage", statusMessage);
             context.setVariable("statusLabel", statusLabel);
             context.setVariable("vendorName", vendorName);
             context.setVariable("vendorContact", vendorContact);
             context.setVariable("estimatedCompletionDate",
-                    request.getEstimatedCompletionDate() != null
-                            ? request.getEstimatedCompletionDate().format(DateTimeFormatter.ofPattern("MMM dd, yyyy"))
+                    request.estimatedCompletionDate() != null
+                            ? request.estimatedCompletionDate().format(DATE_FORMATTER)
                             : null);
-            context.setVariable("workNotes", request.getWorkNotes());
+            context.setVariable("workNotes", request.workNotes());
             context.setVariable("trackingUrl", trackingUrl);
             context.setVariable("supportEmail", supportEmail);
 
@@ -419,21 +434,21 @@ public class EmailService implements IEmailService {
 
             // Send email
             sendEmail(
-                tenant.getEmail(),
+                tenant.email(),
                 String.format("Update: Maintenance Request %s - %s",
-                        request.getRequestNumber(),
+                        request.requestNumber(),
                         statusLabel),
                 textContent,
                 htmlContent
             );
 
             log.info("Maintenance request status change email sent successfully to tenant: {} ({}) for request: {}",
-                    tenant.getId(), tenant.getEmail(), request.getRequestNumber());
+                    tenant.tenantId(), tenant.email(), request.requestNumber());
 
         } catch (Exception e) {
             // Fail silently - don't throw exception to user, just log error
             log.error("Failed to send maintenance request status change email to tenant: {} ({}) for request: {}",
-                    tenant.getId(), tenant.getEmail(), request.getRequestNumber(), e);
+                    tenant.tenantId(), tenant.email(), request.requestNumber(), e);
         }
     }
 
@@ -479,10 +494,10 @@ public class EmailService implements IEmailService {
             context.setVariable("propertyName", propertyName != null ? propertyName : "N/A");
             context.setVariable("unitNumber", unitNumber);
             context.setVariable("scheduledDate", workOrder.getScheduledDate() != null
-                    ? workOrder.getScheduledDate().format(DateTimeFormatter.ofPattern("MMM dd, yyyy"))
+                    ? workOrder.getScheduledDate().format(DATE_FORMATTER)
                     : null);
             context.setVariable("assignedByName", assignedByName);
-            context.setVariable("assignedDate", LocalDateTime.now().format(DateTimeFormatter.ofPattern("MMM dd, yyyy hh:mm a")));
+            context.setVariable("assignedDate", LocalDateTime.now().format(DATE_TIME_FORMATTER));
             context.setVariable("assignmentNotes", assignmentNotes);
             context.setVariable("accessInstructions", workOrder.getAccessInstructions());
             context.setVariable("workOrderUrl", workOrderUrl);
@@ -553,10 +568,10 @@ public class EmailService implements IEmailService {
             context.setVariable("propertyName", propertyName != null ? propertyName : "N/A");
             context.setVariable("unitNumber", unitNumber);
             context.setVariable("scheduledDate", workOrder.getScheduledDate() != null
-                    ? workOrder.getScheduledDate().format(DateTimeFormatter.ofPattern("MMM dd, yyyy"))
+                    ? workOrder.getScheduledDate().format(DATE_FORMATTER)
                     : null);
             context.setVariable("reassignedByName", reassignedByName);
-            context.setVariable("reassignedDate", LocalDateTime.now().format(DateTimeFormatter.ofPattern("MMM dd, yyyy hh:mm a")));
+            context.setVariable("reassignedDate", LocalDateTime.now().format(DATE_TIME_FORMATTER));
             context.setVariable("reassignmentReason", reassignmentReason);
             context.setVariable("assignmentNotes", assignmentNotes);
             context.setVariable("accessInstructions", workOrder.getAccessInstructions());
@@ -626,7 +641,7 @@ public class EmailService implements IEmailService {
             context.setVariable("propertyName", propertyName != null ? propertyName : "N/A");
             context.setVariable("unitNumber", unitNumber);
             context.setVariable("reassignedByName", reassignedByName);
-            context.setVariable("reassignedDate", LocalDateTime.now().format(DateTimeFormatter.ofPattern("MMM dd, yyyy hh:mm a")));
+            context.setVariable("reassignedDate", LocalDateTime.now().format(DATE_TIME_FORMATTER));
             context.setVariable("reassignmentReason", reassignmentReason);
             context.setVariable("supportEmail", supportEmail);
 
@@ -685,7 +700,7 @@ public class EmailService implements IEmailService {
             context.setVariable("propertyName", propertyName);
             context.setVariable("unitNumber", unitNumber);
             context.setVariable("assigneeName", assigneeName);
-            context.setVariable("startedAt", LocalDateTime.now().format(DateTimeFormatter.ofPattern("MMM dd, yyyy hh:mm a")));
+            context.setVariable("startedAt", LocalDateTime.now().format(DATE_TIME_FORMATTER));
             context.setVariable("workOrderUrl", workOrderUrl);
             context.setVariable("supportEmail", supportEmail);
 
@@ -739,7 +754,7 @@ public class EmailService implements IEmailService {
             context.setVariable("unitNumber", unitNumber);
             context.setVariable("assigneeName", assigneeName);
             context.setVariable("progressNotes", progressNotes);
-            context.setVariable("updatedAt", LocalDateTime.now().format(DateTimeFormatter.ofPattern("MMM dd, yyyy hh:mm a")));
+            context.setVariable("updatedAt", LocalDateTime.now().format(DATE_TIME_FORMATTER));
             context.setVariable("workOrderUrl", workOrderUrl);
             context.setVariable("supportEmail", supportEmail);
 
@@ -803,7 +818,7 @@ public class EmailService implements IEmailService {
             context.setVariable("propertyName", propertyName);
             context.setVariable("unitNumber", unitNumber);
             context.setVariable("assigneeName", assigneeName);
-            context.setVariable("completedAt", LocalDateTime.now().format(DateTimeFormatter.ofPattern("MMM dd, yyyy hh:mm a")));
+            context.setVariable("completedAt", LocalDateTime.now().format(DATE_TIME_FORMATTER));
             context.setVariable("completionNotes", completionNotes);
             context.setVariable("hoursSpent", hoursSpent != null ? hoursSpent.toString() : "N/A");
             context.setVariable("totalCost", totalCost != null ? "AED " + totalCost.toString() : "N/A");
@@ -844,7 +859,7 @@ public class EmailService implements IEmailService {
      * Notifies PM about vendor documents expiring within 30 days.
      * Story 5.2: Vendor Document and License Management (AC #19)
      *
-     * @param vendor Vendor entity with expiring document
+     * @param vendor Vendor snapshot with expiring document
      * @param documentType Type of document expiring
      * @param fileName Name of the document file
      * @param expiryDate Document expiry date
@@ -852,21 +867,21 @@ public class EmailService implements IEmailService {
      */
     @Async("emailTaskExecutor")
     public void sendDocumentExpiry30DayNotification(
-            com.ultrabms.entity.Vendor vendor,
+            VendorEmailPayload vendor,
             String documentType,
             String fileName,
             java.time.LocalDate expiryDate,
             Long daysUntilExpiry
     ) {
         try {
-            String vendorUrl = frontendUrl + "/property-manager/vendors/" + vendor.getId();
+            String vendorUrl = frontendUrl + "/property-manager/vendors/" + vendor.vendorId();
 
             Context context = new Context();
-            context.setVariable("vendorName", vendor.getCompanyName());
-            context.setVariable("vendorNumber", vendor.getVendorNumber());
+            context.setVariable("vendorName", vendor.companyName());
+            context.setVariable("vendorNumber", vendor.vendorNumber());
             context.setVariable("documentType", documentType.replace("_", " "));
             context.setVariable("fileName", fileName);
-            context.setVariable("expiryDate", expiryDate.format(java.time.format.DateTimeFormatter.ofPattern("MMM dd, yyyy")));
+            context.setVariable("expiryDate", expiryDate.format(DATE_FORMATTER));
             context.setVariable("daysUntilExpiry", daysUntilExpiry);
             context.setVariable("vendorUrl", vendorUrl);
             context.setVariable("supportEmail", supportEmail);
@@ -876,17 +891,17 @@ public class EmailService implements IEmailService {
             sendEmail(
                 supportEmail,  // PM notification goes to support email
                 String.format("Document Expiring Soon: %s - %s (%d days)",
-                        vendor.getCompanyName(), documentType.replace("_", " "), daysUntilExpiry),
+                        vendor.companyName(), documentType.replace("_", " "), daysUntilExpiry),
                 textContent,
                 textContent
             );
 
             log.info("30-day document expiry notification sent for vendor: {} document: {}",
-                    vendor.getVendorNumber(), documentType);
+                    vendor.vendorNumber(), documentType);
 
         } catch (Exception e) {
             log.error("Failed to send 30-day document expiry notification for vendor: {} document: {}",
-                    vendor.getVendorNumber(), documentType, e);
+                    vendor.vendorNumber(), documentType, e);
         }
     }
 
@@ -895,7 +910,7 @@ public class EmailService implements IEmailService {
      * Notifies vendor directly about their expiring documents.
      * Story 5.2: Vendor Document and License Management (AC #20)
      *
-     * @param vendor Vendor entity with expiring document
+     * @param vendor Vendor snapshot with expiring document
      * @param documentType Type of document expiring
      * @param fileName Name of the document file
      * @param expiryDate Document expiry date
@@ -903,7 +918,7 @@ public class EmailService implements IEmailService {
      */
     @Async("emailTaskExecutor")
     public void sendDocumentExpiry15DayNotification(
-            com.ultrabms.entity.Vendor vendor,
+            VendorEmailPayload vendor,
             String documentType,
             String fileName,
             java.time.LocalDate expiryDate,
@@ -911,18 +926,18 @@ public class EmailService implements IEmailService {
     ) {
         try {
             Context context = new Context();
-            context.setVariable("vendorName", vendor.getCompanyName());
-            context.setVariable("contactPersonName", vendor.getContactPersonName());
+            context.setVariable("vendorName", vendor.companyName());
+            context.setVariable("contactPersonName", vendor.contactPersonName());
             context.setVariable("documentType", documentType.replace("_", " "));
             context.setVariable("fileName", fileName);
-            context.setVariable("expiryDate", expiryDate.format(java.time.format.DateTimeFormatter.ofPattern("MMM dd, yyyy")));
+            context.setVariable("expiryDate", expiryDate.format(DATE_FORMATTER));
             context.setVariable("daysUntilExpiry", daysUntilExpiry);
             context.setVariable("supportEmail", supportEmail);
 
             String textContent = templateEngine.process("email/vendor-document-expiry-15-day.txt", context);
 
             sendEmail(
-                vendor.getEmail(),
+                vendor.email(),
                 String.format("URGENT: Your %s Expires in %d Days",
                         documentType.replace("_", " "), daysUntilExpiry),
                 textContent,
@@ -930,11 +945,11 @@ public class EmailService implements IEmailService {
             );
 
             log.info("15-day document expiry notification sent to vendor: {} for document: {}",
-                    vendor.getEmail(), documentType);
+                    vendor.email(), documentType);
 
         } catch (Exception e) {
             log.error("Failed to send 15-day document expiry notification to vendor: {} for document: {}",
-                    vendor.getEmail(), documentType, e);
+                    vendor.email(), documentType, e);
         }
     }
 
@@ -943,12 +958,12 @@ public class EmailService implements IEmailService {
      * Notifies vendor that their account has been suspended due to expired critical documents.
      * Story 5.2: Vendor Document and License Management (AC #21)
      *
-     * @param vendor Vendor entity that has been suspended
+     * @param vendor Vendor snapshot that has been suspended
      * @param expiredDocumentTypes List of expired document types
      */
     @Async("emailTaskExecutor")
     public void sendVendorSuspendedDueToExpiredDocuments(
-            com.ultrabms.entity.Vendor vendor,
+            VendorEmailPayload vendor,
             java.util.List<String> expiredDocumentTypes
     ) {
         try {
@@ -957,9 +972,9 @@ public class EmailService implements IEmailService {
                     .collect(java.util.stream.Collectors.joining(", "));
 
             Context context = new Context();
-            context.setVariable("vendorName", vendor.getCompanyName());
-            context.setVariable("contactPersonName", vendor.getContactPersonName());
-            context.setVariable("vendorNumber", vendor.getVendorNumber());
+            context.setVariable("vendorName", vendor.companyName());
+            context.setVariable("contactPersonName", vendor.contactPersonName());
+            context.setVariable("vendorNumber", vendor.vendorNumber());
             context.setVariable("expiredDocuments", expiredDocsFormatted);
             context.setVariable("supportEmail", supportEmail);
 
@@ -967,8 +982,8 @@ public class EmailService implements IEmailService {
 
             // Send to vendor
             sendEmail(
-                vendor.getEmail(),
-                String.format("Account Suspended: Expired Documents - %s", vendor.getCompanyName()),
+                vendor.email(),
+                String.format("Account Suspended: Expired Documents - %s", vendor.companyName()),
                 textContent,
                 textContent
             );
@@ -977,17 +992,17 @@ public class EmailService implements IEmailService {
             sendEmail(
                 supportEmail,
                 String.format("Vendor Suspended: %s (%s) - Expired Documents",
-                        vendor.getCompanyName(), vendor.getVendorNumber()),
+                        vendor.companyName(), vendor.vendorNumber()),
                 textContent,
                 textContent
             );
 
             log.info("Vendor suspension notification sent to vendor: {} for expired documents: {}",
-                    vendor.getEmail(), expiredDocsFormatted);
+                    vendor.email(), expiredDocsFormatted);
 
         } catch (Exception e) {
             log.error("Failed to send vendor suspension notification to vendor: {}",
-                    vendor.getEmail(), e);
+                    vendor.email(), e);
         }
     }
 
@@ -996,34 +1011,34 @@ public class EmailService implements IEmailService {
      * Notifies vendor that their account has been reactivated after uploading valid documents.
      * Story 5.2: Vendor Document and License Management (AC #22)
      *
-     * @param vendor Vendor entity that has been reactivated
+     * @param vendor Vendor snapshot that has been reactivated
      */
     @Async("emailTaskExecutor")
     public void sendVendorReactivatedNotification(
-            com.ultrabms.entity.Vendor vendor
+            VendorEmailPayload vendor
     ) {
         try {
             Context context = new Context();
-            context.setVariable("vendorName", vendor.getCompanyName());
-            context.setVariable("contactPersonName", vendor.getContactPersonName());
-            context.setVariable("vendorNumber", vendor.getVendorNumber());
+            context.setVariable("vendorName", vendor.companyName());
+            context.setVariable("contactPersonName", vendor.contactPersonName());
+            context.setVariable("vendorNumber", vendor.vendorNumber());
             context.setVariable("supportEmail", supportEmail);
 
             String textContent = templateEngine.process("email/vendor-reactivated.txt", context);
 
             sendEmail(
-                vendor.getEmail(),
-                String.format("Account Reactivated: %s", vendor.getCompanyName()),
+                vendor.email(),
+                String.format("Account Reactivated: %s", vendor.companyName()),
                 textContent,
                 textContent
             );
 
             log.info("Vendor reactivation notification sent to vendor: {}",
-                    vendor.getEmail());
+                    vendor.email());
 
         } catch (Exception e) {
             log.error("Failed to send vendor reactivation notification to vendor: {}",
-                    vendor.getEmail(), e);
+                    vendor.email(), e);
         }
     }
 
@@ -1035,30 +1050,29 @@ public class EmailService implements IEmailService {
      * Send invoice email to tenant asynchronously with PDF attachment.
      * Story 6.1: Rent Invoicing and Payment Management (AC #11)
      *
-     * @param invoice Invoice entity
+     * @param invoice Invoice snapshot
      * @param pdfContent Invoice PDF content
      */
     @Async("emailTaskExecutor")
-    public void sendInvoiceEmail(com.ultrabms.entity.Invoice invoice, byte[] pdfContent) {
+    public void sendInvoiceEmail(InvoiceEmailPayload invoice, byte[] pdfContent) {
         try {
-            com.ultrabms.entity.Tenant tenant = invoice.getTenant();
-            String invoiceUrl = frontendUrl + "/tenant/invoices/" + invoice.getId();
+            String invoiceUrl = frontendUrl + "/tenant/invoices/" + invoice.invoiceId();
 
             Context context = new Context();
-            context.setVariable("tenantName", tenant.getFullName());
-            context.setVariable("invoiceNumber", invoice.getInvoiceNumber());
-            context.setVariable("invoiceDate", invoice.getInvoiceDate().format(java.time.format.DateTimeFormatter.ofPattern("MMM dd, yyyy")));
-            context.setVariable("dueDate", invoice.getDueDate().format(java.time.format.DateTimeFormatter.ofPattern("MMM dd, yyyy")));
-            context.setVariable("propertyName", invoice.getProperty() != null ? invoice.getProperty().getName() : "N/A");
-            context.setVariable("unitNumber", invoice.getUnit() != null ? invoice.getUnit().getUnitNumber() : "N/A");
-            context.setVariable("baseRent", formatCurrency(invoice.getBaseRent()));
-            context.setVariable("serviceCharges", formatCurrency(invoice.getServiceCharges()));
-            context.setVariable("parkingFees", formatCurrency(invoice.getParkingFees()));
-            context.setVariable("lateFee", formatCurrency(invoice.getLateFee()));
-            context.setVariable("totalAmount", formatCurrency(invoice.getTotalAmount()));
-            context.setVariable("balanceAmount", formatCurrency(invoice.getBalanceAmount()));
-            context.setVariable("additionalCharges", invoice.getAdditionalCharges());
-            context.setVariable("notes", invoice.getNotes());
+            context.setVariable("tenantName", invoice.tenantName());
+            context.setVariable("invoiceNumber", invoice.invoiceNumber());
+            context.setVariable("invoiceDate", invoice.invoiceDate().format(DATE_FORMATTER));
+            context.setVariable("dueDate", invoice.dueDate().format(DATE_FORMATTER));
+            context.setVariable("propertyName", invoice.propertyName());
+            context.setVariable("unitNumber", invoice.unitNumber());
+            context.setVariable("baseRent", formatCurrency(invoice.baseRent()));
+            context.setVariable("serviceCharges", formatCurrency(invoice.serviceCharges()));
+            context.setVariable("parkingFees", formatCurrency(invoice.parkingFees()));
+            context.setVariable("lateFee", formatCurrency(invoice.lateFee()));
+            context.setVariable("totalAmount", formatCurrency(invoice.totalAmount()));
+            context.setVariable("balanceAmount", formatCurrency(invoice.balanceAmount()));
+            context.setVariable("additionalCharges", invoice.additionalCharges());
+            context.setVariable("notes", invoice.notes());
             context.setVariable("invoiceUrl", invoiceUrl);
             context.setVariable("supportEmail", supportEmail);
 
@@ -1066,22 +1080,22 @@ public class EmailService implements IEmailService {
             String textContent = templateEngine.process("email/invoice-sent.txt", context);
 
             sendEmailWithAttachment(
-                tenant.getEmail(),
+                invoice.tenantEmail(),
                 String.format("Invoice %s - Payment Due %s",
-                        invoice.getInvoiceNumber(),
-                        invoice.getDueDate().format(java.time.format.DateTimeFormatter.ofPattern("MMM dd, yyyy"))),
+                        invoice.invoiceNumber(),
+                        invoice.dueDate().format(DATE_FORMATTER)),
                 textContent,
                 htmlContent,
                 pdfContent,
-                String.format("invoice-%s.pdf", invoice.getInvoiceNumber())
+                String.format("invoice-%s.pdf", invoice.invoiceNumber())
             );
 
             log.info("Invoice email sent successfully to tenant: {} ({}) for invoice: {}",
-                    tenant.getId(), tenant.getEmail(), invoice.getInvoiceNumber());
+                    invoice.tenantId(), invoice.tenantEmail(), invoice.invoiceNumber());
 
         } catch (Exception e) {
             log.error("Failed to send invoice email to tenant for invoice: {}",
-                    invoice.getInvoiceNumber(), e);
+                    invoice.invoiceNumber(), e);
         }
     }
 
@@ -1089,27 +1103,26 @@ public class EmailService implements IEmailService {
      * Send payment received confirmation email to tenant.
      * Story 6.1: Rent Invoicing and Payment Management (AC #7)
      *
-     * @param payment Payment entity
+     * @param payment Payment snapshot (with the invoice after the payment was applied)
      * @param receiptPdf Payment receipt PDF content
      */
     @Async("emailTaskExecutor")
-    public void sendPaymentReceivedEmail(com.ultrabms.entity.Payment payment, byte[] receiptPdf) {
+    public void sendPaymentReceivedEmail(PaymentEmailPayload payment, byte[] receiptPdf) {
         try {
-            com.ultrabms.entity.Invoice invoice = payment.getInvoice();
-            com.ultrabms.entity.Tenant tenant = invoice.getTenant();
-            String receiptUrl = frontendUrl + "/tenant/invoices/" + invoice.getId() + "/payments/" + payment.getId();
+            InvoiceEmailPayload invoice = payment.invoice();
+            String receiptUrl = frontendUrl + "/tenant/invoices/" + invoice.invoiceId() + "/payments/" + payment.paymentId();
 
             Context context = new Context();
-            context.setVariable("tenantName", tenant.getFullName());
-            context.setVariable("receiptNumber", payment.getPaymentNumber());
-            context.setVariable("invoiceNumber", invoice.getInvoiceNumber());
-            context.setVariable("paymentDate", payment.getPaymentDate().format(java.time.format.DateTimeFormatter.ofPattern("MMM dd, yyyy")));
-            context.setVariable("paymentMethod", payment.getPaymentMethod().toString().replace("_", " "));
-            context.setVariable("amountPaid", formatCurrency(payment.getAmount()));
-            context.setVariable("referenceNumber", payment.getTransactionReference());
-            context.setVariable("previousBalance", formatCurrency(invoice.getBalanceAmount().add(payment.getAmount())));
-            context.setVariable("newBalance", formatCurrency(invoice.getBalanceAmount()));
-            context.setVariable("isPaidInFull", invoice.getBalanceAmount().compareTo(java.math.BigDecimal.ZERO) <= 0);
+            context.setVariable("tenantName", invoice.tenantName());
+            context.setVariable("receiptNumber", payment.paymentNumber());
+            context.setVariable("invoiceNumber", invoice.invoiceNumber());
+            context.setVariable("paymentDate", payment.paymentDate().format(DATE_FORMATTER));
+            context.setVariable("paymentMethod", payment.paymentMethod().toString().replace("_", " "));
+            context.setVariable("amountPaid", formatCurrency(payment.amount()));
+            context.setVariable("referenceNumber", payment.transactionReference());
+            context.setVariable("previousBalance", formatCurrency(invoice.balanceAmount().add(payment.amount())));
+            context.setVariable("newBalance", formatCurrency(invoice.balanceAmount()));
+            context.setVariable("isPaidInFull", invoice.balanceAmount().compareTo(java.math.BigDecimal.ZERO) <= 0);
             context.setVariable("receiptUrl", receiptUrl);
             context.setVariable("supportEmail", supportEmail);
 
@@ -1117,20 +1130,20 @@ public class EmailService implements IEmailService {
             String textContent = templateEngine.process("email/payment-received.txt", context);
 
             sendEmailWithAttachment(
-                tenant.getEmail(),
-                String.format("Payment Received - Receipt %s", payment.getPaymentNumber()),
+                invoice.tenantEmail(),
+                String.format("Payment Received - Receipt %s", payment.paymentNumber()),
                 textContent,
                 htmlContent,
                 receiptPdf,
-                String.format("receipt-%s.pdf", payment.getPaymentNumber())
+                String.format("receipt-%s.pdf", payment.paymentNumber())
             );
 
             log.info("Payment received email sent successfully to tenant: {} ({}) for payment: {}",
-                    tenant.getId(), tenant.getEmail(), payment.getPaymentNumber());
+                    invoice.tenantId(), invoice.tenantEmail(), payment.paymentNumber());
 
         } catch (Exception e) {
             log.error("Failed to send payment received email for payment: {}",
-                    payment.getId(), e);
+                    payment.paymentId(), e);
         }
     }
 
@@ -1138,24 +1151,23 @@ public class EmailService implements IEmailService {
      * Send payment reminder email to tenant before due date.
      * Story 6.1: Rent Invoicing and Payment Management (AC #14)
      *
-     * @param invoice Invoice entity
+     * @param invoice Invoice snapshot
      * @param daysUntilDue Number of days until the due date
      */
     @Async("emailTaskExecutor")
-    public void sendPaymentReminderEmail(com.ultrabms.entity.Invoice invoice, int daysUntilDue) {
+    public void sendPaymentReminderEmail(InvoiceEmailPayload invoice, int daysUntilDue) {
         try {
-            com.ultrabms.entity.Tenant tenant = invoice.getTenant();
-            String invoiceUrl = frontendUrl + "/tenant/invoices/" + invoice.getId();
-            String paymentUrl = frontendUrl + "/tenant/invoices/" + invoice.getId() + "/pay";
+            String invoiceUrl = frontendUrl + "/tenant/invoices/" + invoice.invoiceId();
+            String paymentUrl = frontendUrl + "/tenant/invoices/" + invoice.invoiceId() + "/pay";
 
             Context context = new Context();
-            context.setVariable("tenantName", tenant.getFullName());
-            context.setVariable("invoiceNumber", invoice.getInvoiceNumber());
-            context.setVariable("dueDate", invoice.getDueDate().format(java.time.format.DateTimeFormatter.ofPattern("MMM dd, yyyy")));
+            context.setVariable("tenantName", invoice.tenantName());
+            context.setVariable("invoiceNumber", invoice.invoiceNumber());
+            context.setVariable("dueDate", invoice.dueDate().format(DATE_FORMATTER));
             context.setVariable("daysUntilDue", daysUntilDue);
-            context.setVariable("balanceAmount", formatCurrency(invoice.getBalanceAmount()));
-            context.setVariable("propertyName", invoice.getProperty() != null ? invoice.getProperty().getName() : "N/A");
-            context.setVariable("unitNumber", invoice.getUnit() != null ? invoice.getUnit().getUnitNumber() : "N/A");
+            context.setVariable("balanceAmount", formatCurrency(invoice.balanceAmount()));
+            context.setVariable("propertyName", invoice.propertyName());
+            context.setVariable("unitNumber", invoice.unitNumber());
             context.setVariable("isUrgent", daysUntilDue <= 3);
             context.setVariable("invoiceUrl", invoiceUrl);
             context.setVariable("paymentUrl", paymentUrl);
@@ -1166,23 +1178,23 @@ public class EmailService implements IEmailService {
 
             String subject = daysUntilDue <= 3
                     ? String.format("URGENT: Payment Due in %d Day%s - Invoice %s",
-                            daysUntilDue, daysUntilDue == 1 ? "" : "s", invoice.getInvoiceNumber())
+                            daysUntilDue, daysUntilDue == 1 ? "" : "s", invoice.invoiceNumber())
                     : String.format("Payment Reminder - Invoice %s Due in %d Days",
-                            invoice.getInvoiceNumber(), daysUntilDue);
+                            invoice.invoiceNumber(), daysUntilDue);
 
             sendEmail(
-                tenant.getEmail(),
+                invoice.tenantEmail(),
                 subject,
                 textContent,
                 htmlContent
             );
 
             log.info("Payment reminder email sent successfully to tenant: {} ({}) for invoice: {} - {} days until due",
-                    tenant.getId(), tenant.getEmail(), invoice.getInvoiceNumber(), daysUntilDue);
+                    invoice.tenantId(), invoice.tenantEmail(), invoice.invoiceNumber(), daysUntilDue);
 
         } catch (Exception e) {
             log.error("Failed to send payment reminder email for invoice: {}",
-                    invoice.getInvoiceNumber(), e);
+                    invoice.invoiceNumber(), e);
         }
     }
 
@@ -1190,26 +1202,25 @@ public class EmailService implements IEmailService {
      * Send overdue invoice notification email to tenant.
      * Story 6.1: Rent Invoicing and Payment Management (AC #12)
      *
-     * @param invoice Invoice entity marked as overdue
+     * @param invoice Snapshot of the invoice marked as overdue
      * @param daysOverdue Number of days past due date
      */
     @Async("emailTaskExecutor")
-    public void sendOverdueInvoiceEmail(com.ultrabms.entity.Invoice invoice, long daysOverdue) {
+    public void sendOverdueInvoiceEmail(InvoiceEmailPayload invoice, long daysOverdue) {
         try {
-            com.ultrabms.entity.Tenant tenant = invoice.getTenant();
-            String invoiceUrl = frontendUrl + "/tenant/invoices/" + invoice.getId();
-            String paymentUrl = frontendUrl + "/tenant/invoices/" + invoice.getId() + "/pay";
+            String invoiceUrl = frontendUrl + "/tenant/invoices/" + invoice.invoiceId();
+            String paymentUrl = frontendUrl + "/tenant/invoices/" + invoice.invoiceId() + "/pay";
 
             Context context = new Context();
-            context.setVariable("tenantName", tenant.getFullName());
-            context.setVariable("invoiceNumber", invoice.getInvoiceNumber());
-            context.setVariable("dueDate", invoice.getDueDate().format(java.time.format.DateTimeFormatter.ofPattern("MMM dd, yyyy")));
+            context.setVariable("tenantName", invoice.tenantName());
+            context.setVariable("invoiceNumber", invoice.invoiceNumber());
+            context.setVariable("dueDate", invoice.dueDate().format(DATE_FORMATTER));
             context.setVariable("daysOverdue", daysOverdue);
-            context.setVariable("balanceAmount", formatCurrency(invoice.getBalanceAmount()));
-            context.setVariable("lateFee", formatCurrency(invoice.getLateFee()));
-            context.setVariable("lateFeeApplied", invoice.getLateFeeApplied());
-            context.setVariable("propertyName", invoice.getProperty() != null ? invoice.getProperty().getName() : "N/A");
-            context.setVariable("unitNumber", invoice.getUnit() != null ? invoice.getUnit().getUnitNumber() : "N/A");
+            context.setVariable("balanceAmount", formatCurrency(invoice.balanceAmount()));
+            context.setVariable("lateFee", formatCurrency(invoice.lateFee()));
+            context.setVariable("lateFeeApplied", invoice.lateFeeApplied());
+            context.setVariable("propertyName", invoice.propertyName());
+            context.setVariable("unitNumber", invoice.unitNumber());
             context.setVariable("invoiceUrl", invoiceUrl);
             context.setVariable("paymentUrl", paymentUrl);
             context.setVariable("supportEmail", supportEmail);
@@ -1218,19 +1229,19 @@ public class EmailService implements IEmailService {
             String textContent = templateEngine.process("email/invoice-overdue.txt", context);
 
             sendEmail(
-                tenant.getEmail(),
+                invoice.tenantEmail(),
                 String.format("OVERDUE: Invoice %s - %d Day%s Past Due",
-                        invoice.getInvoiceNumber(), daysOverdue, daysOverdue == 1 ? "" : "s"),
+                        invoice.invoiceNumber(), daysOverdue, daysOverdue == 1 ? "" : "s"),
                 textContent,
                 htmlContent
             );
 
             log.info("Overdue invoice email sent successfully to tenant: {} ({}) for invoice: {} - {} days overdue",
-                    tenant.getId(), tenant.getEmail(), invoice.getInvoiceNumber(), daysOverdue);
+                    invoice.tenantId(), invoice.tenantEmail(), invoice.invoiceNumber(), daysOverdue);
 
         } catch (Exception e) {
             log.error("Failed to send overdue invoice email for invoice: {}",
-                    invoice.getInvoiceNumber(), e);
+                    invoice.invoiceNumber(), e);
         }
     }
 
@@ -1238,21 +1249,20 @@ public class EmailService implements IEmailService {
      * Send late fee applied notification email to tenant.
      * Story 6.1: Rent Invoicing and Payment Management (AC #13)
      *
-     * @param invoice Invoice entity with late fee applied
+     * @param invoice Snapshot of the invoice with late fee applied
      */
     @Async("emailTaskExecutor")
-    public void sendLateFeeAppliedEmail(com.ultrabms.entity.Invoice invoice) {
+    public void sendLateFeeAppliedEmail(InvoiceEmailPayload invoice) {
         try {
-            com.ultrabms.entity.Tenant tenant = invoice.getTenant();
-            String invoiceUrl = frontendUrl + "/tenant/invoices/" + invoice.getId();
+            String invoiceUrl = frontendUrl + "/tenant/invoices/" + invoice.invoiceId();
 
             Context context = new Context();
-            context.setVariable("tenantName", tenant.getFullName());
-            context.setVariable("invoiceNumber", invoice.getInvoiceNumber());
-            context.setVariable("dueDate", invoice.getDueDate().format(java.time.format.DateTimeFormatter.ofPattern("MMM dd, yyyy")));
-            context.setVariable("lateFeeAmount", formatCurrency(invoice.getLateFee()));
-            context.setVariable("previousBalance", formatCurrency(invoice.getBalanceAmount().subtract(invoice.getLateFee())));
-            context.setVariable("newBalance", formatCurrency(invoice.getBalanceAmount()));
+            context.setVariable("tenantName", invoice.tenantName());
+            context.setVariable("invoiceNumber", invoice.invoiceNumber());
+            context.setVariable("dueDate", invoice.dueDate().format(DATE_FORMATTER));
+            context.setVariable("lateFeeAmount", formatCurrency(invoice.lateFee()));
+            context.setVariable("previousBalance", formatCurrency(invoice.balanceAmount().subtract(invoice.lateFee())));
+            context.setVariable("newBalance", formatCurrency(invoice.balanceAmount()));
             context.setVariable("invoiceUrl", invoiceUrl);
             context.setVariable("supportEmail", supportEmail);
 
@@ -1260,18 +1270,18 @@ public class EmailService implements IEmailService {
             String textContent = templateEngine.process("email/late-fee-applied.txt", context);
 
             sendEmail(
-                tenant.getEmail(),
-                String.format("Late Fee Applied - Invoice %s", invoice.getInvoiceNumber()),
+                invoice.tenantEmail(),
+                String.format("Late Fee Applied - Invoice %s", invoice.invoiceNumber()),
                 textContent,
                 htmlContent
             );
 
             log.info("Late fee applied email sent successfully to tenant: {} ({}) for invoice: {}",
-                    tenant.getId(), tenant.getEmail(), invoice.getInvoiceNumber());
+                    invoice.tenantId(), invoice.tenantEmail(), invoice.invoiceNumber());
 
         } catch (Exception e) {
             log.error("Failed to send late fee applied email for invoice: {}",
-                    invoice.getInvoiceNumber(), e);
+                    invoice.invoiceNumber(), e);
         }
     }
 
@@ -1412,30 +1422,30 @@ public class EmailService implements IEmailService {
      * Confirms successful lease extension with new terms.
      * Story 3.6: Tenant Lease Extension and Renewal (AC #8)
      *
-     * @param tenant Tenant entity
-     * @param extension LeaseExtension entity with extension details
+     * @param tenant Tenant snapshot
+     * @param extension Lease extension snapshot with extension details
      */
     @Async("emailTaskExecutor")
     public void sendLeaseExtensionConfirmation(
-            com.ultrabms.entity.Tenant tenant,
-            com.ultrabms.entity.LeaseExtension extension
+            TenantEmailPayload tenant,
+            LeaseExtensionEmailPayload extension
     ) {
         try {
             String portalUrl = frontendUrl + "/tenant/dashboard";
 
             Context context = new Context();
-            context.setVariable("tenantName", tenant.getFullName());
-            context.setVariable("extensionNumber", extension.getExtensionNumber());
-            context.setVariable("propertyName", tenant.getProperty() != null ? tenant.getProperty().getName() : "N/A");
-            context.setVariable("unitNumber", tenant.getUnit() != null ? tenant.getUnit().getUnitNumber() : "N/A");
-            context.setVariable("previousEndDate", extension.getPreviousEndDate().format(java.time.format.DateTimeFormatter.ofPattern("MMM dd, yyyy")));
-            context.setVariable("newEndDate", extension.getNewEndDate().format(java.time.format.DateTimeFormatter.ofPattern("MMM dd, yyyy")));
-            context.setVariable("effectiveDate", extension.getEffectiveDate().format(java.time.format.DateTimeFormatter.ofPattern("MMM dd, yyyy")));
-            context.setVariable("previousRent", formatCurrency(extension.getPreviousRent()));
-            context.setVariable("newRent", formatCurrency(extension.getNewRent()));
-            context.setVariable("rentChanged", !extension.getPreviousRent().equals(extension.getNewRent()));
-            context.setVariable("autoRenewal", extension.getAutoRenewal());
-            context.setVariable("specialTerms", extension.getSpecialTerms());
+            context.setVariable("tenantName", tenant.tenantName());
+            context.setVariable("extensionNumber", extension.extensionNumber());
+            context.setVariable("propertyName", tenant.propertyName());
+            context.setVariable("unitNumber", tenant.unitNumber());
+            context.setVariable("previousEndDate", extension.previousEndDate().format(DATE_FORMATTER));
+            context.setVariable("newEndDate", extension.newEndDate().format(DATE_FORMATTER));
+            context.setVariable("effectiveDate", extension.effectiveDate().format(DATE_FORMATTER));
+            context.setVariable("previousRent", formatCurrency(extension.previousRent()));
+            context.setVariable("newRent", formatCurrency(extension.newRent()));
+            context.setVariable("rentChanged", !extension.previousRent().equals(extension.newRent()));
+            context.setVariable("autoRenewal", extension.autoRenewal());
+            context.setVariable("specialTerms", extension.specialTerms());
             context.setVariable("portalUrl", portalUrl);
             context.setVariable("supportEmail", supportEmail);
 
@@ -1443,18 +1453,18 @@ public class EmailService implements IEmailService {
             String textContent = templateEngine.process("email/lease-extension-confirmation.txt", context);
 
             sendEmail(
-                tenant.getEmail(),
-                String.format("Lease Extended - %s", extension.getExtensionNumber()),
+                tenant.email(),
+                String.format("Lease Extended - %s", extension.extensionNumber()),
                 textContent,
                 htmlContent
             );
 
             log.info("Lease extension confirmation email sent successfully to tenant: {} ({}) for extension: {}",
-                    tenant.getId(), tenant.getEmail(), extension.getExtensionNumber());
+                    tenant.tenantId(), tenant.email(), extension.extensionNumber());
 
         } catch (Exception e) {
             log.error("Failed to send lease extension confirmation email to tenant: {} ({}) for extension: {}",
-                    tenant.getId(), tenant.getEmail(), extension.getExtensionNumber(), e);
+                    tenant.tenantId(), tenant.email(), extension.extensionNumber(), e);
         }
     }
 
@@ -1463,22 +1473,22 @@ public class EmailService implements IEmailService {
      * Notifies tenant that their lease is expiring soon.
      * Story 3.6: Tenant Lease Extension and Renewal (AC #9)
      *
-     * @param tenant Tenant entity with expiring lease
+     * @param tenant Tenant snapshot with expiring lease
      * @param daysRemaining Days until lease expires
      */
     @Async("emailTaskExecutor")
     public void sendLeaseExpiryReminder(
-            com.ultrabms.entity.Tenant tenant,
+            TenantEmailPayload tenant,
             int daysRemaining
     ) {
         try {
             String portalUrl = frontendUrl + "/tenant/lease/renew";
 
             Context context = new Context();
-            context.setVariable("tenantName", tenant.getFullName());
-            context.setVariable("propertyName", tenant.getProperty() != null ? tenant.getProperty().getName() : "N/A");
-            context.setVariable("unitNumber", tenant.getUnit() != null ? tenant.getUnit().getUnitNumber() : "N/A");
-            context.setVariable("leaseEndDate", tenant.getLeaseEndDate().format(java.time.format.DateTimeFormatter.ofPattern("MMM dd, yyyy")));
+            context.setVariable("tenantName", tenant.tenantName());
+            context.setVariable("propertyName", tenant.propertyName());
+            context.setVariable("unitNumber", tenant.unitNumber());
+            context.setVariable("leaseEndDate", tenant.leaseEndDate().format(DATE_FORMATTER));
             context.setVariable("daysRemaining", daysRemaining);
             context.setVariable("isUrgent", daysRemaining <= 14);
             context.setVariable("isCritical", daysRemaining <= 7);
@@ -1493,18 +1503,18 @@ public class EmailService implements IEmailService {
                     : String.format("Lease Expiry Reminder - %d Days Remaining", daysRemaining);
 
             sendEmail(
-                tenant.getEmail(),
+                tenant.email(),
                 subject,
                 textContent,
                 htmlContent
             );
 
             log.info("Lease expiry reminder email sent successfully to tenant: {} ({}) - {} days remaining",
-                    tenant.getId(), tenant.getEmail(), daysRemaining);
+                    tenant.tenantId(), tenant.email(), daysRemaining);
 
         } catch (Exception e) {
             log.error("Failed to send lease expiry reminder email to tenant: {} ({})",
-                    tenant.getId(), tenant.getEmail(), e);
+                    tenant.tenantId(), tenant.email(), e);
         }
     }
 
@@ -1513,23 +1523,23 @@ public class EmailService implements IEmailService {
      * Confirms that tenant's renewal request has been received.
      * Story 3.6: Tenant Lease Extension and Renewal (AC #10)
      *
-     * @param tenant Tenant entity
-     * @param request RenewalRequest entity
+     * @param tenant Tenant snapshot
+     * @param request Renewal request snapshot
      */
     @Async("emailTaskExecutor")
     public void sendRenewalRequestConfirmation(
-            com.ultrabms.entity.Tenant tenant,
-            com.ultrabms.entity.RenewalRequest request
+            TenantEmailPayload tenant,
+            RenewalRequestEmailPayload request
     ) {
         try {
             String portalUrl = frontendUrl + "/tenant/dashboard";
 
             Context context = new Context();
-            context.setVariable("tenantName", tenant.getFullName());
-            context.setVariable("requestNumber", request.getRequestNumber());
-            context.setVariable("preferredTerm", request.getPreferredTerm().replace("_", " "));
-            context.setVariable("submittedAt", request.getRequestedAt().format(java.time.format.DateTimeFormatter.ofPattern("MMM dd, yyyy hh:mm a")));
-            context.setVariable("comments", request.getComments());
+            context.setVariable("tenantName", tenant.tenantName());
+            context.setVariable("requestNumber", request.requestNumber());
+            context.setVariable("preferredTerm", request.preferredTerm().replace("_", " "));
+            context.setVariable("submittedAt", request.requestedAt().format(DATE_TIME_FORMATTER));
+            context.setVariable("comments", request.comments());
             context.setVariable("portalUrl", portalUrl);
             context.setVariable("supportEmail", supportEmail);
 
@@ -1537,18 +1547,18 @@ public class EmailService implements IEmailService {
             String textContent = templateEngine.process("email/renewal-request-confirmation.txt", context);
 
             sendEmail(
-                tenant.getEmail(),
-                String.format("Renewal Request Received - %s", request.getRequestNumber()),
+                tenant.email(),
+                String.format("Renewal Request Received - %s", request.requestNumber()),
                 textContent,
                 htmlContent
             );
 
             log.info("Renewal request confirmation email sent successfully to tenant: {} ({}) for request: {}",
-                    tenant.getId(), tenant.getEmail(), request.getRequestNumber());
+                    tenant.tenantId(), tenant.email(), request.requestNumber());
 
         } catch (Exception e) {
             log.error("Failed to send renewal request confirmation email to tenant: {} ({})",
-                    tenant.getId(), tenant.getEmail(), e);
+                    tenant.tenantId(), tenant.email(), e);
         }
     }
 
@@ -1557,26 +1567,26 @@ public class EmailService implements IEmailService {
      * Notifies tenant when their renewal request is approved or rejected.
      * Story 3.6: Tenant Lease Extension and Renewal (AC #11)
      *
-     * @param tenant Tenant entity
-     * @param request RenewalRequest entity with updated status
+     * @param tenant Tenant snapshot
+     * @param request Renewal request snapshot with updated status
      */
     @Async("emailTaskExecutor")
     public void sendRenewalRequestStatusUpdate(
-            com.ultrabms.entity.Tenant tenant,
-            com.ultrabms.entity.RenewalRequest request
+            TenantEmailPayload tenant,
+            RenewalRequestEmailPayload request
     ) {
         try {
             String portalUrl = frontendUrl + "/tenant/dashboard";
-            boolean isApproved = request.getStatus() == com.ultrabms.entity.enums.RenewalRequestStatus.APPROVED;
+            boolean isApproved = request.status() == com.ultrabms.entity.enums.RenewalRequestStatus.APPROVED;
 
             Context context = new Context();
-            context.setVariable("tenantName", tenant.getFullName());
-            context.setVariable("requestNumber", request.getRequestNumber());
-            context.setVariable("status", request.getStatus().name());
+            context.setVariable("tenantName", tenant.tenantName());
+            context.setVariable("requestNumber", request.requestNumber());
+            context.setVariable("status", request.status().name());
             context.setVariable("isApproved", isApproved);
-            context.setVariable("rejectedReason", request.getRejectedReason());
-            context.setVariable("processedAt", request.getProcessedAt() != null
-                    ? request.getProcessedAt().format(java.time.format.DateTimeFormatter.ofPattern("MMM dd, yyyy"))
+            context.setVariable("rejectedReason", request.rejectedReason());
+            context.setVariable("processedAt", request.processedAt() != null
+                    ? request.processedAt().format(DATE_FORMATTER)
                     : "N/A");
             context.setVariable("portalUrl", portalUrl);
             context.setVariable("supportEmail", supportEmail);
@@ -1585,22 +1595,22 @@ public class EmailService implements IEmailService {
             String textContent = templateEngine.process("email/renewal-request-status-update.txt", context);
 
             String subject = isApproved
-                    ? String.format("Renewal Request Approved - %s", request.getRequestNumber())
-                    : String.format("Renewal Request Update - %s", request.getRequestNumber());
+                    ? String.format("Renewal Request Approved - %s", request.requestNumber())
+                    : String.format("Renewal Request Update - %s", request.requestNumber());
 
             sendEmail(
-                tenant.getEmail(),
+                tenant.email(),
                 subject,
                 textContent,
                 htmlContent
             );
 
             log.info("Renewal request status update email sent successfully to tenant: {} ({}) for request: {} - status: {}",
-                    tenant.getId(), tenant.getEmail(), request.getRequestNumber(), request.getStatus());
+                    tenant.tenantId(), tenant.email(), request.requestNumber(), request.status());
 
         } catch (Exception e) {
             log.error("Failed to send renewal request status update email to tenant: {} ({})",
-                    tenant.getId(), tenant.getEmail(), e);
+                    tenant.tenantId(), tenant.email(), e);
         }
     }
 
@@ -1613,25 +1623,25 @@ public class EmailService implements IEmailService {
      * Confirms that checkout process has been started.
      * Story 3.7: Tenant Checkout and Deposit Refund Processing (AC #7)
      *
-     * @param tenant Tenant entity
-     * @param checkout TenantCheckout entity
+     * @param tenant Tenant snapshot
+     * @param checkout Checkout snapshot
      */
     @Async("emailTaskExecutor")
     public void sendCheckoutInitiatedNotification(
-            com.ultrabms.entity.Tenant tenant,
-            com.ultrabms.entity.TenantCheckout checkout
+            TenantEmailPayload tenant,
+            CheckoutEmailPayload checkout
     ) {
         try {
             String portalUrl = frontendUrl + "/tenant/dashboard";
 
             Context context = new Context();
-            context.setVariable("tenantName", tenant.getFullName());
-            context.setVariable("checkoutNumber", checkout.getCheckoutNumber());
-            context.setVariable("propertyName", tenant.getProperty() != null ? tenant.getProperty().getName() : "N/A");
-            context.setVariable("unitNumber", tenant.getUnit() != null ? tenant.getUnit().getUnitNumber() : "N/A");
-            context.setVariable("noticeDate", checkout.getNoticeDate().format(java.time.format.DateTimeFormatter.ofPattern("MMM dd, yyyy")));
-            context.setVariable("expectedMoveOutDate", checkout.getExpectedMoveOutDate().format(java.time.format.DateTimeFormatter.ofPattern("MMM dd, yyyy")));
-            context.setVariable("checkoutReason", checkout.getCheckoutReason() != null ? checkout.getCheckoutReason().toString().replace("_", " ") : "N/A");
+            context.setVariable("tenantName", tenant.tenantName());
+            context.setVariable("checkoutNumber", checkout.checkoutNumber());
+            context.setVariable("propertyName", tenant.propertyName());
+            context.setVariable("unitNumber", tenant.unitNumber());
+            context.setVariable("noticeDate", checkout.noticeDate().format(DATE_FORMATTER));
+            context.setVariable("expectedMoveOutDate", checkout.expectedMoveOutDate().format(DATE_FORMATTER));
+            context.setVariable("checkoutReason", checkout.checkoutReason() != null ? checkout.checkoutReason().toString().replace("_", " ") : "N/A");
             context.setVariable("portalUrl", portalUrl);
             context.setVariable("supportEmail", supportEmail);
 
@@ -1654,30 +1664,30 @@ public class EmailService implements IEmailService {
                 "If you have any questions, please contact us at %s.\n\n" +
                 "Best regards,\n" +
                 "Ultra BMS Team",
-                tenant.getFullName(),
-                checkout.getCheckoutNumber(),
-                tenant.getProperty() != null ? tenant.getProperty().getName() : "N/A",
-                tenant.getUnit() != null ? tenant.getUnit().getUnitNumber() : "N/A",
-                checkout.getNoticeDate().format(java.time.format.DateTimeFormatter.ofPattern("MMM dd, yyyy")),
-                checkout.getExpectedMoveOutDate().format(java.time.format.DateTimeFormatter.ofPattern("MMM dd, yyyy")),
-                checkout.getCheckoutReason() != null ? checkout.getCheckoutReason().toString().replace("_", " ") : "N/A",
+                tenant.tenantName(),
+                checkout.checkoutNumber(),
+                tenant.propertyName(),
+                tenant.unitNumber(),
+                checkout.noticeDate().format(DATE_FORMATTER),
+                checkout.expectedMoveOutDate().format(DATE_FORMATTER),
+                checkout.checkoutReason() != null ? checkout.checkoutReason().toString().replace("_", " ") : "N/A",
                 portalUrl,
                 supportEmail
             );
 
             sendEmail(
-                tenant.getEmail(),
-                String.format("Checkout Initiated - %s", checkout.getCheckoutNumber()),
+                tenant.email(),
+                String.format("Checkout Initiated - %s", checkout.checkoutNumber()),
                 textContent,
                 textContent
             );
 
             log.info("Checkout initiated email sent successfully to tenant: {} ({}) for checkout: {}",
-                    tenant.getId(), tenant.getEmail(), checkout.getCheckoutNumber());
+                    tenant.tenantId(), tenant.email(), checkout.checkoutNumber());
 
         } catch (Exception e) {
             log.error("Failed to send checkout initiated email to tenant: {} ({}) for checkout: {}",
-                    tenant.getId(), tenant.getEmail(), checkout.getCheckoutNumber(), e);
+                    tenant.tenantId(), tenant.email(), checkout.checkoutNumber(), e);
         }
     }
 
@@ -1686,27 +1696,27 @@ public class EmailService implements IEmailService {
      * Notifies tenant that property inspection has been scheduled.
      * Story 3.7: Tenant Checkout and Deposit Refund Processing (AC #8)
      *
-     * @param tenant Tenant entity
-     * @param checkout TenantCheckout entity with inspection details
+     * @param tenant Tenant snapshot
+     * @param checkout Checkout snapshot with inspection details
      */
     @Async("emailTaskExecutor")
     public void sendInspectionScheduledNotification(
-            com.ultrabms.entity.Tenant tenant,
-            com.ultrabms.entity.TenantCheckout checkout
+            TenantEmailPayload tenant,
+            CheckoutEmailPayload checkout
     ) {
         try {
             String portalUrl = frontendUrl + "/tenant/dashboard";
 
             Context context = new Context();
-            context.setVariable("tenantName", tenant.getFullName());
-            context.setVariable("checkoutNumber", checkout.getCheckoutNumber());
-            context.setVariable("propertyName", tenant.getProperty() != null ? tenant.getProperty().getName() : "N/A");
-            context.setVariable("unitNumber", tenant.getUnit() != null ? tenant.getUnit().getUnitNumber() : "N/A");
-            context.setVariable("inspectionDate", checkout.getInspectionDate() != null
-                    ? checkout.getInspectionDate().format(java.time.format.DateTimeFormatter.ofPattern("MMM dd, yyyy"))
+            context.setVariable("tenantName", tenant.tenantName());
+            context.setVariable("checkoutNumber", checkout.checkoutNumber());
+            context.setVariable("propertyName", tenant.propertyName());
+            context.setVariable("unitNumber", tenant.unitNumber());
+            context.setVariable("inspectionDate", checkout.inspectionDate() != null
+                    ? checkout.inspectionDate().format(DATE_FORMATTER)
                     : "TBD");
-            context.setVariable("inspectionTime", checkout.getInspectionTime() != null
-                    ? checkout.getInspectionTime()
+            context.setVariable("inspectionTime", checkout.inspectionTime() != null
+                    ? checkout.inspectionTime()
                     : "TBD");
             context.setVariable("portalUrl", portalUrl);
             context.setVariable("supportEmail", supportEmail);
@@ -1730,33 +1740,33 @@ public class EmailService implements IEmailService {
                 "If you need to reschedule, please contact us at %s.\n\n" +
                 "Best regards,\n" +
                 "Ultra BMS Team",
-                tenant.getFullName(),
-                checkout.getCheckoutNumber(),
-                tenant.getProperty() != null ? tenant.getProperty().getName() : "N/A",
-                tenant.getUnit() != null ? tenant.getUnit().getUnitNumber() : "N/A",
-                checkout.getInspectionDate() != null
-                        ? checkout.getInspectionDate().format(java.time.format.DateTimeFormatter.ofPattern("MMM dd, yyyy"))
+                tenant.tenantName(),
+                checkout.checkoutNumber(),
+                tenant.propertyName(),
+                tenant.unitNumber(),
+                checkout.inspectionDate() != null
+                        ? checkout.inspectionDate().format(DATE_FORMATTER)
                         : "TBD",
-                checkout.getInspectionTime() != null
-                        ? checkout.getInspectionTime()
+                checkout.inspectionTime() != null
+                        ? checkout.inspectionTime()
                         : "TBD",
                 portalUrl,
                 supportEmail
             );
 
             sendEmail(
-                tenant.getEmail(),
-                String.format("Inspection Scheduled - %s", checkout.getCheckoutNumber()),
+                tenant.email(),
+                String.format("Inspection Scheduled - %s", checkout.checkoutNumber()),
                 textContent,
                 textContent
             );
 
             log.info("Inspection scheduled email sent successfully to tenant: {} ({}) for checkout: {}",
-                    tenant.getId(), tenant.getEmail(), checkout.getCheckoutNumber());
+                    tenant.tenantId(), tenant.email(), checkout.checkoutNumber());
 
         } catch (Exception e) {
             log.error("Failed to send inspection scheduled email to tenant: {} ({}) for checkout: {}",
-                    tenant.getId(), tenant.getEmail(), checkout.getCheckoutNumber(), e);
+                    tenant.tenantId(), tenant.email(), checkout.checkoutNumber(), e);
         }
     }
 
@@ -1765,25 +1775,25 @@ public class EmailService implements IEmailService {
      * Confirms that checkout process is complete with final settlement details.
      * Story 3.7: Tenant Checkout and Deposit Refund Processing (AC #9)
      *
-     * @param tenant Tenant entity
-     * @param checkout TenantCheckout entity with completion details
+     * @param tenant Tenant snapshot
+     * @param checkout Checkout snapshot with completion details
      */
     @Async("emailTaskExecutor")
     public void sendCheckoutCompletedNotification(
-            com.ultrabms.entity.Tenant tenant,
-            com.ultrabms.entity.TenantCheckout checkout
+            TenantEmailPayload tenant,
+            CheckoutEmailPayload checkout
     ) {
         try {
             Context context = new Context();
-            context.setVariable("tenantName", tenant.getFullName());
-            context.setVariable("checkoutNumber", checkout.getCheckoutNumber());
-            context.setVariable("propertyName", tenant.getProperty() != null ? tenant.getProperty().getName() : "N/A");
-            context.setVariable("unitNumber", tenant.getUnit() != null ? tenant.getUnit().getUnitNumber() : "N/A");
-            context.setVariable("completedAt", checkout.getCompletedAt() != null
-                    ? checkout.getCompletedAt().format(java.time.format.DateTimeFormatter.ofPattern("MMM dd, yyyy hh:mm a"))
+            context.setVariable("tenantName", tenant.tenantName());
+            context.setVariable("checkoutNumber", checkout.checkoutNumber());
+            context.setVariable("propertyName", tenant.propertyName());
+            context.setVariable("unitNumber", tenant.unitNumber());
+            context.setVariable("completedAt", checkout.completedAt() != null
+                    ? checkout.completedAt().format(DATE_TIME_FORMATTER)
                     : "N/A");
-            context.setVariable("actualMoveOutDate", checkout.getActualMoveOutDate() != null
-                    ? checkout.getActualMoveOutDate().format(java.time.format.DateTimeFormatter.ofPattern("MMM dd, yyyy"))
+            context.setVariable("actualMoveOutDate", checkout.actualMoveOutDate() != null
+                    ? checkout.actualMoveOutDate().format(DATE_FORMATTER)
                     : "N/A");
             context.setVariable("supportEmail", supportEmail);
 
@@ -1802,32 +1812,32 @@ public class EmailService implements IEmailService {
                 "If you have any questions about your final settlement, please contact us at %s.\n\n" +
                 "Best regards,\n" +
                 "Ultra BMS Team",
-                tenant.getFullName(),
-                checkout.getCheckoutNumber(),
-                tenant.getProperty() != null ? tenant.getProperty().getName() : "N/A",
-                tenant.getUnit() != null ? tenant.getUnit().getUnitNumber() : "N/A",
-                checkout.getActualMoveOutDate() != null
-                        ? checkout.getActualMoveOutDate().format(java.time.format.DateTimeFormatter.ofPattern("MMM dd, yyyy"))
+                tenant.tenantName(),
+                checkout.checkoutNumber(),
+                tenant.propertyName(),
+                tenant.unitNumber(),
+                checkout.actualMoveOutDate() != null
+                        ? checkout.actualMoveOutDate().format(DATE_FORMATTER)
                         : "N/A",
-                checkout.getCompletedAt() != null
-                        ? checkout.getCompletedAt().format(java.time.format.DateTimeFormatter.ofPattern("MMM dd, yyyy hh:mm a"))
+                checkout.completedAt() != null
+                        ? checkout.completedAt().format(DATE_TIME_FORMATTER)
                         : "N/A",
                 supportEmail
             );
 
             sendEmail(
-                tenant.getEmail(),
-                String.format("Checkout Completed - %s", checkout.getCheckoutNumber()),
+                tenant.email(),
+                String.format("Checkout Completed - %s", checkout.checkoutNumber()),
                 textContent,
                 textContent
             );
 
             log.info("Checkout completed email sent successfully to tenant: {} ({}) for checkout: {}",
-                    tenant.getId(), tenant.getEmail(), checkout.getCheckoutNumber());
+                    tenant.tenantId(), tenant.email(), checkout.checkoutNumber());
 
         } catch (Exception e) {
             log.error("Failed to send checkout completed email to tenant: {} ({}) for checkout: {}",
-                    tenant.getId(), tenant.getEmail(), checkout.getCheckoutNumber(), e);
+                    tenant.tenantId(), tenant.email(), checkout.checkoutNumber(), e);
         }
     }
 
@@ -1901,10 +1911,10 @@ public class EmailService implements IEmailService {
             context.setVariable("bankName", pdc.getBankName());
             context.setVariable("formattedAmount", "AED " + String.format("%,.2f", pdc.getAmount()));
             context.setVariable("chequeDate", pdc.getChequeDate() != null
-                    ? pdc.getChequeDate().format(java.time.format.DateTimeFormatter.ofPattern("MMM dd, yyyy"))
+                    ? pdc.getChequeDate().format(DATE_FORMATTER)
                     : "N/A");
             context.setVariable("bouncedDate", pdc.getBouncedDate() != null
-                    ? pdc.getBouncedDate().format(java.time.format.DateTimeFormatter.ofPattern("MMM dd, yyyy"))
+                    ? pdc.getBouncedDate().format(DATE_FORMATTER)
                     : "N/A");
             context.setVariable("bounceReason", pdc.getBounceReason());
             context.setVariable("tenantName", tenantName);
@@ -1963,7 +1973,7 @@ public class EmailService implements IEmailService {
             context.setVariable("manufacturer", asset.getManufacturer() != null ? asset.getManufacturer() : "N/A");
             context.setVariable("modelNumber", asset.getModelNumber());
             context.setVariable("warrantyExpiryDate", asset.getWarrantyExpiryDate() != null
-                    ? asset.getWarrantyExpiryDate().format(java.time.format.DateTimeFormatter.ofPattern("MMM dd, yyyy"))
+                    ? asset.getWarrantyExpiryDate().format(DATE_FORMATTER)
                     : "N/A");
             context.setVariable("daysUntilExpiry", daysUntilExpiry);
             context.setVariable("portalUrl", assetUrl);
@@ -2133,20 +2143,8 @@ public class EmailService implements IEmailService {
     @Override
     public void sendAnnouncementEmail(com.ultrabms.entity.Tenant tenant, com.ultrabms.entity.Announcement announcement) {
         try {
-            // Build Thymeleaf context with template variables
-            Context context = new Context();
-            context.setVariable("tenantName", tenant.getFullName());
-            context.setVariable("announcementTitle", announcement.getTitle());
-            context.setVariable("announcementMessage", announcement.getMessage());
-            context.setVariable("publishedDate", announcement.getPublishedAt() != null
-                    ? announcement.getPublishedAt().format(DateTimeFormatter.ofPattern("dd MMM yyyy"))
-                    : "");
-            context.setVariable("portalUrl", frontendUrl + "/tenant/announcements/" + announcement.getId());
-            context.setVariable("hasAttachment", announcement.hasAttachment());
-            context.setVariable("supportEmail", supportEmail);
-
             // Render HTML and plain text templates
-            String htmlContent = templateEngine.process("email/announcement-notification", context);
+            String htmlContent = renderAnnouncementEmail(announcement, tenant.getFullName());
             String textContent = buildAnnouncementEmailText(tenant, announcement);
 
             // Send email
@@ -2164,6 +2162,46 @@ public class EmailService implements IEmailService {
         }
     }
 
+    /**
+     * Render the announcement notification HTML for a tenant.
+     *
+     * @param announcement The announcement entity
+     * @param tenantName Name to greet the tenant with
+     * @return Rendered HTML content
+     */
+    @Override
+    public String renderAnnouncementEmail(com.ultrabms.entity.Announcement announcement, String tenantName) {
+        Map<String, Object> variables = announcementVariables(announcement);
+        variables.put("tenantName", tenantName);
+        return templateRenderer.render("email/announcement-notification", variables);
+    }
+
+    /**
+     * Render the announcement notification HTML once for a broadcast.
+     * The "tenantName" field is filled in per recipient.
+     *
+     * @param announcement The announcement entity
+     * @return Prepared template with a "tenantName" field
+     */
+    @Override
+    public PreparedEmailTemplate prepareAnnouncementEmail(com.ultrabms.entity.Announcement announcement) {
+        return templateRenderer.prepare("email/announcement-notification",
+                announcementVariables(announcement), List.of("tenantName"));
+    }
+
+    private Map<String, Object> announcementVariables(com.ultrabms.entity.Announcement announcement) {
+        Map<String, Object> variables = new HashMap<>();
+        variables.put("announcementTitle", announcement.getTitle());
+        variables.put("announcementMessage", announcement.getMessage());
+        variables.put("publishedDate", announcement.getPublishedAt() != null
+                ? announcement.getPublishedAt().format(SHORT_DATE_FORMATTER)
+                : "");
+        variables.put("portalUrl", frontendUrl + "/tenant/announcements/" + announcement.getId());
+        variables.put("hasAttachment", announcement.hasAttachment());
+        variables.put("supportEmail", supportEmail);
+        return variables;
+    }
+
     /**
      * Build plain text version of announcement email
      */
@@ -0,0 +1,155 @@
+package com.ultrabms.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.core.io.support.ResourcePatternResolver;
+import org.springframework.stereotype.Component;
+import org.thymeleaf.context.Context;
+import org.thymeleaf.spring6.SpringTemplateEngine;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Rendering layer for email templates (classpath:/templates/email).
+ *
+ * <p>Parsed templates are cached by the template engine and preloaded when the application
+ * starts, so the first send of each email does not pay for resolution and parsing. For bulk
+ * sends, {@link #prepare} renders the shared part of a template once and
+ * {@link PreparedEmailTemplate#render} fills in per-recipient fields by concatenation.</p>
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class EmailTemplateRenderer {
+
+    /**
+     * Shared formatters for dates shown in emails (DateTimeFormatter is immutable and thread-safe)
+     */
+    public static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("MMM dd, yyyy");
+    public static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern("MMM dd, yyyy hh:mm a");
+    public static final DateTimeFormatter SHORT_DATE_FORMATTER = DateTimeFormatter.ofPattern("dd MMM yyyy");
+    public static final DateTimeFormatter TIMESTAMP_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private static final String TEMPLATE_LOCATION = "classpath:/templates/email/*";
+    private static final String TEXT_SUFFIX = ".txt";
+    private static final String HTML_SUFFIX = ".html";
+
+    private final SpringTemplateEngine templateEngine;
+
+    /**
+     * Render a template with the given variables.
+     *
+     * @param templateName Template name, e.g. "email/invoice-sent" or "email/invoice-sent.txt"
+     * @param variables Template variables
+     * @return Rendered content
+     */
+    public String render(String templateName, Map<String, Object> variables) {
+        Context context = new Context();
+        context.setVariables(variables);
+        return templateEngine.process(templateName, context);
+    }
+
+    /**
+     * Render the shared part of a template once for a batch of recipients.
+     * Each per-recipient field is rendered as a placeholder token and later filled in by
+     * {@link PreparedEmailTemplate#render}; these fields must only be printed by the template.
+     *
+     * @param templateName Template name
+     * @param sharedVariables Variables identical for every recipient
+     * @param recipientFields Variables that differ per recipient
+     * @return Prepared template
+     */
+    public PreparedEmailTemplate prepare(String templateName, Map<String, Object> sharedVariables,
+                                         Collection<String> recipientFields) {
+        Map<String, String> tokens = new LinkedHashMap<>();
+        for (String field : recipientFields) {
+            tokens.put(field, placeholder(field));
+        }
+
+        Context context = new Context();
+        context.setVariables(sharedVariables);
+        tokens.forEach(context::setVariable);
+        String rendered = templateEngine.process(templateName, context);
+
+        return PreparedEmailTemplate.split(rendered, tokens, !templateName.endsWith(TEXT_SUFFIX));
+    }
+
+    /**
+     * Render a template for many recipients, running the template engine once.
+     *
+     * @param templateName Template name
+     * @param sharedVariables Variables identical for every recipient
+     * @param recipientFields Variables that differ per recipient
+     * @param recipients Per-recipient field values, one map per message
+     * @return Rendered content, in recipient order
+     */
+    public List<String> renderBatch(String templateName, Map<String, Object> sharedVariables,
+                                    Collection<String> recipientFields, List<Map<String, String>> recipients) {
+        PreparedEmailTemplate prepared = prepare(templateName, sharedVariables, recipientFields);
+        List<String> rendered = new ArrayList<>(recipients.size());
+        for (Map<String, String> values : recipients) {
+            rendered.add(prepared.render(values));
+        }
+        return rendered;
+    }
+
+    /**
+     * Parse every email template into the template cache once the application is up.
+     * Rendering with an empty context can fail on templates that dereference missing
+     * variables; the template is parsed and cached before that happens, so failures are ignored.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void preloadTemplates() {
+        ResourcePatternResolver resolver = new PathMatchingResourcePatternResolver();
+        Resource[] resources;
+        try {
+            resources = resolver.getResources(TEMPLATE_LOCATION);
+        } catch (IOException e) {
+            log.warn("Could not list email templates for preloading", e);
+            return;
+        }
+
+        int loaded = 0;
+        for (Resource resource : resources) {
+            String templateName = templateName(resource.getFilename());
+            if (templateName == null) {
+                continue;
+            }
+            try {
+                templateEngine.process(templateName, new Context(), Writer.nullWriter());
+            } catch (Exception e) {
+                log.trace("Email template {} preloaded with empty context: {}", templateName, e.getMessage());
+            }
+            loaded++;
+        }
+        log.info("Preloaded {} email templates", loaded);
+    }
+
+    static String placeholder(String field) {
+        return "{{rcpt:" + field + "}}";
+    }
+
+    private static String templateName(String filename) {
+        if (filename == null) {
+            return null;
+        }
+        if (filename.endsWith(TEXT_SUFFIX)) {
+            return "email/" + filename;
+        }
+        if (filename.endsWith(HTML_SUFFIX)) {
+            return "email/" + filename.substring(0, filename.length() - HTML_SUFFIX.length());
+        }
+        return null;
+    }
+}
@@ -2,6 +2,9 @@ package com.ultrabms.service;
 
 import org.springframework.web.multipart.MultipartFile;
 
+import java.util.Collection;
+import java.util.Map;
+
 /**
  * File Storage Service Interface
  * Defines file operations for document uploads across all modules.
@@ -36,14 +39,24 @@ public interface FileStorageService {
      * Get presigned URL for secure file download.
      *
      * Presigned URLs provide temporary access to S3 objects without
-     * requiring AWS credentials. URL expires after 5 minutes.
+     * requiring AWS credentials. URL expires after 5 minutes; signatures are
+     * reused from the presigned URL cache while they have at least a minute left.
      *
      * @param filePath The S3 key
-     * @return Presigned URL (valid for 5 minutes)
+     * @return Presigned URL (valid for up to 5 minutes)
      * @throws RuntimeException if URL generation fails
      */
     String getDownloadUrl(String filePath);
 
+    /**
+     * Get presigned URLs for a batch of files (e.g. every image on a list page).
+     *
+     * @param filePaths The S3 keys (null and duplicate keys are ignored)
+     * @return Map of S3 key to presigned URL
+     * @throws RuntimeException if URL generation fails
+     */
+    Map<String, String> getDownloadUrls(Collection<String> filePaths);
+
     /**
      * Get the absolute path for a relative file path.
      *
@@ -1,5 +1,13 @@
 package com.ultrabms.service;
 
+import com.ultrabms.dto.checkout.CheckoutEmailPayload;
+import com.ultrabms.dto.invoices.InvoiceEmailPayload;
+import com.ultrabms.dto.invoices.PaymentEmailPayload;
+import com.ultrabms.dto.lease.LeaseExtensionEmailPayload;
+import com.ultrabms.dto.lease.RenewalRequestEmailPayload;
+import com.ultrabms.dto.maintenance.MaintenanceRequestEmailPayload;
+import com.ultrabms.dto.tenant.TenantEmailPayload;
+import com.ultrabms.dto.vendors.VendorEmailPayload;
 import com.ultrabms.entity.*;
 
 import java.math.BigDecimal;
@@ -23,9 +31,10 @@ public interface IEmailService {
     void sendQuotationAcceptedNotification(Lead lead, Quotation quotation);
 
     // Maintenance request emails
-    void sendMaintenanceRequestConfirmation(Tenant tenant, MaintenanceRequest request);
-    void sendMaintenanceRequestNotification(Tenant tenant, MaintenanceRequest request);
-    void sendMaintenanceRequestStatusChange(Tenant tenant, MaintenanceRequest request, String vendorName, String vendorContact);
+    void sendMaintenanceRequestConfirmation(TenantEmailPayload tenant, MaintenanceRequestEmailPayload request);
+    void sendMaintenanceRequestNotification(TenantEmailPayload tenant, MaintenanceRequestEmailPayload request);
+    void sendMaintenanceRequestStatusChange(TenantEmailPayload tenant, MaintenanceRequestEmailPayload request,
+                                            String vendorName, String vendorContact);
 
     // Work order emails
     void sendWorkOrderAssignmentEmail(String assigneeEmail, String assigneeName, WorkOrder workOrder,
@@ -45,17 +54,17 @@ public interface IEmailService {
                                       String recommendations, Boolean followUpRequired, String followUpDescription);
 
     // Vendor document emails
-    void sendDocumentExpiry30DayNotification(Vendor vendor, String documentType, String fileName, LocalDate expiryDate, Long daysUntilExpiry);
-    void sendDocumentExpiry15DayNotification(Vendor vendor, String documentType, String fileName, LocalDate expiryDate, Long daysUntilExpiry);
-    void sendVendorSuspendedDueToExpiredDocuments(Vendor vendor, List<String> expiredDocumentTypes);
-    void sendVendorReactivatedNotification(Vendor vendor);
+    void sendDocumentExpiry30DayNotification(VendorEmailPayload vendor, String documentType, String fileName, LocalDate expiryDate, Long daysUntilExpiry);
+    void sendDocumentExpiry15DayNotification(VendorEmailPayload vendor, String documentType, String fileName, LocalDate expiryDate, Long daysUntilExpiry);
+    void sendVendorSuspendedDueToExpiredDocuments(VendorEmailPayload vendor, List<String> expiredDocumentTypes);
+    void sendVendorReactivatedNotification(VendorEmailPayload vendor);
 
     // Invoice and payment emails
-    void sendInvoiceEmail(Invoice invoice, byte[] pdfContent);
-    void sendPaymentReceivedEmail(Payment payment, byte[] receiptPdf);
-    void sendPaymentReminderEmail(Invoice invoice, int daysUntilDue);
-    void sendOverdueInvoiceEmail(Invoice invoice, long daysOverdue);
-    void sendLateFeeAppliedEmail(Invoice invoice);
+    void sendInvoiceEmail(InvoiceEmailPayload invoice, byte[] pdfContent);
+    void sendPaymentReceivedEmail(PaymentEmailPayload payment, byte[] receiptPdf);
+    void sendPaymentReminderEmail(InvoiceEmailPayload invoice, int daysUntilDue);
+    void sendOverdueInvoiceEmail(InvoiceEmailPayload invoice, long daysOverdue);
+    void sendLateFeeAppliedEmail(InvoiceEmailPayload invoice);
 
     // Admin user emails
     void sendUserWelcomeEmail(User user, String temporaryPassword);
@@ -66,15 +75,15 @@ public interface IEmailService {
                                         List<Map<String, String>> expenseDetails);
 
     // Lease extension and renewal emails
-    void sendLeaseExtensionConfirmation(Tenant tenant, LeaseExtension extension);
-    void sendLeaseExpiryReminder(Tenant tenant, int daysRemaining);
-    void sendRenewalRequestConfirmation(Tenant tenant, RenewalRequest request);
-    void sendRenewalRequestStatusUpdate(Tenant tenant, RenewalRequest request);
+    void sendLeaseExtensionConfirmation(TenantEmailPayload tenant, LeaseExtensionEmailPayload extension);
+    void sendLeaseExpiryReminder(TenantEmailPayload tenant, int daysRemaining);
+    void sendRenewalRequestConfirmation(TenantEmailPayload tenant, RenewalRequestEmailPayload request);
+    void sendRenewalRequestStatusUpdate(TenantEmailPayload tenant, RenewalRequestEmailPayload request);
 
     // Checkout emails
-    void sendCheckoutInitiatedNotification(Tenant tenant, TenantCheckout checkout);
-    void sendInspectionScheduledNotification(Tenant tenant, TenantCheckout checkout);
-    void sendCheckoutCompletedNotification(Tenant tenant, TenantCheckout checkout);
+    void sendCheckoutInitiatedNotification(TenantEmailPayload tenant, CheckoutEmailPayload checkout);
+    void sendInspectionScheduledNotification(TenantEmailPayload tenant, CheckoutEmailPayload checkout);
+    void sendCheckoutCompletedNotification(TenantEmailPayload tenant, CheckoutEmailPayload checkout);
 
     // PDC emails
     void sendPDCDepositReminder(String adminEmail, String adminName, List<Map<String, Object>> pdcList);
@@ -95,6 +104,10 @@ public interface IEmailService {
     // Announcement emails (Story 9.2)
     void sendAnnouncementEmail(Tenant tenant, Announcement announcement);
 
+    String renderAnnouncementEmail(Announcement announcement, String tenantName);
+
+    PreparedEmailTemplate prepareAnnouncementEmail(Announcement announcement);
+
     // Compliance reminder emails (Story 7.3)
     void sendComplianceReminderNotification(String recipientEmail, String recipientName,
                                              String scheduleNumber, String requirementName, String categoryDisplayName,
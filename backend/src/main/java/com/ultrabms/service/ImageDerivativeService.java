@@ -0,0 +1,103 @@
+package com.ultrabms.service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Image Derivative Service Interface
+ * Produces downscaled variants of uploaded photos so list views and timelines
+ * do not have to load full-resolution originals.
+ *
+ * Variants (JPEG):
+ * - thumbnail: longest side 320px
+ * - medium: longest side 1280px
+ *
+ * Generation runs asynchronously after the upload transaction commits. Variant keys
+ * are recorded per original key in the owning row (work_orders.photo_variants,
+ * tenant_checkouts.photo_variants, property_images.thumbnail_path/medium_path);
+ * until they are present, clients fall back to the original.
+ */
+public interface ImageDerivativeService {
+
+    /**
+     * Variant name of the small list/timeline image
+     */
+    String THUMBNAIL = "thumbnail";
+
+    /**
+     * Variant name of the detail view image
+     */
+    String MEDIUM = "medium";
+
+    /**
+     * Generate variants for work order photos (before, after, completion or progress)
+     * once the current transaction commits.
+     *
+     * @param workOrderId Work order UUID
+     * @param photoKeys S3 keys of the uploaded photos
+     */
+    void scheduleWorkOrderPhotos(UUID workOrderId, List<String> photoKeys);
+
+    /**
+     * Generate variants for checkout inspection photos once the current transaction commits.
+     *
+     * @param checkoutId Checkout UUID
+     * @param photoKeys S3 keys of the uploaded photos
+     */
+    void scheduleCheckoutPhotos(UUID checkoutId, List<String> photoKeys);
+
+    /**
+     * Generate variants for a property image once the current transaction commits.
+     *
+     * @param imageId Property image UUID
+     * @param photoKey S3 key of the uploaded image
+     */
+    void schedulePropertyImage(UUID imageId, String photoKey);
+
+    /**
+     * Generate and store all variants of one original synchronously.
+     *
+     * @param originalKey S3 key of the original image
+     * @return Map of variant name to S3 key, empty if the object is not a readable image
+     */
+    Map<String, String> createDerivatives(String originalKey);
+
+    /**
+     * Derive the S3 key of a variant from the original key,
+     * e.g. {@code work-orders/1/after/a.png} to {@code work-orders/1/after/a_thumbnail.jpg}.
+     *
+     * @param originalKey S3 key of the original image
+     * @param variant Variant name ({@link #THUMBNAIL} or {@link #MEDIUM})
+     * @return S3 key of the variant
+     */
+    static String variantKey(String originalKey, String variant) {
+        int slash = originalKey.lastIndexOf('/');
+        int dot = originalKey.lastIndexOf('.');
+        String base = dot > slash ? originalKey.substring(0, dot) : originalKey;
+        return base + "_" + variant + ".jpg";
+    }
+
+    /**
+     * Resolve the thumbnail of each photo, falling back to the original key when no
+     * thumbnail has been generated (yet).
+     *
+     * @param photoKeys original S3 keys
+     * @param variants variant map as stored in photo_variants (may be null)
+     * @return thumbnail keys in the same order as {@code photoKeys}
+     */
+    static List<String> thumbnailsOf(List<String> photoKeys, Map<String, Map<String, String>> variants) {
+        if (photoKeys == null) {
+            return null;
+        }
+        if (variants == null || variants.isEmpty()) {
+            return photoKeys;
+        }
+        return photoKeys.stream()
+                .map(key -> {
+                    Map<String, String> photoVariants = variants.get(key);
+                    return photoVariants != null ? photoVariants.getOrDefault(THUMBNAIL, key) : key;
+                })
+                .toList();
+    }
+}
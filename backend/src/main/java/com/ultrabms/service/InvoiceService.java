@@ -1,5 +1,6 @@
 package com.ultrabms.service;
 
+import com.ultrabms.dto.common.CursorPage;
 import com.ultrabms.dto.invoices.*;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -45,6 +46,17 @@ public interface InvoiceService {
      */
     Page<InvoiceListDto> getInvoices(InvoiceFilterDto filterDto, Pageable pageable);
 
+    /**
+     * Get a keyset (cursor) page of invoices with filters, newest first.
+     * Sort and page fields of the filter are ignored; no COUNT query is issued.
+     *
+     * @param filterDto Filter parameters
+     * @param cursor    Opaque cursor from the previous page (null for the first page)
+     * @param size      Page size
+     * @return Cursor page of invoice list DTOs
+     */
+    CursorPage<InvoiceListDto> getInvoicesByCursor(InvoiceFilterDto filterDto, String cursor, int size);
+
     /**
      * Update invoice details (DRAFT status only)
      *
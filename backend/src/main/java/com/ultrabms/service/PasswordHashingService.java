@@ -0,0 +1,175 @@
+package com.ultrabms.service;
+
+import com.ultrabms.config.PasswordHashingProperties;
+import com.ultrabms.exception.RateLimitExceededException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Runs BCrypt hashing on a dedicated, bounded thread pool.
+ *
+ * <p>A BCrypt hash at strength 12 costs a few hundred milliseconds of CPU. Running it on the
+ * request thread lets a burst of logins (legitimate or credential stuffing) occupy every core
+ * and starve the rest of the API. Here at most {@code pool-size} hashes run at once, at most
+ * {@code queue-capacity} wait, and anything beyond that is rejected immediately with
+ * {@link RateLimitExceededException} (HTTP 429) instead of queueing without bound.</p>
+ *
+ * <p>{@link #verify} also reports when a stored hash was produced with fewer rounds than the
+ * configured strength and returns a fresh hash for the caller to persist, so raising
+ * {@code app.security.password-hashing.strength} upgrades users as they log in.</p>
+ *
+ * <p>Callers are expected to reject blocked principals ({@link LoginAttemptService#isBlocked})
+ * before calling in, so blocked attempts never reach the pool.</p>
+ *
+ * <p>Metrics: {@code ultrabms.password.hash} (hashing time, tagged by operation),
+ * {@code ultrabms.password.hash.queue.wait}, {@code ultrabms.password.hash.rejected} and
+ * {@code ultrabms.password.rehashed}. Pool queue depth is published by
+ * {@link com.ultrabms.config.MetricsConfig} as executor {@code password-hash}.</p>
+ */
+@Service
+@Slf4j
+public class PasswordHashingService {
+
+    private final BCryptPasswordEncoder passwordEncoder;
+    private final ThreadPoolTaskExecutor executor;
+    private final long maxWaitMillis;
+
+    private final Timer verifyTimer;
+    private final Timer encodeTimer;
+    private final Timer queueWaitTimer;
+    private final Counter rejectedCounter;
+    private final Counter rehashedCounter;
+
+    public PasswordHashingService(BCryptPasswordEncoder passwordEncoder,
+                                  @Qualifier("passwordHashExecutor") ThreadPoolTaskExecutor executor,
+                                  PasswordHashingProperties properties,
+                                  MeterRegistry meterRegistry) {
+        this.passwordEncoder = passwordEncoder;
+        this.executor = executor;
+        this.maxWaitMillis = properties.getMaxWait();
+
+        this.verifyTimer = hashTimer(meterRegistry, "verify");
+        this.encodeTimer = hashTimer(meterRegistry, "encode");
+        this.queueWaitTimer = Timer.builder("ultrabms.password.hash.queue.wait")
+                .description("Time password hash requests wait for a hashing thread")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("ultrabms.password.hash.rejected")
+                .description("Password hash requests rejected because the hashing pool was saturated")
+                .register(meterRegistry);
+        this.rehashedCounter = Counter.builder("ultrabms.password.rehashed")
+                .description("Stored password hashes upgraded to the configured strength on login")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Result of a password verification.
+     *
+     * @param matched      whether the raw password matches the stored hash
+     * @param upgradedHash new hash at the configured strength when the stored one is weaker
+     *                     and the password matched, otherwise null
+     */
+    public record Verification(boolean matched, String upgradedHash) {
+
+        /**
+         * @return true if the caller should replace the stored hash with {@link #upgradedHash()}
+         */
+        public boolean needsUpgrade() {
+            return upgradedHash != null;
+        }
+    }
+
+    /**
+     * Check a raw password against a stored BCrypt hash on the hashing pool.
+     *
+     * @param rawPassword password supplied by the user
+     * @param storedHash  stored BCrypt hash
+     * @return verification result, including an upgraded hash when the stored one is weaker
+     * @throws RateLimitExceededException if the hashing pool is saturated
+     */
+    public Verification verify(CharSequence rawPassword, String storedHash) {
+        return run(() -> {
+            long start = System.nanoTime();
+            boolean matched = passwordEncoder.matches(rawPassword, storedHash);
+            verifyTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+
+            if (!matched || !passwordEncoder.upgradeEncoding(storedHash)) {
+                return new Verification(matched, null);
+            }
+            rehashedCounter.increment();
+            return new Verification(true, encodeTimed(rawPassword));
+        });
+    }
+
+    /**
+     * Hash a raw password at the configured strength on the hashing pool.
+     *
+     * @param rawPassword password to hash
+     * @return BCrypt hash
+     * @throws RateLimitExceededException if the hashing pool is saturated
+     */
+    public String encode(CharSequence rawPassword) {
+        return run(() -> encodeTimed(rawPassword));
+    }
+
+    private String encodeTimed(CharSequence rawPassword) {
+        long start = System.nanoTime();
+        String hash = passwordEncoder.encode(rawPassword);
+        encodeTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        return hash;
+    }
+
+    private <T> T run(Supplier<T> task) {
+        long submitted = System.nanoTime();
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                queueWaitTimer.record(System.nanoTime() - submitted, TimeUnit.NANOSECONDS);
+                return task.get();
+            });
+        } catch (TaskRejectedException e) {
+            rejectedCounter.increment();
+            log.warn("Password hashing pool saturated, rejecting request");
+            throw new RateLimitExceededException("Too many sign-in requests. Please try again shortly.", e);
+        }
+
+        try {
+            return future.get(maxWaitMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            rejectedCounter.increment();
+            log.warn("Password hash did not complete within {} ms", maxWaitMillis);
+            throw new RateLimitExceededException("Too many sign-in requests. Please try again shortly.", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            throw new IllegalStateException("Interrupted while waiting for password hash", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Password hashing failed", e.getCause());
+        }
+    }
+
+    private static Timer hashTimer(MeterRegistry meterRegistry, String operation) {
+        return Timer.builder("ultrabms.password.hash")
+                .description("Time spent computing BCrypt hashes")
+                .tag("operation", operation)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+}
@@ -30,7 +30,7 @@ public class PasswordResetService {
     private final PasswordResetAttemptRepository passwordResetAttemptRepository;
     private final IEmailService emailService;
     private final org.springframework.security.crypto.password.PasswordEncoder passwordEncoder;
-    private final com.ultrabms.repository.AuditLogRepository auditLogRepository;
+    private final com.ultrabms.audit.AuditLogSink auditLogSink;
 
     private static final int TOKEN_EXPIRATION_MINUTES = 15;
     private static final int TOKEN_BYTES = 32; // 256 bits
@@ -104,7 +104,7 @@ public class PasswordResetService {
                 null, // User agent not available in this context
                 java.util.Map.of("email", email)
         );
-        auditLogRepository.save(auditLog);
+        auditLogSink.submit(auditLog);
 
         log.info("Password reset initiated for user: {} from IP: {}", email, ipAddress);
     }
@@ -328,7 +328,7 @@ public class PasswordResetService {
                 null, // User agent not available in this context
                 java.util.Map.of("email", user.getEmail())
         );
-        auditLogRepository.save(auditLog);
+        auditLogSink.submit(auditLog);
 
         // Step 9: Send password change confirmation email
         emailService.sendPasswordChangeConfirmation(user);
@@ -0,0 +1,100 @@
+package com.ultrabms.service;
+
+import org.springframework.web.util.HtmlUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Email template rendered once with the shared variables, split around per-recipient fields.
+ * Filling in a recipient only concatenates the pre-rendered segments with that
+ * recipient's values, so a bulk send does not re-run the template engine per message.
+ *
+ * <p>Created by {@link EmailTemplateRenderer#prepare}. Per-recipient fields must only be
+ * printed by the template (th:text or [[...]]), not used in conditions, loops or
+ * formatting. Values are HTML-escaped for HTML templates, as th:text would.</p>
+ */
+public final class PreparedEmailTemplate {
+
+    private final List<String> literals;
+    private final List<String> fields;
+    private final boolean escapeHtml;
+    private final int literalLength;
+
+    /**
+     * @param literals Rendered text between fields; always one more entry than fields
+     * @param fields Field name at each gap between literals
+     * @param escapeHtml Whether values are HTML-escaped when filled in
+     */
+    PreparedEmailTemplate(List<String> literals, List<String> fields, boolean escapeHtml) {
+        if (literals.size() != fields.size() + 1) {
+            throw new IllegalArgumentException("Expected " + (fields.size() + 1) + " literals, got " + literals.size());
+        }
+        this.literals = List.copyOf(literals);
+        this.fields = List.copyOf(fields);
+        this.escapeHtml = escapeHtml;
+        this.literalLength = literals.stream().mapToInt(String::length).sum();
+    }
+
+    /**
+     * Split a template rendered with placeholder tokens into literals and fields.
+     *
+     * @param rendered Output of the template engine
+     * @param tokens Placeholder token per field name
+     * @param escapeHtml Whether values are HTML-escaped when filled in
+     * @return Prepared template
+     */
+    static PreparedEmailTemplate split(String rendered, Map<String, String> tokens, boolean escapeHtml) {
+        List<String> literals = new ArrayList<>();
+        List<String> fields = new ArrayList<>();
+        int position = 0;
+        while (true) {
+            int next = -1;
+            String nextField = null;
+            for (Map.Entry<String, String> token : tokens.entrySet()) {
+                int index = rendered.indexOf(token.getValue(), position);
+                if (index >= 0 && (next < 0 || index < next)) {
+                    next = index;
+                    nextField = token.getKey();
+                }
+            }
+            if (next < 0) {
+                literals.add(rendered.substring(position));
+                return new PreparedEmailTemplate(literals, fields, escapeHtml);
+            }
+            literals.add(rendered.substring(position, next));
+            fields.add(nextField);
+            position = next + tokens.get(nextField).length();
+        }
+    }
+
+    /**
+     * Fill in one recipient's values. Missing fields render as an empty string.
+     *
+     * @param values Field name to value
+     * @return Complete message body
+     */
+    public String render(Map<String, String> values) {
+        if (fields.isEmpty()) {
+            return literals.get(0);
+        }
+        StringBuilder sb = new StringBuilder(literalLength + fields.size() * 32);
+        for (int i = 0; i < fields.size(); i++) {
+            sb.append(literals.get(i));
+            String value = values.get(fields.get(i));
+            if (value != null) {
+                sb.append(escapeHtml ? HtmlUtils.htmlEscape(value) : value);
+            }
+        }
+        sb.append(literals.get(fields.size()));
+        return sb.toString();
+    }
+
+    /**
+     * @return Field names in the order they appear in the template (repeats included)
+     */
+    public List<String> getFields() {
+        return fields;
+    }
+}
@@ -0,0 +1,47 @@
+package com.ultrabms.service;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Presigned URL Service Interface
+ * Signs S3 keys into presigned download URLs, reusing signatures while they are still fresh.
+ *
+ * A signed URL is valid for {@link S3Service#PRESIGNED_URL_TTL}. Signatures are cached per key
+ * in the {@code presignedUrls} cache (ehcache.xml) for a shorter period, so a URL handed out
+ * from the cache always has at least a minute of validity left.
+ *
+ * Signed URLs must never be stored in long-lived entity/DTO caches; cache S3 keys instead and
+ * sign them when the response is built.
+ */
+public interface PresignedUrlService {
+
+    /**
+     * Cache holding signed URLs keyed by S3 key (configured in ehcache.xml)
+     */
+    String CACHE_NAME = "presignedUrls";
+
+    /**
+     * Get a presigned download URL for a single S3 key.
+     *
+     * @param key S3 key
+     * @return Presigned URL
+     */
+    String sign(String key);
+
+    /**
+     * Get presigned download URLs for a batch of S3 keys (e.g. all images on a page).
+     * Duplicate and null keys are ignored; keys already signed are served from the cache.
+     *
+     * @param keys S3 keys
+     * @return Map of S3 key to presigned URL, in the iteration order of {@code keys}
+     */
+    Map<String, String> signAll(Collection<String> keys);
+
+    /**
+     * Drop the cached signature for a key (e.g. after the object was deleted).
+     *
+     * @param key S3 key
+     */
+    void evict(String key);
+}
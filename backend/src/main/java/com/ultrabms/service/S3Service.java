@@ -1,5 +1,6 @@
 package com.ultrabms.service;
 
+import java.time.Duration;
 import java.util.List;
 
 import org.springframework.web.multipart.MultipartFile;
@@ -10,6 +11,11 @@ import org.springframework.web.multipart.MultipartFile;
  */
 public interface S3Service {
 
+    /**
+     * Lifetime of presigned download URLs
+     */
+    Duration PRESIGNED_URL_TTL = Duration.ofMinutes(5);
+
     /**
      * Upload file to S3 bucket
      *
@@ -19,6 +25,24 @@ public interface S3Service {
      */
     String uploadFile(MultipartFile file, String directory);
 
+    /**
+     * Upload generated content (e.g. image derivatives) to an explicit S3 key.
+     * No type or size validation is applied - callers produce the content themselves.
+     *
+     * @param key S3 key to write
+     * @param content file content
+     * @param contentType MIME type of the content
+     */
+    void putObject(String key, byte[] content, String contentType);
+
+    /**
+     * Download an object from S3 bucket
+     *
+     * @param filePath S3 file path
+     * @return object content
+     */
+    byte[] downloadFile(String filePath);
+
     /**
      * Delete file from S3 bucket (idempotent operation)
      *
@@ -0,0 +1,33 @@
+package com.ultrabms.service;
+
+import java.util.Collection;
+import java.util.UUID;
+
+/**
+ * Maintains the tenant ledger projection read by the tenant portal dashboard.
+ */
+public interface TenantLedgerService {
+
+    /**
+     * Record that data feeding a tenant's ledger changed in the current transaction.
+     * The ledger row is recomputed once after commit; outside a transaction it is
+     * recomputed immediately.
+     *
+     * @param tenantId Tenant UUID
+     */
+    void markChanged(UUID tenantId);
+
+    /**
+     * Recompute the ledger rows of the given tenants in a new transaction.
+     *
+     * @param tenantIds Tenant UUIDs
+     */
+    void refresh(Collection<UUID> tenantIds);
+
+    /**
+     * Recompute every tenant's ledger row.
+     *
+     * @return Number of rows refreshed
+     */
+    int rebuildAll();
+}
@@ -113,15 +113,18 @@ public interface VendorRatingService {
 
     /**
      * Recalculate overall rating for a vendor.
-     * Updates the vendor.rating field with the new average.
+     * Incrementally updates the vendor.rating and vendor.totalJobsCompleted aggregates
+     * for this vendor only. Called when a rating is submitted or updated.
      *
      * @param vendorId UUID of the vendor
      */
     void recalculateVendorRating(UUID vendorId);
 
     /**
-     * Recalculate ratings for all vendors.
+     * Recalculate ratings for all vendors in a single set-based update.
      * Used by scheduled job.
+     *
+     * @return number of vendors whose aggregates changed
      */
-    void recalculateAllVendorRatings();
+    int recalculateAllVendorRatings();
 }
@@ -1,5 +1,6 @@
 package com.ultrabms.service;
 
+import com.ultrabms.dto.common.CursorPage;
 import com.ultrabms.dto.workorders.AddCommentDto;
 import com.ultrabms.dto.workorders.AddProgressUpdateDto;
 import com.ultrabms.dto.workorders.AssignWorkOrderDto;
@@ -97,6 +98,37 @@ public interface WorkOrderService {
             Pageable pageable
     );
 
+    /**
+     * Get a keyset (cursor) page of work orders with filters, newest first.
+     * No COUNT query is issued and the cost of a page does not grow with its depth.
+     *
+     * @param propertyId Optional property filter
+     * @param unitId Optional unit filter
+     * @param statuses Optional status filter
+     * @param categories Optional category filter
+     * @param priorities Optional priority filter
+     * @param assignedTo Optional assignee filter
+     * @param startDate Optional start date filter
+     * @param endDate Optional end date filter
+     * @param searchTerm Optional search term
+     * @param cursor Opaque cursor from the previous page (null for the first page)
+     * @param size Page size
+     * @return Cursor page of work order list items
+     */
+    CursorPage<WorkOrderListDto> getWorkOrdersByCursor(
+            UUID propertyId,
+            UUID unitId,
+            List<WorkOrderStatus> statuses,
+            List<WorkOrderCategory> categories,
+            List<WorkOrderPriority> priorities,
+            UUID assignedTo,
+            LocalDateTime startDate,
+            LocalDateTime endDate,
+            String searchTerm,
+            String cursor,
+            int size
+    );
+
     /**
      * Update work order details
      *
@@ -196,6 +228,15 @@ public interface WorkOrderService {
      */
     String generateWorkOrderNumber();
 
+    /**
+     * Allocate a contiguous block of work order numbers in format WO-{YEAR}-{SEQUENCE}
+     * with a single lookup, for bulk generation
+     *
+     * @param count Number of work order numbers to allocate
+     * @return Generated work order numbers in ascending order
+     */
+    List<String> allocateWorkOrderNumbers(int count);
+
     // ========================================================================
     // Story 4.3: Work Order Assignment and Vendor Coordination
     // ========================================================================
@@ -0,0 +1,139 @@
+package com.ultrabms.service.impl;
+
+import com.ultrabms.dto.announcements.AnnouncementBroadcastProgressDto;
+import com.ultrabms.dto.announcements.AnnouncementRecipient;
+import com.ultrabms.entity.Announcement;
+import com.ultrabms.entity.EmailNotification;
+import com.ultrabms.entity.enums.AnnouncementBroadcastStatus;
+import com.ultrabms.entity.enums.EmailNotificationStatus;
+import com.ultrabms.entity.enums.NotificationType;
+import com.ultrabms.entity.enums.TenantStatus;
+import com.ultrabms.exception.ResourceNotFoundException;
+import com.ultrabms.repository.AnnouncementRepository;
+import com.ultrabms.repository.EmailNotificationRepository;
+import com.ultrabms.repository.TenantRepository;
+import com.ultrabms.service.AnnouncementBroadcastService;
+import com.ultrabms.service.IEmailService;
+import com.ultrabms.service.PreparedEmailTemplate;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Implementation of AnnouncementBroadcastService.
+ * Queues announcement emails chunk by chunk so a broadcast to every tenant never
+ * holds the full tenant list in memory or floods the email executor.
+ *
+ * Story 9.2: Internal Announcement Management
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class AnnouncementBroadcastServiceImpl implements AnnouncementBroadcastService {
+
+    static final String ENTITY_TYPE = "Announcement";
+
+    /**
+     * Keyset start: the nil UUID sorts before every tenant ID
+     */
+    private static final UUID KEYSET_START = new UUID(0L, 0L);
+
+    private final AnnouncementRepository announcementRepository;
+    private final TenantRepository tenantRepository;
+    private final EmailNotificationRepository emailNotificationRepository;
+    private final IEmailService emailService;
+
+    @Value("${announcement.broadcast.chunk-size:500}")
+    private int chunkSize;
+
+    @Override
+    @Async("emailTaskExecutor")
+    public void broadcast(UUID announcementId) {
+        Announcement announcement = announcementRepository.findById(announcementId)
+                .orElseThrow(() -> new ResourceNotFoundException("Announcement", announcementId));
+
+        int queued = 0;
+        try {
+            String subject = "New Announcement: " + announcement.getTitle();
+            PreparedEmailTemplate htmlTemplate = emailService.prepareAnnouncementEmail(announcement);
+
+            UUID afterId = KEYSET_START;
+            List<AnnouncementRecipient> chunk;
+            do {
+                chunk = tenantRepository.findAnnouncementRecipients(
+                        TenantStatus.ACTIVE, afterId, PageRequest.of(0, chunkSize));
+                if (chunk.isEmpty()) {
+                    break;
+                }
+
+                List<EmailNotification> notifications = new ArrayList<>(chunk.size());
+                for (AnnouncementRecipient recipient : chunk) {
+                    notifications.add(EmailNotification.builder()
+                            .recipientEmail(recipient.email())
+                            .recipientName(recipient.fullName())
+                            .notificationType(NotificationType.ANNOUNCEMENT_PUBLISHED)
+                            .subject(subject)
+                            .body(htmlTemplate.render(Collections.singletonMap("tenantName", recipient.fullName())))
+                            .entityType(ENTITY_TYPE)
+                            .entityId(announcementId)
+                            .status(EmailNotificationStatus.PENDING)
+                            .retryCount(0)
+                            .build());
+                }
+
+                // One transaction and one JDBC batch per chunk
+                emailNotificationRepository.saveAll(notifications);
+                queued += notifications.size();
+                afterId = chunk.get(chunk.size() - 1).id();
+
+                announcementRepository.updateBroadcastProgress(
+                        announcementId, AnnouncementBroadcastStatus.QUEUEING, queued);
+            } while (chunk.size() == chunkSize);
+
+            announcementRepository.updateBroadcastProgress(announcementId, AnnouncementBroadcastStatus.QUEUED, queued);
+            log.info("Queued {} announcement emails for: {}", queued, announcement.getAnnouncementNumber());
+
+        } catch (Exception e) {
+            log.error("Announcement broadcast failed for {} after {} emails: {}",
+                    announcement.getAnnouncementNumber(), queued, e.getMessage(), e);
+            announcementRepository.updateBroadcastStatus(announcementId, AnnouncementBroadcastStatus.FAILED);
+        }
+    }
+
+    @Override
+    public AnnouncementBroadcastProgressDto getBroadcastProgress(UUID announcementId) {
+        Announcement announcement = announcementRepository.findById(announcementId)
+                .orElseThrow(() -> new ResourceNotFoundException("Announcement", announcementId));
+
+        Map<EmailNotificationStatus, Long> counts = new EnumMap<>(EmailNotificationStatus.class);
+        for (Object[] row : emailNotificationRepository.countByEntityGroupedByStatus(ENTITY_TYPE, announcementId)) {
+            counts.put((EmailNotificationStatus) row[0], ((Number) row[1]).longValue());
+        }
+
+        long pending = counts.getOrDefault(EmailNotificationStatus.PENDING, 0L)
+                + counts.getOrDefault(EmailNotificationStatus.QUEUED, 0L);
+        long sent = counts.getOrDefault(EmailNotificationStatus.SENT, 0L);
+        long failed = counts.getOrDefault(EmailNotificationStatus.FAILED, 0L);
+        long recipients = announcement.getBroadcastRecipients() != null ? announcement.getBroadcastRecipients() : 0;
+
+        return AnnouncementBroadcastProgressDto.builder()
+                .announcementId(announcementId)
+                .broadcastStatus(announcement.getBroadcastStatus())
+                .recipients(recipients)
+                .pendingCount(pending)
+                .sentCount(sent)
+                .failedCount(failed)
+                .percentSent(recipients > 0 ? Math.round(sent * 1000.0 / recipients) / 10.0 : 0.0)
+                .build();
+    }
+}
@@ -2,15 +2,12 @@ package com.ultrabms.service.impl;
 
 import com.ultrabms.dto.announcements.*;
 import com.ultrabms.entity.Announcement;
-import com.ultrabms.entity.Tenant;
 import com.ultrabms.entity.enums.AnnouncementStatus;
-import com.ultrabms.entity.enums.TenantStatus;
 import com.ultrabms.exception.ResourceNotFoundException;
 import com.ultrabms.repository.AnnouncementRepository;
-import com.ultrabms.repository.TenantRepository;
+import com.ultrabms.service.AnnouncementBroadcastService;
 import com.ultrabms.service.AnnouncementService;
 import com.ultrabms.service.FileStorageService;
-import com.ultrabms.service.IEmailService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.multipart.MultipartFile;
 import lombok.extern.slf4j.Slf4j;
@@ -18,6 +15,8 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.LocalDateTime;
 import java.time.Year;
@@ -38,8 +37,7 @@ import java.util.stream.Collectors;
 public class AnnouncementServiceImpl implements AnnouncementService {
 
     private final AnnouncementRepository announcementRepository;
-    private final TenantRepository tenantRepository;
-    private final IEmailService emailService;
+    private final AnnouncementBroadcastService announcementBroadcastService;
     private final FileStorageService fileStorageService;
 
     private static final String S3_ANNOUNCEMENT_PATH = "announcements";
@@ -231,8 +229,8 @@ public class AnnouncementServiceImpl implements AnnouncementService {
         announcement.publish();
         Announcement saved = announcementRepository.save(announcement);
 
-        // Send emails to all active tenants asynchronously
-        sendAnnouncementEmails(saved);
+        // Queue emails to all active tenants in the background once the publish is committed
+        startBroadcastAfterCommit(saved.getId());
 
         log.info("Published announcement: {}", saved.getAnnouncementNumber());
         return AnnouncementResponseDto.fromEntity(saved);
@@ -449,29 +447,16 @@ public class AnnouncementServiceImpl implements AnnouncementService {
                 || filterDto.getCreatedBy() != null;
     }
 
-    private void sendAnnouncementEmails(Announcement announcement) {
-        try {
-            // Get all active tenants
-            List<Tenant> activeTenants = tenantRepository.findByStatusAndActive(
-                    TenantStatus.ACTIVE, true,
-                    Pageable.unpaged()
-            ).getContent();
-
-            log.info("Sending announcement email to {} active tenants", activeTenants.size());
-
-            // Send email to each tenant
-            for (Tenant tenant : activeTenants) {
-                try {
-                    emailService.sendAnnouncementEmail(tenant, announcement);
-                } catch (Exception e) {
-                    log.error("Failed to send announcement email to tenant {}: {}",
-                            tenant.getEmail(), e.getMessage());
+    private void startBroadcastAfterCommit(UUID announcementId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    announcementBroadcastService.broadcast(announcementId);
                 }
-            }
-
-            log.info("Completed sending announcement emails for: {}", announcement.getAnnouncementNumber());
-        } catch (Exception e) {
-            log.error("Error sending announcement emails: {}", e.getMessage());
+            });
+        } else {
+            announcementBroadcastService.broadcast(announcementId);
         }
     }
 }
@@ -0,0 +1,138 @@
+package com.ultrabms.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ultrabms.datasource.ReadReplica;
+import com.ultrabms.datasource.Workload;
+import com.ultrabms.datasource.WorkloadPool;
+import com.ultrabms.dto.common.ExportFormat;
+import com.ultrabms.dto.expenses.ExpenseExportRow;
+import com.ultrabms.dto.expenses.ExpenseFilterDto;
+import com.ultrabms.dto.invoices.InvoiceExportRow;
+import com.ultrabms.dto.invoices.InvoiceFilterDto;
+import com.ultrabms.dto.invoices.PaymentExportRow;
+import com.ultrabms.dto.invoices.PaymentFilterDto;
+import com.ultrabms.dto.workorders.WorkOrderExportRow;
+import com.ultrabms.entity.enums.InvoiceStatus;
+import com.ultrabms.entity.enums.WorkOrderCategory;
+import com.ultrabms.entity.enums.WorkOrderPriority;
+import com.ultrabms.entity.enums.WorkOrderStatus;
+import com.ultrabms.repository.ExpenseRepository;
+import com.ultrabms.repository.InvoiceRepository;
+import com.ultrabms.repository.PaymentRepository;
+import com.ultrabms.repository.WorkOrderRepository;
+import com.ultrabms.service.DataExportService;
+import com.ultrabms.util.RecordExportWriter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * Streaming export implementation.
+ *
+ * <p>Runs in a read-only transaction (required by the PostgreSQL cursor behind each
+ * {@link Stream}) on the thread that writes the response body. Rows are constructor
+ * projections, so the persistence context stays empty however many rows are read.</p>
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+@ReadReplica
+@WorkloadPool(Workload.REPORTING)
+public class DataExportServiceImpl implements DataExportService {
+
+    private final InvoiceRepository invoiceRepository;
+    private final PaymentRepository paymentRepository;
+    private final ExpenseRepository expenseRepository;
+    private final WorkOrderRepository workOrderRepository;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public long exportInvoices(InvoiceFilterDto filterDto, ExportFormat format, OutputStream out) throws IOException {
+        InvoiceStatus status = Boolean.TRUE.equals(filterDto.overdueOnly())
+                ? InvoiceStatus.OVERDUE
+                : filterDto.status();
+        try (Stream<InvoiceExportRow> rows = invoiceRepository.streamForExport(
+                filterDto.search(),
+                status,
+                filterDto.propertyId(),
+                filterDto.tenantId(),
+                filterDto.fromDate(),
+                filterDto.toDate())) {
+            long count = RecordExportWriter.write(rows, InvoiceExportRow.class, format, out, objectMapper);
+            log.info("Exported {} invoices as {}", count, format);
+            return count;
+        }
+    }
+
+    @Override
+    public long exportPayments(PaymentFilterDto filterDto, ExportFormat format, OutputStream out) throws IOException {
+        try (Stream<PaymentExportRow> rows = paymentRepository.streamForExport(
+                filterDto.invoiceId(),
+                filterDto.tenantId(),
+                filterDto.paymentMethod(),
+                filterDto.fromDate(),
+                filterDto.toDate())) {
+            long count = RecordExportWriter.write(rows, PaymentExportRow.class, format, out, objectMapper);
+            log.info("Exported {} payments as {}", count, format);
+            return count;
+        }
+    }
+
+    @Override
+    public long exportExpenses(ExpenseFilterDto filterDto, ExportFormat format, OutputStream out) throws IOException {
+        try (Stream<ExpenseExportRow> rows = expenseRepository.streamForExport(
+                filterDto.searchTerm(),
+                filterDto.category(),
+                filterDto.paymentStatus(),
+                filterDto.propertyId(),
+                filterDto.vendorId(),
+                filterDto.workOrderId(),
+                filterDto.fromDate(),
+                filterDto.toDate())) {
+            long count = RecordExportWriter.write(rows, ExpenseExportRow.class, format, out, objectMapper);
+            log.info("Exported {} expenses as {}", count, format);
+            return count;
+        }
+    }
+
+    @Override
+    public long exportWorkOrders(
+            UUID propertyId,
+            UUID unitId,
+            List<WorkOrderStatus> statuses,
+            List<WorkOrderCategory> categories,
+            List<WorkOrderPriority> priorities,
+            UUID assignedTo,
+            LocalDateTime startDate,
+            LocalDateTime endDate,
+            String searchTerm,
+            ExportFormat format,
+            OutputStream out
+    ) throws IOException {
+        String searchPattern = searchTerm != null ? "%" + searchTerm + "%" : null;
+
+        try (Stream<WorkOrderExportRow> rows = workOrderRepository.streamForExport(
+                propertyId,
+                unitId,
+                assignedTo,
+                statuses,
+                categories,
+                priorities,
+                startDate,
+                endDate,
+                searchPattern)) {
+            long count = RecordExportWriter.write(rows, WorkOrderExportRow.class, format, out, objectMapper);
+            log.info("Exported {} work orders as {}", count, format);
+            return count;
+        }
+    }
+}
@@ -435,7 +435,7 @@ public class DocumentServiceImpl implements DocumentService {
                             .orElse("Unknown Property");
                 case TENANT:
                     return tenantRepository.findById(entityId)
-                            .map(t -> t.getFirstName() + " " + t.getLastName())
+                            .map(Tenant::getFullName)
                             .orElse("Unknown Tenant");
                 case VENDOR:
                     return vendorRepository.findById(entityId)
@@ -15,6 +15,7 @@ import com.ultrabms.exception.ValidationException;
 import com.ultrabms.mapper.ExpenseMapper;
 import com.ultrabms.repository.ExpenseRepository;
 import com.ultrabms.repository.PropertyRepository;
+import com.ultrabms.repository.SummaryAggregateRepository;
 import com.ultrabms.repository.VendorRepository;
 import com.ultrabms.repository.WorkOrderRepository;
 import com.ultrabms.service.ExpenseService;
@@ -51,6 +52,7 @@ public class ExpenseServiceImpl implements ExpenseService {
     private static final String EXPENSE_RECEIPT_DIR = "uploads/expenses";
 
     private final ExpenseRepository expenseRepository;
+    private final SummaryAggregateRepository summaryAggregateRepository;
     private final VendorRepository vendorRepository;
     private final PropertyRepository propertyRepository;
     private final WorkOrderRepository workOrderRepository;
@@ -61,6 +63,7 @@ public class ExpenseServiceImpl implements ExpenseService {
 
     public ExpenseServiceImpl(
             ExpenseRepository expenseRepository,
+            SummaryAggregateRepository summaryAggregateRepository,
             VendorRepository vendorRepository,
             PropertyRepository propertyRepository,
             WorkOrderRepository workOrderRepository,
@@ -70,6 +73,7 @@ public class ExpenseServiceImpl implements ExpenseService {
             IEmailService emailService
     ) {
         this.expenseRepository = expenseRepository;
+        this.summaryAggregateRepository = summaryAggregateRepository;
         this.vendorRepository = vendorRepository;
         this.propertyRepository = propertyRepository;
         this.workOrderRepository = workOrderRepository;
@@ -376,14 +380,14 @@ public class ExpenseServiceImpl implements ExpenseService {
     public ExpenseSummaryDto getExpenseSummary(LocalDate fromDate, LocalDate toDate) {
         LOGGER.debug("Getting expense summary from {} to {}", fromDate, toDate);
 
-        // Get totals
-        BigDecimal totalExpenses = expenseRepository.getTotalAmountInPeriod(fromDate, toDate);
-        BigDecimal totalPending = expenseRepository.getTotalPendingAmount();
-        BigDecimal totalPaid = expenseRepository.getTotalPaidAmountInPeriod(fromDate, toDate);
-
-        // Get counts
-        long pendingCount = expenseRepository.countByPaymentStatus(ExpensePaymentStatus.PENDING);
-        long paidCount = expenseRepository.countByPaymentStatus(ExpensePaymentStatus.PAID);
+        // Get totals and counts in a single pass
+        SummaryAggregateRepository.ExpenseTotals totals =
+                summaryAggregateRepository.getExpenseTotals(fromDate, toDate);
+        BigDecimal totalExpenses = totals.totalInPeriod();
+        BigDecimal totalPending = totals.totalPending();
+        BigDecimal totalPaid = totals.totalPaidInPeriod();
+        long pendingCount = totals.pendingCount();
+        long paidCount = totals.paidCount();
         long expenseCount = pendingCount + paidCount;
 
         // Get category breakdown
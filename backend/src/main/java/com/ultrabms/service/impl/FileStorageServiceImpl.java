@@ -1,6 +1,7 @@
 package com.ultrabms.service.impl;
 
 import com.ultrabms.service.FileStorageService;
+import com.ultrabms.service.PresignedUrlService;
 import com.ultrabms.service.S3Service;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
@@ -8,6 +9,9 @@ import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.util.Collection;
+import java.util.Map;
+
 /**
  * File Storage Service Implementation
  *
@@ -15,7 +19,7 @@ import org.springframework.web.multipart.MultipartFile;
  * - Delegates all file operations to S3Service
  * - Supports PDF, JPG, and PNG files with type and size validation (max 5MB)
  * - Files stored in S3 with UUID-based keys
- * - Downloads use presigned URLs (5-minute expiration)
+ * - Downloads use presigned URLs (5-minute expiration), cached per key by PresignedUrlService
  * - LocalStack for development, real S3 for production
  */
 @Service
@@ -25,6 +29,7 @@ public class FileStorageServiceImpl implements FileStorageService {
     private static final Logger LOGGER = LoggerFactory.getLogger(FileStorageServiceImpl.class);
 
     private final S3Service s3Service;
+    private final PresignedUrlService presignedUrlService;
 
     @Override
     public String storeFile(MultipartFile file, String directory) {
@@ -43,19 +48,22 @@ public class FileStorageServiceImpl implements FileStorageService {
 
         // Delegate to S3Service (idempotent operation)
         s3Service.deleteFile(filePath);
+        presignedUrlService.evict(filePath);
 
         LOGGER.info("File deleted successfully from S3: {}", filePath);
     }
 
     @Override
     public String getDownloadUrl(String filePath) {
-        LOGGER.debug("Generating presigned URL for file: {}", filePath);
+        LOGGER.debug("Resolving presigned URL for file: {}", filePath);
 
-        // Delegate to S3Service for presigned URL generation
-        String presignedUrl = s3Service.getPresignedUrl(filePath);
+        // Served from the presigned URL cache while the signature is still fresh
+        return presignedUrlService.sign(filePath);
+    }
 
-        LOGGER.info("Generated presigned URL for file: {} (expires in 5 minutes)", filePath);
-        return presignedUrl;
+    @Override
+    public Map<String, String> getDownloadUrls(Collection<String> filePaths) {
+        return presignedUrlService.signAll(filePaths);
     }
 
     @Override
@@ -0,0 +1,183 @@
+package com.ultrabms.service.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ultrabms.repository.PropertyImageRepository;
+import com.ultrabms.repository.TenantCheckoutRepository;
+import com.ultrabms.repository.WorkOrderRepository;
+import com.ultrabms.service.ImageDerivativeService;
+import com.ultrabms.service.S3Service;
+import com.ultrabms.util.ImageScaler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Image Derivative Service Implementation
+ *
+ * Each task downloads the original from S3, decodes it once, scales the medium
+ * variant from the original and the thumbnail from the medium variant, and uploads
+ * both as JPEG. Variant keys are then merged into the owning row with a single
+ * atomic update, so entity saves in request threads never race with this stage.
+ *
+ * Failures are logged and skipped - the original photo stays usable.
+ */
+@Service
+public class ImageDerivativeServiceImpl implements ImageDerivativeService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ImageDerivativeServiceImpl.class);
+
+    static final int THUMBNAIL_MAX_DIMENSION = 320;
+    static final int MEDIUM_MAX_DIMENSION = 1280;
+    private static final float JPEG_QUALITY = 0.8f;
+    private static final String JPEG_CONTENT_TYPE = "image/jpeg";
+
+    private final S3Service s3Service;
+    private final WorkOrderRepository workOrderRepository;
+    private final TenantCheckoutRepository checkoutRepository;
+    private final PropertyImageRepository propertyImageRepository;
+    private final ObjectMapper objectMapper;
+    private final Executor imageTaskExecutor;
+
+    public ImageDerivativeServiceImpl(
+            S3Service s3Service,
+            WorkOrderRepository workOrderRepository,
+            TenantCheckoutRepository checkoutRepository,
+            PropertyImageRepository propertyImageRepository,
+            ObjectMapper objectMapper,
+            @Qualifier("imageTaskExecutor") Executor imageTaskExecutor) {
+        this.s3Service = s3Service;
+        this.workOrderRepository = workOrderRepository;
+        this.checkoutRepository = checkoutRepository;
+        this.propertyImageRepository = propertyImageRepository;
+        this.objectMapper = objectMapper;
+        this.imageTaskExecutor = imageTaskExecutor;
+    }
+
+    @Override
+    public void scheduleWorkOrderPhotos(UUID workOrderId, List<String> photoKeys) {
+        if (photoKeys == null || photoKeys.isEmpty()) {
+            return;
+        }
+        List<String> keys = List.copyOf(photoKeys);
+        submitAfterCommit(() -> {
+            Map<String, Map<String, String>> variants = createAll(keys);
+            if (!variants.isEmpty()) {
+                workOrderRepository.mergePhotoVariants(workOrderId, toJson(variants));
+            }
+        });
+    }
+
+    @Override
+    public void scheduleCheckoutPhotos(UUID checkoutId, List<String> photoKeys) {
+        if (photoKeys == null || photoKeys.isEmpty()) {
+            return;
+        }
+        List<String> keys = List.copyOf(photoKeys);
+        submitAfterCommit(() -> {
+            Map<String, Map<String, String>> variants = createAll(keys);
+            if (!variants.isEmpty()) {
+                checkoutRepository.mergePhotoVariants(checkoutId, toJson(variants));
+            }
+        });
+    }
+
+    @Override
+    public void schedulePropertyImage(UUID imageId, String photoKey) {
+        if (photoKey == null) {
+            return;
+        }
+        submitAfterCommit(() -> {
+            Map<String, String> variants = createDerivatives(photoKey);
+            if (!variants.isEmpty()) {
+                propertyImageRepository.updateVariantPaths(imageId, variants.get(THUMBNAIL), variants.get(MEDIUM));
+            }
+        });
+    }
+
+    @Override
+    public Map<String, String> createDerivatives(String originalKey) {
+        try {
+            BufferedImage original = ImageScaler.read(s3Service.downloadFile(originalKey));
+            if (original == null) {
+                LOGGER.debug("Skipping derivatives for non-image object: {}", originalKey);
+                return Map.of();
+            }
+
+            BufferedImage medium = ImageScaler.scaleToFit(original, MEDIUM_MAX_DIMENSION);
+            BufferedImage thumbnail = ImageScaler.scaleToFit(medium, THUMBNAIL_MAX_DIMENSION);
+
+            Map<String, String> variants = new LinkedHashMap<>();
+            variants.put(THUMBNAIL, store(originalKey, THUMBNAIL, thumbnail));
+            variants.put(MEDIUM, store(originalKey, MEDIUM, medium));
+
+            LOGGER.debug("Created image derivatives for {} ({}x{})",
+                    originalKey, original.getWidth(), original.getHeight());
+            return variants;
+        } catch (IOException | RuntimeException e) {
+            LOGGER.warn("Failed to create image derivatives for {}: {}", originalKey, e.getMessage());
+            return Map.of();
+        }
+    }
+
+    private Map<String, Map<String, String>> createAll(List<String> keys) {
+        Map<String, Map<String, String>> variants = new LinkedHashMap<>();
+        for (String key : keys) {
+            Map<String, String> created = createDerivatives(key);
+            if (!created.isEmpty()) {
+                variants.put(key, created);
+            }
+        }
+        return variants;
+    }
+
+    private String store(String originalKey, String variant, BufferedImage image) throws IOException {
+        String key = ImageDerivativeService.variantKey(originalKey, variant);
+        s3Service.putObject(key, ImageScaler.toJpeg(image, JPEG_QUALITY), JPEG_CONTENT_TYPE);
+        return key;
+    }
+
+    private String toJson(Map<String, Map<String, String>> variants) {
+        try {
+            return objectMapper.writeValueAsString(variants);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize photo variants", e);
+        }
+    }
+
+    /**
+     * Runs the task on the image executor after the surrounding transaction commits
+     * (the owning row must be visible), or immediately when no transaction is active.
+     */
+    private void submitAfterCommit(Runnable task) {
+        Runnable submit = () -> {
+            try {
+                imageTaskExecutor.execute(task);
+            } catch (RejectedExecutionException e) {
+                LOGGER.warn("Image derivative queue is full - originals will be served: {}", e.getMessage());
+            }
+        };
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    submit.run();
+                }
+            });
+        } else {
+            submit.run();
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.ultrabms.service.impl;
 
 import com.ultrabms.service.IEmailService;
 
+import com.ultrabms.dto.common.CursorPage;
 import com.ultrabms.dto.invoices.*;
 import com.ultrabms.entity.*;
 import com.ultrabms.entity.enums.InvoiceStatus;
@@ -10,6 +11,7 @@ import com.ultrabms.exception.EntityNotFoundException;
 import com.ultrabms.exception.ValidationException;
 import com.ultrabms.mapper.InvoiceMapper;
 import com.ultrabms.repository.*;
+import com.ultrabms.util.KeysetCursor;
 import com.ultrabms.service.InvoiceService;
 import com.ultrabms.service.PdfGenerationService;
 import org.slf4j.Logger;
@@ -45,6 +47,7 @@ public class InvoiceServiceImpl implements InvoiceService {
 
     private final InvoiceRepository invoiceRepository;
     private final PaymentRepository paymentRepository;
+    private final SummaryAggregateRepository summaryAggregateRepository;
     private final TenantRepository tenantRepository;
     private final UserRepository userRepository;
     private final InvoiceMapper invoiceMapper;
@@ -60,6 +63,7 @@ public class InvoiceServiceImpl implements InvoiceService {
     public InvoiceServiceImpl(
             InvoiceRepository invoiceRepository,
             PaymentRepository paymentRepository,
+            SummaryAggregateRepository summaryAggregateRepository,
             TenantRepository tenantRepository,
             UserRepository userRepository,
             InvoiceMapper invoiceMapper,
@@ -68,6 +72,7 @@ public class InvoiceServiceImpl implements InvoiceService {
     ) {
         this.invoiceRepository = invoiceRepository;
         this.paymentRepository = paymentRepository;
+        this.summaryAggregateRepository = summaryAggregateRepository;
         this.tenantRepository = tenantRepository;
         this.userRepository = userRepository;
         this.invoiceMapper = invoiceMapper;
@@ -175,6 +180,30 @@ public class InvoiceServiceImpl implements InvoiceService {
         return new PageImpl<>(dtoList, sortedPageable, invoicePage.getTotalElements());
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<InvoiceListDto> getInvoicesByCursor(InvoiceFilterDto filterDto, String cursor, int size) {
+        int pageSize = CursorPage.pageSize(size);
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        LOGGER.debug("Getting invoices by cursor (after: {}, size: {}) with filters: {}", after, pageSize, filterDto);
+
+        // Fetch one extra row to detect whether a next page exists; the first page has
+        // no seek predicate so both queries are plain index range scans
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+        List<Invoice> rows = after == null
+                ? invoiceRepository.findFirstPageByKeyset(
+                        filterDto.search(), filterDto.status(), filterDto.propertyId(),
+                        filterDto.tenantId(), filterDto.fromDate(), filterDto.toDate(), limit)
+                : invoiceRepository.findPageAfterKeyset(
+                        filterDto.search(), filterDto.status(), filterDto.propertyId(),
+                        filterDto.tenantId(), filterDto.fromDate(), filterDto.toDate(),
+                        after.createdAt(), after.id(), limit);
+
+        return CursorPage.of(rows, pageSize,
+                invoice -> new KeysetCursor(invoice.getCreatedAt(), invoice.getId()),
+                invoiceMapper::toListDtoList);
+    }
+
     // =================================================================
     // UPDATE INVOICE
     // =================================================================
@@ -239,7 +268,7 @@ public class InvoiceServiceImpl implements InvoiceService {
 
         // Generate PDF and send email notification (AC #11)
         byte[] pdfContent = pdfGenerationService.generateInvoicePdf(savedInvoice);
-        emailService.sendInvoiceEmail(savedInvoice, pdfContent);
+        emailService.sendInvoiceEmail(InvoiceEmailPayload.from(savedInvoice), pdfContent);
 
         return invoiceMapper.toResponseDto(savedInvoice);
     }
@@ -357,7 +386,7 @@ public class InvoiceServiceImpl implements InvoiceService {
 
         // Generate receipt PDF and send email notification (AC #7, #10)
         byte[] receiptPdf = pdfGenerationService.generatePaymentReceiptPdf(savedPayment);
-        emailService.sendPaymentReceivedEmail(savedPayment, receiptPdf);
+        emailService.sendPaymentReceivedEmail(PaymentEmailPayload.from(savedPayment), receiptPdf);
 
         return invoiceMapper.toPaymentResponseDto(savedPayment);
     }
@@ -438,10 +467,12 @@ public class InvoiceServiceImpl implements InvoiceService {
         LocalDate startOfMonth = LocalDate.now().withDayOfMonth(1);
         LocalDate endOfMonth = startOfMonth.plusMonths(1).minusDays(1);
 
-        BigDecimal totalInvoiced = invoiceRepository.getTotalInvoicedInPeriod(startOfMonth, endOfMonth);
-        BigDecimal totalCollected = invoiceRepository.getTotalCollectedInPeriod(startOfMonth, endOfMonth);
-        BigDecimal totalOverdue = invoiceRepository.getTotalOverdueAmount();
-        long overdueCount = invoiceRepository.countOverdueInvoices();
+        SummaryAggregateRepository.InvoiceTotals totals =
+                summaryAggregateRepository.getInvoiceTotals(startOfMonth, endOfMonth);
+        BigDecimal totalInvoiced = totals.totalInvoiced();
+        BigDecimal totalCollected = totals.totalCollected();
+        BigDecimal totalOverdue = totals.totalOverdue();
+        long overdueCount = totals.overdueCount();
 
         BigDecimal totalOutstanding = totalInvoiced.subtract(totalCollected);
         BigDecimal collectionRate = InvoiceSummaryDto.calculateCollectionRate(totalCollected, totalInvoiced);
@@ -531,7 +562,7 @@ public class InvoiceServiceImpl implements InvoiceService {
 
             // Send overdue notification email (AC #12)
             long daysOverdue = java.time.temporal.ChronoUnit.DAYS.between(invoice.getDueDate(), today);
-            emailService.sendOverdueInvoiceEmail(invoice, daysOverdue);
+            emailService.sendOverdueInvoiceEmail(InvoiceEmailPayload.from(invoice), daysOverdue);
         }
 
         LOGGER.info("Marked {} invoices as overdue", markedCount);
@@ -557,7 +588,7 @@ public class InvoiceServiceImpl implements InvoiceService {
             appliedCount++;
 
             // Send late fee applied notification email (AC #13)
-            emailService.sendLateFeeAppliedEmail(invoice);
+            emailService.sendLateFeeAppliedEmail(InvoiceEmailPayload.from(invoice));
 
             LOGGER.debug("Applied late fee of {} to invoice: {}", lateFee, invoice.getInvoiceNumber());
         }
@@ -580,7 +611,7 @@ public class InvoiceServiceImpl implements InvoiceService {
         for (Invoice invoice : invoicesToRemind) {
             try {
                 // Send payment reminder email (AC #14)
-                emailService.sendPaymentReminderEmail(invoice, daysBefore);
+                emailService.sendPaymentReminderEmail(InvoiceEmailPayload.from(invoice), daysBefore);
                 reminderCount++;
                 LOGGER.debug("Sent payment reminder for invoice: {}", invoice.getInvoiceNumber());
             } catch (Exception e) {
@@ -4,8 +4,10 @@ import com.ultrabms.service.IEmailService;
 
 import com.ultrabms.dto.lease.CurrentLeaseSummaryDto;
 import com.ultrabms.dto.lease.ExpiringLeaseDto;
+import com.ultrabms.dto.lease.LeaseExtensionEmailPayload;
 import com.ultrabms.dto.lease.LeaseExtensionRequest;
 import com.ultrabms.dto.lease.LeaseExtensionResponse;
+import com.ultrabms.dto.tenant.TenantEmailPayload;
 import com.ultrabms.entity.LeaseExtension;
 import com.ultrabms.entity.Tenant;
 import com.ultrabms.entity.User;
@@ -175,7 +177,8 @@ public class LeaseExtensionServiceImpl implements LeaseExtensionService {
 
         // 9. Send confirmation email asynchronously
         try {
-            emailService.sendLeaseExtensionConfirmation(tenant, extension);
+            emailService.sendLeaseExtensionConfirmation(
+                    TenantEmailPayload.from(tenant), LeaseExtensionEmailPayload.from(extension));
         } catch (Exception e) {
             LOGGER.error("Failed to send lease extension email: {}", e.getMessage());
         }
@@ -3,9 +3,11 @@ package com.ultrabms.service.impl;
 import com.ultrabms.service.IEmailService;
 
 import com.ultrabms.dto.maintenance.CreateMaintenanceRequestDto;
+import com.ultrabms.dto.maintenance.MaintenanceRequestEmailPayload;
 import com.ultrabms.dto.maintenance.MaintenanceRequestListItemResponse;
 import com.ultrabms.dto.maintenance.MaintenanceRequestResponse;
 import com.ultrabms.dto.maintenance.SubmitFeedbackDto;
+import com.ultrabms.dto.tenant.TenantEmailPayload;
 import com.ultrabms.entity.MaintenanceRequest;
 import com.ultrabms.entity.Tenant;
 import com.ultrabms.entity.User;
@@ -120,8 +122,10 @@ public class MaintenanceRequestServiceImpl implements MaintenanceRequestService
         LOGGER.info("Maintenance request created successfully: {}", requestNumber);
 
         // Send email notifications asynchronously
-        emailService.sendMaintenanceRequestConfirmation(tenant, request);
-        emailService.sendMaintenanceRequestNotification(tenant, request);
+        TenantEmailPayload tenantPayload = TenantEmailPayload.from(tenant);
+        MaintenanceRequestEmailPayload requestPayload = MaintenanceRequestEmailPayload.from(request);
+        emailService.sendMaintenanceRequestConfirmation(tenantPayload, requestPayload);
+        emailService.sendMaintenanceRequestNotification(tenantPayload, requestPayload);
 
         return mapToResponse(request, null);
     }
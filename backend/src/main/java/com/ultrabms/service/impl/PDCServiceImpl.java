@@ -13,6 +13,7 @@ import com.ultrabms.exception.ValidationException;
 import com.ultrabms.mapper.PDCMapper;
 import com.ultrabms.repository.InvoiceRepository;
 import com.ultrabms.repository.PDCRepository;
+import com.ultrabms.repository.SummaryAggregateRepository;
 import com.ultrabms.repository.TenantRepository;
 import com.ultrabms.service.CompanyProfileService;
 import com.ultrabms.service.InvoiceService;
@@ -47,6 +48,7 @@ public class PDCServiceImpl implements PDCService {
     private static final int MAX_BULK_PDCS = 24;
 
     private final PDCRepository pdcRepository;
+    private final SummaryAggregateRepository summaryAggregateRepository;
     private final TenantRepository tenantRepository;
     private final InvoiceRepository invoiceRepository;
     private final InvoiceService invoiceService;
@@ -55,6 +57,7 @@ public class PDCServiceImpl implements PDCService {
 
     public PDCServiceImpl(
             PDCRepository pdcRepository,
+            SummaryAggregateRepository summaryAggregateRepository,
             TenantRepository tenantRepository,
             InvoiceRepository invoiceRepository,
             InvoiceService invoiceService,
@@ -62,6 +65,7 @@ public class PDCServiceImpl implements PDCService {
             PDCMapper pdcMapper
     ) {
         this.pdcRepository = pdcRepository;
+        this.summaryAggregateRepository = summaryAggregateRepository;
         this.tenantRepository = tenantRepository;
         this.invoiceRepository = invoiceRepository;
         this.invoiceService = invoiceService;
@@ -378,18 +382,17 @@ public class PDCServiceImpl implements PDCService {
         LocalDate monthStart = today.withDayOfMonth(1);
         LocalDate thirtyDaysAgo = today.minusDays(30);
 
-        // Calculate KPIs
-        long totalReceived = pdcRepository.countByStatus(PDCStatus.RECEIVED);
-        long pdcsDueThisWeek = pdcRepository.countPDCsDueThisWeek(today, weekEnd);
-        BigDecimal valueDueThisWeek = pdcRepository.getTotalValueDueThisWeek(today, weekEnd);
-        long depositedThisMonth = pdcRepository.countDepositedPDCsInPeriod(monthStart, today);
-        BigDecimal valueDepositedThisMonth = pdcRepository.getTotalValueDepositedInPeriod(monthStart, today);
-        BigDecimal totalOutstanding = pdcRepository.getTotalOutstandingValue();
-        long bouncedLast30Days = pdcRepository.countRecentlyBouncedPDCs(thirtyDaysAgo);
-
-        // Calculate bounce rate (simplified - could be more sophisticated)
-        long totalProcessed = pdcRepository.countByStatus(PDCStatus.CLEARED) + pdcRepository.countByStatus(PDCStatus.BOUNCED);
-        double bounceRate = totalProcessed > 0 ? (double) pdcRepository.countByStatus(PDCStatus.BOUNCED) / totalProcessed * 100 : 0;
+        // Calculate KPIs in a single pass over pdcs
+        SummaryAggregateRepository.PdcDashboardTotals totals =
+                summaryAggregateRepository.getPdcDashboardTotals(today, weekEnd, monthStart, thirtyDaysAgo);
+        long totalReceived = totals.receivedCount();
+        long pdcsDueThisWeek = totals.dueThisWeekCount();
+        BigDecimal valueDueThisWeek = totals.dueThisWeekValue();
+        long depositedThisMonth = totals.depositedInPeriodCount();
+        BigDecimal valueDepositedThisMonth = totals.depositedInPeriodValue();
+        BigDecimal totalOutstanding = totals.outstandingValue();
+        long bouncedLast30Days = totals.recentlyBouncedCount();
+        double bounceRate = totals.bounceRatePercent();
 
         PDCDashboardDto.Summary summary = PDCDashboardDto.Summary.builder()
                 .totalPDCsReceived(totalReceived)
@@ -432,12 +435,8 @@ public class PDCServiceImpl implements PDCService {
         Tenant tenant = tenantRepository.findById(tenantId)
                 .orElseThrow(() -> new EntityNotFoundException("Tenant", tenantId));
 
-        // Get statistics
-        long totalPDCs = pdcRepository.countByTenantId(tenantId);
-        long clearedPDCs = pdcRepository.countClearedPDCsByTenant(tenantId);
-        long bouncedPDCs = pdcRepository.countBouncedPDCsByTenant(tenantId);
-        long pendingPDCs = pdcRepository.countPendingPDCsByTenant(tenantId);
-        Double bounceRate = pdcRepository.calculateBounceRateByTenant(tenantId);
+        // Get statistics in a single pass
+        SummaryAggregateRepository.TenantPdcTotals totals = summaryAggregateRepository.getTenantPdcTotals(tenantId);
 
         // Get PDCs
         Page<PDC> pdcPage = pdcRepository.findByTenantId(tenantId, pageable);
@@ -448,11 +447,11 @@ public class PDCServiceImpl implements PDCService {
         return TenantPDCHistoryDto.builder()
                 .tenantId(tenantId)
                 .tenantName(tenantName.trim())
-                .totalPDCs(totalPDCs)
-                .clearedPDCs(clearedPDCs)
-                .bouncedPDCs(bouncedPDCs)
-                .pendingPDCs(pendingPDCs)
-                .bounceRatePercent(bounceRate != null ? bounceRate : 0.0)
+                .totalPDCs(totals.totalCount())
+                .clearedPDCs(totals.clearedCount())
+                .bouncedPDCs(totals.bouncedCount())
+                .pendingPDCs(totals.pendingCount())
+                .bounceRatePercent(totals.bounceRatePercent())
                 .pdcs(pdcMapper.toListDtoList(pdcPage.getContent()))
                 .build();
     }
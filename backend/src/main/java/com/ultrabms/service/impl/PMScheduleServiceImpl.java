@@ -34,9 +34,14 @@ import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 /**
@@ -247,41 +252,115 @@ public class PMScheduleServiceImpl implements PMScheduleService {
         LocalDate today = LocalDate.now();
         List<PMSchedule> dueSchedules = pmScheduleRepository.findDueForGeneration(today);
 
-        int generated = 0;
+        // Active properties are loaded once per run and shared by all "All Properties" schedules
+        Map<UUID, String> activeProperties = null;
+
+        List<WorkOrder> workOrders = new ArrayList<>();
+        List<PMSchedule> processedSchedules = new ArrayList<>();
         for (PMSchedule schedule : dueSchedules) {
             try {
-                // Generate work order(s) - for "All Properties", generate for each property
+                Map<UUID, String> targets;
                 if (schedule.getPropertyId() == null) {
-                    // Generate for all active properties
-                    List<Property> properties = propertyRepository.findByActiveTrue();
-                    for (Property property : properties) {
-                        generateWorkOrderForProperty(schedule, property.getId(), schedule.getCreatedBy());
-                        generated++;
+                    if (activeProperties == null) {
+                        activeProperties = new LinkedHashMap<>();
+                        for (Property property : propertyRepository.findByActiveTrue()) {
+                            activeProperties.put(property.getId(), property.getName());
+                        }
                     }
+                    targets = activeProperties;
                 } else {
-                    generateWorkOrderFromSchedule(schedule, schedule.getCreatedBy(), false);
-                    generated++;
+                    String propertyName = propertyRepository.findById(schedule.getPropertyId())
+                            .map(Property::getName)
+                            .orElse("");
+                    targets = Map.of(schedule.getPropertyId(), propertyName);
                 }
 
-                // Update next generation date
-                LocalDate nextDate = calculateNextGenerationDate(schedule);
-                if (nextDate == null) {
-                    // Schedule has ended
-                    schedule.setStatus(PMScheduleStatus.COMPLETED);
-                    schedule.setNextGenerationDate(null);
-                } else {
-                    schedule.setNextGenerationDate(nextDate);
-                }
-                schedule.setLastGeneratedDate(today);
-                pmScheduleRepository.save(schedule);
+                workOrders.addAll(buildScheduledWorkOrders(schedule, targets));
+                advanceSchedule(schedule, today);
+                processedSchedules.add(schedule);
 
             } catch (Exception e) {
                 log.error("Failed to process PM schedule {}: {}", schedule.getId(), e.getMessage());
             }
         }
 
-        log.info("Processed {} PM schedules, generated {} work orders", dueSchedules.size(), generated);
-        return generated;
+        // Numbers are allocated as one block for the whole run: allocation reads the latest
+        // persisted number, so a block per schedule would repeat numbers before the flush
+        if (!workOrders.isEmpty()) {
+            List<String> workOrderNumbers = workOrderService.allocateWorkOrderNumbers(workOrders.size());
+            for (int i = 0; i < workOrders.size(); i++) {
+                workOrders.get(i).setWorkOrderNumber(workOrderNumbers.get(i));
+            }
+        }
+
+        // Work orders and schedule updates are flushed as JDBC batches
+        workOrderRepository.saveAll(workOrders);
+        pmScheduleRepository.saveAll(processedSchedules);
+
+        log.info("Processed {} PM schedules, generated {} work orders", dueSchedules.size(), workOrders.size());
+        return workOrders.size();
+    }
+
+    /**
+     * Build the work orders of one schedule occurrence for the given properties.
+     * Properties that already have a work order for this schedule and run date are
+     * skipped. Work order numbers are assigned by the caller once all schedules of the
+     * run are built.
+     */
+    private List<WorkOrder> buildScheduledWorkOrders(PMSchedule schedule, Map<UUID, String> properties) {
+        LocalDate runDate = schedule.getNextGenerationDate();
+        Set<UUID> alreadyGenerated = new HashSet<>(
+                workOrderRepository.findPropertyIdsByPmScheduleIdAndPmRunDate(schedule.getId(), runDate)
+        );
+
+        List<Map.Entry<UUID, String>> pending = properties.entrySet().stream()
+                .filter(entry -> !alreadyGenerated.contains(entry.getKey()))
+                .toList();
+        if (pending.isEmpty()) {
+            return List.of();
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+
+        List<WorkOrder> workOrders = new ArrayList<>(pending.size());
+        for (Map.Entry<UUID, String> property : pending) {
+            String title = schedule.getScheduleName() + " - " + property.getValue();
+            if (title.length() > 100) {
+                title = title.substring(0, 97) + "...";
+            }
+
+            WorkOrder workOrder = WorkOrder.builder()
+                    .propertyId(property.getKey())
+                    .requestedBy(schedule.getCreatedBy())
+                    .assignedTo(schedule.getDefaultAssigneeId())
+                    .pmScheduleId(schedule.getId())
+                    .pmRunDate(runDate)
+                    .category(schedule.getCategory())
+                    .priority(schedule.getDefaultPriority())
+                    .title(title)
+                    .description(schedule.getDescription())
+                    .status(schedule.getDefaultAssigneeId() != null ? WorkOrderStatus.ASSIGNED : WorkOrderStatus.OPEN)
+                    .scheduledDate(now.plusDays(7))
+                    .build();
+
+            if (schedule.getDefaultAssigneeId() != null) {
+                workOrder.setAssignedAt(now);
+            }
+            workOrders.add(workOrder);
+        }
+        return workOrders;
+    }
+
+    private void advanceSchedule(PMSchedule schedule, LocalDate today) {
+        LocalDate nextDate = calculateNextGenerationDate(schedule);
+        if (nextDate == null) {
+            // Schedule has ended
+            schedule.setStatus(PMScheduleStatus.COMPLETED);
+            schedule.setNextGenerationDate(null);
+        } else {
+            schedule.setNextGenerationDate(nextDate);
+        }
+        schedule.setLastGeneratedDate(today);
     }
 
     // =========================================================================
@@ -433,40 +512,6 @@ public class PMScheduleServiceImpl implements PMScheduleService {
         return workOrderRepository.save(workOrder);
     }
 
-    private WorkOrder generateWorkOrderForProperty(PMSchedule schedule, UUID propertyId, UUID requestedBy) {
-        // Get property name
-        String propertyName = propertyRepository.findById(propertyId)
-                .map(Property::getName)
-                .orElse("");
-
-        String title = schedule.getScheduleName() + " - " + propertyName;
-        if (title.length() > 100) {
-            title = title.substring(0, 97) + "...";
-        }
-
-        String workOrderNumber = workOrderService.generateWorkOrderNumber();
-
-        WorkOrder workOrder = WorkOrder.builder()
-                .workOrderNumber(workOrderNumber)
-                .propertyId(propertyId)
-                .requestedBy(requestedBy)
-                .assignedTo(schedule.getDefaultAssigneeId())
-                .pmScheduleId(schedule.getId())
-                .category(schedule.getCategory())
-                .priority(schedule.getDefaultPriority())
-                .title(title)
-                .description(schedule.getDescription())
-                .status(schedule.getDefaultAssigneeId() != null ? WorkOrderStatus.ASSIGNED : WorkOrderStatus.OPEN)
-                .scheduledDate(LocalDateTime.now().plusDays(7))
-                .build();
-
-        if (schedule.getDefaultAssigneeId() != null) {
-            workOrder.setAssignedAt(LocalDateTime.now());
-        }
-
-        return workOrderRepository.save(workOrder);
-    }
-
     private PMScheduleResponseDto mapToResponseDto(PMSchedule schedule) {
         // Get property name
         String propertyName = null;
@@ -30,7 +30,11 @@ import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -222,26 +226,10 @@ public class ParkingSpotServiceImpl implements ParkingSpotService {
     public BulkOperationResponse bulkDelete(BulkDeleteRequest request) {
         log.info("Bulk deleting {} parking spots", request.getIds().size());
 
-        List<ParkingSpot> spots = parkingSpotRepository.findByIdInAndActiveTrue(request.getIds());
-        List<UUID> failedIds = new ArrayList<>();
-        int successCount = 0;
-
-        for (ParkingSpot spot : spots) {
-            if (spot.canBeDeleted()) {
-                spot.setActive(false);
-                parkingSpotRepository.save(spot);
-                successCount++;
-            } else {
-                failedIds.add(spot.getId());
-            }
-        }
-
-        // Add IDs not found to failed list
-        for (UUID id : request.getIds()) {
-            if (spots.stream().noneMatch(s -> s.getId().equals(id)) && !failedIds.contains(id)) {
-                failedIds.add(id);
-            }
-        }
+        // Single UPDATE ... RETURNING: assigned, inactive and unknown spots are left untouched
+        List<UUID> deletedIds = parkingSpotRepository.softDeleteUnassigned(List.copyOf(request.getIds()));
+        int successCount = deletedIds.size();
+        List<UUID> failedIds = collectFailedIds(request.getIds(), deletedIds);
 
         String message = failedIds.isEmpty() ?
                 String.format("Successfully deleted %d parking spot(s)", successCount) :
@@ -263,26 +251,10 @@ public class ParkingSpotServiceImpl implements ParkingSpotService {
                     "Use tenant allocation flow instead.");
         }
 
-        List<ParkingSpot> spots = parkingSpotRepository.findByIdInAndActiveTrue(request.getIds());
-        List<UUID> failedIds = new ArrayList<>();
-        int successCount = 0;
-
-        for (ParkingSpot spot : spots) {
-            if (spot.canChangeStatus()) {
-                spot.setStatus(request.getStatus());
-                parkingSpotRepository.save(spot);
-                successCount++;
-            } else {
-                failedIds.add(spot.getId());
-            }
-        }
-
-        // Add IDs not found to failed list
-        for (UUID id : request.getIds()) {
-            if (spots.stream().noneMatch(s -> s.getId().equals(id)) && !failedIds.contains(id)) {
-                failedIds.add(id);
-            }
-        }
+        List<UUID> changedIds = parkingSpotRepository.changeStatusOfUnassigned(
+                List.copyOf(request.getIds()), request.getStatus().name());
+        int successCount = changedIds.size();
+        List<UUID> failedIds = collectFailedIds(request.getIds(), changedIds);
 
         String message = failedIds.isEmpty() ?
                 String.format("Successfully changed status for %d parking spot(s)", successCount) :
@@ -330,21 +302,19 @@ public class ParkingSpotServiceImpl implements ParkingSpotService {
     public ParkingSpotCountsResponse getParkingSpotCounts(UUID propertyId) {
         log.debug("Fetching parking spot counts for property: {}", propertyId);
 
-        long available, assigned, underMaintenance;
+        List<Object[]> rows = propertyId != null
+                ? parkingSpotRepository.countActiveByPropertyIdGroupedByStatus(propertyId)
+                : parkingSpotRepository.countActiveGroupedByStatus();
 
-        if (propertyId != null) {
-            available = parkingSpotRepository.countByPropertyIdAndStatusAndActiveTrue(
-                    propertyId, ParkingSpotStatus.AVAILABLE.name());
-            assigned = parkingSpotRepository.countByPropertyIdAndStatusAndActiveTrue(
-                    propertyId, ParkingSpotStatus.ASSIGNED.name());
-            underMaintenance = parkingSpotRepository.countByPropertyIdAndStatusAndActiveTrue(
-                    propertyId, ParkingSpotStatus.UNDER_MAINTENANCE.name());
-        } else {
-            available = parkingSpotRepository.countByStatusAndActiveTrue(ParkingSpotStatus.AVAILABLE.name());
-            assigned = parkingSpotRepository.countByStatusAndActiveTrue(ParkingSpotStatus.ASSIGNED.name());
-            underMaintenance = parkingSpotRepository.countByStatusAndActiveTrue(ParkingSpotStatus.UNDER_MAINTENANCE.name());
+        Map<ParkingSpotStatus, Long> counts = new EnumMap<>(ParkingSpotStatus.class);
+        for (Object[] row : rows) {
+            counts.put((ParkingSpotStatus) row[0], ((Number) row[1]).longValue());
         }
 
+        long available = counts.getOrDefault(ParkingSpotStatus.AVAILABLE, 0L);
+        long assigned = counts.getOrDefault(ParkingSpotStatus.ASSIGNED, 0L);
+        long underMaintenance = counts.getOrDefault(ParkingSpotStatus.UNDER_MAINTENANCE, 0L);
+
         return ParkingSpotCountsResponse.of(available, assigned, underMaintenance);
     }
 
@@ -418,15 +388,10 @@ public class ParkingSpotServiceImpl implements ParkingSpotService {
     public void releaseAllParkingSpotsForTenant(UUID tenantId) {
         log.info("Releasing all parking spots for tenant: {}", tenantId);
 
-        List<ParkingSpot> assignedSpots = parkingSpotRepository.findByAssignedTenantIdAndActiveTrue(tenantId);
+        List<UUID> releasedIds = parkingSpotRepository.releaseAllByTenantId(tenantId);
+        log.debug("Released parking spots: {}", releasedIds);
 
-        for (ParkingSpot spot : assignedSpots) {
-            spot.release();
-            parkingSpotRepository.save(spot);
-            log.debug("Released parking spot: {}", spot.getId());
-        }
-
-        log.info("Released {} parking spot(s) for tenant: {}", assignedSpots.size(), tenantId);
+        log.info("Released {} parking spot(s) for tenant: {}", releasedIds.size(), tenantId);
     }
 
     // =====================================================================
@@ -438,6 +403,15 @@ public class ParkingSpotServiceImpl implements ParkingSpotService {
                 .orElseThrow(() -> new ResourceNotFoundException("Parking spot not found with ID: " + id));
     }
 
+    /**
+     * Requested IDs (deduplicated, in request order) that the bulk update did not touch
+     */
+    private List<UUID> collectFailedIds(List<UUID> requestedIds, List<UUID> processedIds) {
+        Set<UUID> failed = new LinkedHashSet<>(requestedIds);
+        processedIds.forEach(failed::remove);
+        return new ArrayList<>(failed);
+    }
+
     // Specification builders for dynamic queries
     private Specification<ParkingSpot> isActive() {
         return (root, query, cb) -> cb.isTrue(root.get("active"));
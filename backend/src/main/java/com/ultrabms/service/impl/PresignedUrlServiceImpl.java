@@ -0,0 +1,72 @@
+package com.ultrabms.service.impl;
+
+import com.ultrabms.service.PresignedUrlService;
+import com.ultrabms.service.S3Service;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.support.NoOpCache;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Presigned URL Service Implementation
+ *
+ * Signatures are cached in the {@code presignedUrls} cache with a TTL of 4 minutes, one
+ * minute shorter than the 5-minute signature lifetime set by {@link S3Service}. Image-heavy
+ * list responses sign every key on the page through {@link #signAll(Collection)}, so repeated
+ * page loads only sign keys that are new or whose cached signature has expired.
+ */
+@Service
+public class PresignedUrlServiceImpl implements PresignedUrlService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PresignedUrlServiceImpl.class);
+
+    private final S3Service s3Service;
+    private final Cache cache;
+
+    public PresignedUrlServiceImpl(S3Service s3Service, CacheManager cacheManager) {
+        this.s3Service = s3Service;
+        Cache configured = cacheManager.getCache(CACHE_NAME);
+        this.cache = configured != null ? configured : new NoOpCache(CACHE_NAME);
+    }
+
+    @Override
+    public String sign(String key) {
+        String url = cache.get(key, String.class);
+        if (url == null) {
+            url = s3Service.getPresignedUrl(key);
+            cache.put(key, url);
+        }
+        return url;
+    }
+
+    @Override
+    public Map<String, String> signAll(Collection<String> keys) {
+        Map<String, String> urls = new LinkedHashMap<>();
+        int signed = 0;
+        for (String key : keys) {
+            if (key == null || urls.containsKey(key)) {
+                continue;
+            }
+            String url = cache.get(key, String.class);
+            if (url == null) {
+                url = s3Service.getPresignedUrl(key);
+                cache.put(key, url);
+                signed++;
+            }
+            urls.put(key, url);
+        }
+        LOGGER.debug("Resolved {} presigned URLs ({} newly signed)", urls.size(), signed);
+        return urls;
+    }
+
+    @Override
+    public void evict(String key) {
+        cache.evict(key);
+    }
+}
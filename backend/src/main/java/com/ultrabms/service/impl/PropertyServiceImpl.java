@@ -15,15 +15,19 @@ import com.ultrabms.exception.ResourceNotFoundException;
 import com.ultrabms.exception.ValidationException;
 import com.ultrabms.repository.PropertyImageRepository;
 import com.ultrabms.repository.PropertyRepository;
+import com.ultrabms.repository.SummaryAggregateRepository;
 import com.ultrabms.repository.UnitRepository;
 import com.ultrabms.repository.UserRepository;
 import com.ultrabms.service.FileStorageService;
+import com.ultrabms.service.ImageDerivativeService;
 import com.ultrabms.service.PropertyService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.cache.annotation.Caching;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
@@ -32,9 +36,13 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Implementation of PropertyService
@@ -47,8 +55,16 @@ public class PropertyServiceImpl implements PropertyService {
     private final PropertyRepository propertyRepository;
     private final PropertyImageRepository propertyImageRepository;
     private final UnitRepository unitRepository;
+    private final SummaryAggregateRepository summaryAggregateRepository;
     private final UserRepository userRepository;
     private final FileStorageService fileStorageService;
+    private final ImageDerivativeService imageDerivativeService;
+
+    // Self-injection so getPropertyByIdWithOccupancy goes through the caching proxy
+    // @Lazy prevents circular dependency issues during initialization
+    @Autowired
+    @Lazy
+    private PropertyServiceImpl self;
 
     @Override
     @Transactional
@@ -96,13 +112,28 @@ public class PropertyServiceImpl implements PropertyService {
         return PropertyResponse.fromEntity(property);
     }
 
+    /**
+     * Presigned URLs expire after 5 minutes, so the cached response holds S3 keys and
+     * the URLs are signed on every read.
+     */
     @Override
+    public PropertyResponse getPropertyByIdWithOccupancy(UUID id) {
+        return signImageUrls(List.of(self.loadPropertyWithOccupancy(id))).get(0);
+    }
+
+    /**
+     * Loads a property with occupancy data and image S3 keys (no presigned URLs).
+     * Cached in propertyWithOccupancy; callers must sign image keys before returning
+     * the response to clients.
+     */
     @Transactional(readOnly = true)
     @Cacheable(value = "propertyWithOccupancy", key = "#id")
-    public PropertyResponse getPropertyByIdWithOccupancy(UUID id) {
+    public PropertyResponse loadPropertyWithOccupancy(UUID id) {
         log.info("Fetching property with occupancy by ID: {}", id);
         Property property = findPropertyById(id);
-        return buildPropertyResponseWithOccupancy(property);
+        Map<UnitStatus, Long> statusCounts = summaryAggregateRepository.getUnitStatusCounts(property.getId());
+        List<PropertyImage> images = propertyImageRepository.findByPropertyIdOrderByDisplayOrderAsc(property.getId());
+        return buildPropertyResponseWithOccupancy(property, statusCounts, images);
     }
 
     @Override
@@ -204,8 +235,7 @@ public class PropertyServiceImpl implements PropertyService {
         // Filter properties with occupancy data
         if (occupancyMin != null || occupancyMax != null) {
             Page<Property> propertyPage = propertyRepository.findAll(spec, pageable);
-            List<PropertyResponse> filteredResponses = propertyPage.stream()
-                    .map(this::buildPropertyResponseWithOccupancy)
+            List<PropertyResponse> filteredResponses = buildPropertyResponsesWithOccupancy(propertyPage).stream()
                     .filter(response -> {
                         boolean matches = true;
                         if (occupancyMin != null && response.getOccupancyRate() < occupancyMin) {
@@ -221,24 +251,21 @@ public class PropertyServiceImpl implements PropertyService {
             return new PageImpl<>(filteredResponses, pageable, propertyPage.getTotalElements());
         }
 
-        return propertyRepository.findAll(spec, pageable)
-                .map(this::buildPropertyResponseWithOccupancy);
+        return buildPropertyResponsesWithOccupancy(propertyRepository.findAll(spec, pageable));
     }
 
     @Override
     @Transactional(readOnly = true)
     public Page<PropertyResponse> getAllProperties(Pageable pageable) {
         log.info("Fetching all active properties");
-        return propertyRepository.findByStatus(PropertyStatus.ACTIVE, pageable)
-                .map(this::buildPropertyResponseWithOccupancy);
+        return buildPropertyResponsesWithOccupancy(propertyRepository.findByStatus(PropertyStatus.ACTIVE, pageable));
     }
 
     @Override
     @Transactional(readOnly = true)
     public Page<PropertyResponse> getAllPropertiesWithOccupancy(Pageable pageable) {
         log.info("Fetching all active properties with occupancy data");
-        return propertyRepository.findByStatus(PropertyStatus.ACTIVE, pageable)
-                .map(this::buildPropertyResponseWithOccupancy);
+        return buildPropertyResponsesWithOccupancy(propertyRepository.findByStatus(PropertyStatus.ACTIVE, pageable));
     }
 
     @Override
@@ -317,6 +344,9 @@ public class PropertyServiceImpl implements PropertyService {
         image = propertyImageRepository.save(image);
         log.info("Image uploaded successfully: {}", image.getId());
 
+        // Thumbnail/medium variants are generated after commit
+        imageDerivativeService.schedulePropertyImage(image.getId(), filePath);
+
         // Return response with presigned URL for immediate display
         String presignedUrl = fileStorageService.getDownloadUrl(filePath);
         return PropertyImageResponse.fromEntityWithUrl(image, presignedUrl);
@@ -327,13 +357,14 @@ public class PropertyServiceImpl implements PropertyService {
     public List<PropertyImageResponse> getPropertyImages(UUID propertyId) {
         log.info("Fetching images for property: {}", propertyId);
         findPropertyById(propertyId); // Validate property exists
-        return propertyImageRepository.findByPropertyIdOrderByDisplayOrderAsc(propertyId)
-                .stream()
-                .map(image -> {
-                    // Convert S3 key to presigned URL for image access
-                    String presignedUrl = fileStorageService.getDownloadUrl(image.getFilePath());
-                    return PropertyImageResponse.fromEntityWithUrl(image, presignedUrl);
-                })
+        List<PropertyImage> images = propertyImageRepository.findByPropertyIdOrderByDisplayOrderAsc(propertyId);
+
+        // Convert S3 keys (originals and variants) to presigned URLs for image access in one batch
+        Map<String, String> presignedUrls = fileStorageService.getDownloadUrls(images.stream()
+                .flatMap(image -> Stream.of(image.getFilePath(), image.getThumbnailPath(), image.getMediumPath()))
+                .collect(Collectors.toList()));
+        return images.stream()
+                .map(image -> PropertyImageResponse.fromEntityWithUrls(image, presignedUrls))
                 .collect(Collectors.toList());
     }
 
@@ -345,6 +376,9 @@ public class PropertyServiceImpl implements PropertyService {
                 .orElseThrow(() -> new ResourceNotFoundException("Image not found"));
 
         fileStorageService.deleteFile(image.getFilePath());
+        Stream.of(image.getThumbnailPath(), image.getMediumPath())
+                .filter(Objects::nonNull)
+                .forEach(fileStorageService::deleteFile);
         propertyImageRepository.delete(image);
         log.info("Image deleted successfully: {}", imageId);
     }
@@ -378,12 +412,15 @@ public class PropertyServiceImpl implements PropertyService {
         Property property = findPropertyById(propertyId);
 
         int total = property.getTotalUnitsCount();
-        int available = (int) unitRepository.countByPropertyIdAndStatus(propertyId, UnitStatus.AVAILABLE);
-        int occupied = (int) unitRepository.countByPropertyIdAndStatus(propertyId, UnitStatus.OCCUPIED);
-        int underMaintenance = (int) unitRepository.countByPropertyIdAndStatus(propertyId, UnitStatus.UNDER_MAINTENANCE);
-        int reserved = (int) unitRepository.countByPropertyIdAndStatus(propertyId, UnitStatus.RESERVED);
-
-        return OccupancyResponse.fromCounts(total, available, occupied, underMaintenance, reserved);
+        Map<UnitStatus, Long> statusCounts = summaryAggregateRepository.getUnitStatusCounts(propertyId);
+
+        return OccupancyResponse.fromCounts(
+                total,
+                statusCounts.get(UnitStatus.AVAILABLE).intValue(),
+                statusCounts.get(UnitStatus.OCCUPIED).intValue(),
+                statusCounts.get(UnitStatus.UNDER_MAINTENANCE).intValue(),
+                statusCounts.get(UnitStatus.RESERVED).intValue()
+        );
     }
 
     @Override
@@ -431,39 +468,100 @@ public class PropertyServiceImpl implements PropertyService {
     }
 
     /**
-     * Helper method to build PropertyResponse with occupancy data and images
+     * Helper method to build a page of PropertyResponse with occupancy data.
+     * Unit status counts and images for the whole page are loaded in one grouped query each,
+     * and all image keys on the page are signed in one batch.
      */
-    private PropertyResponse buildPropertyResponseWithOccupancy(Property property) {
-        int occupied = (int) unitRepository.countByPropertyIdAndStatus(property.getId(), UnitStatus.OCCUPIED);
-        int available = (int) unitRepository.countByPropertyIdAndStatus(property.getId(), UnitStatus.AVAILABLE);
-        int underMaintenance = (int) unitRepository.countByPropertyIdAndStatus(property.getId(), UnitStatus.UNDER_MAINTENANCE);
-        int reserved = (int) unitRepository.countByPropertyIdAndStatus(property.getId(), UnitStatus.RESERVED);
+    private Page<PropertyResponse> buildPropertyResponsesWithOccupancy(Page<Property> propertyPage) {
+        List<UUID> propertyIds = propertyPage.stream().map(Property::getId).collect(Collectors.toList());
+        Map<UUID, Map<UnitStatus, Long>> statusCounts =
+                summaryAggregateRepository.getUnitStatusCountsByProperty(propertyIds);
+        Map<UUID, List<PropertyImage>> imagesByProperty = propertyIds.isEmpty() ? Map.of()
+                : propertyImageRepository.findByPropertyIdInOrderByDisplayOrderAsc(propertyIds).stream()
+                        .collect(Collectors.groupingBy(img -> img.getProperty().getId()));
+
+        List<PropertyResponse> responses = propertyPage.stream()
+                .map(property -> buildPropertyResponseWithOccupancy(
+                        property,
+                        statusCounts.get(property.getId()),
+                        imagesByProperty.getOrDefault(property.getId(), List.of())))
+                .collect(Collectors.toList());
+        return new PageImpl<>(signImageUrls(responses), propertyPage.getPageable(), propertyPage.getTotalElements());
+    }
 
+    /**
+     * Helper method to build PropertyResponse with occupancy data and images.
+     * Image file paths are left as S3 keys; see {@link #signImageUrls(List)}.
+     */
+    private PropertyResponse buildPropertyResponseWithOccupancy(
+            Property property, Map<UnitStatus, Long> statusCounts, List<PropertyImage> images) {
         PropertyResponse response = PropertyResponse.fromEntityWithOccupancy(
                 property,
-                occupied,
-                available,
-                underMaintenance,
-                reserved
+                statusCounts.get(UnitStatus.OCCUPIED).intValue(),
+                statusCounts.get(UnitStatus.AVAILABLE).intValue(),
+                statusCounts.get(UnitStatus.UNDER_MAINTENANCE).intValue(),
+                statusCounts.get(UnitStatus.RESERVED).intValue()
         );
 
-        // Add images with presigned URLs
-        List<PropertyImage> images = propertyImageRepository.findByPropertyIdOrderByDisplayOrderAsc(property.getId());
         if (images != null && !images.isEmpty()) {
-            List<PropertyResponse.PropertyImageInfo> imageInfos = images.stream()
+            response.setImages(images.stream()
                     .map(img -> PropertyResponse.PropertyImageInfo.builder()
                             .id(img.getId())
                             .fileName(img.getFileName())
-                            .filePath(fileStorageService.getDownloadUrl(img.getFilePath()))
+                            .filePath(img.getFilePath())
+                            .thumbnailPath(img.getThumbnailPath())
+                            .mediumPath(img.getMediumPath())
                             .fileSize(img.getFileSize())
                             .displayOrder(img.getDisplayOrder())
                             .build())
-                    .collect(Collectors.toList());
-            response.setImages(imageInfos);
-            // Set thumbnail URL to the first image (presigned URL)
-            response.setThumbnailUrl(fileStorageService.getDownloadUrl(images.get(0).getFilePath()));
+                    .collect(Collectors.toList()));
         }
 
         return response;
     }
+
+    /**
+     * Helper method to replace image S3 keys with presigned URLs.
+     * Signs every key of the given responses in one batch and returns copies, so
+     * responses held in a cache are never modified.
+     */
+    private List<PropertyResponse> signImageUrls(List<PropertyResponse> responses) {
+        List<String> keys = responses.stream()
+                .filter(response -> response.getImages() != null)
+                .flatMap(response -> response.getImages().stream())
+                .flatMap(img -> Stream.of(img.getFilePath(), img.getThumbnailPath(), img.getMediumPath()))
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+        if (keys.isEmpty()) {
+            return responses;
+        }
+
+        Map<String, String> presignedUrls = fileStorageService.getDownloadUrls(keys);
+        List<PropertyResponse> signed = new ArrayList<>(responses.size());
+        for (PropertyResponse response : responses) {
+            if (response.getImages() == null || response.getImages().isEmpty()) {
+                signed.add(response);
+                continue;
+            }
+            List<PropertyResponse.PropertyImageInfo> images = response.getImages().stream()
+                    .map(img -> {
+                        // Variants fall back to the original until they are generated
+                        String originalUrl = presignedUrls.get(img.getFilePath());
+                        return img.toBuilder()
+                                .filePath(originalUrl)
+                                .thumbnailPath(img.getThumbnailPath() != null
+                                        ? presignedUrls.get(img.getThumbnailPath()) : originalUrl)
+                                .mediumPath(img.getMediumPath() != null
+                                        ? presignedUrls.get(img.getMediumPath()) : originalUrl)
+                                .build();
+                    })
+                    .collect(Collectors.toList());
+            signed.add(response.toBuilder()
+                    .images(images)
+                    // Thumbnail is the first image's thumbnail variant (presigned URL)
+                    .thumbnailUrl(images.get(0).getThumbnailPath())
+                    .build());
+        }
+        return signed;
+    }
 }
@@ -3,7 +3,9 @@ package com.ultrabms.service.impl;
 import com.ultrabms.service.IEmailService;
 
 import com.ultrabms.dto.lease.RenewalRequestDto;
+import com.ultrabms.dto.lease.RenewalRequestEmailPayload;
 import com.ultrabms.dto.lease.RenewalRequestResponse;
+import com.ultrabms.dto.tenant.TenantEmailPayload;
 import com.ultrabms.entity.RenewalRequest;
 import com.ultrabms.entity.Tenant;
 import com.ultrabms.entity.enums.RenewalRequestStatus;
@@ -109,7 +111,8 @@ public class RenewalRequestServiceImpl implements RenewalRequestService {
 
         // 6. Send confirmation email
         try {
-            emailService.sendRenewalRequestConfirmation(tenant, renewalRequest);
+            emailService.sendRenewalRequestConfirmation(
+                    TenantEmailPayload.from(tenant), RenewalRequestEmailPayload.from(renewalRequest));
         } catch (Exception e) {
             LOGGER.error("Failed to send renewal request confirmation email: {}", e.getMessage());
         }
@@ -199,8 +202,8 @@ public class RenewalRequestServiceImpl implements RenewalRequestService {
 
         // Send notification email
         try {
-            Tenant tenant = request.getTenant();
-            emailService.sendRenewalRequestStatusUpdate(tenant, request);
+            emailService.sendRenewalRequestStatusUpdate(
+                    TenantEmailPayload.from(request.getTenant()), RenewalRequestEmailPayload.from(request));
         } catch (Exception e) {
             LOGGER.error("Failed to send renewal request approval email: {}", e.getMessage());
         }
@@ -243,8 +246,8 @@ public class RenewalRequestServiceImpl implements RenewalRequestService {
 
         // Send notification email
         try {
-            Tenant tenant = request.getTenant();
-            emailService.sendRenewalRequestStatusUpdate(tenant, request);
+            emailService.sendRenewalRequestStatusUpdate(
+                    TenantEmailPayload.from(request.getTenant()), RenewalRequestEmailPayload.from(request));
         } catch (Exception e) {
             LOGGER.error("Failed to send renewal request rejection email: {}", e.getMessage());
         }
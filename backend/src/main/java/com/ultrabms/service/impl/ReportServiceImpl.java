@@ -1,5 +1,8 @@
 package com.ultrabms.service.impl;
 
+import com.ultrabms.datasource.ReadReplica;
+import com.ultrabms.datasource.Workload;
+import com.ultrabms.datasource.WorkloadPool;
 import com.ultrabms.dto.reports.*;
 import com.ultrabms.entity.Property;
 import com.ultrabms.entity.enums.ExpenseCategory;
@@ -34,6 +37,8 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 @Slf4j
 @Transactional(readOnly = true)
+@ReadReplica
+@WorkloadPool(Workload.REPORTING)
 public class ReportServiceImpl implements ReportService {
 
     private final InvoiceRepository invoiceRepository;
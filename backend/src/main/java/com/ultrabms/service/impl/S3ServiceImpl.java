@@ -22,7 +22,6 @@ import software.amazon.awssdk.services.s3.presigner.model.GetObjectPresignReques
 import software.amazon.awssdk.services.s3.presigner.model.PresignedGetObjectRequest;
 
 import java.io.IOException;
-import java.time.Duration;
 import java.util.Arrays;
 import java.util.List;
 import java.util.UUID;
@@ -132,6 +131,42 @@ public class S3ServiceImpl implements S3Service {
         }
     }
 
+    @Override
+    public void putObject(String key, byte[] content, String contentType) {
+        try {
+            PutObjectRequest putObjectRequest = PutObjectRequest.builder()
+                    .bucket(bucketName)
+                    .key(key)
+                    .contentType(contentType)
+                    .contentLength((long) content.length)
+                    .build();
+
+            s3Client.putObject(putObjectRequest, RequestBody.fromBytes(content));
+
+            LOGGER.debug("Object written to S3: {} ({} bytes)", key, content.length);
+
+        } catch (S3Exception e) {
+            LOGGER.error("S3 error while writing object: {}", e.getMessage(), e);
+            throw new FileStorageException("S3 error while writing object", e);
+        }
+    }
+
+    @Override
+    public byte[] downloadFile(String filePath) {
+        try {
+            GetObjectRequest getObjectRequest = GetObjectRequest.builder()
+                    .bucket(bucketName)
+                    .key(filePath)
+                    .build();
+
+            return s3Client.getObjectAsBytes(getObjectRequest).asByteArray();
+
+        } catch (S3Exception e) {
+            LOGGER.error("S3 error while downloading file: {}", e.getMessage(), e);
+            throw new FileStorageException("Failed to download file from S3", e);
+        }
+    }
+
     @Override
     public void deleteFile(String filePath) {
         try {
@@ -213,7 +248,7 @@ public class S3ServiceImpl implements S3Service {
 
             // Create presign request with 5-minute expiration (per AC3)
             GetObjectPresignRequest presignRequest = GetObjectPresignRequest.builder()
-                    .signatureDuration(Duration.ofMinutes(5)) // URL valid for 5 minutes
+                    .signatureDuration(PRESIGNED_URL_TTL) // URL valid for 5 minutes
                     .getObjectRequest(getObjectRequest)
                     .build();
 
@@ -221,7 +256,7 @@ public class S3ServiceImpl implements S3Service {
 
             String url = presignedRequest.url().toString();
 
-            LOGGER.info("Generated presigned URL for file: {} (expires in 5 minutes)", filePath);
+            LOGGER.debug("Generated presigned URL for file: {} (expires in 5 minutes)", filePath);
 
             return url;
 
@@ -2,17 +2,21 @@ package com.ultrabms.service.impl;
 
 import com.ultrabms.service.IEmailService;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.ultrabms.dto.checkout.*;
+import com.ultrabms.dto.tenant.TenantEmailPayload;
 import com.ultrabms.entity.*;
 import com.ultrabms.entity.enums.*;
 import com.ultrabms.exception.ResourceNotFoundException;
 import com.ultrabms.exception.ValidationException;
 import com.ultrabms.repository.*;
+import com.ultrabms.repository.SummaryAggregateRepository.TenantOutstandingTotals;
 import com.ultrabms.service.*;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -25,6 +29,9 @@ import java.time.LocalDateTime;
 import java.time.Year;
 import java.time.temporal.ChronoUnit;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 import java.util.stream.Collectors;
 
 /**
@@ -50,6 +57,9 @@ public class TenantCheckoutServiceImpl implements TenantCheckoutService {
     private final S3Service s3Service;
     private final ObjectMapper objectMapper;
     private final ParkingSpotService parkingSpotService;
+    private final ImageDerivativeService imageDerivativeService;
+    private final SummaryAggregateRepository summaryAggregateRepository;
+    private final Executor s3UploadExecutor;
 
     public TenantCheckoutServiceImpl(
             TenantCheckoutRepository checkoutRepository,
@@ -61,7 +71,10 @@ public class TenantCheckoutServiceImpl implements TenantCheckoutService {
             IEmailService emailService,
             S3Service s3Service,
             ObjectMapper objectMapper,
-            ParkingSpotService parkingSpotService) {
+            ParkingSpotService parkingSpotService,
+            ImageDerivativeService imageDerivativeService,
+            SummaryAggregateRepository summaryAggregateRepository,
+            @Qualifier("s3UploadExecutor") Executor s3UploadExecutor) {
         this.checkoutRepository = checkoutRepository;
         this.depositRefundRepository = depositRefundRepository;
         this.tenantRepository = tenantRepository;
@@ -72,6 +85,9 @@ public class TenantCheckoutServiceImpl implements TenantCheckoutService {
         this.s3Service = s3Service;
         this.objectMapper = objectMapper;
         this.parkingSpotService = parkingSpotService;
+        this.imageDerivativeService = imageDerivativeService;
+        this.summaryAggregateRepository = summaryAggregateRepository;
+        this.s3UploadExecutor = s3UploadExecutor;
     }
 
     // ========================================================================
@@ -83,8 +99,7 @@ public class TenantCheckoutServiceImpl implements TenantCheckoutService {
         Tenant tenant = findTenantById(tenantId);
 
         int daysUntilLeaseEnd = (int) ChronoUnit.DAYS.between(LocalDate.now(), tenant.getLeaseEndDate());
-        BigDecimal outstandingBalance = calculateOutstandingBalance(tenantId);
-        boolean hasActiveCheckout = checkoutRepository.existsActiveCheckoutByTenantId(tenantId);
+        TenantOutstandingTotals totals = summaryAggregateRepository.getTenantOutstandingTotals(tenantId);
 
         return TenantCheckoutSummaryDto.builder()
                 .tenantId(tenant.getId())
@@ -103,9 +118,9 @@ public class TenantCheckoutServiceImpl implements TenantCheckoutService {
                 .leaseType(tenant.getLeaseType() != null ? tenant.getLeaseType().name() : null)
                 .monthlyRent(tenant.getTotalMonthlyRent())
                 .securityDeposit(tenant.getSecurityDeposit())
-                .outstandingBalance(outstandingBalance)
+                .outstandingBalance(totals.totalOutstandingRent())
                 .status(tenant.getStatus().name())
-                .hasActiveCheckout(hasActiveCheckout)
+                .hasActiveCheckout(totals.hasActiveCheckout())
                 .build();
     }
 
@@ -132,12 +147,14 @@ public class TenantCheckoutServiceImpl implements TenantCheckoutService {
                         .build())
                 .collect(Collectors.toList());
 
-        BigDecimal totalOutstandingRent = invoiceDtos.stream()
-                .map(OutstandingAmountsDto.OutstandingInvoiceDto::getBalance)
+        // Totals are summed from the same invoices as the list so both come from one snapshot
+        BigDecimal totalOutstandingRent = unpaidInvoices.stream()
+                .map(Invoice::getBalanceAmount)
+                .filter(Objects::nonNull)
                 .reduce(BigDecimal.ZERO, BigDecimal::add);
-
         BigDecimal totalLateFees = unpaidInvoices.stream()
-                .map(inv -> inv.getLateFee() != null ? inv.getLateFee() : BigDecimal.ZERO)
+                .map(Invoice::getLateFee)
+                .filter(Objects::nonNull)
                 .reduce(BigDecimal.ZERO, BigDecimal::add);
 
         return OutstandingAmountsDto.builder()
@@ -226,7 +243,8 @@ public class TenantCheckoutServiceImpl implements TenantCheckoutService {
 
         // Send notification email
         try {
-            emailService.sendCheckoutInitiatedNotification(tenant, checkout);
+            emailService.sendCheckoutInitiatedNotification(
+                    TenantEmailPayload.from(tenant), CheckoutEmailPayload.from(checkout));
         } catch (Exception e) {
             LOGGER.error("Failed to send checkout initiated email: {}", e.getMessage());
         }
@@ -324,7 +342,8 @@ public class TenantCheckoutServiceImpl implements TenantCheckoutService {
         // Send notification if requested
         if (Boolean.TRUE.equals(request.getSendNotification())) {
             try {
-                emailService.sendInspectionScheduledNotification(checkout.getTenant(), checkout);
+                emailService.sendInspectionScheduledNotification(
+                        TenantEmailPayload.from(checkout.getTenant()), CheckoutEmailPayload.from(checkout));
             } catch (Exception e) {
                 LOGGER.error("Failed to send inspection notification: {}", e.getMessage());
             }
@@ -346,38 +365,23 @@ public class TenantCheckoutServiceImpl implements TenantCheckoutService {
         TenantCheckout checkout = findCheckoutById(checkoutId);
         validateCheckoutOwnership(checkout, tenantId);
 
-        List<Map<String, Object>> uploadedPhotos = new ArrayList<>();
         String basePath = String.format("inspections/%s/%s", tenantId, checkoutId);
 
-        for (MultipartFile file : files) {
-            String photoId = UUID.randomUUID().toString();
-            String fileName = photoId + "_" + file.getOriginalFilename();
-            String filePath = basePath + "/" + fileName;
+        // Upload to S3 in parallel; results keep the order of the submitted files
+        List<CompletableFuture<Map<String, Object>>> uploads = Arrays.stream(files)
+                .map(file -> CompletableFuture.supplyAsync(
+                        () -> uploadInspectionPhoto(file, basePath, section, photoType), s3UploadExecutor))
+                .toList();
+        List<Map<String, Object>> uploadedPhotos = awaitUploads(uploads);
+        List<String> uploadedKeys = uploadedPhotos.stream()
+                .map(photo -> (String) photo.get("presignedUrl"))
+                .toList();
 
-            // Upload to S3
-            String s3Url = s3Service.uploadFile(file, filePath);
+        // Append to the jsonb array in place instead of rewriting every existing photo
+        checkoutRepository.appendInspectionPhotos(checkoutId, toJson(uploadedPhotos));
 
-            Map<String, Object> photoMeta = new HashMap<>();
-            photoMeta.put("id", photoId);
-            photoMeta.put("fileName", file.getOriginalFilename());
-            photoMeta.put("filePath", filePath);
-            photoMeta.put("fileSize", file.getSize());
-            photoMeta.put("section", section);
-            photoMeta.put("photoType", photoType);
-            photoMeta.put("uploadedAt", LocalDateTime.now().toString());
-            photoMeta.put("presignedUrl", s3Url);
-
-            uploadedPhotos.add(photoMeta);
-        }
-
-        // Update checkout with new photos
-        List<Object> existingPhotos = checkout.getInspectionPhotos();
-        if (existingPhotos == null) {
-            existingPhotos = new ArrayList<>();
-        }
-        existingPhotos.addAll(uploadedPhotos);
-        checkout.setInspectionPhotos(existingPhotos);
-        checkoutRepository.save(checkout);
+        // Thumbnail/medium variants are generated after commit
+        imageDerivativeService.scheduleCheckoutPhotos(checkoutId, uploadedKeys);
 
         return uploadedPhotos;
     }
@@ -397,6 +401,7 @@ public class TenantCheckoutServiceImpl implements TenantCheckoutService {
                     if (filePath != null) {
                         s3Service.deleteFile(filePath);
                     }
+                    deletePhotoVariants(checkout, (String) photoMap.get("presignedUrl"));
                     return true;
                 }
                 return false;
@@ -406,6 +411,14 @@ public class TenantCheckoutServiceImpl implements TenantCheckoutService {
         }
     }
 
+    private void deletePhotoVariants(TenantCheckout checkout, String photoKey) {
+        Map<String, Map<String, String>> variants = checkout.getPhotoVariants();
+        if (photoKey == null || variants == null || !variants.containsKey(photoKey)) {
+            return;
+        }
+        s3Service.deleteFiles(new ArrayList<>(variants.get(photoKey).values()));
+    }
+
     // ========================================================================
     // DEPOSIT CALCULATION
     // ========================================================================
@@ -684,7 +697,8 @@ public class TenantCheckoutServiceImpl implements TenantCheckoutService {
 
         // Send completion email
         try {
-            emailService.sendCheckoutCompletedNotification(tenant, checkout);
+            emailService.sendCheckoutCompletedNotification(
+                    TenantEmailPayload.from(tenant), CheckoutEmailPayload.from(checkout));
         } catch (Exception e) {
             LOGGER.error("Failed to send checkout completed email: {}", e.getMessage());
         }
@@ -787,15 +801,56 @@ public class TenantCheckoutServiceImpl implements TenantCheckoutService {
         }
     }
 
-    private BigDecimal calculateOutstandingBalance(UUID tenantId) {
-        List<Invoice> unpaidInvoices = invoiceRepository.findByTenantIdAndStatusIn(
-                tenantId,
-                List.of(InvoiceStatus.SENT, InvoiceStatus.OVERDUE, InvoiceStatus.PARTIALLY_PAID)
-        );
+    private Map<String, Object> uploadInspectionPhoto(
+            MultipartFile file, String basePath, String section, String photoType) {
+        String photoId = UUID.randomUUID().toString();
+        String fileName = photoId + "_" + file.getOriginalFilename();
+        String filePath = basePath + "/" + fileName;
+
+        String s3Url = s3Service.uploadFile(file, filePath);
+
+        Map<String, Object> photoMeta = new HashMap<>();
+        photoMeta.put("id", photoId);
+        photoMeta.put("fileName", file.getOriginalFilename());
+        photoMeta.put("filePath", filePath);
+        photoMeta.put("fileSize", file.getSize());
+        photoMeta.put("section", section);
+        photoMeta.put("photoType", photoType);
+        photoMeta.put("uploadedAt", LocalDateTime.now().toString());
+        photoMeta.put("presignedUrl", s3Url);
+        return photoMeta;
+    }
 
-        return unpaidInvoices.stream()
-                .map(Invoice::getBalanceAmount)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+    /**
+     * Wait for all uploads. If any fails, the ones that succeeded are removed from S3
+     * so a rejected request leaves no orphaned objects, and the first failure is rethrown.
+     */
+    private List<Map<String, Object>> awaitUploads(List<CompletableFuture<Map<String, Object>>> uploads) {
+        try {
+            CompletableFuture.allOf(uploads.toArray(CompletableFuture[]::new)).join();
+        } catch (CompletionException e) {
+            List<String> orphaned = uploads.stream()
+                    .filter(upload -> !upload.isCompletedExceptionally())
+                    .map(upload -> (String) upload.join().get("filePath"))
+                    .toList();
+            if (!orphaned.isEmpty()) {
+                LOGGER.warn("Inspection photo upload failed, removing {} uploaded file(s)", orphaned.size());
+                s3Service.deleteFiles(orphaned);
+            }
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+        return uploads.stream().map(CompletableFuture::join).toList();
+    }
+
+    private String toJson(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize inspection photos", e);
+        }
     }
 
     private String generateCheckoutNumber() {
@@ -900,6 +955,7 @@ public class TenantCheckoutServiceImpl implements TenantCheckoutService {
                 .inspectionNotes(checkout.getInspectionNotes())
                 .hasInspectionChecklist(checkout.getInspectionChecklist() != null && !checkout.getInspectionChecklist().isEmpty())
                 .photoCount(checkout.getInspectionPhotos() != null ? checkout.getInspectionPhotos().size() : 0)
+                .photoVariants(checkout.getPhotoVariants())
                 .depositRefundId(depositRefund != null ? depositRefund.getId() : null)
                 .originalDeposit(depositRefund != null ? depositRefund.getOriginalDeposit() : null)
                 .totalDeductions(depositRefund != null ? depositRefund.getTotalDeductions() : null)
@@ -0,0 +1,92 @@
+package com.ultrabms.service.impl;
+
+import com.ultrabms.repository.TenantLedgerRepository;
+import com.ultrabms.service.TenantLedgerService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Tenant Ledger Service Implementation
+ *
+ * Tenants touched by a transaction are collected in a transaction-bound set and
+ * refreshed with one refresh_tenant_ledger call after commit, in a new transaction,
+ * so the projection only ever reflects committed data and a batch that touches
+ * many invoices of one tenant refreshes that tenant once.
+ *
+ * Refresh failures are logged and left to the nightly rebuild; they never fail
+ * the business transaction that triggered them.
+ */
+@Service
+public class TenantLedgerServiceImpl implements TenantLedgerService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(TenantLedgerServiceImpl.class);
+
+    private final TenantLedgerRepository tenantLedgerRepository;
+    private final TransactionTemplate requiresNew;
+
+    public TenantLedgerServiceImpl(TenantLedgerRepository tenantLedgerRepository,
+                                   PlatformTransactionManager transactionManager) {
+        this.tenantLedgerRepository = tenantLedgerRepository;
+        this.requiresNew = new TransactionTemplate(transactionManager);
+        this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @Override
+    public void markChanged(UUID tenantId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            refresh(Set.of(tenantId));
+            return;
+        }
+
+        @SuppressWarnings("unchecked")
+        Set<UUID> changed = (Set<UUID>) TransactionSynchronizationManager.getResource(this);
+        if (changed == null) {
+            Set<UUID> tenantIds = new LinkedHashSet<>();
+            TransactionSynchronizationManager.bindResource(this, tenantIds);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    refresh(tenantIds);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(TenantLedgerServiceImpl.this);
+                }
+            });
+            changed = tenantIds;
+        }
+        changed.add(tenantId);
+    }
+
+    @Override
+    public void refresh(Collection<UUID> tenantIds) {
+        if (tenantIds.isEmpty()) {
+            return;
+        }
+        String ids = tenantIds.stream().map(UUID::toString).collect(Collectors.joining(","));
+        try {
+            requiresNew.executeWithoutResult(status -> tenantLedgerRepository.refresh(ids));
+        } catch (RuntimeException e) {
+            LOGGER.error("Failed to refresh tenant ledger for {} tenant(s): {}", tenantIds.size(), e.getMessage());
+        }
+    }
+
+    @Override
+    public int rebuildAll() {
+        Integer refreshed = requiresNew.execute(status -> tenantLedgerRepository.refreshAll());
+        return refreshed != null ? refreshed : 0;
+    }
+}
@@ -6,19 +6,23 @@ import com.ultrabms.dto.tenant.DashboardResponse;
 import com.ultrabms.dto.tenant.TenantProfileResponse;
 import com.ultrabms.entity.Tenant;
 import com.ultrabms.entity.TenantDocument;
+import com.ultrabms.entity.TenantLedger;
 import com.ultrabms.entity.User;
 import com.ultrabms.entity.enums.DocumentType;
+import com.ultrabms.exception.AccountLockedException;
 import com.ultrabms.exception.ResourceNotFoundException;
 import com.ultrabms.exception.ValidationException;
 import com.ultrabms.repository.TenantDocumentRepository;
+import com.ultrabms.repository.TenantLedgerRepository;
 import com.ultrabms.repository.TenantRepository;
 import com.ultrabms.repository.UserRepository;
 import com.ultrabms.service.AnnouncementService;
+import com.ultrabms.service.LoginAttemptService;
+import com.ultrabms.service.PasswordHashingService;
 import com.ultrabms.service.S3Service;
 import com.ultrabms.service.TenantPortalService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
@@ -44,23 +48,29 @@ public class TenantPortalServiceImpl implements TenantPortalService {
     private final UserRepository userRepository;
     private final TenantDocumentRepository documentRepository;
     private final S3Service s3Service;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashingService;
+    private final LoginAttemptService loginAttemptService;
     private final AnnouncementService announcementService;
+    private final TenantLedgerRepository tenantLedgerRepository;
 
     public TenantPortalServiceImpl(
             TenantRepository tenantRepository,
             UserRepository userRepository,
             TenantDocumentRepository documentRepository,
             S3Service s3Service,
-            PasswordEncoder passwordEncoder,
-            AnnouncementService announcementService
+            PasswordHashingService passwordHashingService,
+            LoginAttemptService loginAttemptService,
+            AnnouncementService announcementService,
+            TenantLedgerRepository tenantLedgerRepository
     ) {
         this.tenantRepository = tenantRepository;
         this.userRepository = userRepository;
         this.documentRepository = documentRepository;
         this.s3Service = s3Service;
-        this.passwordEncoder = passwordEncoder;
+        this.passwordHashingService = passwordHashingService;
+        this.loginAttemptService = loginAttemptService;
         this.announcementService = announcementService;
+        this.tenantLedgerRepository = tenantLedgerRepository;
     }
 
     @Override
@@ -90,11 +100,17 @@ public class TenantPortalServiceImpl implements TenantPortalService {
                 .leaseStatus(leaseStatus)
                 .build();
 
-        // Build stats (placeholder values for modules not yet implemented)
+        // Build stats from the precomputed ledger row (primary-key lookup; no row yet means nothing owed)
+        TenantLedger ledger = tenantLedgerRepository.findById(tenant.getId()).orElse(null);
         DashboardResponse.DashboardStats stats = DashboardResponse.DashboardStats.builder()
-                .outstandingBalance(BigDecimal.ZERO) // TODO: Calculate from Invoice module (Epic 6)
-                .nextPaymentDue(null) // TODO: Calculate from Invoice module (Epic 6)
-                .openRequestsCount(0L) // TODO: Count from MaintenanceRequest module (Epic 4)
+                .outstandingBalance(ledger != null ? ledger.getOutstandingBalance() : BigDecimal.ZERO)
+                .nextPaymentDue(ledger != null && ledger.getNextPaymentDueDate() != null
+                        ? DashboardResponse.NextPaymentDue.builder()
+                                .date(ledger.getNextPaymentDueDate())
+                                .amount(ledger.getNextPaymentDueAmount())
+                                .build()
+                        : null)
+                .openRequestsCount(ledger != null ? ledger.getOpenRequestsCount().longValue() : 0L)
                 .upcomingBookingsCount(0L) // TODO: Count from AmenityBooking module (future epic)
                 .build();
 
@@ -187,13 +203,19 @@ public class TenantPortalServiceImpl implements TenantPortalService {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found with ID: " + userId));
 
+        // Reject blocked accounts before spending a hash on them
+        if (loginAttemptService.isBlocked(user.getEmail())) {
+            throw new AccountLockedException("Too many failed attempts. Please try again later.");
+        }
+
         // Verify current password
-        if (!passwordEncoder.matches(request.getCurrentPassword(), user.getPasswordHash())) {
+        if (!passwordHashingService.verify(request.getCurrentPassword(), user.getPasswordHash()).matched()) {
+            loginAttemptService.recordFailedAttempt(user.getEmail());
             throw new ValidationException("Current password is incorrect");
         }
 
         // Update password
-        user.setPasswordHash(passwordEncoder.encode(request.getNewPassword()));
+        user.setPasswordHash(passwordHashingService.encode(request.getNewPassword()));
         userRepository.save(user);
 
         LOGGER.info("Password changed successfully for user: {}", userId);
@@ -9,8 +9,8 @@ import com.ultrabms.exception.ResourceNotFoundException;
 import com.ultrabms.exception.ValidationException;
 import com.ultrabms.repository.QuotationRepository;
 import com.ultrabms.service.TextractService;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 import software.amazon.awssdk.core.SdkBytes;
@@ -24,6 +24,7 @@ import software.amazon.awssdk.services.textract.model.TextractException;
 
 import java.io.IOException;
 import java.math.BigDecimal;
+import java.time.Clock;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
@@ -44,12 +45,14 @@ import java.util.regex.Pattern;
  */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class TextractServiceImpl implements TextractService {
 
     private final TextractClient textractClient;
     private final QuotationRepository quotationRepository;
 
+    /** Reference for the accepted cheque, expiry and birth date windows */
+    private final Clock clock;
+
     // Common patterns for UAE bank cheques
     private static final Pattern AMOUNT_PATTERN = Pattern.compile(
             "(?:AED|Dhs?\\.?|Dirham[s]?)?\\s*([\\d,]+(?:\\.\\d{2})?)",
@@ -135,6 +138,22 @@ public class TextractServiceImpl implements TextractService {
     // Maximum file size: 5MB
     private static final long MAX_FILE_SIZE = 5 * 1024 * 1024;
 
+    @Autowired
+    public TextractServiceImpl(TextractClient textractClient, QuotationRepository quotationRepository) {
+        this(textractClient, quotationRepository, Clock.systemDefaultZone());
+    }
+
+    /**
+     * @param clock reference for the date windows; a fixed clock makes parsing reproducible
+     *              (benchmarks, tests)
+     */
+    public TextractServiceImpl(TextractClient textractClient, QuotationRepository quotationRepository,
+                               Clock clock) {
+        this.textractClient = textractClient;
+        this.quotationRepository = quotationRepository;
+        this.clock = clock;
+    }
+
     @Override
     public ProcessChequesResponse processChequeImages(List<MultipartFile> chequeImages, UUID quotationId) {
         log.info("Processing {} cheque images for quotation: {}", chequeImages.size(), quotationId);
@@ -402,7 +421,7 @@ public class TextractServiceImpl implements TextractService {
                 try {
                     LocalDate date = LocalDate.parse(dateStr, formatter);
                     // Validate date is reasonable (not too far in past or future)
-                    LocalDate now = LocalDate.now();
+                    LocalDate now = LocalDate.now(clock);
                     if (date.isAfter(now.minusYears(1)) && date.isBefore(now.plusYears(2))) {
                         return date;
                     }
@@ -1033,7 +1052,7 @@ public class TextractServiceImpl implements TextractService {
      * Check if date is a valid expiry date (in the future but not too far)
      */
     private boolean isValidExpiryDate(LocalDate date) {
-        LocalDate now = LocalDate.now();
+        LocalDate now = LocalDate.now(clock);
         return date.isAfter(now.minusMonths(6)) && date.isBefore(now.plusYears(20));
     }
 
@@ -1041,7 +1060,7 @@ public class TextractServiceImpl implements TextractService {
      * Check if date is a valid birth date (in the past, reasonable age)
      */
     private boolean isValidBirthDate(LocalDate date) {
-        LocalDate now = LocalDate.now();
+        LocalDate now = LocalDate.now(clock);
         return date.isBefore(now.minusYears(16)) && date.isAfter(now.minusYears(120));
     }
 
@@ -17,6 +17,7 @@ import com.ultrabms.entity.enums.UnitStatus;
 import com.ultrabms.exception.ResourceNotFoundException;
 import com.ultrabms.exception.ValidationException;
 import com.ultrabms.repository.PropertyRepository;
+import com.ultrabms.repository.SummaryAggregateRepository;
 import com.ultrabms.repository.UnitHistoryRepository;
 import com.ultrabms.repository.UnitRepository;
 import com.ultrabms.repository.UserRepository;
@@ -31,7 +32,6 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -43,6 +43,7 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class UnitServiceImpl implements UnitService {
     private final UnitRepository unitRepository;
+    private final SummaryAggregateRepository summaryAggregateRepository;
     private final PropertyRepository propertyRepository;
     private final UnitHistoryRepository unitHistoryRepository;
     private final UserRepository userRepository;
@@ -360,13 +361,7 @@ public class UnitServiceImpl implements UnitService {
         log.info("Fetching unit status distribution for property: {}", propertyId);
         findPropertyById(propertyId); // Validate property exists
 
-        Map<UnitStatus, Long> distribution = new HashMap<>();
-        for (UnitStatus status : UnitStatus.values()) {
-            long count = unitRepository.countByPropertyIdAndStatus(propertyId, status);
-            distribution.put(status, count);
-        }
-
-        return distribution;
+        return summaryAggregateRepository.getUnitStatusCounts(propertyId);
     }
 
     @Override
@@ -6,6 +6,7 @@ import com.ultrabms.dto.vendordocuments.ExpiringDocumentDto;
 import com.ultrabms.dto.vendordocuments.VendorDocumentDto;
 import com.ultrabms.dto.vendordocuments.VendorDocumentListDto;
 import com.ultrabms.dto.vendordocuments.VendorDocumentUploadDto;
+import com.ultrabms.dto.vendors.VendorEmailPayload;
 import com.ultrabms.entity.Vendor;
 import com.ultrabms.entity.VendorDocument;
 import com.ultrabms.entity.enums.VendorStatus;
@@ -291,7 +292,7 @@ public class VendorDocumentServiceImpl implements VendorDocumentService {
 
                 // Send email notification to PM
                 emailService.sendDocumentExpiry30DayNotification(
-                        vendor,
+                        VendorEmailPayload.from(vendor),
                         doc.getDocumentType().toString(),
                         doc.getFileName(),
                         doc.getExpiryDate(),
@@ -339,7 +340,7 @@ public class VendorDocumentServiceImpl implements VendorDocumentService {
 
                 // Send email notification to vendor
                 emailService.sendDocumentExpiry15DayNotification(
-                        vendor,
+                        VendorEmailPayload.from(vendor),
                         doc.getDocumentType().toString(),
                         doc.getFileName(),
                         doc.getExpiryDate(),
@@ -408,7 +409,7 @@ public class VendorDocumentServiceImpl implements VendorDocumentService {
 
                 // Send notification email
                 emailService.sendVendorSuspendedDueToExpiredDocuments(
-                        vendor,
+                        VendorEmailPayload.from(vendor),
                         expiredDocTypes
                 );
 
@@ -477,7 +478,7 @@ public class VendorDocumentServiceImpl implements VendorDocumentService {
             vendorRepository.save(vendor);
 
             // Send reactivation notification
-            emailService.sendVendorReactivatedNotification(vendor);
+            emailService.sendVendorReactivatedNotification(VendorEmailPayload.from(vendor));
 
             LOGGER.info("Vendor reactivated: {} ({})", vendor.getVendorNumber(), vendor.getCompanyName());
         }
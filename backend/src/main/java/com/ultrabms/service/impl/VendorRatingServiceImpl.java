@@ -30,8 +30,6 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
-import java.math.RoundingMode;
-import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Comparator;
@@ -155,23 +153,25 @@ public class VendorRatingServiceImpl implements VendorRatingService {
         Vendor vendor = vendorRepository.findById(vendorId)
                 .orElseThrow(() -> new ResourceNotFoundException("Vendor not found: " + vendorId));
 
-        // Get rating statistics
-        BigDecimal overallRating = vendorRatingRepository.calculateAverageRatingByVendorId(vendorId);
-        Double avgQuality = vendorRatingRepository.calculateAverageQualityScoreByVendorId(vendorId);
-        Double avgTimeliness = vendorRatingRepository.calculateAverageTimelinessScoreByVendorId(vendorId);
-        Double avgCommunication = vendorRatingRepository.calculateAverageCommunicationScoreByVendorId(vendorId);
-        Double avgProfessionalism = vendorRatingRepository.calculateAverageProfessionalismScoreByVendorId(vendorId);
-
-        // Get work order statistics
-        List<WorkOrder> completedOrders = workOrderRepository.findCompletedByVendorId(vendorId);
-        long totalJobsCompleted = completedOrders.size();
-
-        Double averageCompletionTime = calculateAverageCompletionTime(completedOrders);
-        Double onTimeCompletionRate = calculateOnTimeRate(completedOrders);
-        BigDecimal totalAmountPaid = calculateTotalAmountPaid(completedOrders);
-
-        // Get rating distribution
-        VendorRatingDistributionDto distribution = getRatingDistribution(vendorId);
+        // Get rating statistics and distribution in one pass
+        Object[] ratingStats = firstRow(vendorRatingRepository.getRatingStatisticsByVendorId(vendorId), 10);
+        BigDecimal overallRating = ratingStats[0] != null ? new BigDecimal(ratingStats[0].toString()) : null;
+        Double avgQuality = toDouble(ratingStats[1]);
+        Double avgTimeliness = toDouble(ratingStats[2]);
+        Double avgCommunication = toDouble(ratingStats[3]);
+        Double avgProfessionalism = toDouble(ratingStats[4]);
+        VendorRatingDistributionDto distribution = toRatingDistribution(
+                toLong(ratingStats[5]), toLong(ratingStats[6]), toLong(ratingStats[7]),
+                toLong(ratingStats[8]), toLong(ratingStats[9]));
+
+        // Get work order statistics in one pass
+        Object[] jobStats = firstRow(workOrderRepository.getCompletionStatsByVendorId(vendorId), 4);
+        long totalJobsCompleted = toLong(jobStats[0]);
+        Double averageCompletionTime = toDouble(jobStats[1]);
+        Double onTimeCompletionRate = totalJobsCompleted > 0
+                ? Math.round((toLong(jobStats[2]) * 100.0) / totalJobsCompleted * 100.0) / 100.0
+                : null;
+        BigDecimal totalAmountPaid = jobStats[3] != null ? new BigDecimal(jobStats[3].toString()) : BigDecimal.ZERO;
 
         return VendorPerformanceDto.builder()
                 .vendorId(vendorId)
@@ -289,51 +289,31 @@ public class VendorRatingServiceImpl implements VendorRatingService {
     public void recalculateVendorRating(UUID vendorId) {
         log.debug("Recalculating rating for vendor: {}", vendorId);
 
-        Vendor vendor = vendorRepository.findById(vendorId)
-                .orElseThrow(() -> new ResourceNotFoundException("Vendor not found: " + vendorId));
-
-        BigDecimal avgRating = vendorRatingRepository.calculateAverageRatingByVendorId(vendorId);
-
-        if (avgRating != null) {
-            vendor.setRating(avgRating.setScale(2, RoundingMode.HALF_UP));
-        } else {
-            vendor.setRating(BigDecimal.ZERO);
+        int updated = vendorRepository.recalculateRatingAggregates(vendorId);
+        if (updated == 0) {
+            throw new ResourceNotFoundException("Vendor not found: " + vendorId);
         }
 
-        vendorRepository.save(vendor);
-        log.info("Vendor {} rating updated to: {}", vendor.getVendorNumber(), vendor.getRating());
+        log.info("Vendor {} rating aggregates recalculated", vendorId);
     }
 
     @Override
     @Transactional
-    public void recalculateAllVendorRatings() {
+    public int recalculateAllVendorRatings() {
         log.info("Starting batch recalculation of all vendor ratings");
 
-        List<UUID> vendorIds = vendorRatingRepository.findAllVendorIdsWithRatings();
-        int count = 0;
-
-        for (UUID vendorId : vendorIds) {
-            try {
-                recalculateVendorRating(vendorId);
-                count++;
-            } catch (Exception e) {
-                log.error("Error recalculating rating for vendor: {}", vendorId, e);
-            }
-        }
+        int updated = vendorRepository.recalculateAllRatingAggregates();
 
-        log.info("Batch rating recalculation complete. Processed {} vendors", count);
+        log.info("Batch rating recalculation complete. Updated {} vendors", updated);
+        return updated;
     }
 
     // =================================================================
     // PRIVATE HELPER METHODS
     // =================================================================
 
-    private VendorRatingDistributionDto getRatingDistribution(UUID vendorId) {
-        long fiveStar = vendorRatingRepository.countFiveStarRatingsByVendorId(vendorId);
-        long fourStar = vendorRatingRepository.countFourStarRatingsByVendorId(vendorId);
-        long threeStar = vendorRatingRepository.countThreeStarRatingsByVendorId(vendorId);
-        long twoStar = vendorRatingRepository.countTwoStarRatingsByVendorId(vendorId);
-        long oneStar = vendorRatingRepository.countOneStarRatingsByVendorId(vendorId);
+    private VendorRatingDistributionDto toRatingDistribution(
+            long fiveStar, long fourStar, long threeStar, long twoStar, long oneStar) {
         long total = fiveStar + fourStar + threeStar + twoStar + oneStar;
 
         return VendorRatingDistributionDto.builder()
@@ -351,43 +331,20 @@ public class VendorRatingServiceImpl implements VendorRatingService {
                 .build();
     }
 
-    private Double calculateAverageCompletionTime(List<WorkOrder> completedOrders) {
-        if (completedOrders.isEmpty()) {
-            return null;
-        }
-
-        double totalDays = 0;
-        int count = 0;
-
-        for (WorkOrder wo : completedOrders) {
-            if (wo.getCompletedAt() != null && wo.getCreatedAt() != null) {
-                long hours = Duration.between(wo.getCreatedAt(), wo.getCompletedAt()).toHours();
-                totalDays += hours / 24.0;
-                count++;
-            }
-        }
-
-        return count > 0 ? Math.round(totalDays / count * 100.0) / 100.0 : null;
+    /**
+     * Single-row aggregate queries come back as a one-element list; an empty
+     * result is treated as a row of nulls.
+     */
+    private Object[] firstRow(List<Object[]> rows, int columns) {
+        return rows.isEmpty() ? new Object[columns] : rows.get(0);
     }
 
-    private Double calculateOnTimeRate(List<WorkOrder> completedOrders) {
-        if (completedOrders.isEmpty()) {
-            return null;
-        }
-
-        long onTime = completedOrders.stream()
-                .filter(wo -> wo.getCompletedAt() != null && wo.getScheduledDate() != null)
-                .filter(wo -> !wo.getCompletedAt().toLocalDate().isAfter(wo.getScheduledDate().toLocalDate()))
-                .count();
-
-        return Math.round((onTime * 100.0) / completedOrders.size() * 100.0) / 100.0;
+    private Double toDouble(Object value) {
+        return value != null ? ((Number) value).doubleValue() : null;
     }
 
-    private BigDecimal calculateTotalAmountPaid(List<WorkOrder> completedOrders) {
-        return completedOrders.stream()
-                .map(WorkOrder::getActualCost)
-                .filter(cost -> cost != null)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+    private long toLong(Object value) {
+        return value != null ? ((Number) value).longValue() : 0L;
     }
 
     private void markBestValues(List<VendorComparisonDto.VendorComparisonEntry> entries) {
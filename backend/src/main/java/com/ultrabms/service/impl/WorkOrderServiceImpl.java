@@ -2,6 +2,7 @@ package com.ultrabms.service.impl;
 
 import com.ultrabms.service.IEmailService;
 
+import com.ultrabms.dto.common.CursorPage;
 import com.ultrabms.dto.workorders.AddCommentDto;
 import com.ultrabms.dto.workorders.AddProgressUpdateDto;
 import com.ultrabms.dto.workorders.AssignWorkOrderDto;
@@ -45,11 +46,14 @@ import com.ultrabms.repository.WorkOrderCommentRepository;
 import com.ultrabms.repository.WorkOrderProgressRepository;
 import com.ultrabms.repository.WorkOrderRepository;
 import com.ultrabms.service.ExpenseService;
+import com.ultrabms.service.ImageDerivativeService;
 import com.ultrabms.service.S3Service;
 import com.ultrabms.service.WorkOrderService;
+import com.ultrabms.util.KeysetCursor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -61,6 +65,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.stream.Collectors;
 
 /**
@@ -76,6 +81,10 @@ public class WorkOrderServiceImpl implements WorkOrderService {
     private static final int MAX_PHOTOS = 5;
     private static final long MAX_FILE_SIZE = 5 * 1024 * 1024; // 5MB
 
+    // Serializes number allocation. A lock rather than synchronized: allocation queries the
+    // database, and a virtual thread blocking inside a monitor would pin its carrier thread
+    private final ReentrantLock workOrderNumberLock = new ReentrantLock();
+
     private final WorkOrderRepository workOrderRepository;
     private final WorkOrderCommentRepository workOrderCommentRepository;
     private final WorkOrderAssignmentRepository workOrderAssignmentRepository;
@@ -87,6 +96,7 @@ public class WorkOrderServiceImpl implements WorkOrderService {
     private final S3Service s3Service;
     private final IEmailService emailService;
     private final ExpenseService expenseService;
+    private final ImageDerivativeService imageDerivativeService;
 
     public WorkOrderServiceImpl(
             WorkOrderRepository workOrderRepository,
@@ -99,7 +109,8 @@ public class WorkOrderServiceImpl implements WorkOrderService {
             AssetRepository assetRepository,
             S3Service s3Service,
             IEmailService emailService,
-            ExpenseService expenseService
+            ExpenseService expenseService,
+            ImageDerivativeService imageDerivativeService
     ) {
         this.workOrderRepository = workOrderRepository;
         this.workOrderCommentRepository = workOrderCommentRepository;
@@ -112,6 +123,7 @@ public class WorkOrderServiceImpl implements WorkOrderService {
         this.s3Service = s3Service;
         this.emailService = emailService;
         this.expenseService = expenseService;
+        this.imageDerivativeService = imageDerivativeService;
     }
 
     @Override
@@ -183,6 +195,7 @@ public class WorkOrderServiceImpl implements WorkOrderService {
             List<String> photoUrls = uploadPhotos(photos, workOrder.getId());
             workOrder.setAttachments(photoUrls);
             workOrder = workOrderRepository.save(workOrder);
+            imageDerivativeService.scheduleWorkOrderPhotos(workOrder.getId(), photoUrls);
         }
 
         LOGGER.info("Work order created successfully: {}", workOrderNumber);
@@ -279,6 +292,43 @@ public class WorkOrderServiceImpl implements WorkOrderService {
         return workOrders.map(this::mapToListDto);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<WorkOrderListDto> getWorkOrdersByCursor(
+            UUID propertyId,
+            UUID unitId,
+            List<WorkOrderStatus> statuses,
+            List<WorkOrderCategory> categories,
+            List<WorkOrderPriority> priorities,
+            UUID assignedTo,
+            LocalDateTime startDate,
+            LocalDateTime endDate,
+            String searchTerm,
+            String cursor,
+            int size
+    ) {
+        int pageSize = CursorPage.pageSize(size);
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        LOGGER.info("Fetching work orders by cursor (after: {}, size: {})", after, pageSize);
+
+        String searchPattern = searchTerm != null ? "%" + searchTerm + "%" : null;
+
+        // Fetch one extra row to detect whether a next page exists; the first page has
+        // no seek predicate so both queries are plain index range scans
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+        List<WorkOrder> rows = after == null
+                ? workOrderRepository.findFirstPageByKeyset(
+                        propertyId, unitId, assignedTo, statuses, categories, priorities,
+                        startDate, endDate, searchPattern, limit)
+                : workOrderRepository.findPageAfterKeyset(
+                        propertyId, unitId, assignedTo, statuses, categories, priorities,
+                        startDate, endDate, searchPattern, after.createdAt(), after.id(), limit);
+
+        return CursorPage.of(rows, pageSize,
+                workOrder -> new KeysetCursor(workOrder.getCreatedAt(), workOrder.getId()),
+                page -> page.stream().map(this::mapToListDto).toList());
+    }
+
     @Override
     @Transactional
     public WorkOrderResponseDto updateWorkOrder(UUID id, UpdateWorkOrderDto dto, UUID currentUserId) {
@@ -578,6 +628,7 @@ public class WorkOrderServiceImpl implements WorkOrderService {
         workOrder.setCompletionPhotos(existingPhotos);
 
         workOrder = workOrderRepository.save(workOrder);
+        imageDerivativeService.scheduleWorkOrderPhotos(workOrder.getId(), photoUrls);
 
         LOGGER.info("Completion photos uploaded successfully for work order: {}", id);
 
@@ -608,7 +659,22 @@ public class WorkOrderServiceImpl implements WorkOrderService {
 
     @Override
     @Transactional
-    public synchronized String generateWorkOrderNumber() {
+    public String generateWorkOrderNumber() {
+        return allocateWorkOrderNumbers(1).get(0);
+    }
+
+    @Override
+    @Transactional
+    public List<String> allocateWorkOrderNumbers(int count) {
+        workOrderNumberLock.lock();
+        try {
+            return nextWorkOrderNumbers(count);
+        } finally {
+            workOrderNumberLock.unlock();
+        }
+    }
+
+    private List<String> nextWorkOrderNumbers(int count) {
         int year = LocalDateTime.now().getYear();
         String prefix = "WO-" + year + "-";
 
@@ -624,14 +690,17 @@ public class WorkOrderServiceImpl implements WorkOrderService {
             }
         }
 
-        String workOrderNumber = prefix + String.format("%04d", nextSequence);
+        List<String> workOrderNumbers = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            workOrderNumbers.add(prefix + String.format("%04d", nextSequence + i));
+        }
 
-        // Verify uniqueness (should not happen with synchronized)
-        if (workOrderRepository.existsByWorkOrderNumber(workOrderNumber)) {
-            throw new ValidationException("Work order number collision: " + workOrderNumber);
+        // Verify uniqueness (should not happen with the allocation lock)
+        if (!workOrderNumbers.isEmpty() && workOrderRepository.existsByWorkOrderNumber(workOrderNumbers.get(0))) {
+            throw new ValidationException("Work order number collision: " + workOrderNumbers.get(0));
         }
 
-        return workOrderNumber;
+        return workOrderNumbers;
     }
 
     // ========================================================================
@@ -1154,6 +1223,7 @@ public class WorkOrderServiceImpl implements WorkOrderService {
                 .totalHours(workOrder.getTotalHours())
                 .attachments(workOrder.getAttachments())
                 .completionPhotos(workOrder.getCompletionPhotos())
+                .photoVariants(workOrder.getPhotoVariants())
                 .completionNotes(workOrder.getCompletionNotes())
                 .followUpNotes(workOrder.getFollowUpNotes())
                 .createdAt(workOrder.getCreatedAt())
@@ -1262,6 +1332,7 @@ public class WorkOrderServiceImpl implements WorkOrderService {
             validatePhotos(beforePhotos);
             beforePhotoUrls = uploadPhotosToDirectory(beforePhotos, id, "before");
             workOrder.setBeforePhotos(beforePhotoUrls);
+            imageDerivativeService.scheduleWorkOrderPhotos(id, beforePhotoUrls);
         }
 
         // Update status and timestamps
@@ -1322,6 +1393,7 @@ public class WorkOrderServiceImpl implements WorkOrderService {
         if (photos != null && !photos.isEmpty()) {
             validatePhotos(photos);
             photoUrls = uploadPhotosToDirectory(photos, id, "progress/" + System.currentTimeMillis());
+            imageDerivativeService.scheduleWorkOrderPhotos(id, photoUrls);
         }
 
         // Create progress update entity
@@ -1394,6 +1466,7 @@ public class WorkOrderServiceImpl implements WorkOrderService {
 
         // Upload after photos
         List<String> afterPhotoUrls = uploadPhotosToDirectory(afterPhotos, id, "after");
+        imageDerivativeService.scheduleWorkOrderPhotos(id, afterPhotoUrls);
 
         // Update work order with completion details
         LocalDateTime now = LocalDateTime.now();
@@ -1516,6 +1589,7 @@ public class WorkOrderServiceImpl implements WorkOrderService {
                     .userName(assigneeName)
                     .details(startedDetails)
                     .photoUrls(workOrder.getBeforePhotos())
+                    .thumbnailUrls(ImageDerivativeService.thumbnailsOf(workOrder.getBeforePhotos(), workOrder.getPhotoVariants()))
                     .build());
         }
 
@@ -1540,6 +1614,7 @@ public class WorkOrderServiceImpl implements WorkOrderService {
                     .userName(userName)
                     .details(progressDetails)
                     .photoUrls(progress.getPhotoUrls())
+                    .thumbnailUrls(ImageDerivativeService.thumbnailsOf(progress.getPhotoUrls(), workOrder.getPhotoVariants()))
                     .build());
         }
 
@@ -1564,6 +1639,7 @@ public class WorkOrderServiceImpl implements WorkOrderService {
                     .userName(assigneeName)
                     .details(completedDetails)
                     .photoUrls(workOrder.getAfterPhotos())
+                    .thumbnailUrls(ImageDerivativeService.thumbnailsOf(workOrder.getAfterPhotos(), workOrder.getPhotoVariants()))
                     .build());
         }
 
@@ -0,0 +1,100 @@
+package com.ultrabms.util;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+/**
+ * Utility class for producing downscaled JPEG variants of uploaded photos.
+ *
+ * <p>Uses only the JDK image stack (ImageIO + Java2D). Large images are reduced by
+ * repeated halving with bilinear interpolation before the final resize, which keeps
+ * quality close to bicubic at a fraction of the cost for multi-megapixel phone photos.
+ * Transparent pixels are flattened onto white since JPEG has no alpha channel.</p>
+ */
+public final class ImageScaler {
+
+    private ImageScaler() {
+        // Utility class - prevent instantiation
+    }
+
+    /**
+     * Decodes an image.
+     *
+     * @param content encoded image (JPEG, PNG, GIF or BMP)
+     * @return decoded image, or null if the content is not a readable image
+     * @throws IOException if decoding fails
+     */
+    public static BufferedImage read(byte[] content) throws IOException {
+        return ImageIO.read(new ByteArrayInputStream(content));
+    }
+
+    /**
+     * Scales an image so its longest side is at most {@code maxDimension} pixels,
+     * preserving the aspect ratio. Images already within bounds are only converted to RGB.
+     *
+     * @param source decoded source image
+     * @param maxDimension maximum width or height in pixels
+     * @return RGB image within the requested bounds
+     */
+    public static BufferedImage scaleToFit(BufferedImage source, int maxDimension) {
+        int width = source.getWidth();
+        int height = source.getHeight();
+        double ratio = Math.min(1.0, (double) maxDimension / Math.max(width, height));
+        int targetWidth = Math.max(1, (int) Math.round(width * ratio));
+        int targetHeight = Math.max(1, (int) Math.round(height * ratio));
+
+        BufferedImage current = source;
+        // Halve until within 2x of the target; a single bilinear pass from far larger
+        // images skips source pixels and produces aliasing
+        while (current.getWidth() / 2 >= targetWidth && current.getHeight() / 2 >= targetHeight) {
+            current = draw(current, current.getWidth() / 2, current.getHeight() / 2);
+        }
+        return draw(current, targetWidth, targetHeight);
+    }
+
+    /**
+     * Encodes an image as baseline JPEG.
+     *
+     * @param image image to encode
+     * @param quality compression quality between 0.0 and 1.0
+     * @return encoded JPEG bytes
+     * @throws IOException if encoding fails
+     */
+    public static byte[] toJpeg(BufferedImage image, float quality) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ImageOutputStream ios = ImageIO.createImageOutputStream(out)) {
+            writer.setOutput(ios);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(quality);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return out.toByteArray();
+    }
+
+    private static BufferedImage draw(BufferedImage source, int width, int height) {
+        BufferedImage target = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = target.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            g.drawImage(source, 0, 0, width, height, Color.WHITE, null);
+        } finally {
+            g.dispose();
+        }
+        return target;
+    }
+}
@@ -0,0 +1,59 @@
+package com.ultrabms.util;
+
+import com.ultrabms.exception.ValidationException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Opaque cursor for keyset (seek) pagination over rows ordered by
+ * {@code created_at DESC, id DESC}.
+ *
+ * <p>The cursor identifies the last row of the previous page; the next page is read
+ * with {@code WHERE (created_at, id) < (cursor)} against the composite index, so page
+ * 10,000 costs the same as page 1 and no COUNT query is needed. Clients treat the
+ * encoded value as an opaque token.</p>
+ *
+ * @param createdAt Sort key of the last row returned
+ * @param id        Tie-breaker of the last row returned
+ */
+public record KeysetCursor(LocalDateTime createdAt, UUID id) {
+
+    private static final char SEPARATOR = '|';
+
+    /**
+     * @return URL-safe opaque token
+     */
+    public String encode() {
+        String raw = createdAt.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decode a token produced by {@link #encode()}.
+     *
+     * @param token Opaque token from the client; null or blank means the first page
+     * @return Cursor, or null for the first page
+     * @throws ValidationException if the token is malformed
+     */
+    public static KeysetCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new ValidationException("Invalid pagination cursor", "cursor", token);
+            }
+            return new KeysetCursor(
+                    LocalDateTime.parse(raw.substring(0, separator)),
+                    UUID.fromString(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new ValidationException("Invalid pagination cursor", "cursor", token);
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.ultrabms.util;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.ultrabms.dto.common.ExportFormat;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.RecordComponent;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Writes a stream of flat record rows as CSV or NDJSON.
+ *
+ * <p>Rows are written as they are pulled from the stream through a fixed-size buffer,
+ * so memory use does not depend on the number of rows. Columns are the record
+ * components in declaration order. The target stream is flushed but not closed.</p>
+ */
+public final class RecordExportWriter {
+
+    private static final int BUFFER_SIZE = 16 * 1024;
+
+    private RecordExportWriter() {
+    }
+
+    /**
+     * Write all rows.
+     *
+     * @param rows         Rows to write (consumed, not closed)
+     * @param type         Row record type
+     * @param format       Output format
+     * @param out          Target stream
+     * @param objectMapper Mapper used for NDJSON rows
+     * @return Number of rows written
+     * @throws IOException if writing to the target fails (e.g. client disconnected)
+     */
+    public static <R extends Record> long write(Stream<R> rows, Class<R> type, ExportFormat format,
+                                                OutputStream out, ObjectMapper objectMapper) throws IOException {
+        return format == ExportFormat.CSV
+                ? writeCsv(rows, type, out)
+                : writeNdjson(rows, type, out, objectMapper);
+    }
+
+    private static <R extends Record> long writeCsv(Stream<R> rows, Class<R> type, OutputStream out) throws IOException {
+        RecordComponent[] components = type.getRecordComponents();
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), BUFFER_SIZE);
+
+        for (int i = 0; i < components.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(components[i].getName());
+        }
+        writer.write("\r\n");
+
+        long count = 0;
+        Iterator<R> iterator = rows.iterator();
+        while (iterator.hasNext()) {
+            R row = iterator.next();
+            for (int i = 0; i < components.length; i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                writer.write(csvValue(read(components[i].getAccessor(), row)));
+            }
+            writer.write("\r\n");
+            count++;
+        }
+        writer.flush();
+        return count;
+    }
+
+    private static <R extends Record> long writeNdjson(Stream<R> rows, Class<R> type, OutputStream out,
+                                                       ObjectMapper objectMapper) throws IOException {
+        ObjectWriter writer = objectMapper.writerFor(type);
+        OutputStream buffered = new BufferedOutputStream(out, BUFFER_SIZE);
+
+        long count = 0;
+        Iterator<R> iterator = rows.iterator();
+        while (iterator.hasNext()) {
+            buffered.write(writer.writeValueAsBytes(iterator.next()));
+            buffered.write('\n');
+            count++;
+        }
+        buffered.flush();
+        return count;
+    }
+
+    /**
+     * Format one CSV cell. Text starting with a spreadsheet formula character is prefixed
+     * with a quote so the file is safe to open in Excel.
+     */
+    static String csvValue(Object value) {
+        if (value == null) {
+            return "";
+        }
+        if (value instanceof BigDecimal decimal) {
+            return decimal.toPlainString();
+        }
+        if (value instanceof Enum<?> constant) {
+            return constant.name();
+        }
+        if (!(value instanceof String text)) {
+            return value.toString();
+        }
+
+        String cell = !text.isEmpty() && "=+-@\t\r".indexOf(text.charAt(0)) >= 0 ? "'" + text : text;
+        if (cell.indexOf(',') >= 0 || cell.indexOf('"') >= 0 || cell.indexOf('\n') >= 0 || cell.indexOf('\r') >= 0) {
+            return '"' + cell.replace("\"", "\"\"") + '"';
+        }
+        return cell;
+    }
+
+    private static Object read(Method accessor, Record row) {
+        try {
+            return accessor.invoke(row);
+        } catch (IllegalAccessException | InvocationTargetException e) {
+            throw new IllegalStateException("Cannot read export column " + accessor.getName(), e);
+        }
+    }
+}
@@ -0,0 +1,17 @@
+-- ============================================================================
+-- V73: Add PM Run Date to Work Orders Table
+-- Story 4.2: Preventive Maintenance Scheduling
+-- ============================================================================
+
+-- Schedule occurrence (nextGenerationDate) a PM-generated work order belongs to
+ALTER TABLE work_orders
+ADD COLUMN pm_run_date DATE;
+
+-- One work order per schedule, property and occurrence so that re-running
+-- the scheduled generation for the same date cannot create duplicates
+CREATE UNIQUE INDEX uk_work_orders_pm_run
+    ON work_orders(pm_schedule_id, property_id, pm_run_date)
+    WHERE pm_run_date IS NOT NULL;
+
+-- Add comment for documentation
+COMMENT ON COLUMN work_orders.pm_run_date IS 'PM schedule occurrence date this work order was generated for, NULL if not generated by the scheduled run';
@@ -0,0 +1,14 @@
+-- ============================================================================
+-- V74: Add Broadcast Progress to Announcements Table
+-- Story 9.2: Internal Announcement Management
+-- ============================================================================
+
+-- Announcement emails are queued in keyset-paginated chunks after publish;
+-- these columns track how far the broadcast has progressed
+ALTER TABLE announcements
+ADD COLUMN broadcast_status VARCHAR(20),
+ADD COLUMN broadcast_recipients INTEGER NOT NULL DEFAULT 0;
+
+-- Add comments for documentation
+COMMENT ON COLUMN announcements.broadcast_status IS 'Email broadcast state: QUEUEING, QUEUED or FAILED (NULL until published)';
+COMMENT ON COLUMN announcements.broadcast_recipients IS 'Number of tenant emails queued so far for this announcement';
@@ -0,0 +1,22 @@
+-- ============================================================================
+-- V75: Add Image Derivative Keys for Uploaded Photos
+-- Work order photos, checkout inspection photos and property images
+-- ============================================================================
+
+-- Thumbnail and medium JPEG variants are generated asynchronously after upload.
+-- Map of original S3 key to variant keys: {"<key>": {"thumbnail": "...", "medium": "..."}}
+ALTER TABLE work_orders
+ADD COLUMN photo_variants JSONB;
+
+ALTER TABLE tenant_checkouts
+ADD COLUMN photo_variants JSONB;
+
+ALTER TABLE property_images
+ADD COLUMN thumbnail_path VARCHAR(500),
+ADD COLUMN medium_path VARCHAR(500);
+
+-- Add comments for documentation
+COMMENT ON COLUMN work_orders.photo_variants IS 'Derivative S3 keys per original photo key (before, after, completion and progress photos)';
+COMMENT ON COLUMN tenant_checkouts.photo_variants IS 'Derivative S3 keys per original inspection photo key';
+COMMENT ON COLUMN property_images.thumbnail_path IS 'S3 key of the thumbnail variant, NULL until generated';
+COMMENT ON COLUMN property_images.medium_path IS 'S3 key of the medium variant, NULL until generated';
@@ -0,0 +1,13 @@
+-- ============================================================================
+-- V76: Keyset Pagination Indexes for Work Orders and Invoices
+-- ============================================================================
+
+-- Cursor pagination orders by (created_at DESC, id DESC) and seeks past the
+-- last row of the previous page; a composite index makes every page an index
+-- range scan regardless of depth. It also serves plain created_at ordering,
+-- so the single-column indexes are replaced.
+DROP INDEX IF EXISTS idx_work_orders_created_at;
+CREATE INDEX idx_work_orders_created_at_id ON work_orders(created_at DESC, id DESC);
+
+DROP INDEX IF EXISTS idx_invoices_created_at;
+CREATE INDEX idx_invoices_created_at_id ON invoices(created_at DESC, id DESC);
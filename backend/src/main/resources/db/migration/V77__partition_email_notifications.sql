@@ -0,0 +1,169 @@
+-- ============================================================================
+-- V77: Monthly Range Partitioning for email_notifications
+-- ============================================================================
+
+-- Sent-mail history grows without bound while the queue only ever looks at the
+-- last few weeks. The table is rebuilt as monthly range partitions on
+-- created_at so that:
+--   * retention detaches/drops whole partitions instead of deleting rows
+--   * queue polls bounded by created_at prune to the hot partitions
+--   * queue-polling indexes only exist on hot partitions
+-- Partitions are named <parent>_pYYYYMM. A DEFAULT partition catches rows
+-- outside the pre-created range so inserts never fail; the daily maintenance
+-- job keeps it empty by creating partitions ahead of time.
+
+-- -----------------------------------------------------------------------------
+-- Generic monthly partition helpers (also usable by other partitioned tables)
+-- -----------------------------------------------------------------------------
+
+-- Create missing monthly partitions from from_month through the current month
+-- plus months_ahead. Returns the number of partitions created.
+CREATE OR REPLACE FUNCTION ensure_monthly_partitions(
+    parent_table TEXT,
+    from_month DATE,
+    months_ahead INTEGER)
+RETURNS INTEGER AS $$
+DECLARE
+    month_start DATE := date_trunc('month', from_month)::DATE;
+    last_month DATE := (date_trunc('month', CURRENT_DATE) + make_interval(months => months_ahead))::DATE;
+    partition_name TEXT;
+    created INTEGER := 0;
+BEGIN
+    WHILE month_start <= last_month LOOP
+        partition_name := parent_table || '_p' || to_char(month_start, 'YYYYMM');
+        IF to_regclass(partition_name) IS NULL THEN
+            EXECUTE format('CREATE TABLE %I PARTITION OF %I FOR VALUES FROM (%L) TO (%L)',
+                           partition_name, parent_table,
+                           month_start, (month_start + INTERVAL '1 month')::DATE);
+            created := created + 1;
+        END IF;
+        month_start := (month_start + INTERVAL '1 month')::DATE;
+    END LOOP;
+    RETURN created;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Detach (and unless detach_only, drop) every monthly partition whose whole
+-- range lies before cutoff. Returns the number of partitions removed.
+CREATE OR REPLACE FUNCTION drop_monthly_partitions_before(
+    parent_table TEXT,
+    cutoff TIMESTAMP,
+    detach_only BOOLEAN)
+RETURNS INTEGER AS $$
+DECLARE
+    partition_name TEXT;
+    removed INTEGER := 0;
+BEGIN
+    FOR partition_name IN
+        SELECT c.relname
+        FROM pg_inherits i
+        JOIN pg_class c ON c.oid = i.inhrelid
+        WHERE i.inhparent = parent_table::regclass
+          AND c.relname ~ '_p[0-9]{6}$'
+          AND to_date(right(c.relname, 6), 'YYYYMM') + INTERVAL '1 month' <= cutoff
+        ORDER BY c.relname
+    LOOP
+        EXECUTE format('ALTER TABLE %I DETACH PARTITION %I', parent_table, partition_name);
+        IF NOT detach_only THEN
+            EXECUTE format('DROP TABLE %I', partition_name);
+        END IF;
+        removed := removed + 1;
+    END LOOP;
+    RETURN removed;
+END;
+$$ LANGUAGE plpgsql;
+
+-- -----------------------------------------------------------------------------
+-- Queue indexes on hot email_notifications partitions only
+-- -----------------------------------------------------------------------------
+
+-- Partitions starting on or after hot_from get the PENDING and FAILED partial
+-- indexes used by EmailSenderJob; older partitions have them dropped, since
+-- polls never reach past the hot window. Returns the number of hot partitions.
+CREATE OR REPLACE FUNCTION refresh_email_queue_indexes(hot_from DATE)
+RETURNS INTEGER AS $$
+DECLARE
+    partition_name TEXT;
+    partition_month DATE;
+    hot INTEGER := 0;
+BEGIN
+    FOR partition_name IN
+        SELECT c.relname
+        FROM pg_inherits i
+        JOIN pg_class c ON c.oid = i.inhrelid
+        WHERE i.inhparent = 'email_notifications'::regclass
+          AND c.relname ~ '_p[0-9]{6}$'
+    LOOP
+        partition_month := to_date(right(partition_name, 6), 'YYYYMM');
+        IF partition_month >= date_trunc('month', hot_from)::DATE THEN
+            EXECUTE format('CREATE INDEX IF NOT EXISTS %I ON %I (created_at) WHERE status = ''PENDING''',
+                           partition_name || '_pending_idx', partition_name);
+            EXECUTE format('CREATE INDEX IF NOT EXISTS %I ON %I (next_retry_at) WHERE status = ''FAILED''',
+                           partition_name || '_retry_idx', partition_name);
+            hot := hot + 1;
+        ELSE
+            EXECUTE format('DROP INDEX IF EXISTS %I', partition_name || '_pending_idx');
+            EXECUTE format('DROP INDEX IF EXISTS %I', partition_name || '_retry_idx');
+        END IF;
+    END LOOP;
+    RETURN hot;
+END;
+$$ LANGUAGE plpgsql;
+
+-- -----------------------------------------------------------------------------
+-- Rebuild email_notifications as a partitioned table
+-- -----------------------------------------------------------------------------
+ALTER TABLE email_notifications RENAME TO email_notifications_unpartitioned;
+
+-- The partition key must be part of the primary key
+CREATE TABLE email_notifications (
+    id UUID NOT NULL DEFAULT gen_random_uuid(),
+    recipient_email VARCHAR(255) NOT NULL,
+    recipient_name VARCHAR(255),
+    notification_type VARCHAR(50) NOT NULL,
+    subject VARCHAR(500) NOT NULL,
+    body TEXT NOT NULL,
+    entity_type VARCHAR(100),
+    entity_id UUID,
+    status VARCHAR(20) NOT NULL DEFAULT 'PENDING',
+    sent_at TIMESTAMP,
+    failed_at TIMESTAMP,
+    failure_reason TEXT,
+    retry_count INTEGER NOT NULL DEFAULT 0,
+    next_retry_at TIMESTAMP,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    version BIGINT NOT NULL DEFAULT 0,
+    CONSTRAINT pk_email_notifications PRIMARY KEY (id, created_at)
+) PARTITION BY RANGE (created_at);
+
+CREATE TABLE email_notifications_default PARTITION OF email_notifications DEFAULT;
+
+SELECT ensure_monthly_partitions(
+    'email_notifications',
+    COALESCE((SELECT MIN(created_at) FROM email_notifications_unpartitioned)::DATE, CURRENT_DATE),
+    3);
+
+INSERT INTO email_notifications
+SELECT id, recipient_email, recipient_name, notification_type, subject, body,
+       entity_type, entity_id, status, sent_at, failed_at, failure_reason,
+       retry_count, next_retry_at, created_at, updated_at, version
+FROM email_notifications_unpartitioned;
+
+DROP TABLE email_notifications_unpartitioned;
+
+-- Lookup indexes on every partition (the old status / next_retry_at indexes
+-- are replaced by the hot-partition queue indexes below)
+CREATE INDEX idx_email_notifications_recipient_email ON email_notifications(recipient_email);
+CREATE INDEX idx_email_notifications_notification_type ON email_notifications(notification_type);
+CREATE INDEX idx_email_notifications_entity_type_id ON email_notifications(entity_type, entity_id);
+CREATE INDEX idx_email_notifications_created_at ON email_notifications(created_at);
+
+-- Hot window: previous and current month (and pre-created future months)
+SELECT refresh_email_queue_indexes((date_trunc('month', CURRENT_DATE) - INTERVAL '1 month')::DATE);
+
+COMMENT ON TABLE email_notifications IS 'Tracks all email notifications sent by the system (monthly partitions on created_at)';
+COMMENT ON COLUMN email_notifications.notification_type IS 'Type of notification: PASSWORD_RESET, INVOICE_GENERATED, etc.';
+COMMENT ON COLUMN email_notifications.status IS 'Email status: PENDING, QUEUED, SENT, FAILED';
+COMMENT ON COLUMN email_notifications.retry_count IS 'Number of retry attempts (max 3)';
+COMMENT ON COLUMN email_notifications.next_retry_at IS 'When to retry failed email (exponential backoff)';
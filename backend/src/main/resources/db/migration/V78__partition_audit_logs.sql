@@ -0,0 +1,49 @@
+-- ============================================================================
+-- V78: Monthly Range Partitioning for audit_logs
+-- ============================================================================
+
+-- Audit rows are now written in multi-row batches by the write-behind
+-- AuditLogSink and are append-only. The table is rebuilt as monthly range
+-- partitions on created_at (helpers from V77) so inserts land in a small hot
+-- partition and old months can later be archived by detaching a partition.
+
+ALTER TABLE audit_logs RENAME TO audit_logs_unpartitioned;
+ALTER TABLE audit_logs_unpartitioned RENAME CONSTRAINT pk_audit_logs TO pk_audit_logs_unpartitioned;
+ALTER TABLE audit_logs_unpartitioned RENAME CONSTRAINT fk_audit_logs_user TO fk_audit_logs_user_unpartitioned;
+
+-- The partition key must be part of the primary key
+CREATE TABLE audit_logs (
+    id UUID NOT NULL,
+    user_id UUID,
+    action VARCHAR(100) NOT NULL,
+    ip_address VARCHAR(50),
+    user_agent VARCHAR(500),
+    created_at TIMESTAMP NOT NULL,
+    details JSONB,
+    CONSTRAINT pk_audit_logs PRIMARY KEY (id, created_at),
+    CONSTRAINT fk_audit_logs_user FOREIGN KEY (user_id) REFERENCES users(id)
+) PARTITION BY RANGE (created_at);
+
+CREATE TABLE audit_logs_default PARTITION OF audit_logs DEFAULT;
+
+SELECT ensure_monthly_partitions(
+    'audit_logs',
+    COALESCE((SELECT MIN(created_at) FROM audit_logs_unpartitioned)::DATE, CURRENT_DATE),
+    3);
+
+INSERT INTO audit_logs (id, user_id, action, ip_address, user_agent, created_at, details)
+SELECT id, user_id, action, ip_address, user_agent, created_at, details
+FROM audit_logs_unpartitioned;
+
+DROP TABLE audit_logs_unpartitioned;
+
+CREATE INDEX idx_audit_logs_user_id ON audit_logs(user_id);
+CREATE INDEX idx_audit_logs_action ON audit_logs(action);
+CREATE INDEX idx_audit_logs_created_at ON audit_logs(created_at);
+
+COMMENT ON TABLE audit_logs IS 'Audit logs for authentication and security events (monthly partitions on created_at)';
+COMMENT ON COLUMN audit_logs.user_id IS 'User who performed the action (null for failed login attempts)';
+COMMENT ON COLUMN audit_logs.action IS 'Action performed: REGISTRATION, LOGIN_SUCCESS, LOGIN_FAILED, LOGOUT, TOKEN_REFRESH';
+COMMENT ON COLUMN audit_logs.ip_address IS 'IP address from which the action was performed';
+COMMENT ON COLUMN audit_logs.user_agent IS 'Browser/client user agent string';
+COMMENT ON COLUMN audit_logs.details IS 'Additional context in JSON format (e.g., failure reason, email for failed logins)';
@@ -0,0 +1,106 @@
+-- ============================================================================
+-- V79: Tenant Ledger Projection
+-- ============================================================================
+
+-- Per-tenant figures shown on the tenant portal dashboard, precomputed so a
+-- portal login reads one row by primary key instead of aggregating invoices,
+-- payments, PDCs and maintenance requests. Rows are refreshed after commit of
+-- any transaction touching those tables (TenantLedgerEntityListener) and
+-- rebuilt nightly.
+CREATE TABLE tenant_ledger (
+    tenant_id UUID PRIMARY KEY REFERENCES tenants(id) ON DELETE CASCADE,
+    outstanding_balance DECIMAL(12, 2) NOT NULL DEFAULT 0,
+    unpaid_invoice_count INTEGER NOT NULL DEFAULT 0,
+    next_payment_due_date DATE,
+    next_payment_due_amount DECIMAL(12, 2),
+    pending_pdc_count INTEGER NOT NULL DEFAULT 0,
+    pending_pdc_amount DECIMAL(12, 2) NOT NULL DEFAULT 0,
+    open_requests_count INTEGER NOT NULL DEFAULT 0,
+    last_payment_date DATE,
+    refreshed_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+-- -----------------------------------------------------------------------------
+-- Recompute the ledger rows of the given tenants. Rows are created if missing
+-- and locked in tenant order first, so concurrent refreshes of one tenant run
+-- one after another and the last one always reads committed data.
+-- Returns the number of rows refreshed.
+-- -----------------------------------------------------------------------------
+CREATE OR REPLACE FUNCTION refresh_tenant_ledger(tenant_ids UUID[])
+RETURNS INTEGER AS $$
+DECLARE
+    refreshed INTEGER;
+BEGIN
+    INSERT INTO tenant_ledger (tenant_id)
+    SELECT t.id FROM tenants t WHERE t.id = ANY(tenant_ids)
+    ON CONFLICT (tenant_id) DO NOTHING;
+
+    PERFORM 1 FROM tenant_ledger
+    WHERE tenant_id = ANY(tenant_ids)
+    ORDER BY tenant_id
+    FOR UPDATE;
+
+    WITH ids AS (
+        SELECT DISTINCT unnest(tenant_ids) AS tenant_id
+    ),
+    unpaid AS (
+        SELECT tenant_id, SUM(balance_amount) AS balance, COUNT(*) AS invoice_count
+        FROM invoices
+        WHERE tenant_id = ANY(tenant_ids) AND status IN ('SENT', 'PARTIALLY_PAID', 'OVERDUE')
+        GROUP BY tenant_id
+    ),
+    next_due AS (
+        SELECT DISTINCT ON (tenant_id) tenant_id, due_date, balance_amount
+        FROM invoices
+        WHERE tenant_id = ANY(tenant_ids) AND status IN ('SENT', 'PARTIALLY_PAID', 'OVERDUE')
+        ORDER BY tenant_id, due_date, created_at
+    ),
+    pending_pdcs AS (
+        SELECT tenant_id, COUNT(*) AS pdc_count, SUM(amount) AS pdc_amount
+        FROM pdcs
+        WHERE tenant_id = ANY(tenant_ids) AND status IN ('RECEIVED', 'DUE', 'DEPOSITED')
+        GROUP BY tenant_id
+    ),
+    open_requests AS (
+        SELECT tenant_id, COUNT(*) AS request_count
+        FROM maintenance_requests
+        WHERE tenant_id = ANY(tenant_ids) AND status NOT IN ('COMPLETED', 'CLOSED', 'CANCELLED')
+        GROUP BY tenant_id
+    ),
+    last_payments AS (
+        SELECT tenant_id, MAX(payment_date) AS last_payment_date
+        FROM payments
+        WHERE tenant_id = ANY(tenant_ids)
+        GROUP BY tenant_id
+    )
+    UPDATE tenant_ledger l SET
+        outstanding_balance = COALESCE(unpaid.balance, 0),
+        unpaid_invoice_count = COALESCE(unpaid.invoice_count, 0),
+        next_payment_due_date = next_due.due_date,
+        next_payment_due_amount = next_due.balance_amount,
+        pending_pdc_count = COALESCE(pending_pdcs.pdc_count, 0),
+        pending_pdc_amount = COALESCE(pending_pdcs.pdc_amount, 0),
+        open_requests_count = COALESCE(open_requests.request_count, 0),
+        last_payment_date = last_payments.last_payment_date,
+        refreshed_at = CURRENT_TIMESTAMP
+    FROM ids
+    LEFT JOIN unpaid ON unpaid.tenant_id = ids.tenant_id
+    LEFT JOIN next_due ON next_due.tenant_id = ids.tenant_id
+    LEFT JOIN pending_pdcs ON pending_pdcs.tenant_id = ids.tenant_id
+    LEFT JOIN open_requests ON open_requests.tenant_id = ids.tenant_id
+    LEFT JOIN last_payments ON last_payments.tenant_id = ids.tenant_id
+    WHERE l.tenant_id = ids.tenant_id;
+
+    GET DIAGNOSTICS refreshed = ROW_COUNT;
+    RETURN refreshed;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Backfill every tenant
+SELECT refresh_tenant_ledger(ARRAY(SELECT id FROM tenants));
+
+COMMENT ON TABLE tenant_ledger IS 'Precomputed per-tenant dashboard figures (projection of invoices, payments, pdcs, maintenance_requests)';
+COMMENT ON COLUMN tenant_ledger.outstanding_balance IS 'Sum of balance_amount over SENT, PARTIALLY_PAID and OVERDUE invoices';
+COMMENT ON COLUMN tenant_ledger.next_payment_due_date IS 'Earliest due date among unpaid invoices';
+COMMENT ON COLUMN tenant_ledger.pending_pdc_count IS 'PDCs held but not yet cleared (RECEIVED, DUE, DEPOSITED)';
+COMMENT ON COLUMN tenant_ledger.open_requests_count IS 'Maintenance requests not COMPLETED, CLOSED or CANCELLED';
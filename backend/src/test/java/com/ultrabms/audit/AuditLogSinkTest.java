@@ -0,0 +1,200 @@
+package com.ultrabms.audit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ultrabms.config.AuditLogProperties;
+import com.ultrabms.entity.AuditLog;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for AuditLogSink
+ *
+ * Tests buffering, multi-row batching, overflow accounting and shutdown durability modes.
+ */
+class AuditLogSinkTest {
+
+    @Test
+    @DisplayName("Should buffer events and write them as one multi-row insert on flush")
+    void flush_WritesMultiRowInsert() {
+        RecordingJdbcTemplate jdbc = new RecordingJdbcTemplate();
+        AuditLogSink sink = startedSink(jdbc, 100, 500, AuditDurability.FLUSH_ON_SHUTDOWN);
+
+        UUID userId = UUID.randomUUID();
+        sink.submit(new AuditLog(userId, "LOGIN_SUCCESS", "10.0.0.1", "agent", Map.of("email", "a@b.com")));
+        sink.submit(new AuditLog(null, "LOGIN_FAILED", "10.0.0.2", "agent"));
+        sink.submit(new AuditLog(userId, "LOGOUT", "10.0.0.1", "agent"));
+        assertThat(jdbc.statements).isEmpty();
+
+        sink.flush();
+
+        assertThat(jdbc.statements).hasSize(1);
+        assertThat(jdbc.statements.get(0)).startsWith("INSERT INTO audit_logs")
+                .containsOnlyOnce("VALUES (").contains("), (");
+        Object[] args = jdbc.args.get(0);
+        assertThat(args).hasSize(21);
+        assertThat(args[0]).isInstanceOf(UUID.class);
+        assertThat(args[1]).isEqualTo(userId);
+        assertThat(args[2]).isEqualTo("LOGIN_SUCCESS");
+        assertThat(args[6]).isEqualTo("{\"email\":\"a@b.com\"}");
+        assertThat(args[13]).isNull();
+        assertThat(sink.bufferedCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should split large drains into batches of the configured size")
+    void flush_SplitsIntoBatches() {
+        RecordingJdbcTemplate jdbc = new RecordingJdbcTemplate();
+        AuditLogSink sink = startedSink(jdbc, 100, 2, AuditDurability.FLUSH_ON_SHUTDOWN);
+
+        for (int i = 0; i < 5; i++) {
+            sink.submit(new AuditLog(null, "AUTHORIZATION_FAILED", "10.0.0.1", null));
+        }
+        sink.flush();
+
+        assertThat(jdbc.args).extracting(args -> args.length).containsExactly(14, 14, 7);
+    }
+
+    @Test
+    @DisplayName("Should drop and count events when the buffer is full")
+    void submit_OverflowIsCounted() {
+        RecordingJdbcTemplate jdbc = new RecordingJdbcTemplate();
+        AuditLogSink sink = startedSink(jdbc, 2, 500, AuditDurability.FLUSH_ON_SHUTDOWN);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        sink.bindTo(registry);
+
+        for (int i = 0; i < 5; i++) {
+            sink.submit(new AuditLog(null, "LOGIN_FAILED", "10.0.0.1", null));
+        }
+
+        assertThat(sink.bufferedCount()).isEqualTo(2);
+        assertThat(registry.get("ultrabms.audit.dropped").tag("reason", "overflow").functionCounter().count())
+                .isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should count a failed batch as dropped")
+    void flush_WriteFailureIsCounted() {
+        RecordingJdbcTemplate jdbc = new RecordingJdbcTemplate();
+        jdbc.fail = true;
+        AuditLogSink sink = startedSink(jdbc, 100, 500, AuditDurability.FLUSH_ON_SHUTDOWN);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        sink.bindTo(registry);
+
+        sink.submit(new AuditLog(null, "LOGIN_FAILED", "10.0.0.1", null));
+        sink.submit(new AuditLog(null, "LOGIN_FAILED", "10.0.0.1", null));
+        sink.flush();
+
+        assertThat(registry.get("ultrabms.audit.dropped").tag("reason", "write_failure").functionCounter().count())
+                .isEqualTo(2);
+        assertThat(registry.get("ultrabms.audit.written").functionCounter().count()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should retry a rejected batch row by row and drop only the offending event")
+    void flush_ConstraintViolationDropsOnlyOffendingRow() {
+        RecordingJdbcTemplate jdbc = new RecordingJdbcTemplate();
+        jdbc.rejectedUserId = UUID.randomUUID();
+        AuditLogSink sink = startedSink(jdbc, 100, 500, AuditDurability.FLUSH_ON_SHUTDOWN);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        sink.bindTo(registry);
+
+        sink.submit(new AuditLog(UUID.randomUUID(), "LOGIN_SUCCESS", "10.0.0.1", null));
+        sink.submit(new AuditLog(jdbc.rejectedUserId, "LOGIN_SUCCESS", "10.0.0.2", null));
+        sink.submit(new AuditLog(null, "LOGIN_FAILED", "10.0.0.3", null));
+        sink.flush();
+
+        assertThat(jdbc.args).extracting(args -> args.length).containsExactly(7, 7);
+        assertThat(registry.get("ultrabms.audit.written").functionCounter().count()).isEqualTo(2);
+        assertThat(registry.get("ultrabms.audit.dropped").tag("reason", "write_failure").functionCounter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should flush buffered events on shutdown and write later events directly")
+    void stop_FlushOnShutdown() {
+        RecordingJdbcTemplate jdbc = new RecordingJdbcTemplate();
+        AuditLogSink sink = startedSink(jdbc, 100, 500, AuditDurability.FLUSH_ON_SHUTDOWN);
+
+        sink.submit(new AuditLog(null, "LOGOUT", "10.0.0.1", null));
+        sink.stop();
+        assertThat(jdbc.statements).hasSize(1);
+
+        sink.submit(new AuditLog(null, "LOGOUT", "10.0.0.1", null));
+        assertThat(jdbc.statements).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("Should discard buffered events on shutdown in best-effort mode")
+    void stop_BestEffortDiscards() {
+        RecordingJdbcTemplate jdbc = new RecordingJdbcTemplate();
+        AuditLogSink sink = startedSink(jdbc, 100, 500, AuditDurability.BEST_EFFORT);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        sink.bindTo(registry);
+
+        sink.submit(new AuditLog(null, "LOGOUT", "10.0.0.1", null));
+        sink.stop();
+
+        assertThat(jdbc.statements).isEmpty();
+        assertThat(registry.get("ultrabms.audit.dropped").tag("reason", "shutdown").functionCounter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should write on the calling thread in synchronous mode")
+    void submit_Synchronous() {
+        RecordingJdbcTemplate jdbc = new RecordingJdbcTemplate();
+        AuditLogSink sink = startedSink(jdbc, 100, 500, AuditDurability.SYNCHRONOUS);
+
+        sink.submit(new AuditLog(null, "REGISTRATION", "10.0.0.1", null));
+
+        assertThat(jdbc.statements).hasSize(1);
+        assertThat(sink.bufferedCount()).isZero();
+    }
+
+    private static AuditLogSink startedSink(JdbcTemplate jdbc, int capacity, int batchSize,
+                                            AuditDurability durability) {
+        AuditLogProperties properties = new AuditLogProperties();
+        properties.setBufferCapacity(capacity);
+        properties.setBatchSize(batchSize);
+        properties.setDurability(durability);
+        AuditLogSink sink = new AuditLogSink(jdbc, new ObjectMapper(), properties);
+        sink.start();
+        return sink;
+    }
+
+    /**
+     * Captures statements instead of executing them.
+     */
+    private static class RecordingJdbcTemplate extends JdbcTemplate {
+
+        private final List<String> statements = new ArrayList<>();
+        private final List<Object[]> args = new ArrayList<>();
+        private boolean fail;
+        private UUID rejectedUserId;
+
+        @Override
+        public int update(String sql, Object... params) {
+            if (fail) {
+                throw new DataAccessResourceFailureException("database unavailable");
+            }
+            if (rejectedUserId != null && Arrays.asList(params).contains(rejectedUserId)) {
+                throw new DataIntegrityViolationException("violates foreign key constraint fk_audit_logs_user");
+            }
+            statements.add(sql);
+            args.add(params);
+            return params.length / 7;
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package com.ultrabms.cache;
+
+import com.ultrabms.config.CacheInvalidationConfig;
+import com.ultrabms.config.CacheInvalidationProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.MapPropertySource;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for CacheInvalidationBus
+ *
+ * Tests message encoding and application to local caches. The two-node test starts two
+ * application contexts against one Postgres database and runs only when
+ * CACHE_BUS_TEST_DB_URL (and optionally CACHE_BUS_TEST_DB_USERNAME / _PASSWORD) is set.
+ */
+class CacheInvalidationBusTest {
+
+    @Test
+    @DisplayName("Should encode String and UUID keys and fall back to clearing for other keys")
+    void encode_KeyTypes() {
+        UUID id = UUID.randomUUID();
+
+        assertThat(CacheInvalidationBus.encode("n1", "properties", "page-0")).isEqualTo("n1|properties|S|page-0");
+        assertThat(CacheInvalidationBus.encode("n1", "propertyById", id)).isEqualTo("n1|propertyById|U|" + id);
+        assertThat(CacheInvalidationBus.encode("n1", "properties", null)).isEqualTo("n1|properties|*|");
+        assertThat(CacheInvalidationBus.encode("n1", "properties", 42L)).isEqualTo("n1|properties|*|");
+    }
+
+    @Test
+    @DisplayName("Should apply evictions from other nodes and ignore its own")
+    void apply_EvictsFromOtherNodesOnly() {
+        ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager("propertyById", "properties");
+        CacheInvalidationBus bus = new CacheInvalidationBus(cacheManager, "jdbc:postgresql://unused/db", "u", "p",
+                new CacheInvalidationProperties());
+        UUID id = UUID.randomUUID();
+        Cache byId = cacheManager.getCache("propertyById");
+        Cache pages = cacheManager.getCache("properties");
+        byId.put(id, "property");
+        pages.put("page|with|pipes", "page");
+        pages.put("other", "page");
+
+        assertThat(bus.apply(CacheInvalidationBus.encode(bus.getNodeId(), "propertyById", id))).isFalse();
+        assertThat(byId.get(id)).isNotNull();
+
+        assertThat(bus.apply(CacheInvalidationBus.encode("other-node", "propertyById", id))).isTrue();
+        assertThat(byId.get(id)).isNull();
+
+        bus.apply(CacheInvalidationBus.encode("other-node", "properties", "page|with|pipes"));
+        assertThat(pages.get("page|with|pipes")).isNull();
+        assertThat(pages.get("other")).isNotNull();
+
+        bus.apply(CacheInvalidationBus.encode("other-node", "properties", null));
+        assertThat(pages.get("other")).isNull();
+    }
+
+    @Test
+    @DisplayName("Should reject channel names that are not plain identifiers")
+    void constructor_RejectsInvalidChannel() {
+        CacheInvalidationProperties properties = new CacheInvalidationProperties();
+        properties.setChannel("cache; DROP TABLE tenants");
+
+        assertThatThrownBy(() ->
+                        new CacheInvalidationBus(new ConcurrentMapCacheManager(), "jdbc:postgresql://unused/db",
+                                "u", "p", properties))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @EnabledIfEnvironmentVariable(named = "CACHE_BUS_TEST_DB_URL", matches = ".+")
+    @DisplayName("Should propagate evictions between two application contexts through Postgres")
+    void twoContexts_PropagateEvictions() throws InterruptedException {
+        try (AnnotationConfigApplicationContext nodeA = startNode();
+             AnnotationConfigApplicationContext nodeB = startNode()) {
+            Cache cacheA = nodeA.getBean(CacheManager.class).getCache("propertyById");
+            Cache cacheB = nodeB.getBean(CacheManager.class).getCache("propertyById");
+            assertThat(cacheA).isInstanceOf(InvalidationBroadcastingCache.class);
+            UUID id = UUID.randomUUID();
+
+            // Give both listeners time to connect before the first broadcast
+            Thread.sleep(1000);
+            cacheA.put(id, "a");
+            cacheB.put(id, "b");
+            cacheA.evict(id);
+            assertThat(await(() -> cacheB.get(id) == null)).isTrue();
+
+            cacheA.put("k", "a");
+            cacheB.put("k", "b");
+            cacheB.clear();
+            assertThat(await(() -> cacheA.get("k") == null)).isTrue();
+        }
+    }
+
+    private static AnnotationConfigApplicationContext startNode() {
+        AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext();
+        context.getEnvironment().getPropertySources().addFirst(new MapPropertySource("node", Map.of(
+                "app.cache.invalidation.enabled", "true",
+                "app.cache.invalidation.channel", "cache_invalidation_test",
+                "spring.datasource.url", System.getenv("CACHE_BUS_TEST_DB_URL"),
+                "spring.datasource.username", envOrDefault("CACHE_BUS_TEST_DB_USERNAME", "postgres"),
+                "spring.datasource.password", envOrDefault("CACHE_BUS_TEST_DB_PASSWORD", "postgres"))));
+        context.register(NodeConfig.class, CacheInvalidationProperties.class, CacheInvalidationConfig.class);
+        context.refresh();
+        return context;
+    }
+
+    private static String envOrDefault(String name, String defaultValue) {
+        String value = System.getenv(name);
+        return value != null ? value : defaultValue;
+    }
+
+    private static boolean await(BooleanSupplier condition) throws InterruptedException {
+        for (int i = 0; i < 50; i++) {
+            if (condition.getAsBoolean()) {
+                return true;
+            }
+            Thread.sleep(100);
+        }
+        return false;
+    }
+
+    @Configuration
+    @EnableConfigurationProperties(DataSourceProperties.class)
+    static class NodeConfig {
+
+        @Bean
+        CacheManager cacheManager() {
+            return new ConcurrentMapCacheManager("propertyById");
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.ultrabms.cache;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Unit tests for InvalidationBroadcastingCache
+ *
+ * Tests that evictions are applied locally at once and broadcast immediately or after commit.
+ */
+@ExtendWith(MockitoExtension.class)
+class InvalidationBroadcastingCacheTest {
+
+    @Mock
+    private CacheInvalidationBus bus;
+
+    private Cache cache;
+
+    @BeforeEach
+    void setUp() {
+        InvalidationBroadcastingCacheManager cacheManager =
+                new InvalidationBroadcastingCacheManager(new ConcurrentMapCacheManager("propertyById"), () -> bus);
+        cache = cacheManager.getCache("propertyById");
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("Should put without broadcasting")
+    void put_DoesNotBroadcast() {
+        UUID key = UUID.randomUUID();
+
+        cache.put(key, "value");
+
+        assertThat(cache.get(key, String.class)).isEqualTo("value");
+        verify(bus, never()).publish(anyString(), any());
+    }
+
+    @Test
+    @DisplayName("Should evict locally and broadcast immediately outside a transaction")
+    void evict_WithoutTransaction_BroadcastsImmediately() {
+        UUID key = UUID.randomUUID();
+        cache.put(key, "value");
+
+        cache.evict(key);
+
+        assertThat(cache.get(key)).isNull();
+        verify(bus).publish("propertyById", key);
+    }
+
+    @Test
+    @DisplayName("Should evict locally at once but broadcast only after commit")
+    void evict_InTransaction_BroadcastsAfterCommit() {
+        UUID key = UUID.randomUUID();
+        cache.put(key, "value");
+        TransactionSynchronizationManager.initSynchronization();
+
+        cache.evict(key);
+
+        assertThat(cache.get(key)).isNull();
+        verify(bus, never()).publish(anyString(), any());
+
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            synchronization.afterCommit();
+        }
+        verify(bus).publish("propertyById", key);
+    }
+
+    @Test
+    @DisplayName("Should broadcast a clear as a null key")
+    void clear_BroadcastsNullKey() {
+        cache.put("a", "value");
+
+        cache.clear();
+
+        assertThat(cache.get("a")).isNull();
+        verify(bus).publish("propertyById", null);
+    }
+}
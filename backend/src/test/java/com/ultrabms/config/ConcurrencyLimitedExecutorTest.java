@@ -0,0 +1,90 @@
+package com.ultrabms.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for ConcurrencyLimitedExecutor. Uses platform threads for the delegate so the
+ * test runs on Java 17; the limiting does not depend on the thread kind.
+ */
+@DisplayName("ConcurrencyLimitedExecutor Tests")
+class ConcurrencyLimitedExecutorTest {
+
+    private ConcurrencyLimitedExecutor executor;
+    private CountDownLatch release;
+
+    @BeforeEach
+    void setUp() {
+        SimpleAsyncTaskExecutor delegate = new SimpleAsyncTaskExecutor("limited-test-");
+        delegate.setTaskTerminationTimeout(5000);
+        executor = new ConcurrencyLimitedExecutor(delegate, 2);
+        release = new CountDownLatch(1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        executor.close();
+    }
+
+    @Test
+    @DisplayName("Should accept tasks beyond the limit without blocking the submitter")
+    void testSubmitDoesNotBlock() {
+        long start = System.nanoTime();
+        for (int i = 0; i < 6; i++) {
+            executor.execute(this::awaitRelease);
+        }
+
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isLessThan(1000);
+        waitUntil(() -> executor.getActiveCount() == 2 && executor.getQueueSize() == 4);
+    }
+
+    @Test
+    @DisplayName("Should run every task and never more than the limit at once")
+    void testRunsAllWithinLimit() {
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        AtomicInteger completed = new AtomicInteger();
+        for (int i = 0; i < 10; i++) {
+            executor.execute(() -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                awaitRelease();
+                running.decrementAndGet();
+                completed.incrementAndGet();
+            });
+        }
+
+        waitUntil(() -> executor.getActiveCount() == 2);
+        release.countDown();
+        waitUntil(() -> completed.get() == 10);
+
+        assertThat(maxRunning.get()).isEqualTo(2);
+        assertThat(executor.getQueueSize()).isZero();
+    }
+
+    private static void waitUntil(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime() - deadline).as("condition not met within 5s").isNegative();
+            Thread.onSpinWait();
+        }
+    }
+
+    private void awaitRelease() {
+        try {
+            release.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
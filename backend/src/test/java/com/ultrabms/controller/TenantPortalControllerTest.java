@@ -303,8 +303,7 @@ class TenantPortalControllerTest {
     private TenantProfileResponse.TenantPersonalInfo createMockTenantInfo() {
         TenantProfileResponse.TenantPersonalInfo info = new TenantProfileResponse.TenantPersonalInfo();
         info.setId(testUserId);
-        info.setFirstName("John");
-        info.setLastName("Doe");
+        info.setFullName("John Doe");
         info.setEmail("john.doe@example.com");
         info.setPhone("+971501234567");
         info.setDateOfBirth(LocalDate.of(1990, 1, 1));
@@ -0,0 +1,140 @@
+package com.ultrabms.datasource;
+
+import com.ultrabms.config.DataSourceRoutingConfig;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Routing tests against two in-memory H2 databases standing in for the primary and
+ * the replica. Each database holds a single row naming itself.
+ */
+@DisplayName("ReplicaRoutingDataSource Tests")
+class ReplicaRoutingDataSourceTest {
+
+    private static final String WHO_AM_I = "SELECT name FROM node";
+
+    private ReplicaLagMonitor lagMonitor;
+
+    @BeforeEach
+    void setUp() {
+        lagMonitor = new ReplicaLagMonitor(node("replica"), Duration.ofSeconds(10));
+        lagMonitor.recordLag(0);
+    }
+
+    @Test
+    @DisplayName("Should route read-only transactions to the replica")
+    void testReadOnlyTransactionUsesReplica() {
+        DataSource dataSource = routing(true);
+
+        assertThat(inTransaction(dataSource, true, () -> query(dataSource))).isEqualTo("replica");
+        assertThat(inTransaction(dataSource, false, () -> query(dataSource))).isEqualTo("primary");
+    }
+
+    @Test
+    @DisplayName("Should keep read-write transactions on the primary inside @ReadReplica code")
+    void testReadWriteTransactionIgnoresReplicaHint() {
+        DataSource dataSource = routing(true);
+
+        assertThat(inReadReplica(() -> inTransaction(dataSource, false, () -> query(dataSource))))
+                .isEqualTo("primary");
+    }
+
+    @Test
+    @DisplayName("Should route @ReadReplica code only when read-only routing is disabled")
+    void testReadReplicaOnlyMode() {
+        DataSource dataSource = routing(false);
+
+        assertThat(inTransaction(dataSource, true, () -> query(dataSource))).isEqualTo("primary");
+        assertThat(inReadReplica(() -> inTransaction(dataSource, true, () -> query(dataSource))))
+                .isEqualTo("replica");
+        assertThat(inReadReplica(() -> query(dataSource))).isEqualTo("replica");
+        assertThat(query(dataSource)).isEqualTo("primary");
+    }
+
+    @Test
+    @DisplayName("Should fall back to the primary when replica lag exceeds the threshold")
+    void testLaggingReplicaFallsBackToPrimary() {
+        DataSource dataSource = routing(true);
+
+        lagMonitor.recordLag(30);
+        assertThat(inTransaction(dataSource, true, () -> query(dataSource))).isEqualTo("primary");
+
+        lagMonitor.recordLag(2);
+        assertThat(inTransaction(dataSource, true, () -> query(dataSource))).isEqualTo("replica");
+    }
+
+    @Test
+    @DisplayName("Should mark the replica unusable when the lag check fails")
+    void testFailedLagCheckMarksReplicaUnusable() {
+        // H2 has no pg_is_in_recovery(), so the check fails like an unreachable replica
+        lagMonitor.checkLag();
+
+        assertThat(lagMonitor.isReplicaUsable()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should apply the @ReadReplica advisor to annotated classes")
+    void testReadReplicaAdvisor() {
+        ProxyFactory factory = new ProxyFactory(new AnnotatedReports());
+        factory.setProxyTargetClass(true);
+        factory.addAdvisor(DataSourceRoutingConfig.readReplicaAdvisor());
+        AnnotatedReports proxy = (AnnotatedReports) factory.getProxy();
+
+        assertThat(proxy.isRoutedToReplica()).isTrue();
+        assertThat(ReadReplicaContext.isActive()).isFalse();
+    }
+
+    private DataSource routing(boolean routeReadOnlyTransactions) {
+        return new LazyConnectionDataSourceProxy(new ReplicaRoutingDataSource(
+                node("primary"), node("replica"), lagMonitor, routeReadOnlyTransactions));
+    }
+
+    private static DataSource node(String name) {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS node (name VARCHAR(20))");
+        jdbcTemplate.execute("DELETE FROM node");
+        jdbcTemplate.update("INSERT INTO node (name) VALUES (?)", name);
+        return dataSource;
+    }
+
+    private static String query(DataSource dataSource) {
+        return new JdbcTemplate(dataSource).queryForObject(WHO_AM_I, String.class);
+    }
+
+    private static String inTransaction(DataSource dataSource, boolean readOnly, Supplier<String> work) {
+        TransactionTemplate template = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        template.setReadOnly(readOnly);
+        return template.execute(status -> work.get());
+    }
+
+    private static String inReadReplica(Supplier<String> work) {
+        ReadReplicaContext.enter();
+        try {
+            return work.get();
+        } finally {
+            ReadReplicaContext.exit();
+        }
+    }
+
+    @ReadReplica
+    public static class AnnotatedReports {
+        public boolean isRoutedToReplica() {
+            return ReadReplicaContext.isActive();
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package com.ultrabms.datasource;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.orm.jpa.EntityManagerFactoryUtils;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.persistenceunit.PersistenceManagedTypes;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Routing tests through JPA: a read-only transaction followed by a read-write transaction
+ * in the same request, as a controller calling a report query and then a save would do.
+ * Uses the JPA transaction manager and Hibernate's connection handling, which
+ * {@link ReplicaRoutingDataSourceTest} (plain JDBC transactions) does not cover.
+ */
+@DisplayName("ReplicaRoutingDataSource JPA Tests")
+class ReplicaRoutingJpaTest {
+
+    private DataSource primary;
+    private DataSource replica;
+    private LocalContainerEntityManagerFactoryBean factoryBean;
+    private EntityManagerFactory entityManagerFactory;
+    private JpaTransactionManager transactionManager;
+
+    @BeforeEach
+    void setUp() {
+        primary = node("jpa_primary");
+        replica = node("jpa_replica");
+        ReplicaLagMonitor lagMonitor = new ReplicaLagMonitor(replica, Duration.ofSeconds(10));
+        lagMonitor.recordLag(0);
+
+        factoryBean = new LocalContainerEntityManagerFactoryBean();
+        factoryBean.setDataSource(new LazyConnectionDataSourceProxy(
+                new ReplicaRoutingDataSource(primary, replica, lagMonitor, true)));
+        factoryBean.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        factoryBean.setManagedTypes(PersistenceManagedTypes.of(Node.class.getName()));
+        factoryBean.setJpaPropertyMap(Map.of("hibernate.hbm2ddl.auto", "none"));
+        factoryBean.afterPropertiesSet();
+        entityManagerFactory = factoryBean.getObject();
+        transactionManager = new JpaTransactionManager(entityManagerFactory);
+    }
+
+    @AfterEach
+    void tearDown() {
+        factoryBean.destroy();
+    }
+
+    @Test
+    @DisplayName("Should read from the replica and write to the primary in one request")
+    void testReadThenWriteWithoutOpenInView() {
+        String readFrom = inTransaction(true, entityManager -> entityManager.find(Node.class, 1L).getName());
+        inTransaction(false, entityManager -> {
+            entityManager.persist(new Node(2L, "written"));
+            return null;
+        });
+
+        assertThat(readFrom).isEqualTo("jpa_replica");
+        assertThat(names(primary)).containsExactly("jpa_primary", "written");
+        assertThat(names(replica)).containsExactly("jpa_replica");
+    }
+
+    @Test
+    @DisplayName("Should keep the replica connection for the write when open-in-view is on")
+    void testOpenInViewPinsFirstConnection() {
+        // What OpenEntityManagerInViewInterceptor does at the start of a request; the reason
+        // DataSourceRoutingConfig requires spring.jpa.open-in-view=false
+        EntityManager requestEntityManager = entityManagerFactory.createEntityManager();
+        TransactionSynchronizationManager.bindResource(entityManagerFactory,
+                new EntityManagerHolder(requestEntityManager));
+        try {
+            inTransaction(true, entityManager -> entityManager.find(Node.class, 1L).getName());
+            inTransaction(false, entityManager -> {
+                entityManager.persist(new Node(2L, "written"));
+                return null;
+            });
+        } finally {
+            TransactionSynchronizationManager.unbindResource(entityManagerFactory);
+            requestEntityManager.close();
+        }
+
+        assertThat(names(primary)).containsExactly("jpa_primary");
+        assertThat(names(replica)).containsExactly("jpa_replica", "written");
+    }
+
+    private <T> T inTransaction(boolean readOnly, Function<EntityManager, T> work) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(readOnly);
+        return template.execute(status -> work.apply(
+                EntityManagerFactoryUtils.getTransactionalEntityManager(entityManagerFactory)));
+    }
+
+    private static DataSource node(String name) {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS jpa_node (id BIGINT PRIMARY KEY, name VARCHAR(20))");
+        jdbcTemplate.execute("DELETE FROM jpa_node");
+        jdbcTemplate.update("INSERT INTO jpa_node (id, name) VALUES (1, ?)", name);
+        return dataSource;
+    }
+
+    private static List<String> names(DataSource dataSource) {
+        return new JdbcTemplate(dataSource).queryForList("SELECT name FROM jpa_node ORDER BY id", String.class);
+    }
+
+    @Entity
+    @Table(name = "jpa_node")
+    public static class Node {
+
+        @Id
+        private Long id;
+
+        private String name;
+
+        protected Node() {
+        }
+
+        Node(Long id, String name) {
+            this.id = id;
+            this.name = name;
+        }
+
+        public String getName() {
+            return name;
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package com.ultrabms.datasource;
+
+import com.ultrabms.config.DataSourceRoutingConfig;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Routing tests against three in-memory H2 databases standing in for the OLTP, batch and
+ * reporting pools. Each database holds a single row naming itself.
+ */
+@DisplayName("WorkloadRoutingDataSource Tests")
+class WorkloadRoutingDataSourceTest {
+
+    private static final String WHO_AM_I = "SELECT name FROM node";
+
+    @Test
+    @DisplayName("Should use the OLTP pool outside annotated code")
+    void testDefaultsToOltp() {
+        DataSource dataSource = routing();
+
+        assertThat(query(dataSource)).isEqualTo("oltp");
+    }
+
+    @Test
+    @DisplayName("Should use the pool of the innermost workload and restore the outer one")
+    void testNestedWorkloads() {
+        DataSource dataSource = routing();
+
+        WorkloadContext.enter(Workload.BATCH);
+        try {
+            assertThat(query(dataSource)).isEqualTo("batch");
+            WorkloadContext.enter(Workload.REPORTING);
+            try {
+                assertThat(query(dataSource)).isEqualTo("reporting");
+            } finally {
+                WorkloadContext.exit();
+            }
+            assertThat(query(dataSource)).isEqualTo("batch");
+        } finally {
+            WorkloadContext.exit();
+        }
+        assertThat(WorkloadContext.current()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should use the reporting pool for @ReadReplica code served by the primary")
+    void testReadReplicaUsesReportingPool() {
+        ReplicaLagMonitor lagMonitor = new ReplicaLagMonitor(node("replica"), Duration.ofSeconds(10));
+        lagMonitor.recordLag(30);
+        DataSource dataSource = new LazyConnectionDataSourceProxy(new ReplicaRoutingDataSource(
+                workloads(), node("replica"), lagMonitor, true));
+
+        ReadReplicaContext.enter();
+        try {
+            assertThat(query(dataSource)).isEqualTo("reporting");
+        } finally {
+            ReadReplicaContext.exit();
+        }
+        assertThat(query(dataSource)).isEqualTo("oltp");
+    }
+
+    @Test
+    @DisplayName("Should resolve @WorkloadPool on methods and classes, and BATCH for @Scheduled methods")
+    void testWorkloadAdvisor() {
+        ProxyFactory factory = new ProxyFactory(new Jobs());
+        factory.setProxyTargetClass(true);
+        factory.addAdvisor(DataSourceRoutingConfig.workloadAdvisor());
+        Jobs proxy = (Jobs) factory.getProxy();
+
+        assertThat(proxy.scheduled()).isEqualTo(Workload.BATCH);
+        assertThat(proxy.report()).isEqualTo(Workload.REPORTING);
+        assertThat(proxy.unannotated()).isNull();
+        assertThat(WorkloadContext.current()).isNull();
+
+        factory = new ProxyFactory(new AnnotatedExports());
+        factory.setProxyTargetClass(true);
+        factory.addAdvisor(DataSourceRoutingConfig.workloadAdvisor());
+        assertThat(((AnnotatedExports) factory.getProxy()).export()).isEqualTo(Workload.REPORTING);
+    }
+
+    private static DataSource routing() {
+        return new LazyConnectionDataSourceProxy(workloads());
+    }
+
+    private static DataSource workloads() {
+        return new WorkloadRoutingDataSource(node("oltp"), node("batch"), node("reporting"));
+    }
+
+    private static DataSource node(String name) {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:workload_" + name + ";DB_CLOSE_DELAY=-1");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS node (name VARCHAR(20))");
+        jdbcTemplate.execute("DELETE FROM node");
+        jdbcTemplate.update("INSERT INTO node (name) VALUES (?)", name);
+        return dataSource;
+    }
+
+    private static String query(DataSource dataSource) {
+        return new JdbcTemplate(dataSource).queryForObject(WHO_AM_I, String.class);
+    }
+
+    public static class Jobs {
+        @Scheduled(fixedDelay = 1000)
+        public Workload scheduled() {
+            return WorkloadContext.current();
+        }
+
+        @WorkloadPool(Workload.REPORTING)
+        public Workload report() {
+            return WorkloadContext.current();
+        }
+
+        public Workload unannotated() {
+            return WorkloadContext.current();
+        }
+    }
+
+    @WorkloadPool(Workload.REPORTING)
+    public static class AnnotatedExports {
+        public Workload export() {
+            return WorkloadContext.current();
+        }
+    }
+}
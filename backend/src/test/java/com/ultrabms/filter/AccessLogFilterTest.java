@@ -0,0 +1,93 @@
+package com.ultrabms.filter;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+/**
+ * Unit tests for AccessLogFilter sampling and JSON event format.
+ */
+class AccessLogFilterTest {
+
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(5);
+    private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(2500);
+
+    @AfterEach
+    void tearDown() {
+        MDC.clear();
+    }
+
+    @Test
+    @DisplayName("Should always log errors and slow requests even when successes are not sampled")
+    void shouldLog_ErrorsAndSlowRequestsAlwaysLogged() {
+        AccessLogFilter filter = new AccessLogFilter(0.0, 2000);
+
+        assertThat(filter.shouldLog(200, FAST)).isFalse();
+        assertThat(filter.shouldLog(404, FAST)).isTrue();
+        assertThat(filter.shouldLog(500, FAST)).isTrue();
+        assertThat(filter.shouldLog(200, SLOW)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should log every successful request at full sample rate")
+    void shouldLog_FullSampleRate() {
+        AccessLogFilter filter = new AccessLogFilter(1.0, 2000);
+
+        assertThat(filter.shouldLog(200, FAST)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should write route template, status, latency and correlation ID as JSON")
+    void toJson_StructuredFields() {
+        AccessLogFilter filter = new AccessLogFilter(1.0, 2000);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/properties/123");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/v1/properties/{id}");
+        MDC.put("correlationId", "abc-123");
+
+        String json = filter.toJson(request, 200, 12_481_000L);
+
+        assertThat(json)
+                .startsWith("{\"timestamp\":\"")
+                .contains("\"method\":\"GET\"")
+                .contains("\"route\":\"/api/v1/properties/{id}\"")
+                .contains("\"status\":200")
+                .contains("\"latencyMs\":12.481")
+                .contains("\"correlationId\":\"abc-123\"")
+                .endsWith("}");
+    }
+
+    @Test
+    @DisplayName("Should fall back to request URI when no handler pattern matched")
+    void toJson_FallsBackToUri() {
+        AccessLogFilter filter = new AccessLogFilter(1.0, 2000);
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/unknown");
+
+        String json = filter.toJson(request, 404, FAST);
+
+        assertThat(json)
+                .contains("\"route\":\"/api/v1/unknown\"")
+                .contains("\"correlationId\":null");
+    }
+
+    @Test
+    @DisplayName("Should pass the request through the filter chain")
+    void doFilter_ContinuesChain() {
+        AccessLogFilter filter = new AccessLogFilter(1.0, 2000);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/health");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        assertThatCode(() -> filter.doFilter(request, response, chain)).doesNotThrowAnyException();
+        assertThat(chain.getRequest()).isSameAs(request);
+    }
+}
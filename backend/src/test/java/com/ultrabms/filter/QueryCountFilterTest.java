@@ -0,0 +1,57 @@
+package com.ultrabms.filter;
+
+import com.ultrabms.metrics.QueryCountStatementInspector;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for QueryCountFilter.
+ */
+class QueryCountFilterTest {
+
+    @Test
+    @DisplayName("Should record statements executed during the request against the route template")
+    void doFilter_RecordsStatementsPerRoute() throws Exception {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        QueryCountFilter filter = new QueryCountFilter(registry);
+        QueryCountStatementInspector inspector = new QueryCountStatementInspector();
+
+        // Statements from a previous request on this thread must not leak into the next one
+        inspector.inspect("select 1");
+
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/properties/123");
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+            req.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/v1/properties/{id}");
+            inspector.inspect("select * from properties where id = ?");
+            inspector.inspect("select * from units where property_id = ?");
+            inspector.inspect("select * from users where id = ?");
+        });
+
+        DistributionSummary summary = registry.find(QueryCountFilter.METRIC_NAME)
+                .tag("method", "GET")
+                .tag("uri", "/api/v1/properties/{id}")
+                .summary();
+        assertThat(summary).isNotNull();
+        assertThat(summary.count()).isEqualTo(1);
+        assertThat(summary.totalAmount()).isEqualTo(3.0);
+    }
+
+    @Test
+    @DisplayName("Should tag unmatched requests as UNKNOWN")
+    void doFilter_UnmatchedRoute() throws Exception {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        QueryCountFilter filter = new QueryCountFilter(registry);
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/v1/missing"), new MockHttpServletResponse(),
+                (req, res) -> { });
+
+        assertThat(registry.find(QueryCountFilter.METRIC_NAME).tag("uri", "UNKNOWN").summary()).isNotNull();
+    }
+}
@@ -0,0 +1,61 @@
+package com.ultrabms.metrics;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for VirtualThreadPinningMonitor
+ *
+ * Tests attribution of pinning events to application frames and the published timer.
+ */
+class VirtualThreadPinningMonitorTest {
+
+    @Test
+    @DisplayName("Should attribute pinning to the innermost application frame")
+    void pinnedFrame_UsesInnermostApplicationFrame() {
+        List<String> frames = List.of(
+                "java.lang.VirtualThread.parkOnCarrierThread",
+                "org.postgresql.core.v3.QueryExecutorImpl.execute",
+                "com.ultrabms.service.impl.WorkOrderServiceImpl.nextWorkOrderNumbers",
+                "com.ultrabms.service.impl.WorkOrderServiceImpl.allocateWorkOrderNumbers");
+
+        assertThat(VirtualThreadPinningMonitor.pinnedFrame(frames))
+                .isEqualTo("WorkOrderServiceImpl.nextWorkOrderNumbers");
+    }
+
+    @Test
+    @DisplayName("Should fall back to the innermost frame outside application code")
+    void pinnedFrame_WithoutApplicationFrame_UsesInnermostFrame() {
+        assertThat(VirtualThreadPinningMonitor.pinnedFrame(List.of("java.io.FileInputStream.readBytes")))
+                .isEqualTo("java.io.FileInputStream.readBytes");
+        assertThat(VirtualThreadPinningMonitor.pinnedFrame(List.of()))
+                .isEqualTo(VirtualThreadPinningMonitor.UNKNOWN_FRAME);
+    }
+
+    @Test
+    @DisplayName("Should record pinning durations per frame")
+    void record_PublishesTimerPerFrame() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        VirtualThreadPinningMonitor monitor = new VirtualThreadPinningMonitor(Duration.ofMillis(20));
+        monitor.bindTo(registry);
+
+        monitor.record("WorkOrderServiceImpl.nextWorkOrderNumbers", Duration.ofMillis(40), List.of());
+        monitor.record("WorkOrderServiceImpl.nextWorkOrderNumbers", Duration.ofMillis(60), List.of());
+        monitor.record("LeadNumberGenerator.generate", Duration.ofMillis(25), List.of());
+
+        Timer timer = registry.get("ultrabms.threads.virtual.pinned")
+                .tag("frame", "WorkOrderServiceImpl.nextWorkOrderNumbers")
+                .timer();
+        assertThat(timer.count()).isEqualTo(2);
+        assertThat(timer.totalTime(TimeUnit.MILLISECONDS)).isEqualTo(100);
+        assertThat(registry.get("ultrabms.threads.virtual.pinned").timers()).hasSize(2);
+    }
+}
@@ -0,0 +1,108 @@
+package com.ultrabms.repository;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks the SQL generated for keyset pagination: the first page carries no cursor
+ * predicate and later pages seek with a row-value comparison on (created_at, id), the
+ * shape PostgreSQL can use as an index range condition on the V76 indexes.
+ */
+@DataJpaTest(properties =
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "com.ultrabms.repository.KeysetPaginationQueryTest$CapturingInspector")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@DisplayName("Keyset Pagination Query Tests")
+class KeysetPaginationQueryTest {
+
+    private static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+    @Autowired
+    private WorkOrderRepository workOrderRepository;
+
+    @Autowired
+    private InvoiceRepository invoiceRepository;
+
+    @BeforeEach
+    void setUp() {
+        STATEMENTS.clear();
+    }
+
+    @Test
+    @DisplayName("Work order first page should have no cursor predicate")
+    void testWorkOrderFirstPage() {
+        workOrderRepository.findFirstPageByKeyset(null, null, null, null, null, null, null, null, null,
+                PageRequest.of(0, 21));
+
+        String sql = lastSelect("work_orders");
+        assertThat(sql).doesNotContain("created_at<", "created_at=");
+        assertThat(sql).contains("order by wo1_0.created_at desc,wo1_0.id desc");
+    }
+
+    @Test
+    @DisplayName("Work order next page should seek with a row-value comparison")
+    void testWorkOrderPageAfterCursor() {
+        workOrderRepository.findPageAfterKeyset(null, null, null, null, null, null, null, null, null,
+                LocalDateTime.now(), UUID.randomUUID(), PageRequest.of(0, 21));
+
+        String sql = lastSelect("work_orders");
+        assertThat(sql).contains("(wo1_0.created_at,wo1_0.id)<(?,?)");
+        assertThat(sql).doesNotContain("created_at=");
+    }
+
+    @Test
+    @DisplayName("Invoice first page should have no cursor predicate")
+    void testInvoiceFirstPage() {
+        invoiceRepository.findFirstPageByKeyset(null, null, null, null, null, null, PageRequest.of(0, 21));
+
+        String sql = lastSelect("invoices");
+        assertThat(sql).doesNotContain("created_at<", "created_at=");
+        assertThat(sql).contains("order by i1_0.created_at desc,i1_0.id desc");
+    }
+
+    @Test
+    @DisplayName("Invoice next page should seek with a row-value comparison")
+    void testInvoicePageAfterCursor() {
+        invoiceRepository.findPageAfterKeyset(null, null, null, null, null, null,
+                LocalDateTime.now(), UUID.randomUUID(), PageRequest.of(0, 21));
+
+        String sql = lastSelect("invoices");
+        assertThat(sql).contains("(i1_0.created_at,i1_0.id)<(?,?)");
+        assertThat(sql).doesNotContain("created_at=");
+    }
+
+    private static String lastSelect(String table) {
+        return STATEMENTS.stream()
+                .map(sql -> sql.replaceAll("\\s+", " "))
+                .filter(sql -> sql.startsWith("select") && sql.contains(" from " + table + " "))
+                .reduce((first, second) -> second)
+                .orElseThrow(() -> new AssertionError("No select on " + table + " in " + STATEMENTS));
+    }
+
+    /**
+     * Records every statement Hibernate prepares.
+     */
+    public static class CapturingInspector implements StatementInspector {
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+}
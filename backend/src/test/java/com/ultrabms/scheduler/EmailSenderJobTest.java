@@ -0,0 +1,133 @@
+package com.ultrabms.scheduler;
+
+import com.ultrabms.entity.EmailNotification;
+import com.ultrabms.entity.enums.EmailNotificationStatus;
+import com.ultrabms.repository.EmailNotificationRepository;
+import com.ultrabms.service.EmailNotificationService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for EmailSenderJob
+ * Story 9.1: Email Notification System
+ *
+ * Tests hot-window queue polling, queue draining and partition-based retention.
+ */
+@ExtendWith(MockitoExtension.class)
+class EmailSenderJobTest {
+
+    @Mock
+    private EmailNotificationRepository emailNotificationRepository;
+
+    @Mock
+    private EmailNotificationService emailNotificationService;
+
+    @InjectMocks
+    private EmailSenderJob emailSenderJob;
+
+    private LocalDateTime hotWindowStart;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(emailSenderJob, "batchSize", 50);
+        ReflectionTestUtils.setField(emailSenderJob, "drainBudgetMs", 50000L);
+        ReflectionTestUtils.setField(emailSenderJob, "retentionDays", 90);
+        ReflectionTestUtils.setField(emailSenderJob, "detachOnly", false);
+        ReflectionTestUtils.setField(emailSenderJob, "partitionMonthsAhead", 3);
+        hotWindowStart = LocalDate.now().withDayOfMonth(1).minusMonths(1).atStartOfDay();
+    }
+
+    @Test
+    @DisplayName("Should poll pending notifications from the hot window only")
+    void processQueuedEmails_PollsHotWindow() {
+        when(emailNotificationRepository.findPendingNotifications(eq(hotWindowStart), any(Pageable.class)))
+                .thenReturn(List.of());
+
+        emailSenderJob.processQueuedEmails();
+
+        verify(emailNotificationRepository).findPendingNotifications(eq(hotWindowStart), any(Pageable.class));
+        verify(emailNotificationService, never()).sendNotification(any());
+    }
+
+    @Test
+    @DisplayName("Should drain full batches until the queue is empty")
+    void processQueuedEmails_DrainsUntilEmpty() {
+        ReflectionTestUtils.setField(emailSenderJob, "batchSize", 2);
+        when(emailNotificationRepository.findPendingNotifications(eq(hotWindowStart), any(Pageable.class)))
+                .thenReturn(pending(2), pending(2), pending(1));
+        when(emailNotificationService.sendNotification(any())).thenAnswer(invocation -> {
+            EmailNotification notification = invocation.getArgument(0);
+            notification.markAsSent();
+            return notification;
+        });
+
+        emailSenderJob.processQueuedEmails();
+
+        verify(emailNotificationRepository, times(3)).findPendingNotifications(eq(hotWindowStart), any(Pageable.class));
+        verify(emailNotificationService, times(5)).sendNotification(any());
+    }
+
+    @Test
+    @DisplayName("Should stop draining when every notification in a batch errors")
+    void processQueuedEmails_StopsWhenBatchMakesNoProgress() {
+        ReflectionTestUtils.setField(emailSenderJob, "batchSize", 2);
+        when(emailNotificationRepository.findPendingNotifications(eq(hotWindowStart), any(Pageable.class)))
+                .thenReturn(pending(2));
+        when(emailNotificationService.sendNotification(any())).thenThrow(new IllegalStateException("db down"));
+
+        emailSenderJob.processQueuedEmails();
+
+        verify(emailNotificationRepository, times(1)).findPendingNotifications(eq(hotWindowStart), any(Pageable.class));
+        verify(emailNotificationService, times(2)).sendNotification(any());
+    }
+
+    @Test
+    @DisplayName("Should maintain partitions and drop those past retention")
+    void cleanupOldNotifications_DropsExpiredPartitions() {
+        when(emailNotificationRepository.createUpcomingPartitions(3)).thenReturn(1);
+        when(emailNotificationRepository.dropPartitionsBefore(any(LocalDateTime.class), anyBoolean()))
+                .thenReturn(2);
+
+        emailSenderJob.cleanupOldNotifications();
+
+        verify(emailNotificationRepository).createUpcomingPartitions(3);
+        verify(emailNotificationRepository).refreshQueueIndexes(hotWindowStart);
+
+        ArgumentCaptor<LocalDateTime> cutoff = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(emailNotificationRepository).dropPartitionsBefore(cutoff.capture(), eq(false));
+        assertThat(cutoff.getValue().toLocalDate()).isEqualTo(LocalDate.now().minusDays(90));
+    }
+
+    private static List<EmailNotification> pending(int count) {
+        List<EmailNotification> notifications = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            notifications.add(EmailNotification.builder()
+                    .recipientEmail("tenant" + i + "@example.com")
+                    .status(EmailNotificationStatus.PENDING)
+                    .build());
+        }
+        return notifications;
+    }
+}
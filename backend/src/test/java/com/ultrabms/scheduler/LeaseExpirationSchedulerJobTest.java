@@ -0,0 +1,157 @@
+package com.ultrabms.scheduler;
+
+import com.ultrabms.dto.tenant.TenantEmailPayload;
+import com.ultrabms.entity.Tenant;
+import com.ultrabms.repository.TenantRepository;
+import com.ultrabms.repository.TenantRepository.LeaseReminderDue;
+import com.ultrabms.repository.TenantRepository.LeaseStatusChange;
+import com.ultrabms.service.IEmailService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for LeaseExpirationSchedulerJob
+ * Story 3.6: Tenant Lease Extension and Renewal (AC #9)
+ *
+ * Tests the single daily pass: set-based status transitions and reminder flags,
+ * then reminders sent after the transaction commits.
+ */
+@ExtendWith(MockitoExtension.class)
+class LeaseExpirationSchedulerJobTest {
+
+    @Mock
+    private TenantRepository tenantRepository;
+
+    @Mock
+    private IEmailService emailService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private LeaseExpirationSchedulerJob job;
+
+    @BeforeEach
+    void setUp() {
+        job = new LeaseExpirationSchedulerJob(tenantRepository, emailService, transactionManager);
+    }
+
+    @Test
+    @DisplayName("Should flag due reminders in bulk and send them after commit")
+    void runLeaseLifecycle_SendsFlaggedRemindersAfterCommit() {
+        LocalDate today = LocalDate.now();
+        Tenant in14 = tenant(today.plusDays(14));
+        Tenant in60 = tenant(today.plusDays(60));
+        when(tenantRepository.transitionLeaseStatuses(today, today.plusDays(60)))
+                .thenReturn(List.of(statusChange("EXPIRED"), statusChange("EXPIRING_SOON")));
+        when(tenantRepository.flagDueLeaseReminders(today))
+                .thenReturn(List.of(reminder(in14.getId(), 14), reminder(in60.getId(), 60)));
+        when(tenantRepository.findAllWithPropertyAndUnitByIdIn(List.of(in14.getId(), in60.getId())))
+                .thenReturn(List.of(in14, in60));
+
+        job.runLeaseLifecycle();
+
+        InOrder order = inOrder(transactionManager, emailService);
+        order.verify(transactionManager).commit(any());
+        order.verify(emailService).sendLeaseExpiryReminder(TenantEmailPayload.from(in14), 14);
+        order.verify(emailService).sendLeaseExpiryReminder(TenantEmailPayload.from(in60), 60);
+    }
+
+    @Test
+    @DisplayName("Should not load tenants or send emails when no reminder is due")
+    void runLeaseLifecycle_NothingDue() {
+        LocalDate today = LocalDate.now();
+        when(tenantRepository.transitionLeaseStatuses(today, today.plusDays(60))).thenReturn(List.of());
+        when(tenantRepository.flagDueLeaseReminders(today)).thenReturn(List.of());
+
+        job.runLeaseLifecycle();
+
+        verify(tenantRepository, never()).findAllWithPropertyAndUnitByIdIn(anyCollection());
+        verify(emailService, never()).sendLeaseExpiryReminder(any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Should not send reminders when the update fails")
+    void runLeaseLifecycle_UpdateFails() {
+        LocalDate today = LocalDate.now();
+        when(tenantRepository.transitionLeaseStatuses(today, today.plusDays(60)))
+                .thenThrow(new IllegalStateException("db down"));
+
+        job.runLeaseLifecycle();
+
+        verify(transactionManager).rollback(any());
+        verify(tenantRepository, never()).flagDueLeaseReminders(any());
+        verify(emailService, never()).sendLeaseExpiryReminder(any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Should continue with remaining reminders when one fails to queue")
+    void runLeaseLifecycle_OneReminderFails() {
+        LocalDate today = LocalDate.now();
+        Tenant first = tenant(today.plusDays(30));
+        Tenant second = tenant(today.plusDays(29));
+        when(tenantRepository.transitionLeaseStatuses(today, today.plusDays(60))).thenReturn(List.of());
+        when(tenantRepository.flagDueLeaseReminders(today))
+                .thenReturn(List.of(reminder(first.getId(), 30), reminder(second.getId(), 30)));
+        when(tenantRepository.findAllWithPropertyAndUnitByIdIn(anyCollection())).thenReturn(List.of(first, second));
+        doThrow(new IllegalStateException("executor full")).when(emailService).sendLeaseExpiryReminder(TenantEmailPayload.from(first), 30);
+
+        job.runLeaseLifecycle();
+
+        verify(emailService).sendLeaseExpiryReminder(TenantEmailPayload.from(second), 29);
+    }
+
+    private static Tenant tenant(LocalDate leaseEndDate) {
+        Tenant tenant = new Tenant();
+        tenant.setId(UUID.randomUUID());
+        tenant.setLeaseEndDate(leaseEndDate);
+        return tenant;
+    }
+
+    private static LeaseStatusChange statusChange(String status) {
+        UUID id = UUID.randomUUID();
+        return new LeaseStatusChange() {
+            @Override
+            public UUID getId() {
+                return id;
+            }
+
+            @Override
+            public String getStatus() {
+                return status;
+            }
+        };
+    }
+
+    private static LeaseReminderDue reminder(UUID id, int threshold) {
+        return new LeaseReminderDue() {
+            @Override
+            public UUID getId() {
+                return id;
+            }
+
+            @Override
+            public Integer getThreshold() {
+                return threshold;
+            }
+        };
+    }
+}
@@ -0,0 +1,41 @@
+package com.ultrabms.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for the Prometheus scrape matcher in SecurityConfig.
+ */
+@DisplayName("SecurityConfig Tests")
+class SecurityConfigTest {
+
+    @Test
+    @DisplayName("Should permit Prometheus only on a separate management port")
+    void testPrometheusOnSeparateManagementPort() {
+        RequestMatcher matcher = SecurityConfig.prometheusOnManagementPort(8081, 8080);
+
+        assertThat(matcher.matches(request("/actuator/prometheus", 8081))).isTrue();
+        assertThat(matcher.matches(request("/actuator/prometheus", 8080))).isFalse();
+        assertThat(matcher.matches(request("/actuator/env", 8081))).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should not permit Prometheus when management shares the application port")
+    void testPrometheusWithoutManagementPort() {
+        assertThat(SecurityConfig.prometheusOnManagementPort(null, 8080)
+                .matches(request("/actuator/prometheus", 8080))).isFalse();
+        assertThat(SecurityConfig.prometheusOnManagementPort(8080, 8080)
+                .matches(request("/actuator/prometheus", 8080))).isFalse();
+    }
+
+    private static MockHttpServletRequest request(String path, int localPort) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", path);
+        request.setServletPath(path);
+        request.setLocalPort(localPort);
+        return request;
+    }
+}
@@ -0,0 +1,170 @@
+package com.ultrabms.service;
+
+import com.ultrabms.dto.announcements.AnnouncementBroadcastProgressDto;
+import com.ultrabms.dto.announcements.AnnouncementRecipient;
+import com.ultrabms.entity.Announcement;
+import com.ultrabms.entity.EmailNotification;
+import com.ultrabms.entity.enums.AnnouncementBroadcastStatus;
+import com.ultrabms.entity.enums.AnnouncementStatus;
+import com.ultrabms.entity.enums.EmailNotificationStatus;
+import com.ultrabms.entity.enums.NotificationType;
+import com.ultrabms.entity.enums.TenantStatus;
+import com.ultrabms.repository.AnnouncementRepository;
+import com.ultrabms.repository.EmailNotificationRepository;
+import com.ultrabms.repository.TenantRepository;
+import com.ultrabms.service.impl.AnnouncementBroadcastServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for AnnouncementBroadcastService
+ * Story 9.2: Internal Announcement Management
+ *
+ * Tests chunked email queueing and broadcast progress reporting.
+ */
+@ExtendWith(MockitoExtension.class)
+class AnnouncementBroadcastServiceTest {
+
+    private static final UUID NIL = new UUID(0L, 0L);
+
+    @Mock
+    private AnnouncementRepository announcementRepository;
+
+    @Mock
+    private TenantRepository tenantRepository;
+
+    @Mock
+    private EmailNotificationRepository emailNotificationRepository;
+
+    @Mock
+    private IEmailService emailService;
+
+    @InjectMocks
+    private AnnouncementBroadcastServiceImpl broadcastService;
+
+    private UUID announcementId;
+    private Announcement announcement;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(broadcastService, "chunkSize", 2);
+
+        announcementId = UUID.randomUUID();
+        announcement = Announcement.builder()
+                .announcementNumber("ANN-2025-0001")
+                .title("Water Shutdown")
+                .message("<p>Water will be off on Friday.</p>")
+                .expiresAt(LocalDateTime.now().plusDays(30))
+                .status(AnnouncementStatus.PUBLISHED)
+                .broadcastStatus(AnnouncementBroadcastStatus.QUEUEING)
+                .createdBy(UUID.randomUUID())
+                .build();
+        announcement.setId(announcementId);
+    }
+
+    @Nested
+    @DisplayName("Broadcast Tests")
+    class BroadcastTests {
+
+        @Test
+        @DisplayName("Should render once and queue recipients chunk by chunk using keyset pagination")
+        @SuppressWarnings("unchecked")
+        void broadcast_QueuesChunks() {
+            AnnouncementRecipient first = new AnnouncementRecipient(UUID.randomUUID(), "Ann & Co", "ann@example.com");
+            AnnouncementRecipient second = new AnnouncementRecipient(UUID.randomUUID(), "Bob", "bob@example.com");
+            AnnouncementRecipient third = new AnnouncementRecipient(UUID.randomUUID(), "Cy", "cy@example.com");
+
+            when(announcementRepository.findById(announcementId)).thenReturn(Optional.of(announcement));
+            when(emailService.prepareAnnouncementEmail(announcement)).thenReturn(
+                    new PreparedEmailTemplate(List.of("<p>Dear ", ",</p>"), List.of("tenantName"), true));
+            when(tenantRepository.findAnnouncementRecipients(eq(TenantStatus.ACTIVE), eq(NIL), any(Pageable.class)))
+                    .thenReturn(List.of(first, second));
+            when(tenantRepository.findAnnouncementRecipients(eq(TenantStatus.ACTIVE), eq(second.id()), any(Pageable.class)))
+                    .thenReturn(List.of(third));
+
+            broadcastService.broadcast(announcementId);
+
+            verify(emailService, times(1)).prepareAnnouncementEmail(announcement);
+
+            ArgumentCaptor<List<EmailNotification>> captor = ArgumentCaptor.forClass(List.class);
+            verify(emailNotificationRepository, times(2)).saveAll(captor.capture());
+            List<EmailNotification> firstChunk = captor.getAllValues().get(0);
+            assertThat(firstChunk).hasSize(2);
+            assertThat(firstChunk.get(0).getBody()).isEqualTo("<p>Dear Ann &amp; Co,</p>");
+            assertThat(firstChunk.get(0).getNotificationType()).isEqualTo(NotificationType.ANNOUNCEMENT_PUBLISHED);
+            assertThat(firstChunk.get(0).getEntityId()).isEqualTo(announcementId);
+            assertThat(firstChunk.get(0).getStatus()).isEqualTo(EmailNotificationStatus.PENDING);
+            assertThat(captor.getAllValues().get(1)).extracting(EmailNotification::getRecipientEmail)
+                    .containsExactly("cy@example.com");
+
+            verify(announcementRepository).updateBroadcastProgress(announcementId, AnnouncementBroadcastStatus.QUEUEING, 2);
+            verify(announcementRepository).updateBroadcastProgress(announcementId, AnnouncementBroadcastStatus.QUEUED, 3);
+        }
+
+        @Test
+        @DisplayName("Should mark broadcast as failed when queueing throws")
+        void broadcast_Failure() {
+            when(announcementRepository.findById(announcementId)).thenReturn(Optional.of(announcement));
+            when(emailService.prepareAnnouncementEmail(announcement)).thenReturn(
+                    new PreparedEmailTemplate(List.of("<p>x</p>"), List.of(), true));
+            when(tenantRepository.findAnnouncementRecipients(eq(TenantStatus.ACTIVE), eq(NIL), any(Pageable.class)))
+                    .thenThrow(new RuntimeException("DB down"));
+
+            broadcastService.broadcast(announcementId);
+
+            verify(emailNotificationRepository, never()).saveAll(anyList());
+            verify(announcementRepository).updateBroadcastStatus(announcementId, AnnouncementBroadcastStatus.FAILED);
+        }
+    }
+
+    @Nested
+    @DisplayName("Progress Tests")
+    class ProgressTests {
+
+        @Test
+        @DisplayName("Should report delivery progress from email notification status counts")
+        void getBroadcastProgress_AggregatesStatuses() {
+            announcement.setBroadcastStatus(AnnouncementBroadcastStatus.QUEUED);
+            announcement.setBroadcastRecipients(8);
+            when(announcementRepository.findById(announcementId)).thenReturn(Optional.of(announcement));
+            when(emailNotificationRepository.countByEntityGroupedByStatus("Announcement", announcementId))
+                    .thenReturn(List.of(
+                            new Object[]{EmailNotificationStatus.SENT, 5L},
+                            new Object[]{EmailNotificationStatus.PENDING, 1L},
+                            new Object[]{EmailNotificationStatus.QUEUED, 1L},
+                            new Object[]{EmailNotificationStatus.FAILED, 1L}));
+
+            AnnouncementBroadcastProgressDto progress = broadcastService.getBroadcastProgress(announcementId);
+
+            assertThat(progress.getBroadcastStatus()).isEqualTo(AnnouncementBroadcastStatus.QUEUED);
+            assertThat(progress.getRecipients()).isEqualTo(8);
+            assertThat(progress.getSentCount()).isEqualTo(5);
+            assertThat(progress.getPendingCount()).isEqualTo(2);
+            assertThat(progress.getFailedCount()).isEqualTo(1);
+            assertThat(progress.getPercentSent()).isEqualTo(62.5);
+        }
+    }
+}
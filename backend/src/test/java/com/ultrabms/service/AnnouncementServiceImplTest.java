@@ -2,13 +2,11 @@ package com.ultrabms.service;
 
 import com.ultrabms.dto.announcements.*;
 import com.ultrabms.entity.Announcement;
-import com.ultrabms.entity.Tenant;
+import com.ultrabms.entity.enums.AnnouncementBroadcastStatus;
 import com.ultrabms.entity.enums.AnnouncementStatus;
 import com.ultrabms.entity.enums.AnnouncementTemplate;
-import com.ultrabms.entity.enums.TenantStatus;
 import com.ultrabms.exception.ResourceNotFoundException;
 import com.ultrabms.repository.AnnouncementRepository;
-import com.ultrabms.repository.TenantRepository;
 import com.ultrabms.service.impl.AnnouncementServiceImpl;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -51,10 +49,7 @@ class AnnouncementServiceImplTest {
     private AnnouncementRepository announcementRepository;
 
     @Mock
-    private TenantRepository tenantRepository;
-
-    @Mock
-    private IEmailService emailService;
+    private AnnouncementBroadcastService announcementBroadcastService;
 
     @Mock
     private FileStorageService fileStorageService;
@@ -398,8 +393,6 @@ class AnnouncementServiceImplTest {
             testAnnouncement.setExpiresAt(LocalDateTime.now().plusDays(30));
             when(announcementRepository.findById(announcementId)).thenReturn(Optional.of(testAnnouncement));
             when(announcementRepository.save(any(Announcement.class))).thenReturn(testAnnouncement);
-            when(tenantRepository.findByStatusAndActive(eq(TenantStatus.ACTIVE), eq(true), any(Pageable.class)))
-                    .thenReturn(Page.empty());
 
             // When
             AnnouncementResponseDto result = announcementService.publishAnnouncement(announcementId, userId);
@@ -436,27 +429,19 @@ class AnnouncementServiceImplTest {
         }
 
         @Test
-        @DisplayName("Should send emails to active tenants on publish")
-        void shouldSendEmailsToActiveTenantsOnPublish() {
+        @DisplayName("Should start tenant email broadcast on publish")
+        void shouldStartBroadcastOnPublish() {
             // Given
             testAnnouncement.setExpiresAt(LocalDateTime.now().plusDays(30));
-            Tenant tenant = Tenant.builder()
-                    .email("tenant@example.com")
-                    .firstName("Test")
-                    .lastName("Tenant")
-                    .build();
-            tenant.setId(UUID.randomUUID());
-
             when(announcementRepository.findById(announcementId)).thenReturn(Optional.of(testAnnouncement));
             when(announcementRepository.save(any(Announcement.class))).thenReturn(testAnnouncement);
-            when(tenantRepository.findByStatusAndActive(eq(TenantStatus.ACTIVE), eq(true), any(Pageable.class)))
-                    .thenReturn(new PageImpl<>(List.of(tenant)));
 
             // When
             announcementService.publishAnnouncement(announcementId, userId);
 
             // Then
-            verify(emailService).sendAnnouncementEmail(eq(tenant), any(Announcement.class));
+            verify(announcementBroadcastService).broadcast(announcementId);
+            assertThat(testAnnouncement.getBroadcastStatus()).isEqualTo(AnnouncementBroadcastStatus.QUEUEING);
         }
     }
 
@@ -1,17 +1,20 @@
 package com.ultrabms.service;
 
+import com.ultrabms.audit.AuditLogSink;
+import com.ultrabms.config.PasswordHashingProperties;
 import com.ultrabms.dto.*;
 import com.ultrabms.entity.AuditLog;
 import com.ultrabms.entity.Role;
 import com.ultrabms.entity.User;
 import com.ultrabms.exception.AccountLockedException;
 import com.ultrabms.exception.DuplicateResourceException;
-import com.ultrabms.repository.AuditLogRepository;
 import com.ultrabms.repository.TokenBlacklistRepository;
 import com.ultrabms.repository.UserRepository;
 import com.ultrabms.security.JwtTokenProvider;
 import io.jsonwebtoken.JwtException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import jakarta.servlet.http.HttpServletRequest;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -21,6 +24,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 
@@ -50,7 +54,7 @@ class AuthServiceImplTest {
     private TokenBlacklistRepository tokenBlacklistRepository;
 
     @Mock
-    private AuditLogRepository auditLogRepository;
+    private AuditLogSink auditLogSink;
 
     @Mock
     private JwtTokenProvider jwtTokenProvider;
@@ -70,9 +74,14 @@ class AuthServiceImplTest {
     @Mock
     private HttpServletRequest httpRequest;
 
-    @Spy
     private BCryptPasswordEncoder passwordEncoder = new BCryptPasswordEncoder(12);
 
+    private ThreadPoolTaskExecutor passwordHashExecutor = newPasswordHashExecutor();
+
+    @Spy
+    private PasswordHashingService passwordHashingService = new PasswordHashingService(
+            passwordEncoder, passwordHashExecutor, new PasswordHashingProperties(), new SimpleMeterRegistry());
+
     @InjectMocks
     private AuthServiceImpl authService;
 
@@ -130,6 +139,19 @@ class AuthServiceImplTest {
                 .thenReturn("test-session-id-123");
     }
 
+    @AfterEach
+    void tearDown() {
+        passwordHashExecutor.shutdown();
+    }
+
+    private static ThreadPoolTaskExecutor newPasswordHashExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.initialize();
+        return executor;
+    }
+
     // ==================== REGISTRATION TESTS ====================
 
     @Test
@@ -139,7 +161,6 @@ class AuthServiceImplTest {
         when(userRepository.findByEmail(registerRequest.email())).thenReturn(Optional.empty());
         when(roleRepository.findByName(registerRequest.roleName())).thenReturn(Optional.of(testRole));
         when(userRepository.save(any(User.class))).thenReturn(testUser);
-        when(auditLogRepository.save(any(AuditLog.class))).thenReturn(new AuditLog());
 
         // Act
         UserDto result = authService.register(registerRequest, TEST_IP, TEST_USER_AGENT);
@@ -153,7 +174,7 @@ class AuthServiceImplTest {
 
         verify(userRepository).findByEmail(registerRequest.email());
         verify(userRepository).save(any(User.class));
-        verify(auditLogRepository).save(any(AuditLog.class));
+        verify(auditLogSink).submit(any(AuditLog.class));
     }
 
     @Test
@@ -198,13 +219,12 @@ class AuthServiceImplTest {
         when(roleRepository.findByName(registerRequest.roleName())).thenReturn(Optional.of(testRole));
         when(userRepository.save(any(User.class))).thenReturn(testUser);
 
-        ArgumentCaptor<AuditLog> auditLogCaptor = ArgumentCaptor.forClass(AuditLog.class);
-        when(auditLogRepository.save(auditLogCaptor.capture())).thenReturn(new AuditLog());
-
         // Act
         authService.register(registerRequest, TEST_IP, TEST_USER_AGENT);
 
         // Assert
+        ArgumentCaptor<AuditLog> auditLogCaptor = ArgumentCaptor.forClass(AuditLog.class);
+        verify(auditLogSink).submit(auditLogCaptor.capture());
         AuditLog auditLog = auditLogCaptor.getValue();
         assertThat(auditLog.getUserId()).isEqualTo(testUser.getId());
         assertThat(auditLog.getAction()).isEqualTo("REGISTRATION");
@@ -234,7 +254,7 @@ class AuthServiceImplTest {
         assertThat(response.user().email()).isEqualTo(testUser.getEmail());
 
         verify(loginAttemptService).resetAttempts(loginRequest.email());
-        verify(auditLogRepository).save(any(AuditLog.class));
+        verify(auditLogSink).submit(any(AuditLog.class));
     }
 
     @Test
@@ -283,7 +303,45 @@ class AuthServiceImplTest {
                 .hasMessageContaining("Too many failed login attempts");
 
         verify(userRepository, never()).findByEmail(anyString());
-        verify(auditLogRepository).save(any(AuditLog.class));
+        verify(passwordHashingService, never()).verify(any(), any());
+        verify(auditLogSink).submit(any(AuditLog.class));
+    }
+
+    @Test
+    @DisplayName("Should upgrade a weaker password hash on successful login")
+    void shouldUpgradeWeakerPasswordHashOnLogin() {
+        // Arrange
+        String weakHash = new BCryptPasswordEncoder(4).encode(loginRequest.password());
+        testUser.setPasswordHash(weakHash);
+        when(loginAttemptService.isBlocked(loginRequest.email())).thenReturn(false);
+        when(userRepository.findByEmail(loginRequest.email())).thenReturn(Optional.of(testUser));
+        when(jwtTokenProvider.generateAccessToken(testUser)).thenReturn("access-token");
+        when(jwtTokenProvider.generateRefreshToken(testUser)).thenReturn("refresh-token");
+
+        // Act
+        authService.login(loginRequest, httpRequest);
+
+        // Assert
+        assertThat(testUser.getPasswordHash()).isNotEqualTo(weakHash).startsWith("$2a$12$");
+        assertThat(passwordEncoder.matches(loginRequest.password(), testUser.getPasswordHash())).isTrue();
+        verify(userRepository).save(testUser);
+    }
+
+    @Test
+    @DisplayName("Should keep a password hash that already has the configured strength")
+    void shouldKeepCurrentStrengthPasswordHashOnLogin() {
+        // Arrange
+        String currentHash = testUser.getPasswordHash();
+        when(loginAttemptService.isBlocked(loginRequest.email())).thenReturn(false);
+        when(userRepository.findByEmail(loginRequest.email())).thenReturn(Optional.of(testUser));
+        when(jwtTokenProvider.generateAccessToken(testUser)).thenReturn("access-token");
+        when(jwtTokenProvider.generateRefreshToken(testUser)).thenReturn("refresh-token");
+
+        // Act
+        authService.login(loginRequest, httpRequest);
+
+        // Assert
+        assertThat(testUser.getPasswordHash()).isEqualTo(currentHash);
     }
 
     @Test
@@ -404,13 +462,12 @@ class AuthServiceImplTest {
         when(jwtTokenProvider.generateAccessToken(any())).thenReturn("access-token");
         when(jwtTokenProvider.generateRefreshToken(any())).thenReturn("refresh-token");
 
-        ArgumentCaptor<AuditLog> auditLogCaptor = ArgumentCaptor.forClass(AuditLog.class);
-        when(auditLogRepository.save(auditLogCaptor.capture())).thenReturn(new AuditLog());
-
         // Act
         authService.login(loginRequest, httpRequest);
 
         // Assert
+        ArgumentCaptor<AuditLog> auditLogCaptor = ArgumentCaptor.forClass(AuditLog.class);
+        verify(auditLogSink).submit(auditLogCaptor.capture());
         AuditLog auditLog = auditLogCaptor.getValue();
         assertThat(auditLog.getUserId()).isEqualTo(testUser.getId());
         assertThat(auditLog.getAction()).isEqualTo("LOGIN_SUCCESS");
@@ -441,7 +498,7 @@ class AuthServiceImplTest {
         assertThat(response.accessToken()).isEqualTo("new-access-token");
         assertThat(response.expiresIn()).isEqualTo(3600L);
 
-        verify(auditLogRepository).save(any(AuditLog.class));
+        verify(auditLogSink).submit(any(AuditLog.class));
     }
 
     @Test
@@ -502,13 +559,12 @@ class AuthServiceImplTest {
         when(userRepository.findById(any())).thenReturn(Optional.of(testUser));
         when(jwtTokenProvider.generateAccessToken(any())).thenReturn("new-token");
 
-        ArgumentCaptor<AuditLog> auditLogCaptor = ArgumentCaptor.forClass(AuditLog.class);
-        when(auditLogRepository.save(auditLogCaptor.capture())).thenReturn(new AuditLog());
-
         // Act
         authService.refreshAccessToken(refreshToken, TEST_IP, TEST_USER_AGENT);
 
         // Assert
+        ArgumentCaptor<AuditLog> auditLogCaptor = ArgumentCaptor.forClass(AuditLog.class);
+        verify(auditLogSink).submit(auditLogCaptor.capture());
         AuditLog auditLog = auditLogCaptor.getValue();
         assertThat(auditLog.getUserId()).isEqualTo(testUser.getId());
         assertThat(auditLog.getAction()).isEqualTo("TOKEN_REFRESH");
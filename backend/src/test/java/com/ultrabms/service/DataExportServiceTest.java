@@ -0,0 +1,87 @@
+package com.ultrabms.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ultrabms.dto.common.ExportFormat;
+import com.ultrabms.dto.invoices.InvoiceFilterDto;
+import com.ultrabms.entity.enums.InvoiceStatus;
+import com.ultrabms.repository.ExpenseRepository;
+import com.ultrabms.repository.InvoiceRepository;
+import com.ultrabms.repository.PaymentRepository;
+import com.ultrabms.repository.WorkOrderRepository;
+import com.ultrabms.service.impl.DataExportServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for DataExportService
+ * Tests that export filters match the corresponding list endpoints
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DataExportService Unit Tests")
+class DataExportServiceTest {
+
+    @Mock
+    private InvoiceRepository invoiceRepository;
+
+    @Mock
+    private PaymentRepository paymentRepository;
+
+    @Mock
+    private ExpenseRepository expenseRepository;
+
+    @Mock
+    private WorkOrderRepository workOrderRepository;
+
+    private DataExportServiceImpl dataExportService;
+
+    @BeforeEach
+    void setUp() {
+        dataExportService = new DataExportServiceImpl(
+                invoiceRepository, paymentRepository, expenseRepository, workOrderRepository, new ObjectMapper());
+    }
+
+    @Test
+    @DisplayName("exportInvoices with overdueOnly streams OVERDUE invoices only")
+    void exportInvoices_OverdueOnly_FiltersOverdueStatus() throws Exception {
+        UUID propertyId = UUID.randomUUID();
+        InvoiceFilterDto filterDto = new InvoiceFilterDto(
+                null, null, propertyId, null, null, null,
+                true, 0, 20, "invoiceDate", "DESC"
+        );
+        when(invoiceRepository.streamForExport(any(), any(), any(), any(), any(), any())).thenReturn(Stream.empty());
+
+        dataExportService.exportInvoices(filterDto, ExportFormat.CSV, new ByteArrayOutputStream());
+
+        verify(invoiceRepository).streamForExport(isNull(), eq(InvoiceStatus.OVERDUE), eq(propertyId),
+                isNull(), isNull(), isNull());
+    }
+
+    @Test
+    @DisplayName("exportInvoices without overdueOnly keeps the status filter")
+    void exportInvoices_StatusFilter_PassedThrough() throws Exception {
+        InvoiceFilterDto filterDto = new InvoiceFilterDto(
+                null, InvoiceStatus.PAID, null, null, null, null,
+                false, 0, 20, "invoiceDate", "DESC"
+        );
+        when(invoiceRepository.streamForExport(any(), any(), any(), any(), any(), any())).thenReturn(Stream.empty());
+
+        dataExportService.exportInvoices(filterDto, ExportFormat.CSV, new ByteArrayOutputStream());
+
+        verify(invoiceRepository).streamForExport(isNull(), eq(InvoiceStatus.PAID), isNull(),
+                isNull(), isNull(), isNull());
+    }
+}
@@ -142,8 +142,7 @@ class DocumentServiceTest {
             // Arrange
             Tenant tenant = new Tenant();
             tenant.setId(tenantId);
-            tenant.setFirstName("John");
-            tenant.setLastName("Doe");
+            tenant.setFullName("John Doe");
 
             when(tenantRepository.findById(tenantId)).thenReturn(Optional.of(tenant));
 
@@ -0,0 +1,123 @@
+package com.ultrabms.service;
+
+import com.ultrabms.dto.invoices.InvoiceEmailPayload;
+import com.ultrabms.dto.invoices.PaymentEmailPayload;
+import com.ultrabms.entity.Invoice;
+import com.ultrabms.entity.Payment;
+import com.ultrabms.entity.Property;
+import com.ultrabms.entity.Tenant;
+import com.ultrabms.entity.Unit;
+import com.ultrabms.entity.enums.PaymentMethod;
+import jakarta.mail.Session;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.thymeleaf.context.Context;
+import org.thymeleaf.spring6.SpringTemplateEngine;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for EmailService invoice and payment notifications.
+ * Verifies emails are rendered purely from detached payload snapshots.
+ *
+ * Story 6.1: Rent Invoicing and Payment Management
+ */
+@ExtendWith(MockitoExtension.class)
+class EmailServiceInvoiceTest {
+
+    @Mock
+    private JavaMailSender mailSender;
+
+    @Mock
+    private SpringTemplateEngine templateEngine;
+
+    @InjectMocks
+    private EmailService emailService;
+
+    private Invoice invoice;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(emailService, "frontendUrl", "http://localhost:3000");
+        ReflectionTestUtils.setField(emailService, "supportEmail", "support@ultrabms.com");
+
+        Property property = Property.builder().name("Sunset Apartments").build();
+        Unit unit = Unit.builder().unitNumber("101").property(property).build();
+        Tenant tenant = Tenant.builder()
+                .fullName("John Doe")
+                .email("john.doe@example.com")
+                .build();
+        ReflectionTestUtils.setField(tenant, "id", UUID.randomUUID());
+
+        invoice = Invoice.builder()
+                .invoiceNumber("INV-2025-0001")
+                .tenant(tenant)
+                .property(property)
+                .unit(unit)
+                .invoiceDate(LocalDate.of(2025, 11, 1))
+                .dueDate(LocalDate.of(2025, 11, 5))
+                .baseRent(new BigDecimal("5000.00"))
+                .additionalCharges(List.of(new Invoice.AdditionalCharge("Cleaning", new BigDecimal("150.00"))))
+                .totalAmount(new BigDecimal("5150.00"))
+                .balanceAmount(new BigDecimal("1150.00"))
+                .build();
+        ReflectionTestUtils.setField(invoice, "id", UUID.randomUUID());
+    }
+
+    @Test
+    void testInvoiceEmailPayload_ResolvesAssociations() {
+        InvoiceEmailPayload payload = InvoiceEmailPayload.from(invoice);
+
+        assertThat(payload.tenantName()).isEqualTo("John Doe");
+        assertThat(payload.tenantEmail()).isEqualTo("john.doe@example.com");
+        assertThat(payload.propertyName()).isEqualTo("Sunset Apartments");
+        assertThat(payload.unitNumber()).isEqualTo("101");
+        assertThat(payload.additionalCharges())
+                .containsExactly(new InvoiceEmailPayload.ChargeLine("Cleaning", new BigDecimal("150.00")));
+    }
+
+    @Test
+    void testSendPaymentReceivedEmail_RendersFromPayloadOnly() {
+        Payment payment = Payment.builder()
+                .paymentNumber("PAY-2025-0001")
+                .invoice(invoice)
+                .amount(new BigDecimal("4000.00"))
+                .paymentMethod(PaymentMethod.BANK_TRANSFER)
+                .paymentDate(LocalDate.of(2025, 11, 3))
+                .build();
+        PaymentEmailPayload payload = PaymentEmailPayload.from(payment);
+
+        ArgumentCaptor<Context> contextCaptor = ArgumentCaptor.forClass(Context.class);
+        when(templateEngine.process(eq("email/payment-received"), contextCaptor.capture()))
+                .thenReturn("<html>HTML Content</html>");
+        when(templateEngine.process(eq("email/payment-received.txt"), any(Context.class)))
+                .thenReturn("Text Content");
+        when(mailSender.createMimeMessage()).thenReturn(new MimeMessage((Session) null));
+
+        emailService.sendPaymentReceivedEmail(payload, new byte[]{1});
+
+        Context context = contextCaptor.getValue();
+        assertThat(context.getVariable("tenantName")).isEqualTo("John Doe");
+        assertThat(context.getVariable("paymentMethod")).isEqualTo("BANK TRANSFER");
+        assertThat(context.getVariable("previousBalance")).isEqualTo("AED 5,150.00");
+        assertThat(context.getVariable("newBalance")).isEqualTo("AED 1,150.00");
+        verify(mailSender).send(any(MimeMessage.class));
+    }
+}
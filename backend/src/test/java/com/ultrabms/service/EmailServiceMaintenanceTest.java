@@ -1,5 +1,7 @@
 package com.ultrabms.service;
 
+import com.ultrabms.dto.maintenance.MaintenanceRequestEmailPayload;
+import com.ultrabms.dto.tenant.TenantEmailPayload;
 import com.ultrabms.entity.MaintenanceRequest;
 import com.ultrabms.entity.Property;
 import com.ultrabms.entity.Tenant;
@@ -78,8 +80,7 @@ class EmailServiceMaintenanceTest {
         // Create test tenant
         testTenant = Tenant.builder()
                 .userId(UUID.randomUUID())
-                .firstName("John")
-                .lastName("Doe")
+                .fullName("John Doe")
                 .email("john.doe@example.com")
                 .phone("+971-50-123-4567")
                 .property(testProperty)
@@ -119,7 +120,8 @@ class EmailServiceMaintenanceTest {
         when(mailSender.createMimeMessage()).thenReturn(mimeMessage);
 
         // Act
-        emailService.sendMaintenanceRequestConfirmation(testTenant, testRequest);
+        emailService.sendMaintenanceRequestConfirmation(
+                TenantEmailPayload.from(testTenant), MaintenanceRequestEmailPayload.from(testRequest));
 
         // Wait for async execution
         try {
@@ -146,7 +148,8 @@ class EmailServiceMaintenanceTest {
         when(mailSender.createMimeMessage()).thenReturn(mimeMessage);
 
         // Act
-        emailService.sendMaintenanceRequestConfirmation(testTenant, testRequest);
+        emailService.sendMaintenanceRequestConfirmation(
+                TenantEmailPayload.from(testTenant), MaintenanceRequestEmailPayload.from(testRequest));
 
         // Wait for async execution
         try {
@@ -175,7 +178,8 @@ class EmailServiceMaintenanceTest {
         when(mailSender.createMimeMessage()).thenReturn(mimeMessage);
 
         // Act
-        emailService.sendMaintenanceRequestNotification(testTenant, testRequest);
+        emailService.sendMaintenanceRequestNotification(
+                TenantEmailPayload.from(testTenant), MaintenanceRequestEmailPayload.from(testRequest));
 
         // Wait for async execution
         try {
@@ -202,7 +206,8 @@ class EmailServiceMaintenanceTest {
         when(mailSender.createMimeMessage()).thenReturn(mimeMessage);
 
         // Act
-        emailService.sendMaintenanceRequestNotification(testTenant, testRequest);
+        emailService.sendMaintenanceRequestNotification(
+                TenantEmailPayload.from(testTenant), MaintenanceRequestEmailPayload.from(testRequest));
 
         // Wait for async execution
         try {
@@ -233,7 +238,8 @@ class EmailServiceMaintenanceTest {
         when(mailSender.createMimeMessage()).thenReturn(mimeMessage);
 
         // Act
-        emailService.sendMaintenanceRequestStatusChange(testTenant, testRequest, "ABC Plumbing", "+971-50-999-8888");
+        emailService.sendMaintenanceRequestStatusChange(
+                TenantEmailPayload.from(testTenant), MaintenanceRequestEmailPayload.from(testRequest), "ABC Plumbing", "+971-50-999-8888");
 
         // Wait for async execution
         try {
@@ -265,7 +271,8 @@ class EmailServiceMaintenanceTest {
         when(mailSender.createMimeMessage()).thenReturn(mimeMessage);
 
         // Act
-        emailService.sendMaintenanceRequestStatusChange(testTenant, testRequest, null, null);
+        emailService.sendMaintenanceRequestStatusChange(
+                TenantEmailPayload.from(testTenant), MaintenanceRequestEmailPayload.from(testRequest), null, null);
 
         // Wait for async execution
         try {
@@ -294,7 +301,8 @@ class EmailServiceMaintenanceTest {
         when(mailSender.createMimeMessage()).thenReturn(mimeMessage);
 
         // Act
-        emailService.sendMaintenanceRequestStatusChange(testTenant, testRequest, "ABC Plumbing", "+971-50-999-8888");
+        emailService.sendMaintenanceRequestStatusChange(
+                TenantEmailPayload.from(testTenant), MaintenanceRequestEmailPayload.from(testRequest), "ABC Plumbing", "+971-50-999-8888");
 
         // Wait for async execution
         try {
@@ -322,7 +330,8 @@ class EmailServiceMaintenanceTest {
         when(mailSender.createMimeMessage()).thenReturn(mimeMessage);
 
         // Act
-        emailService.sendMaintenanceRequestStatusChange(testTenant, testRequest, null, null);
+        emailService.sendMaintenanceRequestStatusChange(
+                TenantEmailPayload.from(testTenant), MaintenanceRequestEmailPayload.from(testRequest), null, null);
 
         // Wait for async execution
         try {
@@ -345,7 +354,8 @@ class EmailServiceMaintenanceTest {
 
         // Act - should not throw exception
         assertDoesNotThrow(() -> {
-            emailService.sendMaintenanceRequestConfirmation(testTenant, testRequest);
+            emailService.sendMaintenanceRequestConfirmation(
+                    TenantEmailPayload.from(testTenant), MaintenanceRequestEmailPayload.from(testRequest));
             Thread.sleep(100); // Wait for async
         });
 
@@ -362,7 +372,8 @@ class EmailServiceMaintenanceTest {
 
         // Act - should not throw exception
         assertDoesNotThrow(() -> {
-            emailService.sendMaintenanceRequestNotification(testTenant, testRequest);
+            emailService.sendMaintenanceRequestNotification(
+                    TenantEmailPayload.from(testTenant), MaintenanceRequestEmailPayload.from(testRequest));
             Thread.sleep(100); // Wait for async
         });
 
@@ -384,7 +395,8 @@ class EmailServiceMaintenanceTest {
         when(mailSender.createMimeMessage()).thenReturn(mimeMessage);
 
         // Act
-        emailService.sendMaintenanceRequestStatusChange(testTenant, testRequest, "ABC Plumbing", null);
+        emailService.sendMaintenanceRequestStatusChange(
+                TenantEmailPayload.from(testTenant), MaintenanceRequestEmailPayload.from(testRequest), "ABC Plumbing", null);
 
         // Wait for async execution
         try {
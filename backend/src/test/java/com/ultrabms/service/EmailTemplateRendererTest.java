@@ -0,0 +1,90 @@
+package com.ultrabms.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.thymeleaf.spring6.SpringTemplateEngine;
+import org.thymeleaf.templatemode.TemplateMode;
+import org.thymeleaf.templateresolver.TemplateResolution;
+import org.thymeleaf.templateresolver.ClassLoaderTemplateResolver;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for EmailTemplateRenderer batch rendering against the real email templates.
+ */
+class EmailTemplateRendererTest {
+
+    private ClassLoaderTemplateResolver resolver;
+    private SpringTemplateEngine templateEngine;
+    private EmailTemplateRenderer renderer;
+
+    @BeforeEach
+    void setUp() {
+        // Same setup as Spring Boot's default resolver: .txt names keep their extension
+        // and resolve in TEXT mode, everything else gets .html in HTML mode
+        resolver = new ClassLoaderTemplateResolver();
+        resolver.setPrefix("templates/");
+        resolver.setSuffix(".html");
+        resolver.setTemplateMode(TemplateMode.HTML);
+        resolver.setCharacterEncoding("UTF-8");
+        resolver.setCheckExistence(true);
+
+        templateEngine = new SpringTemplateEngine();
+        templateEngine.setTemplateResolver(resolver);
+        renderer = new EmailTemplateRenderer(templateEngine);
+    }
+
+    @Test
+    @DisplayName("Should produce the same HTML as a full render for every recipient")
+    void renderBatch_MatchesFullRender() {
+        Map<String, Object> shared = new HashMap<>();
+        shared.put("announcementTitle", "Water Shutdown");
+        shared.put("announcementMessage", "<p>Water will be off on Friday.</p>");
+        shared.put("publishedDate", "01 Dec 2025");
+        shared.put("portalUrl", "http://localhost:3000/tenant/announcements/1");
+        shared.put("hasAttachment", false);
+        shared.put("supportEmail", "support@ultrabms.com");
+
+        List<String> batch = renderer.renderBatch("email/announcement-notification", shared, List.of("tenantName"),
+                List.of(Map.of("tenantName", "Ann & Co"), Map.of("tenantName", "Bob")));
+
+        for (int i = 0; i < batch.size(); i++) {
+            Map<String, Object> variables = new HashMap<>(shared);
+            variables.put("tenantName", i == 0 ? "Ann & Co" : "Bob");
+            assertThat(batch.get(i)).isEqualTo(renderer.render("email/announcement-notification", variables));
+        }
+        assertThat(batch.get(0)).contains("Ann &amp; Co").doesNotContain("{{rcpt:");
+    }
+
+    @Test
+    @DisplayName("Should resolve plain text templates and fill fields without HTML escaping")
+    void prepare_TextTemplate() {
+        Map<String, Object> shared = new HashMap<>();
+        shared.put("resetLink", "http://localhost:3000/reset-password?token=abc");
+        shared.put("expirationMinutes", 15);
+        shared.put("supportEmail", "support@ultrabms.com");
+
+        PreparedEmailTemplate prepared = renderer.prepare("email/password-reset-email.txt", shared, List.of("firstName"));
+
+        assertThat(prepared.getFields()).containsOnly("firstName");
+        assertThat(prepared.render(Map.of("firstName", "Ann & Co"))).contains("Hi Ann & Co,");    }
+
+    @Test
+    @DisplayName("Should resolve .txt names as-is in TEXT mode with the default resolver setup")
+    void defaultResolver_TextTemplatesKeepExtension() {
+        TemplateResolution text = resolver.resolveTemplate(
+                templateEngine.getConfiguration(), null, "email/password-reset-email.txt", null);
+        TemplateResolution html = resolver.resolveTemplate(
+                templateEngine.getConfiguration(), null, "email/announcement-notification", null);
+
+        assertThat(text.getTemplateMode()).isEqualTo(TemplateMode.TEXT);
+        assertThat(text.getTemplateResource().getDescription()).endsWith("email/password-reset-email.txt");
+        assertThat(html.getTemplateMode()).isEqualTo(TemplateMode.HTML);
+        assertThat(html.getTemplateResource().getDescription()).endsWith("email/announcement-notification.html");
+    }
+}
@@ -17,6 +17,7 @@ import com.ultrabms.exception.ValidationException;
 import com.ultrabms.mapper.ExpenseMapper;
 import com.ultrabms.repository.ExpenseRepository;
 import com.ultrabms.repository.PropertyRepository;
+import com.ultrabms.repository.SummaryAggregateRepository;
 import com.ultrabms.repository.VendorRepository;
 import com.ultrabms.repository.WorkOrderRepository;
 import com.ultrabms.service.impl.ExpenseServiceImpl;
@@ -62,6 +63,9 @@ class ExpenseServiceTest {
     @Mock
     private ExpenseRepository expenseRepository;
 
+    @Mock
+    private SummaryAggregateRepository summaryAggregateRepository;
+
     @Mock
     private VendorRepository vendorRepository;
 
@@ -693,16 +697,13 @@ class ExpenseServiceTest {
             LocalDate fromDate = LocalDate.now().minusMonths(12);
             LocalDate toDate = LocalDate.now();
 
-            when(expenseRepository.getTotalAmountInPeriod(fromDate, toDate))
-                    .thenReturn(new BigDecimal("10000.00"));
-            when(expenseRepository.getTotalPendingAmount())
-                    .thenReturn(new BigDecimal("3000.00"));
-            when(expenseRepository.getTotalPaidAmountInPeriod(fromDate, toDate))
-                    .thenReturn(new BigDecimal("7000.00"));
-            when(expenseRepository.countByPaymentStatus(ExpensePaymentStatus.PENDING))
-                    .thenReturn(5L);
-            when(expenseRepository.countByPaymentStatus(ExpensePaymentStatus.PAID))
-                    .thenReturn(15L);
+            when(summaryAggregateRepository.getExpenseTotals(fromDate, toDate))
+                    .thenReturn(new SummaryAggregateRepository.ExpenseTotals(
+                            new BigDecimal("10000.00"),
+                            new BigDecimal("3000.00"),
+                            new BigDecimal("7000.00"),
+                            5L,
+                            15L));
             when(expenseRepository.getCategoryBreakdown(fromDate, toDate))
                     .thenReturn(List.of());
             when(expenseRepository.getMonthlyTrend(fromDate, toDate))
@@ -722,7 +723,7 @@ class ExpenseServiceTest {
             assertThat(result.pendingCount()).isEqualTo(5L);
             assertThat(result.paidCount()).isEqualTo(15L);
 
-            verify(expenseRepository).getTotalAmountInPeriod(fromDate, toDate);
+            verify(summaryAggregateRepository).getExpenseTotals(fromDate, toDate);
             verify(expenseRepository).getCategoryBreakdown(fromDate, toDate);
             verify(expenseRepository).getMonthlyTrend(fromDate, toDate);
         }
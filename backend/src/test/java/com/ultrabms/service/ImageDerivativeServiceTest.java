@@ -0,0 +1,143 @@
+package com.ultrabms.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ultrabms.repository.PropertyImageRepository;
+import com.ultrabms.repository.TenantCheckoutRepository;
+import com.ultrabms.repository.WorkOrderRepository;
+import com.ultrabms.service.impl.ImageDerivativeServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for ImageDerivativeService
+ *
+ * Tests variant generation, key derivation and recording of variant keys.
+ */
+@ExtendWith(MockitoExtension.class)
+class ImageDerivativeServiceTest {
+
+    private static final String ORIGINAL_KEY = "work-orders/1/after/photo.png";
+
+    @Mock
+    private S3Service s3Service;
+
+    @Mock
+    private WorkOrderRepository workOrderRepository;
+
+    @Mock
+    private TenantCheckoutRepository checkoutRepository;
+
+    @Mock
+    private PropertyImageRepository propertyImageRepository;
+
+    private ImageDerivativeService imageDerivativeService;
+
+    @BeforeEach
+    void setUp() {
+        // Run tasks inline; no transaction is active so they are submitted immediately
+        imageDerivativeService = new ImageDerivativeServiceImpl(
+                s3Service, workOrderRepository, checkoutRepository, propertyImageRepository,
+                new ObjectMapper(), Runnable::run);
+    }
+
+    @Test
+    @DisplayName("Should upload thumbnail and medium JPEG variants scaled to fit")
+    void createDerivatives_ScalesAndUploads() throws Exception {
+        when(s3Service.downloadFile(ORIGINAL_KEY)).thenReturn(png(4000, 3000));
+
+        Map<String, String> variants = imageDerivativeService.createDerivatives(ORIGINAL_KEY);
+
+        assertThat(variants).containsExactly(
+                Map.entry(ImageDerivativeService.THUMBNAIL, "work-orders/1/after/photo_thumbnail.jpg"),
+                Map.entry(ImageDerivativeService.MEDIUM, "work-orders/1/after/photo_medium.jpg"));
+
+        ArgumentCaptor<byte[]> thumbnail = ArgumentCaptor.forClass(byte[].class);
+        verify(s3Service).putObject(eq("work-orders/1/after/photo_thumbnail.jpg"), thumbnail.capture(), eq("image/jpeg"));
+        BufferedImage thumbnailImage = ImageIO.read(new ByteArrayInputStream(thumbnail.getValue()));
+        assertThat(thumbnailImage.getWidth()).isEqualTo(320);
+        assertThat(thumbnailImage.getHeight()).isEqualTo(240);
+
+        ArgumentCaptor<byte[]> medium = ArgumentCaptor.forClass(byte[].class);
+        verify(s3Service).putObject(eq("work-orders/1/after/photo_medium.jpg"), medium.capture(), eq("image/jpeg"));
+        BufferedImage mediumImage = ImageIO.read(new ByteArrayInputStream(medium.getValue()));
+        assertThat(mediumImage.getWidth()).isEqualTo(1280);
+        assertThat(mediumImage.getHeight()).isEqualTo(960);
+    }
+
+    @Test
+    @DisplayName("Should skip objects that are not images")
+    void createDerivatives_NonImage() {
+        when(s3Service.downloadFile("docs/report.pdf")).thenReturn("%PDF-1.7".getBytes(StandardCharsets.US_ASCII));
+
+        assertThat(imageDerivativeService.createDerivatives("docs/report.pdf")).isEmpty();
+        verify(s3Service, never()).putObject(anyString(), any(), anyString());
+    }
+
+    @Test
+    @DisplayName("Should merge variant keys of all generated photos into the work order in one update")
+    void scheduleWorkOrderPhotos_MergesVariants() throws Exception {
+        UUID workOrderId = UUID.randomUUID();
+        when(s3Service.downloadFile(ORIGINAL_KEY)).thenReturn(png(800, 600));
+        when(s3Service.downloadFile("work-orders/1/after/broken.jpg")).thenReturn(new byte[]{1, 2, 3});
+
+        imageDerivativeService.scheduleWorkOrderPhotos(workOrderId, List.of(ORIGINAL_KEY, "work-orders/1/after/broken.jpg"));
+
+        verify(workOrderRepository, times(1)).mergePhotoVariants(workOrderId,
+                "{\"work-orders/1/after/photo.png\":{\"thumbnail\":\"work-orders/1/after/photo_thumbnail.jpg\","
+                        + "\"medium\":\"work-orders/1/after/photo_medium.jpg\"}}");
+    }
+
+    @Test
+    @DisplayName("Should record variant paths on the property image")
+    void schedulePropertyImage_UpdatesPaths() throws Exception {
+        UUID imageId = UUID.randomUUID();
+        when(s3Service.downloadFile("properties/1/images/a.png")).thenReturn(png(200, 100));
+
+        imageDerivativeService.schedulePropertyImage(imageId, "properties/1/images/a.png");
+
+        verify(propertyImageRepository).updateVariantPaths(
+                imageId, "properties/1/images/a_thumbnail.jpg", "properties/1/images/a_medium.jpg");
+    }
+
+    @Test
+    @DisplayName("Should resolve thumbnails and fall back to originals without variants")
+    void thumbnailsOf_FallsBackToOriginal() {
+        Map<String, Map<String, String>> variants = Map.of(
+                "a.jpg", Map.of(ImageDerivativeService.THUMBNAIL, "a_thumbnail.jpg"));
+
+        assertThat(ImageDerivativeService.thumbnailsOf(List.of("a.jpg", "b.jpg"), variants))
+                .containsExactly("a_thumbnail.jpg", "b.jpg");
+        assertThat(ImageDerivativeService.thumbnailsOf(List.of("a.jpg"), null)).containsExactly("a.jpg");
+        assertThat(ImageDerivativeService.variantKey("dir.v2/file", ImageDerivativeService.MEDIUM))
+                .isEqualTo("dir.v2/file_medium.jpg");
+    }
+
+    private static byte[] png(int width, int height) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB), "png", out);
+        return out.toByteArray();
+    }
+}
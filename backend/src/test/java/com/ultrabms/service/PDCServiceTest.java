@@ -14,6 +14,7 @@ import com.ultrabms.exception.ValidationException;
 import com.ultrabms.mapper.PDCMapper;
 import com.ultrabms.repository.InvoiceRepository;
 import com.ultrabms.repository.PDCRepository;
+import com.ultrabms.repository.SummaryAggregateRepository;
 import com.ultrabms.repository.TenantRepository;
 import com.ultrabms.service.impl.PDCServiceImpl;
 import org.junit.jupiter.api.BeforeEach;
@@ -41,6 +42,7 @@ import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
@@ -56,6 +58,9 @@ class PDCServiceTest {
     @Mock
     private PDCRepository pdcRepository;
 
+    @Mock
+    private SummaryAggregateRepository summaryAggregateRepository;
+
     @Mock
     private TenantRepository tenantRepository;
 
@@ -98,8 +103,7 @@ class PDCServiceTest {
         // Create test tenant
         tenant = new Tenant();
         tenant.setId(tenantId);
-        tenant.setFirstName("John");
-        tenant.setLastName("Doe");
+        tenant.setFullName("John Doe");
         tenant.setEmail("john.doe@test.com");
 
         // Create test invoice
@@ -854,17 +858,18 @@ class PDCServiceTest {
         @DisplayName("Should get dashboard with summary and lists")
         void getDashboard_Success() {
             // Arrange
-            when(pdcRepository.countByStatus(PDCStatus.RECEIVED)).thenReturn(10L);
-            when(pdcRepository.countPDCsDueThisWeek(any(LocalDate.class), any(LocalDate.class))).thenReturn(5L);
-            when(pdcRepository.getTotalValueDueThisWeek(any(LocalDate.class), any(LocalDate.class)))
-                    .thenReturn(new BigDecimal("25000.00"));
-            when(pdcRepository.countDepositedPDCsInPeriod(any(LocalDate.class), any(LocalDate.class))).thenReturn(3L);
-            when(pdcRepository.getTotalValueDepositedInPeriod(any(LocalDate.class), any(LocalDate.class)))
-                    .thenReturn(new BigDecimal("15000.00"));
-            when(pdcRepository.getTotalOutstandingValue()).thenReturn(new BigDecimal("100000.00"));
-            when(pdcRepository.countRecentlyBouncedPDCs(any(LocalDate.class))).thenReturn(2L);
-            when(pdcRepository.countByStatus(PDCStatus.CLEARED)).thenReturn(20L);
-            when(pdcRepository.countByStatus(PDCStatus.BOUNCED)).thenReturn(2L);
+            when(summaryAggregateRepository.getPdcDashboardTotals(
+                    any(LocalDate.class), any(LocalDate.class), any(LocalDate.class), any(LocalDate.class)))
+                    .thenReturn(new SummaryAggregateRepository.PdcDashboardTotals(
+                            10L,
+                            5L,
+                            new BigDecimal("25000.00"),
+                            3L,
+                            new BigDecimal("15000.00"),
+                            new BigDecimal("100000.00"),
+                            2L,
+                            20L,
+                            2L));
 
             when(pdcRepository.findUpcomingPDCsThisWeek(any(LocalDate.class), any(LocalDate.class), any(Pageable.class)))
                     .thenReturn(new PageImpl<>(List.of()));
@@ -905,11 +910,8 @@ class PDCServiceTest {
         void getTenantPDCHistory_Success() {
             // Arrange
             when(tenantRepository.findById(tenantId)).thenReturn(Optional.of(tenant));
-            when(pdcRepository.countByTenantId(tenantId)).thenReturn(10L);
-            when(pdcRepository.countClearedPDCsByTenant(tenantId)).thenReturn(6L);
-            when(pdcRepository.countBouncedPDCsByTenant(tenantId)).thenReturn(1L);
-            when(pdcRepository.countPendingPDCsByTenant(tenantId)).thenReturn(3L);
-            when(pdcRepository.calculateBounceRateByTenant(tenantId)).thenReturn(14.3);
+            when(summaryAggregateRepository.getTenantPdcTotals(tenantId))
+                    .thenReturn(new SummaryAggregateRepository.TenantPdcTotals(10L, 6L, 1L, 3L));
             when(pdcRepository.findByTenantId(eq(tenantId), any(Pageable.class)))
                     .thenReturn(new PageImpl<>(List.of(pdc)));
             when(pdcMapper.toListDtoList(anyList())).thenReturn(List.of(listDto));
@@ -924,7 +926,7 @@ class PDCServiceTest {
             assertThat(result.clearedPDCs()).isEqualTo(6L);
             assertThat(result.bouncedPDCs()).isEqualTo(1L);
             assertThat(result.pendingPDCs()).isEqualTo(3L);
-            assertThat(result.bounceRatePercent()).isEqualTo(14.3);
+            assertThat(result.bounceRatePercent()).isCloseTo(14.29, within(0.01));
         }
 
         @Test
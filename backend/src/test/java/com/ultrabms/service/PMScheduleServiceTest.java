@@ -0,0 +1,122 @@
+package com.ultrabms.service;
+
+import com.ultrabms.entity.PMSchedule;
+import com.ultrabms.entity.Property;
+import com.ultrabms.entity.WorkOrder;
+import com.ultrabms.entity.enums.RecurrenceType;
+import com.ultrabms.entity.enums.WorkOrderCategory;
+import com.ultrabms.repository.PMScheduleRepository;
+import com.ultrabms.repository.PropertyRepository;
+import com.ultrabms.repository.UserRepository;
+import com.ultrabms.repository.WorkOrderRepository;
+import com.ultrabms.service.impl.PMScheduleServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for PMScheduleService
+ * Story 4.2: Preventive Maintenance Scheduling
+ * Tests batch generation of work orders from due schedules
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PMScheduleService Unit Tests")
+class PMScheduleServiceTest {
+
+    @Mock
+    private PMScheduleRepository pmScheduleRepository;
+
+    @Mock
+    private WorkOrderRepository workOrderRepository;
+
+    @Mock
+    private PropertyRepository propertyRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private WorkOrderService workOrderService;
+
+    @InjectMocks
+    private PMScheduleServiceImpl pmScheduleService;
+
+    /** Highest sequence persisted so far, as read by number allocation */
+    private final AtomicInteger persistedSequence = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        // Allocation continues from the latest persisted number, like WorkOrderServiceImpl
+        when(workOrderService.allocateWorkOrderNumbers(anyInt())).thenAnswer(invocation -> {
+            int count = invocation.getArgument(0);
+            List<String> numbers = new ArrayList<>(count);
+            for (int i = 1; i <= count; i++) {
+                numbers.add(String.format("WO-2026-%04d", persistedSequence.get() + i));
+            }
+            return numbers;
+        });
+        when(workOrderRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<WorkOrder> saved = invocation.getArgument(0);
+            persistedSequence.addAndGet(saved.size());
+            return saved;
+        });
+    }
+
+    @Test
+    @DisplayName("processScheduledGenerations assigns distinct numbers across due schedules")
+    void processScheduledGenerations_multipleSchedules_distinctNumbers() {
+        PMSchedule first = schedule("HVAC Service");
+        PMSchedule second = schedule("Fire Alarm Test");
+        Property property = Property.builder().name("Tower A").build();
+        property.setId(UUID.randomUUID());
+
+        when(pmScheduleRepository.findDueForGeneration(any(LocalDate.class))).thenReturn(List.of(first, second));
+        when(propertyRepository.findById(any(UUID.class))).thenReturn(Optional.of(property));
+        when(workOrderRepository.findPropertyIdsByPmScheduleIdAndPmRunDate(any(UUID.class), any(LocalDate.class)))
+                .thenReturn(List.of());
+
+        int generated = pmScheduleService.processScheduledGenerations();
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<WorkOrder>> captor = ArgumentCaptor.forClass(List.class);
+        verify(workOrderRepository).saveAll(captor.capture());
+        List<String> numbers = captor.getValue().stream().map(WorkOrder::getWorkOrderNumber).toList();
+
+        assertThat(generated).isEqualTo(2);
+        assertThat(numbers).containsExactly("WO-2026-0001", "WO-2026-0002");
+    }
+
+    private PMSchedule schedule(String name) {
+        PMSchedule schedule = PMSchedule.builder()
+                .scheduleName(name)
+                .propertyId(UUID.randomUUID())
+                .createdBy(UUID.randomUUID())
+                .category(WorkOrderCategory.HVAC)
+                .description(name + " description")
+                .recurrenceType(RecurrenceType.MONTHLY)
+                .startDate(LocalDate.now())
+                .nextGenerationDate(LocalDate.now())
+                .build();
+        schedule.setId(UUID.randomUUID());
+        return schedule;
+    }
+}
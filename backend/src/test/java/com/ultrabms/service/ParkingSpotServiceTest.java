@@ -0,0 +1,142 @@
+package com.ultrabms.service;
+
+import com.ultrabms.dto.parking.BulkDeleteRequest;
+import com.ultrabms.dto.parking.BulkOperationResponse;
+import com.ultrabms.dto.parking.BulkStatusChangeRequest;
+import com.ultrabms.dto.parking.ParkingSpotCountsResponse;
+import com.ultrabms.entity.enums.ParkingSpotStatus;
+import com.ultrabms.exception.ValidationException;
+import com.ultrabms.repository.ParkingSpotRepository;
+import com.ultrabms.repository.PropertyRepository;
+import com.ultrabms.repository.TenantRepository;
+import com.ultrabms.service.impl.ParkingSpotServiceImpl;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for ParkingSpotService
+ * Story 3.8: Parking Spot Inventory Management
+ *
+ * Tests set-based bulk operations and grouped status counts.
+ */
+@ExtendWith(MockitoExtension.class)
+class ParkingSpotServiceTest {
+
+    @Mock
+    private ParkingSpotRepository parkingSpotRepository;
+
+    @Mock
+    private PropertyRepository propertyRepository;
+
+    @Mock
+    private TenantRepository tenantRepository;
+
+    @InjectMocks
+    private ParkingSpotServiceImpl parkingSpotService;
+
+    @Nested
+    @DisplayName("Bulk Operation Tests")
+    class BulkOperationTests {
+
+        @Test
+        @DisplayName("Should soft delete in one update and report untouched IDs as failed")
+        void bulkDelete_ReportsSkippedIds() {
+            UUID deleted = UUID.randomUUID();
+            UUID assigned = UUID.randomUUID();
+            UUID missing = UUID.randomUUID();
+            BulkDeleteRequest request = BulkDeleteRequest.builder()
+                    .ids(List.of(deleted, assigned, missing, deleted))
+                    .build();
+            when(parkingSpotRepository.softDeleteUnassigned(request.getIds())).thenReturn(List.of(deleted));
+
+            BulkOperationResponse response = parkingSpotService.bulkDelete(request);
+
+            assertThat(response.getSuccessCount()).isEqualTo(1);
+            assertThat(response.getFailedIds()).containsExactly(assigned, missing);
+            assertThat(response.getMessage()).isEqualTo("Deleted 1 parking spot(s). 2 skipped (assigned or not found)");
+        }
+
+        @Test
+        @DisplayName("Should change status in one update with the enum name")
+        void bulkChangeStatus_AllProcessed() {
+            UUID first = UUID.randomUUID();
+            UUID second = UUID.randomUUID();
+            BulkStatusChangeRequest request = BulkStatusChangeRequest.builder()
+                    .ids(List.of(first, second))
+                    .status(ParkingSpotStatus.UNDER_MAINTENANCE)
+                    .build();
+            when(parkingSpotRepository.changeStatusOfUnassigned(request.getIds(), "UNDER_MAINTENANCE"))
+                    .thenReturn(List.of(second, first));
+
+            BulkOperationResponse response = parkingSpotService.bulkChangeStatus(request);
+
+            assertThat(response.getSuccessCount()).isEqualTo(2);
+            assertThat(response.getFailedIds()).isEmpty();
+            assertThat(response.getMessage()).isEqualTo("Successfully changed status for 2 parking spot(s)");
+        }
+
+        @Test
+        @DisplayName("Should reject bulk status change to ASSIGNED without touching the database")
+        void bulkChangeStatus_AssignedRejected() {
+            BulkStatusChangeRequest request = BulkStatusChangeRequest.builder()
+                    .ids(List.of(UUID.randomUUID()))
+                    .status(ParkingSpotStatus.ASSIGNED)
+                    .build();
+
+            assertThatThrownBy(() -> parkingSpotService.bulkChangeStatus(request))
+                    .isInstanceOf(ValidationException.class);
+            verify(parkingSpotRepository, never()).changeStatusOfUnassigned(anyList(), anyString());
+        }
+
+        @Test
+        @DisplayName("Should release all tenant spots in one update")
+        void releaseAllParkingSpotsForTenant_SingleUpdate() {
+            UUID tenantId = UUID.randomUUID();
+            when(parkingSpotRepository.releaseAllByTenantId(tenantId))
+                    .thenReturn(List.of(UUID.randomUUID(), UUID.randomUUID()));
+
+            parkingSpotService.releaseAllParkingSpotsForTenant(tenantId);
+
+            verify(parkingSpotRepository).releaseAllByTenantId(tenantId);
+            verify(parkingSpotRepository, never()).findByAssignedTenantIdAndActiveTrue(tenantId);
+        }
+    }
+
+    @Nested
+    @DisplayName("Count Tests")
+    class CountTests {
+
+        @Test
+        @DisplayName("Should build counts from one grouped query, defaulting absent statuses to zero")
+        void getParkingSpotCounts_GroupedByStatus() {
+            UUID propertyId = UUID.randomUUID();
+            when(parkingSpotRepository.countActiveByPropertyIdGroupedByStatus(propertyId))
+                    .thenReturn(List.of(
+                            new Object[]{ParkingSpotStatus.AVAILABLE, 12L},
+                            new Object[]{ParkingSpotStatus.ASSIGNED, 30L}));
+
+            ParkingSpotCountsResponse counts = parkingSpotService.getParkingSpotCounts(propertyId);
+
+            assertThat(counts.getAvailable()).isEqualTo(12);
+            assertThat(counts.getAssigned()).isEqualTo(30);
+            assertThat(counts.getUnderMaintenance()).isZero();
+            verify(parkingSpotRepository, never()).countActiveGroupedByStatus();
+        }
+    }
+}
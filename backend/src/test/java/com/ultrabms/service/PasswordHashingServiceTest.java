@@ -0,0 +1,125 @@
+package com.ultrabms.service;
+
+import com.ultrabms.config.PasswordHashingProperties;
+import com.ultrabms.exception.RateLimitExceededException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for PasswordHashingService
+ *
+ * Tests verification, hash upgrades, pool saturation and metrics.
+ */
+class PasswordHashingServiceTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private ThreadPoolTaskExecutor executor;
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should verify passwords and record hash latency")
+    void verify_MatchesAndRecordsMetrics() {
+        PasswordHashingService service = service(6, 1, 10, 5000);
+        String hash = new BCryptPasswordEncoder(6).encode("secret");
+
+        assertThat(service.verify("secret", hash).matched()).isTrue();
+        assertThat(service.verify("wrong", hash).matched()).isFalse();
+
+        assertThat(registry.get("ultrabms.password.hash").tag("operation", "verify").timer().count()).isEqualTo(2);
+        assertThat(registry.get("ultrabms.password.hash.queue.wait").timer().count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should return an upgraded hash when the stored hash is weaker than configured")
+    void verify_WeakerHash_ReturnsUpgradedHash() {
+        PasswordHashingService service = service(6, 1, 10, 5000);
+        String weakHash = new BCryptPasswordEncoder(4).encode("secret");
+
+        PasswordHashingService.Verification verification = service.verify("secret", weakHash);
+
+        assertThat(verification.needsUpgrade()).isTrue();
+        assertThat(verification.upgradedHash()).startsWith("$2a$06$");
+        assertThat(new BCryptPasswordEncoder(6).matches("secret", verification.upgradedHash())).isTrue();
+        assertThat(registry.get("ultrabms.password.rehashed").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should not upgrade when the password does not match")
+    void verify_WrongPassword_DoesNotUpgrade() {
+        PasswordHashingService service = service(6, 1, 10, 5000);
+        String weakHash = new BCryptPasswordEncoder(4).encode("secret");
+
+        assertThat(service.verify("wrong", weakHash).needsUpgrade()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should reject immediately when the hashing pool and queue are full")
+    void encode_Saturated_Rejects() throws InterruptedException {
+        PasswordHashingService service = service(4, 1, 1, 5000);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        executor.execute(() -> {
+            started.countDown();
+            awaitQuietly(release);
+        });
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        executor.execute(() -> awaitQuietly(release));
+
+        try {
+            assertThatThrownBy(() -> service.encode("secret"))
+                    .isInstanceOf(RateLimitExceededException.class);
+            assertThat(registry.get("ultrabms.password.hash.rejected").counter().count()).isEqualTo(1);
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    @DisplayName("Should give up when the hash does not complete within the maximum wait")
+    void encode_WaitExceeded_Rejects() throws InterruptedException {
+        PasswordHashingService service = service(4, 1, 10, 50);
+        CountDownLatch release = new CountDownLatch(1);
+        executor.execute(() -> awaitQuietly(release));
+
+        try {
+            assertThatThrownBy(() -> service.encode("secret"))
+                    .isInstanceOf(RateLimitExceededException.class);
+        } finally {
+            release.countDown();
+        }
+    }
+
+    private PasswordHashingService service(int strength, int poolSize, int queueCapacity, long maxWait) {
+        PasswordHashingProperties properties = new PasswordHashingProperties();
+        properties.setStrength(strength);
+        properties.setMaxWait(maxWait);
+        executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.initialize();
+        return new PasswordHashingService(new BCryptPasswordEncoder(strength), executor, properties, registry);
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
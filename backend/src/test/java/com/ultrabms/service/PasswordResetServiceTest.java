@@ -52,7 +52,7 @@ class PasswordResetServiceTest {
     private org.springframework.security.crypto.password.PasswordEncoder passwordEncoder;
 
     @Mock
-    private com.ultrabms.repository.AuditLogRepository auditLogRepository;
+    private com.ultrabms.audit.AuditLogSink auditLogSink;
 
     @InjectMocks
     private PasswordResetService passwordResetService;
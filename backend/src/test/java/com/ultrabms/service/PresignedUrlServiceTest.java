@@ -0,0 +1,79 @@
+package com.ultrabms.service;
+
+import com.ultrabms.service.impl.PresignedUrlServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for PresignedUrlService
+ *
+ * Tests per-key signature caching and batch signing.
+ */
+@ExtendWith(MockitoExtension.class)
+class PresignedUrlServiceTest {
+
+    @Mock
+    private S3Service s3Service;
+
+    private PresignedUrlService presignedUrlService;
+
+    @BeforeEach
+    void setUp() {
+        presignedUrlService = new PresignedUrlServiceImpl(
+                s3Service, new ConcurrentMapCacheManager(PresignedUrlService.CACHE_NAME));
+    }
+
+    @Test
+    @DisplayName("Should reuse a cached signature for the same key")
+    void sign_ReusesCachedSignature() {
+        when(s3Service.getPresignedUrl("docs/a.pdf")).thenReturn("https://s3/a.pdf?sig=1");
+
+        assertThat(presignedUrlService.sign("docs/a.pdf")).isEqualTo("https://s3/a.pdf?sig=1");
+        assertThat(presignedUrlService.sign("docs/a.pdf")).isEqualTo("https://s3/a.pdf?sig=1");
+
+        verify(s3Service, times(1)).getPresignedUrl("docs/a.pdf");
+    }
+
+    @Test
+    @DisplayName("Should sign only uncached keys and ignore duplicates and nulls in a batch")
+    void signAll_SignsMissesOnly() {
+        when(s3Service.getPresignedUrl("img/1.jpg")).thenReturn("https://s3/1.jpg?sig");
+        when(s3Service.getPresignedUrl("img/2.jpg")).thenReturn("https://s3/2.jpg?sig");
+        presignedUrlService.sign("img/1.jpg");
+
+        Map<String, String> urls = presignedUrlService.signAll(
+                Arrays.asList("img/2.jpg", "img/1.jpg", null, "img/2.jpg"));
+
+        assertThat(urls).containsExactly(
+                Map.entry("img/2.jpg", "https://s3/2.jpg?sig"),
+                Map.entry("img/1.jpg", "https://s3/1.jpg?sig"));
+        verify(s3Service, times(1)).getPresignedUrl("img/1.jpg");
+        verify(s3Service, times(1)).getPresignedUrl("img/2.jpg");
+    }
+
+    @Test
+    @DisplayName("Should sign again after the key is evicted")
+    void evict_ForcesResign() {
+        when(s3Service.getPresignedUrl("img/1.jpg")).thenReturn("https://s3/1.jpg?sig");
+
+        presignedUrlService.signAll(List.of("img/1.jpg"));
+        presignedUrlService.evict("img/1.jpg");
+        presignedUrlService.sign("img/1.jpg");
+
+        verify(s3Service, times(2)).getPresignedUrl("img/1.jpg");
+    }
+}
@@ -4,6 +4,7 @@ import com.ultrabms.dto.properties.CreatePropertyRequest;
 import com.ultrabms.dto.properties.OccupancyResponse;
 import com.ultrabms.dto.properties.PropertyResponse;
 import com.ultrabms.entity.Property;
+import com.ultrabms.entity.PropertyImage;
 import com.ultrabms.entity.enums.PropertyStatus;
 import com.ultrabms.entity.enums.PropertyType;
 import com.ultrabms.entity.enums.UnitStatus;
@@ -11,6 +12,7 @@ import com.ultrabms.exception.ResourceNotFoundException;
 import com.ultrabms.exception.ValidationException;
 import com.ultrabms.repository.PropertyImageRepository;
 import com.ultrabms.repository.PropertyRepository;
+import com.ultrabms.repository.SummaryAggregateRepository;
 import com.ultrabms.repository.UnitRepository;
 import com.ultrabms.repository.UserRepository;
 import com.ultrabms.service.impl.PropertyServiceImpl;
@@ -24,9 +26,12 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.Arrays;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -52,12 +57,18 @@ class PropertyServiceTest {
     @Mock
     private UnitRepository unitRepository;
 
+    @Mock
+    private SummaryAggregateRepository summaryAggregateRepository;
+
     @Mock
     private UserRepository userRepository;
 
     @Mock
     private FileStorageService fileStorageService;
 
+    @Mock
+    private ImageDerivativeService imageDerivativeService;
+
     @InjectMocks
     private PropertyServiceImpl propertyService;
 
@@ -171,6 +182,8 @@ class PropertyServiceTest {
         Pageable pageable = PageRequest.of(0, 20);
 
         when(propertyRepository.findByStatus(eq(PropertyStatus.ACTIVE), any(Pageable.class))).thenReturn(propertyPage);
+        when(summaryAggregateRepository.getUnitStatusCountsByProperty(List.of(propertyId)))
+                .thenReturn(Map.of(propertyId, statusCounts(0, 0, 0, 0)));
 
         // Act
         Page<PropertyResponse> result = propertyService.getAllProperties(pageable);
@@ -181,6 +194,54 @@ class PropertyServiceTest {
         assertThat(result.getContent().get(0).getName()).isEqualTo("Sunset Towers");
 
         verify(propertyRepository, times(1)).findByStatus(eq(PropertyStatus.ACTIVE), any(Pageable.class));
+        verify(summaryAggregateRepository, times(1)).getUnitStatusCountsByProperty(List.of(propertyId));
+    }
+
+    @Test
+    void getAllProperties_ShouldSignAllImageKeysOfPageInOneBatch() {
+        // Arrange
+        PropertyImage image = propertyImage("properties/1/images/a.jpg", 1);
+        when(propertyRepository.findByStatus(eq(PropertyStatus.ACTIVE), any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of(testProperty)));
+        when(summaryAggregateRepository.getUnitStatusCountsByProperty(List.of(propertyId)))
+                .thenReturn(Map.of(propertyId, statusCounts(0, 0, 0, 0)));
+        when(propertyImageRepository.findByPropertyIdInOrderByDisplayOrderAsc(List.of(propertyId)))
+                .thenReturn(List.of(image));
+        when(fileStorageService.getDownloadUrls(List.of("properties/1/images/a.jpg")))
+                .thenReturn(Map.of("properties/1/images/a.jpg", "https://s3/a.jpg?sig"));
+
+        // Act
+        Page<PropertyResponse> result = propertyService.getAllProperties(PageRequest.of(0, 20));
+
+        // Assert
+        PropertyResponse response = result.getContent().get(0);
+        assertThat(response.getImages().get(0).getFilePath()).isEqualTo("https://s3/a.jpg?sig");
+        assertThat(response.getThumbnailUrl()).isEqualTo("https://s3/a.jpg?sig");
+        verify(fileStorageService, never()).getDownloadUrl(anyString());
+        verify(propertyImageRepository, never()).findByPropertyIdOrderByDisplayOrderAsc(any());
+    }
+
+    @Test
+    void getPropertyByIdWithOccupancy_ShouldKeepS3KeysInCachedResponse() {
+        // Arrange - the cached loader is reached through the self proxy
+        ReflectionTestUtils.setField(propertyService, "self", propertyService);
+        when(propertyRepository.findById(propertyId)).thenReturn(Optional.of(testProperty));
+        when(summaryAggregateRepository.getUnitStatusCounts(propertyId)).thenReturn(statusCounts(10, 40, 0, 0));
+        when(propertyImageRepository.findByPropertyIdOrderByDisplayOrderAsc(propertyId))
+                .thenReturn(List.of(propertyImage("properties/1/images/a.jpg", 1)));
+        when(fileStorageService.getDownloadUrls(List.of("properties/1/images/a.jpg")))
+                .thenReturn(Map.of("properties/1/images/a.jpg", "https://s3/a.jpg?sig"));
+
+        // Act
+        PropertyResponse cached = propertyService.loadPropertyWithOccupancy(propertyId);
+        PropertyResponse response = propertyService.getPropertyByIdWithOccupancy(propertyId);
+
+        // Assert
+        assertThat(cached.getImages().get(0).getFilePath()).isEqualTo("properties/1/images/a.jpg");
+        assertThat(cached.getThumbnailUrl()).isNull();
+        assertThat(response.getImages().get(0).getFilePath()).isEqualTo("https://s3/a.jpg?sig");
+        assertThat(response.getThumbnailUrl()).isEqualTo("https://s3/a.jpg?sig");
+        assertThat(response.getOccupancyRate()).isEqualTo(80.0);
     }
 
     @Test
@@ -218,10 +279,7 @@ class PropertyServiceTest {
     void getPropertyOccupancy_ShouldReturnCorrectData() {
         // Arrange
         when(propertyRepository.findById(propertyId)).thenReturn(Optional.of(testProperty));
-        when(unitRepository.countByPropertyIdAndStatus(propertyId, UnitStatus.AVAILABLE)).thenReturn(5L);
-        when(unitRepository.countByPropertyIdAndStatus(propertyId, UnitStatus.OCCUPIED)).thenReturn(40L);
-        when(unitRepository.countByPropertyIdAndStatus(propertyId, UnitStatus.UNDER_MAINTENANCE)).thenReturn(3L);
-        when(unitRepository.countByPropertyIdAndStatus(propertyId, UnitStatus.RESERVED)).thenReturn(2L);
+        when(summaryAggregateRepository.getUnitStatusCounts(propertyId)).thenReturn(statusCounts(5, 40, 3, 2));
 
         // Act
         OccupancyResponse response = propertyService.getPropertyOccupancy(propertyId);
@@ -251,4 +309,25 @@ class PropertyServiceTest {
         verify(propertyRepository, times(1)).save(any(Property.class));
         assertThat(testProperty.getActive()).isTrue();
     }
+
+    private PropertyImage propertyImage(String filePath, int displayOrder) {
+        PropertyImage image = PropertyImage.builder()
+                .property(testProperty)
+                .fileName(filePath.substring(filePath.lastIndexOf('/') + 1))
+                .filePath(filePath)
+                .fileSize(1024L)
+                .displayOrder(displayOrder)
+                .build();
+        image.setId(UUID.randomUUID());
+        return image;
+    }
+
+    private Map<UnitStatus, Long> statusCounts(long available, long occupied, long underMaintenance, long reserved) {
+        Map<UnitStatus, Long> counts = new EnumMap<>(UnitStatus.class);
+        counts.put(UnitStatus.AVAILABLE, available);
+        counts.put(UnitStatus.OCCUPIED, occupied);
+        counts.put(UnitStatus.UNDER_MAINTENANCE, underMaintenance);
+        counts.put(UnitStatus.RESERVED, reserved);
+        return counts;
+    }
 }
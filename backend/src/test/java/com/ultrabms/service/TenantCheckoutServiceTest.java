@@ -0,0 +1,186 @@
+package com.ultrabms.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ultrabms.dto.checkout.OutstandingAmountsDto;
+import com.ultrabms.entity.Invoice;
+import com.ultrabms.entity.Tenant;
+import com.ultrabms.entity.TenantCheckout;
+import com.ultrabms.entity.enums.InvoiceStatus;
+import com.ultrabms.repository.DepositRefundRepository;
+import com.ultrabms.repository.InvoiceRepository;
+import com.ultrabms.repository.SummaryAggregateRepository;
+import com.ultrabms.repository.TenantCheckoutRepository;
+import com.ultrabms.repository.TenantRepository;
+import com.ultrabms.repository.UserRepository;
+import com.ultrabms.service.impl.TenantCheckoutServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for TenantCheckoutService
+ *
+ * Tests outstanding figures and parallel inspection photo uploads.
+ */
+@ExtendWith(MockitoExtension.class)
+class TenantCheckoutServiceTest {
+
+    @Mock
+    private TenantCheckoutRepository checkoutRepository;
+
+    @Mock
+    private DepositRefundRepository depositRefundRepository;
+
+    @Mock
+    private TenantRepository tenantRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private InvoiceRepository invoiceRepository;
+
+    @Mock
+    private AuditLogService auditLogService;
+
+    @Mock
+    private IEmailService emailService;
+
+    @Mock
+    private S3Service s3Service;
+
+    @Mock
+    private ParkingSpotService parkingSpotService;
+
+    @Mock
+    private ImageDerivativeService imageDerivativeService;
+
+    @Mock
+    private SummaryAggregateRepository summaryAggregateRepository;
+
+    private TenantCheckoutService checkoutService;
+
+    private UUID tenantId;
+    private UUID checkoutId;
+    private Tenant tenant;
+
+    @BeforeEach
+    void setUp() {
+        // Run uploads inline so the test is deterministic
+        checkoutService = new TenantCheckoutServiceImpl(
+                checkoutRepository, depositRefundRepository, tenantRepository, userRepository,
+                invoiceRepository, auditLogService, emailService, s3Service, new ObjectMapper(),
+                parkingSpotService, imageDerivativeService, summaryAggregateRepository, Runnable::run);
+
+        tenantId = UUID.randomUUID();
+        checkoutId = UUID.randomUUID();
+        tenant = Tenant.builder().fullName("John Doe").build();
+        ReflectionTestUtils.setField(tenant, "id", tenantId);
+    }
+
+    @Test
+    @DisplayName("Should sum outstanding totals from the listed invoices")
+    void getTenantOutstanding_TotalsMatchListedInvoices() {
+        when(tenantRepository.findById(tenantId)).thenReturn(Optional.of(tenant));
+        when(invoiceRepository.findByTenantIdAndStatusIn(eq(tenantId), any())).thenReturn(List.of(
+                invoice("INV-2026-0001", InvoiceStatus.OVERDUE, "5000.00", "250.00"),
+                invoice("INV-2026-0002", InvoiceStatus.SENT, "2500.00", "0.00")));
+
+        OutstandingAmountsDto outstanding = checkoutService.getTenantOutstanding(tenantId);
+
+        assertThat(outstanding.getOutstandingInvoices()).hasSize(2);
+        assertThat(outstanding.getTotalOutstandingRent()).isEqualByComparingTo("7500.00");
+        assertThat(outstanding.getTotalLateFees()).isEqualByComparingTo("250.00");
+        assertThat(outstanding.getGrandTotal()).isEqualByComparingTo("7750.00");
+        verify(summaryAggregateRepository, never()).getTenantOutstandingTotals(any());
+    }
+
+    @Test
+    @DisplayName("Should append uploaded photo metadata without rewriting the checkout")
+    void uploadInspectionPhotos_AppendsMetadata() {
+        when(checkoutRepository.findById(checkoutId)).thenReturn(Optional.of(checkout()));
+        when(s3Service.uploadFile(any(MultipartFile.class), anyString()))
+                .thenAnswer(invocation -> invocation.getArgument(1));
+
+        List<Map<String, Object>> photos = checkoutService.uploadInspectionPhotos(
+                tenantId, checkoutId, new MultipartFile[]{photo("a.jpg"), photo("b.jpg")},
+                "KITCHEN", "BEFORE", UUID.randomUUID());
+
+        assertThat(photos).extracting(photo -> photo.get("fileName")).containsExactly("a.jpg", "b.jpg");
+
+        ArgumentCaptor<String> json = ArgumentCaptor.forClass(String.class);
+        verify(checkoutRepository).appendInspectionPhotos(eq(checkoutId), json.capture());
+        assertThat(json.getValue()).startsWith("[").contains("a.jpg", "b.jpg", "KITCHEN");
+        verify(checkoutRepository, never()).save(any());
+        verify(imageDerivativeService).scheduleCheckoutPhotos(eq(checkoutId), any());
+    }
+
+    @Test
+    @DisplayName("Should remove already uploaded files when one upload fails")
+    void uploadInspectionPhotos_FailureCleansUp() {
+        when(checkoutRepository.findById(checkoutId)).thenReturn(Optional.of(checkout()));
+        when(s3Service.uploadFile(any(MultipartFile.class), anyString())).thenAnswer(invocation -> {
+            String path = invocation.getArgument(1);
+            if (path.endsWith("_b.jpg")) {
+                throw new IllegalStateException("S3 unavailable");
+            }
+            return path;
+        });
+
+        assertThatThrownBy(() -> checkoutService.uploadInspectionPhotos(
+                tenantId, checkoutId, new MultipartFile[]{photo("a.jpg"), photo("b.jpg")},
+                "KITCHEN", "BEFORE", UUID.randomUUID()))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("S3 unavailable");
+
+        ArgumentCaptor<List<String>> deleted = ArgumentCaptor.forClass(List.class);
+        verify(s3Service).deleteFiles(deleted.capture());
+        assertThat(deleted.getValue()).singleElement().asString()
+                .startsWith("inspections/" + tenantId + "/" + checkoutId + "/").endsWith("_a.jpg");
+        verify(checkoutRepository, never()).appendInspectionPhotos(any(), anyString());
+    }
+
+    private TenantCheckout checkout() {
+        TenantCheckout checkout = TenantCheckout.builder().tenant(tenant).build();
+        ReflectionTestUtils.setField(checkout, "id", checkoutId);
+        return checkout;
+    }
+
+    private static MockMultipartFile photo(String name) {
+        return new MockMultipartFile("files", name, "image/jpeg", new byte[]{1, 2, 3});
+    }
+
+    private static Invoice invoice(String number, InvoiceStatus status, String balance, String lateFee) {
+        Invoice invoice = Invoice.builder()
+                .invoiceNumber(number)
+                .status(status)
+                .totalAmount(new BigDecimal(balance))
+                .balanceAmount(new BigDecimal(balance))
+                .lateFee(new BigDecimal(lateFee))
+                .build();
+        ReflectionTestUtils.setField(invoice, "id", UUID.randomUUID());
+        return invoice;
+    }
+}
@@ -0,0 +1,95 @@
+package com.ultrabms.service;
+
+import com.ultrabms.repository.TenantLedgerRepository;
+import com.ultrabms.service.impl.TenantLedgerServiceImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for TenantLedgerService
+ *
+ * Tests that ledger refreshes are deferred to commit and coalesced per transaction.
+ */
+@ExtendWith(MockitoExtension.class)
+class TenantLedgerServiceTest {
+
+    @Mock
+    private TenantLedgerRepository tenantLedgerRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private TenantLedgerService tenantLedgerService;
+
+    @BeforeEach
+    void setUp() {
+        tenantLedgerService = new TenantLedgerServiceImpl(tenantLedgerRepository, transactionManager);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("Should refresh each changed tenant once, after commit")
+    void markChanged_InTransaction_RefreshesOnceAfterCommit() {
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        TransactionSynchronizationManager.initSynchronization();
+
+        tenantLedgerService.markChanged(first);
+        tenantLedgerService.markChanged(second);
+        tenantLedgerService.markChanged(first);
+
+        verify(tenantLedgerRepository, never()).refresh(anyString());
+        assertThat(TransactionSynchronizationManager.getSynchronizations()).hasSize(1);
+
+        TransactionSynchronization synchronization = TransactionSynchronizationManager.getSynchronizations().get(0);
+        synchronization.afterCommit();
+        synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+
+        verify(tenantLedgerRepository).refresh(first + "," + second);
+    }
+
+    @Test
+    @DisplayName("Should not refresh when the transaction rolls back")
+    void markChanged_RolledBack_DoesNotRefresh() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        tenantLedgerService.markChanged(UUID.randomUUID());
+        TransactionSynchronizationManager.getSynchronizations().get(0)
+                .afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        verify(tenantLedgerRepository, never()).refresh(anyString());
+    }
+
+    @Test
+    @DisplayName("Should refresh immediately outside a transaction and swallow failures")
+    void markChanged_WithoutTransaction_RefreshesImmediately() {
+        UUID tenantId = UUID.randomUUID();
+        when(tenantLedgerRepository.refresh(tenantId.toString())).thenThrow(new IllegalStateException("db down"));
+
+        tenantLedgerService.markChanged(tenantId);
+
+        verify(tenantLedgerRepository).refresh(tenantId.toString());
+    }
+}
@@ -8,9 +8,11 @@ import com.ultrabms.entity.enums.DocumentType;
 import com.ultrabms.entity.enums.LeaseType;
 import com.ultrabms.entity.enums.PaymentFrequency;
 import com.ultrabms.entity.enums.PaymentMethod;
+import com.ultrabms.exception.AccountLockedException;
 import com.ultrabms.exception.ResourceNotFoundException;
 import com.ultrabms.exception.ValidationException;
 import com.ultrabms.repository.TenantDocumentRepository;
+import com.ultrabms.repository.TenantLedgerRepository;
 import com.ultrabms.repository.TenantRepository;
 import com.ultrabms.repository.UserRepository;
 import com.ultrabms.service.impl.TenantPortalServiceImpl;
@@ -21,7 +23,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.math.BigDecimal;
@@ -58,7 +60,13 @@ class TenantPortalServiceTest {
     private S3Service s3Service;
 
     @Mock
-    private PasswordEncoder passwordEncoder;
+    private PasswordHashingService passwordHashingService;
+
+    @Mock
+    private LoginAttemptService loginAttemptService;
+
+    @Mock
+    private TenantLedgerRepository tenantLedgerRepository;
 
     @InjectMocks
     private TenantPortalServiceImpl tenantPortalService;
@@ -100,8 +108,7 @@ class TenantPortalServiceTest {
         testTenant.setId(testTenantId);
         testTenant.setProperty(testProperty);
         testTenant.setUnit(testUnit);
-        testTenant.setFirstName("John");
-        testTenant.setLastName("Doe");
+        testTenant.setFullName("John Doe");
         testTenant.setEmail("john.doe@example.com");
         testTenant.setPhone("+971501234567");
         testTenant.setDateOfBirth(LocalDate.of(1990, 1, 1));
@@ -193,6 +200,38 @@ class TenantPortalServiceTest {
         assertEquals("EXPIRED", response.getCurrentUnit().getLeaseStatus());
     }
 
+    @Test
+    @DisplayName("getDashboardData - Reads stats from the tenant ledger")
+    void getDashboardData_WithLedger_ReturnsLedgerStats() {
+        TenantLedger ledger = new TenantLedger();
+        ReflectionTestUtils.setField(ledger, "tenantId", testTenantId);
+        ReflectionTestUtils.setField(ledger, "outstandingBalance", new BigDecimal("11400.00"));
+        ReflectionTestUtils.setField(ledger, "nextPaymentDueDate", LocalDate.of(2025, 12, 1));
+        ReflectionTestUtils.setField(ledger, "nextPaymentDueAmount", new BigDecimal("5700.00"));
+        ReflectionTestUtils.setField(ledger, "openRequestsCount", 2);
+        when(tenantRepository.findByUserId(testUserId)).thenReturn(Optional.of(testTenant));
+        when(tenantLedgerRepository.findById(testTenantId)).thenReturn(Optional.of(ledger));
+
+        DashboardResponse response = tenantPortalService.getDashboardData(testUserId);
+
+        assertEquals(new BigDecimal("11400.00"), response.getStats().getOutstandingBalance());
+        assertEquals(LocalDate.of(2025, 12, 1), response.getStats().getNextPaymentDue().getDate());
+        assertEquals(new BigDecimal("5700.00"), response.getStats().getNextPaymentDue().getAmount());
+        assertEquals(2L, response.getStats().getOpenRequestsCount());
+    }
+
+    @Test
+    @DisplayName("getDashboardData - Returns zero stats when the tenant has no ledger row")
+    void getDashboardData_WithoutLedger_ReturnsZeroStats() {
+        when(tenantRepository.findByUserId(testUserId)).thenReturn(Optional.of(testTenant));
+
+        DashboardResponse response = tenantPortalService.getDashboardData(testUserId);
+
+        assertEquals(BigDecimal.ZERO, response.getStats().getOutstandingBalance());
+        assertNull(response.getStats().getNextPaymentDue());
+        assertEquals(0L, response.getStats().getOpenRequestsCount());
+    }
+
     // ============================================
     // Profile Tests
     // ============================================
@@ -207,8 +246,7 @@ class TenantPortalServiceTest {
 
         assertNotNull(response);
         assertNotNull(response.getTenant());
-        assertEquals("John", response.getTenant().getFirstName());
-        assertEquals("Doe", response.getTenant().getLastName());
+        assertEquals("John Doe", response.getTenant().getFullName());
         assertEquals("john.doe@example.com", response.getTenant().getEmail());
 
         assertNotNull(response.getLease());
@@ -275,14 +313,15 @@ class TenantPortalServiceTest {
         );
 
         when(userRepository.findById(testUserId)).thenReturn(Optional.of(testUser));
-        when(passwordEncoder.matches(request.getCurrentPassword(), testUser.getPasswordHash())).thenReturn(true);
-        when(passwordEncoder.encode(request.getNewPassword())).thenReturn("newHashedPassword");
+        when(passwordHashingService.verify(request.getCurrentPassword(), testUser.getPasswordHash()))
+                .thenReturn(new PasswordHashingService.Verification(true, null));
+        when(passwordHashingService.encode(request.getNewPassword())).thenReturn("newHashedPassword");
 
         assertDoesNotThrow(() -> tenantPortalService.changePassword(testUserId, request));
 
         verify(userRepository, times(1)).findById(testUserId);
-        verify(passwordEncoder, times(1)).matches(request.getCurrentPassword(), "hashedPassword123");
-        verify(passwordEncoder, times(1)).encode(request.getNewPassword());
+        verify(passwordHashingService, times(1)).verify(request.getCurrentPassword(), "hashedPassword123");
+        verify(passwordHashingService, times(1)).encode(request.getNewPassword());
         verify(userRepository, times(1)).save(testUser);
     }
 
@@ -301,7 +340,7 @@ class TenantPortalServiceTest {
         );
 
         verify(userRepository, times(1)).findById(testUserId);
-        verify(passwordEncoder, never()).matches(any(), any());
+        verify(passwordHashingService, never()).verify(any(), any());
         verify(userRepository, never()).save(any());
     }
 
@@ -314,15 +353,37 @@ class TenantPortalServiceTest {
         );
 
         when(userRepository.findById(testUserId)).thenReturn(Optional.of(testUser));
-        when(passwordEncoder.matches(request.getCurrentPassword(), testUser.getPasswordHash())).thenReturn(false);
+        when(passwordHashingService.verify(request.getCurrentPassword(), testUser.getPasswordHash()))
+                .thenReturn(new PasswordHashingService.Verification(false, null));
 
         assertThrows(ValidationException.class, () ->
                 tenantPortalService.changePassword(testUserId, request)
         );
 
         verify(userRepository, times(1)).findById(testUserId);
-        verify(passwordEncoder, times(1)).matches(request.getCurrentPassword(), testUser.getPasswordHash());
-        verify(passwordEncoder, never()).encode(any());
+        verify(passwordHashingService, times(1)).verify(request.getCurrentPassword(), testUser.getPasswordHash());
+        verify(passwordHashingService, never()).encode(any());
+        verify(loginAttemptService, times(1)).recordFailedAttempt(testUser.getEmail());
+        verify(userRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("changePassword - Rejects blocked accounts without hashing")
+    void changePassword_WhenBlocked_ThrowsWithoutHashing() {
+        ChangePasswordRequest request = new ChangePasswordRequest(
+                "OldPassword123!",
+                "NewSecurePass123!@"
+        );
+
+        when(userRepository.findById(testUserId)).thenReturn(Optional.of(testUser));
+        when(loginAttemptService.isBlocked(testUser.getEmail())).thenReturn(true);
+
+        assertThrows(AccountLockedException.class, () ->
+                tenantPortalService.changePassword(testUserId, request)
+        );
+
+        verify(passwordHashingService, never()).verify(any(), any());
+        verify(passwordHashingService, never()).encode(any());
         verify(userRepository, never()).save(any());
     }
 
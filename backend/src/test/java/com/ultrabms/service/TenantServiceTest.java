@@ -144,8 +144,7 @@ class TenantServiceTest {
         // Create test tenant
         tenant = Tenant.builder()
                 .userId(userId)
-                .firstName("John")
-                .lastName("Doe")
+                .fullName("John Doe")
                 .email("test.tenant@example.com")
                 .phone("+971501234567")
                 .dateOfBirth(LocalDate.of(1990, 1, 1))
@@ -181,8 +180,7 @@ class TenantServiceTest {
 
         // Create tenant request DTO
         request = CreateTenantRequest.builder()
-                .firstName("John")
-                .lastName("Doe")
+                .fullName("John Doe")
                 .email("test.tenant@example.com")
                 .phone("+971501234567")
                 .dateOfBirth(LocalDate.of(1990, 1, 1))
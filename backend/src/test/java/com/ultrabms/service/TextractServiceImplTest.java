@@ -10,7 +10,6 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.mock.web.MockMultipartFile;
@@ -39,7 +38,6 @@ class TextractServiceImplTest {
     @Mock
     private QuotationRepository quotationRepository;
 
-    @InjectMocks
     private TextractServiceImpl textractService;
 
     private MockMultipartFile validPassportFront;
@@ -48,6 +46,8 @@ class TextractServiceImplTest {
 
     @BeforeEach
     void setUp() {
+        textractService = new TextractServiceImpl(textractClient, quotationRepository);
+
         validPassportFront = new MockMultipartFile(
                 "passportFront",
                 "passport_front.jpg",
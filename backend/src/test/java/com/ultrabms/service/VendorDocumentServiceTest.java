@@ -1,5 +1,6 @@
 package com.ultrabms.service;
 
+import com.ultrabms.dto.vendors.VendorEmailPayload;
 import com.ultrabms.service.IEmailService;
 
 import com.ultrabms.dto.vendordocuments.ExpiringDocumentDto;
@@ -615,7 +616,7 @@ class VendorDocumentServiceTest {
             // Assert
             assertThat(result).isEqualTo(1);
             verify(emailService, times(1)).sendDocumentExpiry30DayNotification(
-                    eq(testVendor), anyString(), anyString(), any(LocalDate.class), any()
+                    eq(VendorEmailPayload.from(testVendor)), anyString(), anyString(), any(LocalDate.class), any()
             );
             verify(documentRepository, times(1)).save(any(VendorDocument.class));
         }
@@ -643,7 +644,7 @@ class VendorDocumentServiceTest {
             // Assert
             assertThat(result).isEqualTo(1);
             verify(emailService, times(1)).sendDocumentExpiry15DayNotification(
-                    eq(testVendor), anyString(), anyString(), any(LocalDate.class), any()
+                    eq(VendorEmailPayload.from(testVendor)), anyString(), anyString(), any(LocalDate.class), any()
             );
         }
 
@@ -694,7 +695,7 @@ class VendorDocumentServiceTest {
             // Assert
             assertThat(result).isEqualTo(1);
             assertThat(testVendor.getStatus()).isEqualTo(VendorStatus.SUSPENDED);
-            verify(emailService, times(1)).sendVendorSuspendedDueToExpiredDocuments(eq(testVendor), any());
+            verify(emailService, times(1)).sendVendorSuspendedDueToExpiredDocuments(eq(VendorEmailPayload.from(testVendor)), any());
         }
 
         @Test
@@ -771,7 +772,7 @@ class VendorDocumentServiceTest {
 
             // Assert
             assertThat(testVendor.getStatus()).isEqualTo(VendorStatus.ACTIVE);
-            verify(emailService, times(1)).sendVendorReactivatedNotification(testVendor);
+            verify(emailService, times(1)).sendVendorReactivatedNotification(VendorEmailPayload.from(testVendor));
         }
 
         @Test
@@ -0,0 +1,148 @@
+package com.ultrabms.service;
+
+import com.ultrabms.dto.vendor.VendorPerformanceDto;
+import com.ultrabms.entity.Vendor;
+import com.ultrabms.exception.ResourceNotFoundException;
+import com.ultrabms.mapper.VendorRatingMapper;
+import com.ultrabms.repository.UserRepository;
+import com.ultrabms.repository.VendorRatingRepository;
+import com.ultrabms.repository.VendorRepository;
+import com.ultrabms.repository.WorkOrderRepository;
+import com.ultrabms.service.impl.VendorRatingServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for VendorRatingService
+ * Story 5.3: Vendor Performance Tracking and Rating
+ *
+ * Tests set-based rating recalculation and aggregate-based performance metrics.
+ */
+@ExtendWith(MockitoExtension.class)
+class VendorRatingServiceTest {
+
+    @Mock
+    private VendorRatingRepository vendorRatingRepository;
+
+    @Mock
+    private WorkOrderRepository workOrderRepository;
+
+    @Mock
+    private VendorRepository vendorRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private VendorRatingMapper vendorRatingMapper;
+
+    @InjectMocks
+    private VendorRatingServiceImpl vendorRatingService;
+
+    private UUID vendorId;
+    private Vendor testVendor;
+
+    @BeforeEach
+    void setUp() {
+        vendorId = UUID.randomUUID();
+        testVendor = Vendor.builder()
+                .vendorNumber("VND-2025-0001")
+                .companyName("ABC Plumbing")
+                .build();
+        testVendor.setId(vendorId);
+    }
+
+    @Nested
+    @DisplayName("Rating Recalculation Tests")
+    class RecalculationTests {
+
+        @Test
+        @DisplayName("Should recalculate all vendors in one set-based update")
+        void recalculateAllVendorRatings_UsesSingleUpdate() {
+            when(vendorRepository.recalculateAllRatingAggregates()).thenReturn(42);
+
+            int updated = vendorRatingService.recalculateAllVendorRatings();
+
+            assertThat(updated).isEqualTo(42);
+            verify(vendorRepository).recalculateAllRatingAggregates();
+        }
+
+        @Test
+        @DisplayName("Should incrementally recalculate a single vendor")
+        void recalculateVendorRating_Incremental() {
+            when(vendorRepository.recalculateRatingAggregates(vendorId)).thenReturn(1);
+
+            vendorRatingService.recalculateVendorRating(vendorId);
+
+            verify(vendorRepository).recalculateRatingAggregates(vendorId);
+        }
+
+        @Test
+        @DisplayName("Should throw exception when vendor does not exist")
+        void recalculateVendorRating_NotFound() {
+            when(vendorRepository.recalculateRatingAggregates(vendorId)).thenReturn(0);
+
+            assertThatThrownBy(() -> vendorRatingService.recalculateVendorRating(vendorId))
+                    .isInstanceOf(ResourceNotFoundException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("Vendor Performance Tests")
+    class PerformanceTests {
+
+        @Test
+        @DisplayName("Should build performance from aggregate rows")
+        void getVendorPerformance_FromAggregates() {
+            when(vendorRepository.findById(vendorId)).thenReturn(Optional.of(testVendor));
+            when(vendorRatingRepository.getRatingStatisticsByVendorId(vendorId)).thenReturn(Collections.singletonList(
+                    new Object[]{new BigDecimal("4.25"), 4.5, 4.0, 4.25, 4.25, 2L, 1L, 1L, 0L, 0L}));
+            when(workOrderRepository.getCompletionStatsByVendorId(vendorId)).thenReturn(Collections.singletonList(
+                    new Object[]{8L, new BigDecimal("2.50"), 6L, new BigDecimal("12000.00")}));
+
+            VendorPerformanceDto result = vendorRatingService.getVendorPerformance(vendorId);
+
+            assertThat(result.getOverallRating()).isEqualByComparingTo("4.25");
+            assertThat(result.getTotalJobsCompleted()).isEqualTo(8L);
+            assertThat(result.getAverageCompletionTime()).isEqualTo(2.5);
+            assertThat(result.getOnTimeCompletionRate()).isEqualTo(75.0);
+            assertThat(result.getTotalAmountPaid()).isEqualByComparingTo("12000.00");
+            assertThat(result.getRatingDistribution().getTotalCount()).isEqualTo(4L);
+            assertThat(result.getRatingDistribution().getFiveStarPercent()).isEqualTo(50.0);
+        }
+
+        @Test
+        @DisplayName("Should return empty metrics for vendor without ratings or jobs")
+        void getVendorPerformance_NoData() {
+            when(vendorRepository.findById(vendorId)).thenReturn(Optional.of(testVendor));
+            when(vendorRatingRepository.getRatingStatisticsByVendorId(vendorId)).thenReturn(Collections.singletonList(
+                    new Object[]{null, null, null, null, null, 0L, 0L, 0L, 0L, 0L}));
+            when(workOrderRepository.getCompletionStatsByVendorId(vendorId)).thenReturn(List.of());
+
+            VendorPerformanceDto result = vendorRatingService.getVendorPerformance(vendorId);
+
+            assertThat(result.getOverallRating()).isEqualByComparingTo(BigDecimal.ZERO);
+            assertThat(result.getTotalJobsCompleted()).isZero();
+            assertThat(result.getAverageCompletionTime()).isNull();
+            assertThat(result.getOnTimeCompletionRate()).isNull();
+            assertThat(result.getTotalAmountPaid()).isEqualByComparingTo(BigDecimal.ZERO);
+        }
+    }
+}
@@ -84,6 +84,9 @@ class WorkOrderServiceTest {
     @Mock
     private IEmailService emailService;
 
+    @Mock
+    private ImageDerivativeService imageDerivativeService;
+
     @Mock
     private SecurityContext securityContext;
 
@@ -247,6 +250,24 @@ class WorkOrderServiceTest {
         assertThat(workOrderNumber).isEqualTo("WO-2025-0124");
     }
 
+    @Test
+    @DisplayName("Should allocate a contiguous block of work order numbers with one lookup")
+    void testAllocateWorkOrderNumbers_ContiguousBlock() {
+        // Given
+        String prefix = "WO-" + LocalDateTime.now().getYear() + "-";
+        WorkOrder previousWorkOrder = new WorkOrder();
+        previousWorkOrder.setWorkOrderNumber(prefix + "0041");
+        when(workOrderRepository.findTopByOrderByWorkOrderNumberDesc())
+                .thenReturn(Optional.of(previousWorkOrder));
+
+        // When
+        List<String> workOrderNumbers = workOrderService.allocateWorkOrderNumbers(3);
+
+        // Then
+        assertThat(workOrderNumbers).containsExactly(prefix + "0042", prefix + "0043", prefix + "0044");
+        verify(workOrderRepository, times(1)).findTopByOrderByWorkOrderNumberDesc();
+    }
+
     @Test
     @DisplayName("Should update work order status successfully")
     void testUpdateWorkOrderStatus_Success() {
@@ -0,0 +1,89 @@
+package com.ultrabms.util;
+
+import com.ultrabms.dto.common.CursorPage;
+import com.ultrabms.exception.ValidationException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for KeysetCursor encoding and CursorPage construction.
+ */
+@DisplayName("KeysetCursor Tests")
+class KeysetCursorTest {
+
+    @Test
+    @DisplayName("Should round-trip created-at and id through the opaque token")
+    void testEncodeDecodeRoundTrip() {
+        KeysetCursor cursor = new KeysetCursor(LocalDateTime.of(2025, 11, 30, 14, 5, 9, 123456000), UUID.randomUUID());
+
+        String token = cursor.encode();
+
+        assertThat(token).doesNotContain("|", "=", "+", "/");
+        assertThat(KeysetCursor.decode(token)).isEqualTo(cursor);
+    }
+
+    @Test
+    @DisplayName("Should treat a missing cursor as the first page")
+    void testDecodeBlankReturnsNull() {
+        assertThat(KeysetCursor.decode(null)).isNull();
+        assertThat(KeysetCursor.decode(" ")).isNull();
+    }
+
+    @Test
+    @DisplayName("Should reject a malformed cursor")
+    void testDecodeMalformedThrows() {
+        assertThatThrownBy(() -> KeysetCursor.decode("not-a-cursor"))
+                .isInstanceOf(ValidationException.class)
+                .hasMessage("Invalid pagination cursor");
+    }
+
+    @Test
+    @DisplayName("Should drop the look-ahead row and point the cursor at the last returned row")
+    void testCursorPageWithNextPage() {
+        List<KeysetCursor> rows = rows(3);
+
+        CursorPage<KeysetCursor> page = CursorPage.of(rows, 2, Function.identity(), Function.identity());
+
+        assertThat(page.content()).containsExactly(rows.get(0), rows.get(1));
+        assertThat(page.hasNext()).isTrue();
+        assertThat(KeysetCursor.decode(page.nextCursor())).isEqualTo(rows.get(1));
+    }
+
+    @Test
+    @DisplayName("Should report the last page without a cursor")
+    void testCursorPageLastPage() {
+        List<KeysetCursor> rows = rows(2);
+
+        CursorPage<KeysetCursor> page = CursorPage.of(rows, 2, Function.identity(), Function.identity());
+
+        assertThat(page.content()).hasSize(2);
+        assertThat(page.hasNext()).isFalse();
+        assertThat(page.nextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should cap the page size at the maximum and reject sizes below one")
+    void testPageSizeClamped() {
+        assertThat(CursorPage.pageSize(20)).isEqualTo(20);
+        assertThat(CursorPage.pageSize(Integer.MAX_VALUE)).isEqualTo(CursorPage.MAX_SIZE);
+        assertThatThrownBy(() -> CursorPage.pageSize(0))
+                .isInstanceOf(ValidationException.class)
+                .hasMessage("Page size must be at least 1");
+    }
+
+    private List<KeysetCursor> rows(int count) {
+        LocalDateTime now = LocalDateTime.of(2025, 12, 1, 9, 0);
+        return IntStream.range(0, count)
+                .mapToObj(i -> new KeysetCursor(now.minusMinutes(i), UUID.randomUUID()))
+                .toList();
+    }
+}
@@ -0,0 +1,75 @@
+package com.ultrabms.util;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.ultrabms.dto.common.ExportFormat;
+import com.ultrabms.dto.invoices.PaymentExportRow;
+import com.ultrabms.entity.enums.PaymentMethod;
+import com.ultrabms.exception.ValidationException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for RecordExportWriter CSV and NDJSON output.
+ */
+@DisplayName("RecordExportWriter Tests")
+class RecordExportWriterTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    @Test
+    @DisplayName("Should write a CSV header from record components and quote special values")
+    void testWriteCsv() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long count = RecordExportWriter.write(rows(), PaymentExportRow.class, ExportFormat.CSV, out, objectMapper);
+
+        assertThat(count).isEqualTo(2);
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo(
+                "paymentNumber,paymentDate,invoiceNumber,tenantName,amount,paymentMethod,transactionReference\r\n"
+                        + "PAY-2025-0001,2025-11-03,INV-2025-0001,\"Doe, John\",4000.00,BANK_TRANSFER,\"Ref \"\"A\"\"\"\r\n"
+                        + "PAY-2025-0002,2025-11-04,INV-2025-0002,'=HYPERLINK(1),1000,CASH,\r\n");
+    }
+
+    @Test
+    @DisplayName("Should write one JSON object per line")
+    void testWriteNdjson() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long count = RecordExportWriter.write(rows(), PaymentExportRow.class, ExportFormat.NDJSON, out, objectMapper);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(count).isEqualTo(2);
+        assertThat(lines).hasSize(2);
+        assertThat(lines[0]).startsWith("{\"paymentNumber\":\"PAY-2025-0001\",\"paymentDate\":\"2025-11-03\"");
+        assertThat(objectMapper.readTree(lines[1]).get("transactionReference").isNull()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should reject unsupported export formats")
+    void testUnsupportedFormat() {
+        assertThat(ExportFormat.fromParam("NDJSON")).isEqualTo(ExportFormat.NDJSON);
+        assertThatThrownBy(() -> ExportFormat.fromParam("xlsx")).isInstanceOf(ValidationException.class);
+    }
+
+    private Stream<PaymentExportRow> rows() {
+        return Stream.of(
+                new PaymentExportRow("PAY-2025-0001", LocalDate.of(2025, 11, 3), "INV-2025-0001", "Doe, John",
+                        new BigDecimal("4000.00"), PaymentMethod.BANK_TRANSFER, "Ref \"A\""),
+                new PaymentExportRow("PAY-2025-0002", LocalDate.of(2025, 11, 4), "INV-2025-0002", "=HYPERLINK(1)",
+                        new BigDecimal("1E+3"), PaymentMethod.CASH, null));
+    }
+}